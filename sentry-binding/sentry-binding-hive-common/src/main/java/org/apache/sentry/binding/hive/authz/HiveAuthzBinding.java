@@ -17,6 +17,8 @@
 package org.apache.sentry.binding.hive.authz;
 
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.HashSet;
 import java.util.List;
@@ -46,8 +48,10 @@ import org.apache.sentry.policy.common.PolicyEngine;
 import org.apache.sentry.provider.cache.PrivilegeCache;
 import org.apache.sentry.provider.cache.SimpleCacheProviderBackend;
 import org.apache.sentry.provider.common.AuthorizationProvider;
+import org.apache.sentry.provider.common.CachingGroupMappingService;
 import org.apache.sentry.provider.common.ProviderBackend;
 import org.apache.sentry.provider.common.ProviderBackendContext;
+import org.apache.sentry.provider.db.service.thrift.SentryMetrics;
 import org.apache.sentry.provider.db.service.thrift.TSentryRole;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -241,11 +245,7 @@ public class HiveAuthzBinding {
 
 
     // load the authz provider class
-    Constructor<?> constrctor =
-      Class.forName(authProviderName).getDeclaredConstructor(String.class, PolicyEngine.class, Model.class);
-    constrctor.setAccessible(true);
-    return (AuthorizationProvider) constrctor.newInstance(new Object[] {resourceName, policyEngine,
-            HivePrivilegeModel.getInstance()});
+    return newAuthProvider(authProviderName, authzConf, resourceName, policyEngine);
   }
 
   // Instantiate the authz provider using PrivilegeCache, this method is used for metadata filter function.
@@ -280,11 +280,34 @@ public class HiveAuthzBinding {
             newInstance(new Object[] {providerBackend});
 
     // load the authz provider class
-    Constructor<?> constrctor =
-            Class.forName(authProviderName).getDeclaredConstructor(String.class, PolicyEngine.class, Model.class);
-    constrctor.setAccessible(true);
-    return (AuthorizationProvider) constrctor.newInstance(new Object[] {resourceName, policyEngine,
-            HivePrivilegeModel.getInstance()});
+    return newAuthProvider(authProviderName, authzConf, resourceName, policyEngine);
+  }
+
+  /**
+   * Creates the authz provider with the authz config when the provider accepts it, so the
+   * provider settings (e.g. the group mapping cache) can be set in sentry-site.xml.
+   */
+  private static AuthorizationProvider newAuthProvider(String authProviderName,
+      HiveAuthzConf authzConf, String resourceName, PolicyEngine policyEngine) throws Exception {
+    if (authzConf.getBoolean(CachingGroupMappingService.CACHE_ENABLED,
+        CachingGroupMappingService.CACHE_ENABLED_DEFAULT)) {
+      SentryMetrics.getInstance().addGroupMappingCacheGauges();
+    }
+    Class<?> authProviderClass = Class.forName(authProviderName);
+    Constructor<?> constrctor;
+    try {
+      constrctor = authProviderClass.getDeclaredConstructor(Configuration.class, String.class,
+          PolicyEngine.class, Model.class);
+      constrctor.setAccessible(true);
+      return (AuthorizationProvider) constrctor.newInstance(new Object[] {authzConf, resourceName,
+          policyEngine, HivePrivilegeModel.getInstance()});
+    } catch (NoSuchMethodException e) {
+      constrctor = authProviderClass.getDeclaredConstructor(String.class, PolicyEngine.class,
+          Model.class);
+      constrctor.setAccessible(true);
+      return (AuthorizationProvider) constrctor.newInstance(new Object[] {resourceName,
+          policyEngine, HivePrivilegeModel.getInstance()});
+    }
   }
 
   /**
@@ -335,15 +358,7 @@ public class HiveAuthzBinding {
     boolean found = false;
     for (Map.Entry<AuthorizableType, EnumSet<DBModelAction>> entry : requiredInputPrivileges.entrySet()) {
       AuthorizableType key = entry.getKey();
-      for (List<DBModelAuthorizable> inputHierarchy : inputHierarchyList) {
-        if (getAuthzType(inputHierarchy).equals(key)) {
-          found = true;
-          if (!authProvider.hasAccess(subject, inputHierarchy, entry.getValue(), activeRoleSet)) {
-            throw new AuthorizationException("User " + subject.getName() +
-                " does not have privileges for " + hiveOp.name());
-          }
-        }
-      }
+      found = authorizeHierarchies(hiveOp, subject, key, entry.getValue(), inputHierarchyList);
       if (!found && !key.equals(AuthorizableType.URI) && !(hiveOp.equals(HiveOperation.QUERY))
           && !(hiveOp.equals(HiveOperation.CREATETABLE_AS_SELECT))) {
         //URI privileges are optional for some privileges: anyPrivilege, tableDDLAndOptionalUriPrivilege
@@ -359,15 +374,7 @@ public class HiveAuthzBinding {
 
     for (Map.Entry<AuthorizableType, EnumSet<DBModelAction>> entry : requiredOutputPrivileges.entrySet()) {
       AuthorizableType key = entry.getKey();
-      for (List<DBModelAuthorizable> outputHierarchy : outputHierarchyList) {
-        if (getAuthzType(outputHierarchy).equals(key)) {
-          found = true;
-          if (!authProvider.hasAccess(subject, outputHierarchy, entry.getValue(), activeRoleSet)) {
-            throw new AuthorizationException("User " + subject.getName() +
-                " does not have privileges for " + hiveOp.name());
-          }
-        }
-      }
+      found = authorizeHierarchies(hiveOp, subject, key, entry.getValue(), outputHierarchyList);
       if(!found && !(key.equals(AuthorizableType.URI)) &&  !(hiveOp.equals(HiveOperation.QUERY))) {
         //URI privileges are optional for some privileges: tableInsertPrivilege
         //Query can mean select/insert/analyze where all of them have different required privileges.
@@ -381,10 +388,103 @@ public class HiveAuthzBinding {
 
   }
 
+  /**
+   * Validates the actions on all the hierarchies of the given authorizable type, and
+   * returns whether there is any. Several hierarchies are validated with one call to
+   * the authorization provider; the first denied one is validated again on its own
+   * so that its missing privileges are reported by getLastFailedPrivileges().
+   */
+  private boolean authorizeHierarchies(HiveOperation hiveOp, Subject subject,
+      AuthorizableType key, EnumSet<DBModelAction> actions,
+      List<List<DBModelAuthorizable>> hierarchyList) throws AuthorizationException {
+    List<List<DBModelAuthorizable>> hierarchies = new ArrayList<List<DBModelAuthorizable>>();
+    for (List<DBModelAuthorizable> hierarchy : hierarchyList) {
+      if (getAuthzType(hierarchy).equals(key)) {
+        hierarchies.add(hierarchy);
+      }
+    }
+    List<DBModelAuthorizable> denied = null;
+    if (hierarchies.size() == 1) {
+      if (!authProvider.hasAccess(subject, hierarchies.get(0), actions, activeRoleSet)) {
+        denied = hierarchies.get(0);
+      }
+    } else if (hierarchies.size() > 1) {
+      BitSet access = authProvider.hasAccessBatch(subject, hierarchies, actions, activeRoleSet);
+      int index = access.nextClearBit(0);
+      if (index < hierarchies.size()) {
+        denied = hierarchies.get(index);
+        authProvider.hasAccess(subject, denied, actions, activeRoleSet);
+      }
+    }
+    if (denied != null) {
+      throw new AuthorizationException("User " + subject.getName() +
+          " does not have privileges for " + hiveOp.name());
+    }
+    return !hierarchies.isEmpty();
+  }
+
+  /**
+   * Authorizes the statement once for each of the input hierarchies, as
+   * {@link #authorize} would with that hierarchy as the only input and no output,
+   * and returns the indexes of the hierarchies which are authorized. All the
+   * hierarchies are checked in one call to the authorization provider, which makes
+   * this much cheaper than calling {@link #authorize} per object when filtering the
+   * result of SHOW TABLES, SHOW DATABASES etc.
+   */
+  public BitSet authorizeEach(HiveOperation hiveOp, HiveAuthzPrivileges stmtAuthPrivileges,
+      Subject subject, List<List<DBModelAuthorizable>> inputHierarchyList) {
+    if (!open) {
+      throw new IllegalStateException("Binding has been closed");
+    }
+    if(LOG.isDebugEnabled()) {
+      LOG.debug("Going to authorize statement " + hiveOp.name() + " for subject " +
+          subject.getName() + " on " + inputHierarchyList.size() + " objects");
+    }
+    BitSet authorized = new BitSet(inputHierarchyList.size());
+    authorized.set(0, inputHierarchyList.size());
+
+    for (Map.Entry<AuthorizableType, EnumSet<DBModelAction>> entry :
+        stmtAuthPrivileges.getInputPrivileges().entrySet()) {
+      AuthorizableType key = entry.getKey();
+      boolean optional = key.equals(AuthorizableType.URI) || hiveOp.equals(HiveOperation.QUERY)
+          || hiveOp.equals(HiveOperation.CREATETABLE_AS_SELECT);
+      List<List<DBModelAuthorizable>> hierarchies = new ArrayList<List<DBModelAuthorizable>>();
+      List<Integer> indexes = new ArrayList<Integer>();
+      for (int i = authorized.nextSetBit(0); i >= 0; i = authorized.nextSetBit(i + 1)) {
+        List<DBModelAuthorizable> inputHierarchy = inputHierarchyList.get(i);
+        if (getAuthzType(inputHierarchy).equals(key)) {
+          hierarchies.add(inputHierarchy);
+          indexes.add(i);
+        } else if (!optional) {
+          // Required privilege not available in the input privileges of this object
+          authorized.clear(i);
+        }
+      }
+      if (!hierarchies.isEmpty()) {
+        BitSet access = authProvider.hasAccessBatch(subject, hierarchies, entry.getValue(),
+            activeRoleSet);
+        for (int i = 0; i < indexes.size(); i++) {
+          if (!access.get(i)) {
+            authorized.clear(indexes.get(i));
+          }
+        }
+      }
+    }
+
+    for (AuthorizableType key : stmtAuthPrivileges.getOutputPrivileges().keySet()) {
+      if (!key.equals(AuthorizableType.URI) && !hiveOp.equals(HiveOperation.QUERY)) {
+        // Required privilege not available in the (empty) output privileges
+        authorized.clear();
+      }
+    }
+    return authorized;
+  }
+
   public void setActiveRoleSet(String activeRoleSet,
       Set<TSentryRole> allowedRoles) throws SentryUserException {
     this.activeRoleSet = parseActiveRoleSet(activeRoleSet, allowedRoles);
     hiveConf.set(HiveAuthzConf.SENTRY_ACTIVE_ROLE_SET, activeRoleSet);
+    authProvider.invalidatePrivileges();
   }
 
   public ActiveRoleSet getActiveRoleSet() {
@@ -18,6 +18,7 @@ import static org.apache.hadoop.hive.metastore.MetaStoreUtils.DEFAULT_DATABASE_N
 
 import java.security.CodeSource;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
@@ -393,31 +394,22 @@ public class DefaultSentryValidator extends SentryHiveAuthorizationValidator {
                 org.apache.sentry.binding.hive.authz.HiveAuthzPrivileges.HiveOperationType.INFO)
             .build();
 
+    List<List<DBModelAuthorizable>> inputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
     for (HivePrivilegeObject obj : listObjs) {
-      // if user has privileges on table, add to filtered list, else discard
-      Table table = new Table(obj.getObjectName());
-      Database database;
-      database = new Database(obj.getDbname());
-
-      List<List<DBModelAuthorizable>> inputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
-      List<List<DBModelAuthorizable>> outputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
       List<DBModelAuthorizable> externalAuthorizableHierarchy =
           new ArrayList<DBModelAuthorizable>();
       externalAuthorizableHierarchy.add(hiveAuthzBinding.getAuthServer());
-      externalAuthorizableHierarchy.add(database);
-      externalAuthorizableHierarchy.add(table);
+      externalAuthorizableHierarchy.add(new Database(obj.getDbname()));
+      externalAuthorizableHierarchy.add(new Table(obj.getObjectName()));
       externalAuthorizableHierarchy.add(Column.ALL);
       inputHierarchy.add(externalAuthorizableHierarchy);
+    }
 
-      try {
-        hiveAuthzBinding.authorize(HiveOperation.SHOWTABLES, tableMetaDataPrivilege, subject,
-            inputHierarchy, outputHierarchy);
-        filteredResult.add(obj);
-      } catch (AuthorizationException e) {
-        // squash the exception, user doesn't have privileges, so the table is
-        // not added to
-        // filtered list.
-      }
+    // if user has privileges on table, add to filtered list, else discard
+    BitSet authorized = hiveAuthzBinding.authorizeEach(HiveOperation.SHOWTABLES,
+        tableMetaDataPrivilege, subject, inputHierarchy);
+    for (int i = authorized.nextSetBit(0); i >= 0; i = authorized.nextSetBit(i + 1)) {
+      filteredResult.add(listObjs.get(i));
     }
     return filteredResult;
   }
@@ -438,10 +430,9 @@ public class DefaultSentryValidator extends SentryHiveAuthorizationValidator {
                 org.apache.sentry.binding.hive.authz.HiveAuthzPrivileges.HiveOperationType.QUERY)
             .build();
 
+    List<HivePrivilegeObject> candidates = new ArrayList<HivePrivilegeObject>();
+    List<List<DBModelAuthorizable>> inputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
     for (HivePrivilegeObject obj : listObjs) {
-      // if user has privileges on database, add to filtered list, else discard
-      Database database = null;
-
       // if default is not restricted, continue
       if (DEFAULT_DATABASE_NAME.equalsIgnoreCase(obj.getObjectName())
           && "false".equalsIgnoreCase(hiveAuthzBinding.getAuthzConf().get(
@@ -450,27 +441,21 @@ public class DefaultSentryValidator extends SentryHiveAuthorizationValidator {
         continue;
       }
 
-      database = new Database(obj.getObjectName());
-
-      List<List<DBModelAuthorizable>> inputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
-      List<List<DBModelAuthorizable>> outputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
       List<DBModelAuthorizable> externalAuthorizableHierarchy =
           new ArrayList<DBModelAuthorizable>();
       externalAuthorizableHierarchy.add(hiveAuthzBinding.getAuthServer());
-      externalAuthorizableHierarchy.add(database);
+      externalAuthorizableHierarchy.add(new Database(obj.getObjectName()));
       externalAuthorizableHierarchy.add(Table.ALL);
       externalAuthorizableHierarchy.add(Column.ALL);
       inputHierarchy.add(externalAuthorizableHierarchy);
+      candidates.add(obj);
+    }
 
-      try {
-        hiveAuthzBinding.authorize(HiveOperation.SHOWDATABASES, anyPrivilege, subject,
-            inputHierarchy, outputHierarchy);
-        filteredResult.add(obj);
-      } catch (AuthorizationException e) {
-        // squash the exception, user doesn't have privileges, so the table is
-        // not added to
-        // filtered list.
-      }
+    // if user has privileges on database, add to filtered list, else discard
+    BitSet authorized = hiveAuthzBinding.authorizeEach(HiveOperation.SHOWDATABASES,
+        anyPrivilege, subject, inputHierarchy);
+    for (int i = authorized.nextSetBit(0); i >= 0; i = authorized.nextSetBit(i + 1)) {
+      filteredResult.add(candidates.get(i));
     }
     return filteredResult;
   }
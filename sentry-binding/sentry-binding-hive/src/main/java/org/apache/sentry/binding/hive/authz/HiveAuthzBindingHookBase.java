@@ -74,6 +74,7 @@ import java.net.URL;
 import java.security.CodeSource;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
@@ -618,31 +619,23 @@ public abstract class HiveAuthzBindingHookBase extends AbstractSemanticAnalyzerH
 
     HiveAuthzBinding hiveBindingWithPrivilegeCache = getHiveBindingWithPrivilegeCache(hiveAuthzBinding, userName);
 
+    Database database = new Database(dbName);
+    List<List<DBModelAuthorizable>> inputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
     for (String tableName : queryResult) {
-      // if user has privileges on table, add to filtered list, else discard
-      Table table = new Table(tableName);
-      Database database;
-      database = new Database(dbName);
-
-      List<List<DBModelAuthorizable>> inputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
-      List<List<DBModelAuthorizable>> outputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
       List<DBModelAuthorizable> externalAuthorizableHierarchy = new ArrayList<DBModelAuthorizable>();
       externalAuthorizableHierarchy.add(hiveAuthzBinding.getAuthServer());
       externalAuthorizableHierarchy.add(database);
-      externalAuthorizableHierarchy.add(table);
+      externalAuthorizableHierarchy.add(new Table(tableName));
       externalAuthorizableHierarchy.add(Column.ALL);
       inputHierarchy.add(externalAuthorizableHierarchy);
+    }
 
-      try {
-        // do the authorization by new HiveAuthzBinding with PrivilegeCache
-        hiveBindingWithPrivilegeCache.authorize(operation, tableMetaDataPrivilege, subject,
-            inputHierarchy, outputHierarchy);
-        filteredResult.add(table.getName());
-      } catch (AuthorizationException e) {
-        // squash the exception, user doesn't have privileges, so the table is
-        // not added to
-        // filtered list.
-      }
+    // if user has privileges on table, add to filtered list, else discard.
+    // do the authorization by new HiveAuthzBinding with PrivilegeCache
+    BitSet authorized = hiveBindingWithPrivilegeCache.authorizeEach(operation,
+        tableMetaDataPrivilege, subject, inputHierarchy);
+    for (int i = authorized.nextSetBit(0); i >= 0; i = authorized.nextSetBit(i + 1)) {
+      filteredResult.add(queryResult.get(i));
     }
     return filteredResult;
   }
@@ -657,27 +650,22 @@ public abstract class HiveAuthzBindingHookBase extends AbstractSemanticAnalyzerH
 
     Database database = new Database(dbName);
     Table table = new Table(tableName);
+    List<List<DBModelAuthorizable>> inputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
     for (FieldSchema col : cols) {
-      // if user has privileges on column, add to filtered list, else discard
-      List<List<DBModelAuthorizable>> inputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
-      List<List<DBModelAuthorizable>> outputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
       List<DBModelAuthorizable> externalAuthorizableHierarchy = new ArrayList<DBModelAuthorizable>();
       externalAuthorizableHierarchy.add(hiveAuthzBinding.getAuthServer());
       externalAuthorizableHierarchy.add(database);
       externalAuthorizableHierarchy.add(table);
       externalAuthorizableHierarchy.add(new Column(col.getName()));
       inputHierarchy.add(externalAuthorizableHierarchy);
+    }
 
-      try {
-        // do the authorization by new HiveAuthzBinding with PrivilegeCache
-        hiveBindingWithPrivilegeCache.authorize(operation, columnMetaDataPrivilege, subject,
-            inputHierarchy, outputHierarchy);
-        filteredResult.add(col);
-      } catch (AuthorizationException e) {
-        // squash the exception, user doesn't have privileges, so the column is
-        // not added to
-        // filtered list.
-      }
+    // if user has privileges on column, add to filtered list, else discard.
+    // do the authorization by new HiveAuthzBinding with PrivilegeCache
+    BitSet authorized = hiveBindingWithPrivilegeCache.authorizeEach(operation,
+        columnMetaDataPrivilege, subject, inputHierarchy);
+    for (int i = authorized.nextSetBit(0); i >= 0; i = authorized.nextSetBit(i + 1)) {
+      filteredResult.add(cols.get(i));
     }
     return filteredResult;
   }
@@ -696,42 +684,34 @@ public abstract class HiveAuthzBindingHookBase extends AbstractSemanticAnalyzerH
         setOperationType(HiveOperationType.QUERY).
         build();
 
+    boolean restrictDefaultDb = !"false".equalsIgnoreCase(hiveAuthzBinding.getAuthzConf().get(
+        HiveAuthzConf.AuthzConfVars.AUTHZ_RESTRICT_DEFAULT_DB.getVar(), "false"));
+    List<String> dbNames = new ArrayList<String>();
+    List<List<DBModelAuthorizable>> inputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
     for (String dbName:queryResult) {
-      // if user has privileges on database, add to filtered list, else discard
-      Database database = null;
-
       // if default is not restricted, continue
-      if (DEFAULT_DATABASE_NAME.equalsIgnoreCase(dbName) && "false".equalsIgnoreCase(
-        hiveAuthzBinding.getAuthzConf().get(
-              HiveAuthzConf.AuthzConfVars.AUTHZ_RESTRICT_DEFAULT_DB.getVar(),
-              "false"))) {
+      if (DEFAULT_DATABASE_NAME.equalsIgnoreCase(dbName) && !restrictDefaultDb) {
         filteredResult.add(DEFAULT_DATABASE_NAME);
         continue;
       }
 
-      database = new Database(dbName);
-
-      List<List<DBModelAuthorizable>> inputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
-      List<List<DBModelAuthorizable>> outputHierarchy = new ArrayList<List<DBModelAuthorizable>>();
+      Database database = new Database(dbName);
       List<DBModelAuthorizable> externalAuthorizableHierarchy = new ArrayList<DBModelAuthorizable>();
       externalAuthorizableHierarchy.add(hiveAuthzBinding.getAuthServer());
       externalAuthorizableHierarchy.add(database);
       externalAuthorizableHierarchy.add(Table.ALL);
       externalAuthorizableHierarchy.add(Column.ALL);
       inputHierarchy.add(externalAuthorizableHierarchy);
-
-      try {
-        // do the authorization by new HiveAuthzBinding with PrivilegeCache
-        hiveBindingWithPrivilegeCache.authorize(operation, anyPrivilege, subject,
-            inputHierarchy, outputHierarchy);
-        filteredResult.add(database.getName());
-      } catch (AuthorizationException e) {
-        // squash the exception, user doesn't have privileges, so the table is
-        // not added to
-        // filtered list.
-      }
+      dbNames.add(database.getName());
     }
 
+    // if user has privileges on database, add to filtered list, else discard.
+    // do the authorization by new HiveAuthzBinding with PrivilegeCache
+    BitSet authorized = hiveBindingWithPrivilegeCache.authorizeEach(operation, anyPrivilege,
+        subject, inputHierarchy);
+    for (int i = authorized.nextSetBit(0); i >= 0; i = authorized.nextSetBit(i + 1)) {
+      filteredResult.add(dbNames.get(i));
+    }
     return filteredResult;
   }
 
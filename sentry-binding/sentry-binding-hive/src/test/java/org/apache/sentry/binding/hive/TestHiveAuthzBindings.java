@@ -43,11 +43,14 @@ import org.apache.sentry.core.model.db.Database;
 import org.apache.sentry.core.model.db.Server;
 import org.apache.sentry.core.model.db.Table;
 import org.apache.sentry.core.common.exception.SentryGroupNotFoundException;
+import org.apache.sentry.provider.cache.PrivilegeCache;
+import org.apache.sentry.provider.cache.SimplePrivilegeCache;
 import org.apache.sentry.provider.file.PolicyFiles;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import com.google.common.collect.Sets;
 import com.google.common.io.Files;
 import com.google.common.io.Resources;
 
@@ -445,4 +448,31 @@ public class TestHiveAuthzBindings {
       "org.apache.sentry.provider.file.LocalGroupResourceAuthorizationProvider");
     new HiveAuthzBinding(hiveConf, authzConf);
   }
+
+  /**
+   * Validate the table and db level grants served by a privilege cache, as used for
+   * every statement by the authorization hooks.
+   */
+  @Test
+  public void testValidateSelectPrivilegesFromPrivilegeCache() throws Exception {
+    PrivilegeCache privilegeCache = new SimplePrivilegeCache(Sets.newHashSet(
+        "server=server1->db=customers->table=purchases->action=select",
+        "server=server1->db=analyst->action=all"));
+    testAuth = new HiveAuthzBinding(HiveAuthzBinding.HiveHook.HiveServer2, hiveConf, authzConf,
+        privilegeCache);
+    inputTabHierarcyList.add(buildObjectHierarchy(SERVER1, CUSTOMER_DB, PURCHASES_TAB));
+    inputTabHierarcyList.add(buildObjectHierarchy(SERVER1, ANALYST_DB, PURCHASES_TAB));
+    testAuth.authorize(HiveOperation.QUERY, queryPrivileges, JUNIOR_ANALYST_SUBJECT,
+        inputTabHierarcyList, outputTabHierarcyList);
+
+    inputTabHierarcyList.clear();
+    inputTabHierarcyList.add(buildObjectHierarchy(SERVER1, JUNIOR_ANALYST_DB, PURCHASES_TAB));
+    try {
+      testAuth.authorize(HiveOperation.QUERY, queryPrivileges, JUNIOR_ANALYST_SUBJECT,
+          inputTabHierarcyList, outputTabHierarcyList);
+      Assert.fail("Expected AuthorizationException");
+    } catch (AuthorizationException e) {
+      // expected, there is no privilege on junior_analyst in the cache
+    }
+  }
 }
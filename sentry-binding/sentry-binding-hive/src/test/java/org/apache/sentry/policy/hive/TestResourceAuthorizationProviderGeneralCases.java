@@ -18,7 +18,9 @@ package org.apache.sentry.policy.hive;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
@@ -32,6 +34,7 @@ import org.apache.sentry.core.common.ActiveRoleSet;
 import org.apache.sentry.core.common.Authorizable;
 import org.apache.sentry.core.common.Subject;
 import org.apache.sentry.core.model.db.AccessConstants;
+import org.apache.sentry.core.model.db.Column;
 import org.apache.sentry.core.model.db.DBModelAction;
 import org.apache.sentry.core.model.db.Database;
 import org.apache.sentry.core.model.db.HivePrivilegeModel;
@@ -180,6 +183,31 @@ public class TestResourceAuthorizationProviderGeneralCases {
     doTestResourceAuthorizationProvider(SUB_JUNIOR_ANALYST, SVR_ALL, DB_JR_ANALYST, TBL_PURCHASES, SELECT, true);
   }
 
+  @Test
+  public void testBatchSameAsSingle() throws Exception {
+    List<List<Authorizable>> hierarchies = new ArrayList<List<Authorizable>>();
+    for (Database database : new Database[] {DB_CUSTOMERS, DB_ANALYST, DB_JR_ANALYST}) {
+      hierarchies.add(Arrays.<Authorizable>asList(SVR_SERVER1, database, Table.ALL, Column.ALL));
+      for (Table table : new Table[] {TBL_PURCHASES, new Table("other")}) {
+        hierarchies.add(Arrays.<Authorizable>asList(SVR_SERVER1, database, table, Column.ALL));
+      }
+    }
+    for (Subject subject : new Subject[] {SUB_ADMIN, SUB_MANAGER, SUB_ANALYST, SUB_JUNIOR_ANALYST}) {
+      for (Set<? extends Action> privileges : Arrays.asList(ALL, SELECT, INSERT)) {
+        BitSet expected = new BitSet();
+        for (int i = 0; i < hierarchies.size(); i++) {
+          if (authzProvider.hasAccess(subject, hierarchies.get(i), privileges, ActiveRoleSet.ALL)) {
+            expected.set(i);
+          }
+        }
+        Assert.assertEquals(subject + " " + privileges, expected,
+            authzProvider.hasAccessBatch(subject, hierarchies, privileges, ActiveRoleSet.ALL));
+      }
+    }
+    Assert.assertTrue(authzProvider.hasAccessBatch(SUB_ADMIN, new ArrayList<List<Authorizable>>(),
+        SELECT, ActiveRoleSet.ALL).isEmpty());
+  }
+
   public class MockGroupMappingServiceProvider implements GroupMappingService {
     private final Multimap<String, String> userToGroupMap;
 
@@ -61,6 +61,7 @@ import org.apache.sentry.provider.db.generic.service.thrift.SentryGenericService
 import org.apache.sentry.provider.db.generic.service.thrift.TAuthorizable;
 import org.apache.sentry.provider.db.generic.service.thrift.TSentryPrivilege;
 import org.apache.sentry.provider.db.generic.service.thrift.TSentryRole;
+import org.apache.sentry.provider.db.generic.service.thrift.TSentryRolePrivileges;
 import org.apache.sentry.provider.db.generic.tools.KafkaTSentryPrivilegeConverter;
 import org.apache.sentry.service.thrift.ServiceConstants;
 import org.slf4j.Logger;
@@ -310,8 +311,10 @@ public class KafkaAuthBinding {
 
   public boolean removeAcls(final Resource resource) {
     LOG.info("Removing Acls for Resource: resource->" + resource);
-    List<String> roles = getAllRoles();
-    final List<TSentryPrivilege> tSentryPrivileges = getAllPrivileges(roles);
+    final List<TSentryPrivilege> tSentryPrivileges = new ArrayList<>();
+    for (TSentryRolePrivileges rolePrivileges : getAllRolePrivileges()) {
+      tSentryPrivileges.addAll(rolePrivileges.getPrivileges());
+    }
     try {
       execute(new Command<Void>() {
         @Override
@@ -352,8 +355,13 @@ public class KafkaAuthBinding {
   }
 
   public Map<Resource, scala.collection.immutable.Set<Acl>> getAcls() {
-    final List<String> roles = getAllRoles();
-    return getAclsForRoles(roles);
+    final java.util.Map<String, scala.collection.immutable.Set<TSentryPrivilege>> rolePrivilegesMap = new HashMap<>();
+    for (TSentryRolePrivileges rolePrivileges : getAllRolePrivileges()) {
+      final scala.collection.immutable.Set<TSentryPrivilege> rolePrivilegesScala =
+          scala.collection.JavaConverters.asScalaSetConverter(rolePrivileges.getPrivileges()).asScala().toSet();
+      rolePrivilegesMap.put(rolePrivileges.getRoleName(), rolePrivilegesScala);
+    }
+    return toScalaMap(rolePrivilegesToResourceAcls(rolePrivilegesMap));
   }
 
   /**
@@ -404,20 +412,17 @@ public class KafkaAuthBinding {
     return false;
   }
 
-  private List<TSentryPrivilege> getAllPrivileges(final List<String> roles) {
-    final List<TSentryPrivilege> tSentryPrivileges = new ArrayList<>();
-    execute(new Command<Void>() {
+  /**
+   * Get all roles with their privileges in a single snapshot request rather
+   * than one request per role.
+   */
+  private List<TSentryRolePrivileges> getAllRolePrivileges() {
+    return execute(new Command<List<TSentryRolePrivileges>>() {
       @Override
-      public Void run(SentryGenericServiceClient client) throws Exception {
-        for (String role : roles) {
-          tSentryPrivileges.addAll(client.listPrivilegesByRoleName(
-                requestorName, role, COMPONENT_NAME, instanceName));
-        }
-        return null;
+      public List<TSentryRolePrivileges> run(SentryGenericServiceClient client) throws Exception {
+        return client.listAllPrivilegesSnapshot(requestorName, COMPONENT_NAME, instanceName);
       }
     });
-
-    return tSentryPrivileges;
   }
 
   private List<String> getAllRoles() {
@@ -436,8 +441,12 @@ public class KafkaAuthBinding {
   }
 
   private Map<Resource, scala.collection.immutable.Set<Acl>> getAclsForRoles(final List<String> roles) {
-    return scala.collection.JavaConverters.mapAsScalaMapConverter(
-              rolePrivilegesToResourceAcls(getRoleToPrivileges(roles)))
+    return toScalaMap(rolePrivilegesToResourceAcls(getRoleToPrivileges(roles)));
+  }
+
+  private Map<Resource, scala.collection.immutable.Set<Acl>> toScalaMap(
+      java.util.Map<Resource, scala.collection.immutable.Set<Acl>> resourceAclsMap) {
+    return scala.collection.JavaConverters.mapAsScalaMapConverter(resourceAclsMap)
               .asScala().toMap(Predef.<Tuple2<Resource, scala.collection.immutable.Set<Acl>>>conforms());
   }
 
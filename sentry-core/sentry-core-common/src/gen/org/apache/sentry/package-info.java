@@ -0,0 +1,7 @@
+/*
+ * Generated by saveVersion.sh
+ */
+@SentryVersionAnnotation(version="2.0.0-SNAPSHOT", commitHash="24e2b5342d8a0ace5e631b6f7f2d92c64abb5545", branch="master",
+                         user="root", date="Sat Oct 17 05:27:50 UTC 2026", url="git://vm/root/project/sentry-core",
+                         srcChecksum="e6e1c5f704517d3854ae7ff9b1e3b4c7")
+package org.apache.sentry;
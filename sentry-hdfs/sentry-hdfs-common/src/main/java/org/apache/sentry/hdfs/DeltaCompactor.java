@@ -0,0 +1,43 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.sentry.hdfs;
+
+import java.util.List;
+
+import static org.apache.sentry.hdfs.Updateable.Update;
+
+/**
+ * DeltaCompactor merges the delta updates of either Sentry Permissions or Sentry
+ * representation of HMS Paths, before they are propagated to a consumer of Sentry,
+ * such as HDFS NameNode.
+ * <p>
+ * The compacted updates must have the same effect on the consumer as the given
+ * ones, when applied in order. The last compacted update has the sequence number
+ * of the last given one, so the consumer continues with the next delta update.
+ */
+public interface DeltaCompactor<K extends Update> {
+
+  /**
+   * Compacts consecutive delta updates.
+   *
+   * @param deltas delta updates of type K, ordered by sequence number
+   * @return the compacted delta updates, possibly the given ones
+   */
+  List<K> compact(List<K> deltas);
+}
@@ -24,6 +24,9 @@ import org.apache.hadoop.fs.Path;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSortedSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.Lists;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -128,18 +131,28 @@ public class HMSPaths implements AuthzPaths {
    */
   @VisibleForTesting
   static class Entry {
+    // Directories with up to this many children keep them in a sorted array.
+    private static final int MAX_ARRAY_CHILDREN = 256;
+
+    // Equal authzObj sets are shared by all the entries holding them, e.g.
+    // by all the partitions of a table.
+    private static final Interner<Set<String>> AUTHZ_OBJ_SETS =
+        Interners.newWeakInterner();
+
     private Entry parent;
     private EntryType type;
     private String pathElement;
 
-    // A set of authorizable objects associated with this entry. Authorizable
-    // object should be case insensitive. The set is allocated lazily to avoid
-    // wasting memory due to empty sets.
+    // The set of authorizable objects associated with this entry, null if
+    // there are none. Authorizable object should be case insensitive. The set
+    // is immutable and interned, changes replace it.
     private Set<String> authzObjs;
 
-    // Path of child element to the path entry mapping, e.g. 'b' -> '/a/b'
-    // This is allocated lazily to avoid wasting memory due to empty maps.
-    private Map<String, Entry> children;
+    // The child entries, e.g. '/a/b' for '/a'. To save memory on the many small
+    // directories this is null if there are no children, an Entry[] sorted by
+    // path element for up to MAX_ARRAY_CHILDREN children, and a path element
+    // to entry HashMap for larger directories, so that updates stay cheap.
+    private Object children;
 
     /**
      * Construct an Entry with one authzObj.
@@ -174,28 +187,114 @@ public class HMSPaths implements AuthzPaths {
       if (children == null) {
         return null;
       }
-      return children.get(pathElement);
+      if (children instanceof Entry[]) {
+        Entry[] array = (Entry[]) children;
+        int idx = indexOfChild(array, pathElement);
+        return idx >= 0 ? array[idx] : null;
+      }
+      return childrenMap().get(pathElement);
     }
 
     void putChild(String pathElement, Entry entry) {
       if (children == null) {
-        // We allocate this map lazily and with small initial capacity to avoid
-        // memory waste due to empty and underpopulated maps.
-        children = new HashMap<>(2);
+        children = new Entry[] {entry};
+      } else if (children instanceof Entry[]) {
+        Entry[] array = (Entry[]) children;
+        int idx = indexOfChild(array, pathElement);
+        if (idx >= 0) {
+          array[idx] = entry;
+        } else if (array.length < MAX_ARRAY_CHILDREN) {
+          idx = -(idx + 1);
+          Entry[] newArray = new Entry[array.length + 1];
+          System.arraycopy(array, 0, newArray, 0, idx);
+          newArray[idx] = entry;
+          System.arraycopy(array, idx, newArray, idx + 1, array.length - idx);
+          children = newArray;
+        } else {
+          Map<String, Entry> map = new HashMap<>(2 * MAX_ARRAY_CHILDREN);
+          for (Entry child : array) {
+            map.put(child.pathElement, child);
+          }
+          map.put(pathElement.intern(), entry);
+          children = map;
+        }
+      } else {
+        childrenMap().put(pathElement.intern(), entry);
       }
-      children.put(pathElement.intern(), entry);
     }
 
     Entry removeChild(String pathElement) {
-      return children.remove(pathElement);
+      if (children == null) {
+        return null;
+      }
+      if (children instanceof Entry[]) {
+        Entry[] array = (Entry[]) children;
+        int idx = indexOfChild(array, pathElement);
+        if (idx < 0) {
+          return null;
+        }
+        if (array.length == 1) {
+          children = null;
+        } else {
+          Entry[] newArray = new Entry[array.length - 1];
+          System.arraycopy(array, 0, newArray, 0, idx);
+          System.arraycopy(array, idx + 1, newArray, idx, array.length - idx - 1);
+          children = newArray;
+        }
+        return array[idx];
+      }
+      Map<String, Entry> map = childrenMap();
+      Entry removed = map.remove(pathElement);
+      if (map.isEmpty()) {
+        children = null;
+      }
+      return removed;
     }
 
-    boolean hasChildren() { return children != null && !children.isEmpty(); }
+    boolean hasChildren() { return children != null; }
 
-    int numChildren() { return children == null ? 0 : children.size(); }
+    int numChildren() {
+      if (children == null) {
+        return 0;
+      }
+      return children instanceof Entry[] ?
+          ((Entry[]) children).length : childrenMap().size();
+    }
 
     Collection<Entry> childrenValues() {
-      return children != null ? children.values() : Collections.<Entry>emptyList();
+      if (children == null) {
+        return Collections.<Entry>emptyList();
+      }
+      // Arrays are replaced rather than changed, the view is stable
+      return children instanceof Entry[] ?
+          Arrays.asList((Entry[]) children) : childrenMap().values();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Entry> childrenMap() {
+      return (Map<String, Entry>) children;
+    }
+
+    /**
+     * Binary search of the given path element in an array of children sorted
+     * by path element.
+     * @return the index of the child if found, (-(insertion point) - 1) otherwise.
+     */
+    private static int indexOfChild(Entry[] array, String pathElement) {
+      int low = 0;
+      int high = array.length - 1;
+      while (low <= high) {
+        int mid = (low + high) >>> 1;
+        int cmp = array[mid].pathElement.compareTo(pathElement);
+        if (cmp < 0) {
+          low = mid + 1;
+        } else if (cmp > 0) {
+          high = mid - 1;
+        } else {
+          return mid;
+        }
+      }
+      return -(low + 1);
     }
 
     void clearAuthzObjs() {
@@ -203,29 +302,55 @@ public class HMSPaths implements AuthzPaths {
     }
 
     void removeAuthzObj(String authzObj) {
-      if (authzObjs != null) {
-        authzObjs.remove(authzObj);
+      if (authzObjs != null && authzObjs.contains(authzObj)) {
+        List<String> remaining = new ArrayList<>(authzObjs.size() - 1);
+        for (String obj : authzObjs) {
+          if (!obj.equalsIgnoreCase(authzObj)) {
+            remaining.add(obj);
+          }
+        }
+        authzObjs = toAuthzObjSet(remaining);
       }
     }
 
     void addAuthzObj(String authzObj) {
       if (authzObj != null) {
         if (authzObjs == null) {
-          authzObjs = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+          authzObjs = toAuthzObjSet(Collections.singletonList(authzObj.intern()));
+        } else if (!authzObjs.contains(authzObj)) {
+          List<String> objs = new ArrayList<>(authzObjs.size() + 1);
+          objs.addAll(authzObjs);
+          objs.add(authzObj.intern());
+          authzObjs = toAuthzObjSet(objs);
         }
-        authzObjs.add(authzObj.intern());
       }
     }
 
     void addAuthzObjs(Set<String> authzObjs) {
-      if (authzObjs != null) {
-        if (this.authzObjs == null) {
-          this.authzObjs = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+      if (authzObjs != null && !authzObjs.isEmpty()) {
+        List<String> objs = new ArrayList<>();
+        if (this.authzObjs != null) {
+          objs.addAll(this.authzObjs);
         }
         for (String authzObj : authzObjs) {
-          this.authzObjs.add(authzObj.intern());
+          objs.add(authzObj.intern());
         }
+        this.authzObjs = toAuthzObjSet(objs);
+      }
+    }
+
+    /**
+     * @return the shared, immutable and case insensitive set of the given
+     * authzObjs, or null if there are none. The first of case insensitive
+     * duplicates is kept.
+     */
+    private static Set<String> toAuthzObjSet(List<String> authzObjs) {
+      if (authzObjs.isEmpty()) {
+        return null;
       }
+      Set<String> set = ImmutableSortedSet.orderedBy(String.CASE_INSENSITIVE_ORDER)
+          .addAll(authzObjs).build();
+      return AUTHZ_OBJ_SETS.intern(set);
     }
 
     private void setType(EntryType type) {
@@ -419,10 +544,8 @@ public class HMSPaths implements AuthzPaths {
           // Remove the authzObj on the path entry. If the path
           // entry no longer maps to any authzObj, removes the
           // entry recursively.
-          if (authzObjs != null) {
-            authzObjs.remove(authzObj);
-          }
-          if (authzObjs == null || authzObjs.isEmpty()) {
+          removeAuthzObj(authzObj);
+          if (authzObjs == null) {
             deleteFromParent();
           }
         } else {
@@ -432,9 +555,7 @@ public class HMSPaths implements AuthzPaths {
           // the path entry.
           if (getType() == EntryType.AUTHZ_OBJECT) {
             setType(EntryType.DIR);
-            if (authzObjs != null) {
-              authzObjs.remove(authzObj);
-            }
+            removeAuthzObj(authzObj);
           }
         }
       }
@@ -458,8 +579,9 @@ public class HMSPaths implements AuthzPaths {
       }
       deleteFromParent();
       parent = newParent;
-      parent.putChild(pathElem, this);
+      // Set first: children arrays are sorted by the path element of the entries
       pathElement = pathElem.intern();
+      parent.putChild(pathElem, this);
     }
 
     public void delete() {
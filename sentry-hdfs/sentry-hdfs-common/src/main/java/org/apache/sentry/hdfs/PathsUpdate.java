@@ -185,6 +185,16 @@ public class PathsUpdate implements Updateable.Update {
     return ThriftSerializer.serializeToJSON(tPathsUpdate);
   }
 
+  @Override
+  public void compactDeserialize(String update) throws TException {
+    ThriftSerializer.deserializeFromCompressedString(tPathsUpdate, update);
+  }
+
+  @Override
+  public String compactSerialize() throws TException {
+    return ThriftSerializer.serializeToCompressedString(tPathsUpdate);
+  }
+
   @Override
   public int hashCode() {
     return (tPathsUpdate == null) ? 0 : tPathsUpdate.hashCode();
@@ -92,11 +92,11 @@ public class PermissionsUpdate implements Updateable.Update {
     return roleUpdate;
   }
 
-  Collection<TRoleChanges> getRoleUpdates() {
+  public Collection<TRoleChanges> getRoleUpdates() {
     return tPermUpdate.getRoleChanges().values();
   }
 
-  Collection<TPrivilegeChanges> getPrivilegeUpdates() {
+  public Collection<TPrivilegeChanges> getPrivilegeUpdates() {
     return tPermUpdate.getPrivilegeChanges().values();
   }
 
@@ -124,6 +124,16 @@ public class PermissionsUpdate implements Updateable.Update {
     return ThriftSerializer.serializeToJSON(tPermUpdate);
   }
 
+  @Override
+  public void compactDeserialize(String update) throws TException {
+    ThriftSerializer.deserializeFromCompressedString(tPermUpdate, update);
+  }
+
+  @Override
+  public String compactSerialize() throws TException {
+    return ThriftSerializer.serializeToCompressedString(tPermUpdate);
+  }
+
   @Override
   public int hashCode() {
     return (tPermUpdate == null) ? 0 : tPermUpdate.hashCode();
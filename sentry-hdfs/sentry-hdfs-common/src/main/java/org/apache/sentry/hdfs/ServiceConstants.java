@@ -61,6 +61,16 @@ public class ServiceConstants {
     public static final String SENTRY_HDFS_SYNC_METASTORE_CACHE_MAX_TABLES_PER_RPC = "sentry.hdfs.sync.metastore.cache.max-tables-per-rpc";
     public static final int SENTRY_HDFS_SYNC_METASTORE_CACHE_MAX_TABLES_PER_RPC_DEFAULT = 100;
     public static final String SENTRY_SERVICE_FULL_UPDATE_SIGNAL = "sentry.hdfs.sync.full-update-signal";
+    // Whether the full paths image sent to the NameNodes is cached and rolled forward
+    // with the path deltas, instead of being rebuilt from the database on each request
+    public static final String SENTRY_HDFS_SYNC_FULL_IMAGE_CACHE_ENABLED = "sentry.hdfs.sync.full-image-cache.enabled";
+    public static final boolean SENTRY_HDFS_SYNC_FULL_IMAGE_CACHE_ENABLED_DEFAULT = true;
+    // Whether the path delta updates sent to the NameNodes are merged into net updates
+    public static final String SENTRY_HDFS_SYNC_DELTA_COMPACTION_ENABLED = "sentry.hdfs.sync.delta-compaction.enabled";
+    public static final boolean SENTRY_HDFS_SYNC_DELTA_COMPACTION_ENABLED_DEFAULT = true;
+    // The number of pending delta updates past which a NameNode gets a full update instead, 0 for no limit
+    public static final String SENTRY_HDFS_SYNC_MAX_DELTAS_PER_UPDATE = "sentry.hdfs.sync.max-deltas-per-update";
+    public static final long SENTRY_HDFS_SYNC_MAX_DELTAS_PER_UPDATE_DEFAULT = 0;
   }
 
   public static class ClientConfig {
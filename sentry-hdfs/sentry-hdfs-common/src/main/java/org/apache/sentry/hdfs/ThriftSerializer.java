@@ -17,9 +17,16 @@
  */
 package org.apache.sentry.hdfs;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import javax.xml.bind.DatatypeConverter;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.io.ByteStreams;
 import org.apache.thrift.TBase;
 import org.apache.thrift.TDeserializer;
 import org.apache.thrift.TException;
@@ -77,4 +84,34 @@ public class ThriftSerializer {
     tDeserializer.fromString(base, dataInJson);
   }
 
+  /**
+   * Serializes the object with the compact protocol, compresses it with deflate
+   * and encodes it in base64, so it can be stored in a text column.
+   */
+  public static String serializeToCompressedString(TBase base) throws TException {
+    try {
+      ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+      try (DeflaterOutputStream out = new DeflaterOutputStream(compressed)) {
+        out.write(serialize(base));
+      }
+      return DatatypeConverter.printBase64Binary(compressed.toByteArray());
+    } catch (IOException e) {
+      throw new TException("Error compressing thrift object " + base, e);
+    }
+  }
+
+  /**
+   * Reads an object written by {@link #serializeToCompressedString(TBase)}.
+   */
+  public static void deserializeFromCompressedString(TBase base, String compressedData)
+      throws TException {
+    byte[] compressed = DatatypeConverter.parseBase64Binary(compressedData);
+    try (InflaterInputStream in =
+             new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+      deserialize(base, ByteStreams.toByteArray(in));
+    } catch (IOException e) {
+      throw new TException("Error decompressing thrift object " + base, e);
+    }
+  }
+
 }
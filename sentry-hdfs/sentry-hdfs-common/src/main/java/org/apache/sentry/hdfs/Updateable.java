@@ -59,6 +59,23 @@ public interface Updateable<K extends Updateable.Update> {
      * @throws TException
      */
     String JSONSerialize() throws TException;
+
+    /**
+     *  Deserialize the update from its compact representation to an object.
+     *
+     * @param update the given representation, as returned by {@link #compactSerialize()}
+     * @throws TException
+     */
+    void compactDeserialize(String update) throws TException;
+
+    /**
+     * Serialize the update from the object to a compact representation: the Thrift
+     * compact protocol encoding, compressed and encoded in base64.
+     *
+     * @return the compact string representation
+     * @throws TException
+     */
+    String compactSerialize() throws TException;
   }
 
   /**
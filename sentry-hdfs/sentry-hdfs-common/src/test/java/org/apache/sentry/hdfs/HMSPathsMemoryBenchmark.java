@@ -0,0 +1,85 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.hdfs;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Measures the heap footprint of {@link HMSPaths} for a synthetic warehouse.
+ * Not run as part of the unit tests, run it with:
+ *
+ *   java -cp ... org.apache.sentry.hdfs.HMSPathsMemoryBenchmark \
+ *     [numDbs] [numTablesPerDb] [numPartitionsPerTable]
+ */
+public class HMSPathsMemoryBenchmark {
+
+  private static long usedMemory() throws InterruptedException {
+    Runtime runtime = Runtime.getRuntime();
+    long used = Long.MAX_VALUE;
+    // Collect until the heap stops shrinking
+    for (int i = 0; i < 10; i++) {
+      System.gc();
+      Thread.sleep(100);
+      long current = runtime.totalMemory() - runtime.freeMemory();
+      if (current >= used) {
+        break;
+      }
+      used = current;
+    }
+    return used;
+  }
+
+  public static void main(String[] args) throws Exception {
+    int numDbs = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+    int numTables = args.length > 1 ? Integer.parseInt(args[1]) : 100;
+    int numPartitions = args.length > 2 ? Integer.parseInt(args[2]) : 1000;
+
+    long before = usedMemory();
+    HMSPaths hmsPaths = new HMSPaths(new String[] {"/user/hive/warehouse"});
+    long numPaths = 0;
+    for (int d = 0; d < numDbs; d++) {
+      String db = "db" + d;
+      String dbPath = "/user/hive/warehouse/" + db + ".db";
+      hmsPaths._addAuthzObject(db, Lists.newArrayList(dbPath));
+      for (int t = 0; t < numTables; t++) {
+        String tbl = db + ".tbl" + t;
+        String tblPath = dbPath + "/tbl" + t;
+        List<String> paths = new ArrayList<String>(numPartitions + 1);
+        paths.add(tblPath);
+        for (int p = 0; p < numPartitions; p++) {
+          paths.add(tblPath + "/year=" + (2000 + p / 365) + "/day=" + (p % 365));
+        }
+        hmsPaths._addAuthzObject(tbl, paths);
+        numPaths += paths.size();
+      }
+      numPaths++;
+    }
+    long after = usedMemory();
+
+    long bytes = after - before;
+    System.out.println(String.format(
+        "%d dbs, %d tables/db, %d partitions/table: %d paths, %d MB, %.1f bytes/path",
+        numDbs, numTables, numPartitions, numPaths, bytes / (1024 * 1024),
+        (double) bytes / numPaths));
+    // Keep the paths reachable until after the measurement
+    System.out.println(hmsPaths.findAuthzObject(new String[] {"user", "hive", "warehouse"}, true));
+  }
+}
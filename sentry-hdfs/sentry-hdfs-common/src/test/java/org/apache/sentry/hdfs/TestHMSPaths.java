@@ -24,6 +24,7 @@ import org.junit.Assert;
 import org.junit.Test;
 
 import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
 
 public class TestHMSPaths {
 
@@ -418,5 +419,71 @@ public class TestHMSPaths {
     // Authz Object is case insensitive.
     Assert.assertTrue(entry.getAuthzObjs().contains("a"));
   }
-  
+
+  @Test
+  public void testManyChildren() {
+    HMSPaths paths = new HMSPaths(new String[] {"/warehouse"});
+    paths._addAuthzObject("db1.tbl1", Lists.newArrayList("/warehouse/db1/tbl1"));
+    int numPartitions = 1000;
+    List<String> partitions = new ArrayList<String>();
+    // Add in non sorted order
+    for (int i = numPartitions - 1; i >= 0; i -= 2) {
+      partitions.add("/warehouse/db1/tbl1/p=" + i);
+    }
+    for (int i = 0; i < numPartitions; i += 2) {
+      partitions.add("/warehouse/db1/tbl1/p=" + i);
+    }
+    paths._addPathsToAuthzObject("db1.tbl1", partitions);
+    HMSPaths.Entry table = paths.getRootEntry().find(
+        new String[] {"warehouse", "db1", "tbl1"}, false);
+    Assert.assertEquals(numPartitions, table.numChildren());
+    for (int i = 0; i < numPartitions; i++) {
+      HMSPaths.Entry partition = table.getChild("p=" + i);
+      Assert.assertNotNull(partition);
+      Assert.assertEquals("p=" + i, partition.getPathElement());
+    }
+    Assert.assertNull(table.getChild("p=" + numPartitions));
+
+    // Drop all partitions but one
+    List<List<String>> dropped = new ArrayList<List<String>>();
+    for (int i = 1; i < numPartitions; i++) {
+      dropped.add(HMSPaths.getPathElements("/warehouse/db1/tbl1/p=" + i));
+    }
+    paths.deletePathsFromAuthzObject("db1.tbl1", dropped);
+    Assert.assertEquals(1, table.numChildren());
+    Assert.assertEquals(Sets.newHashSet("db1.tbl1"), paths.findAuthzObject(
+        new String[] {"warehouse", "db1", "tbl1", "p=0"}, false));
+    Assert.assertNull(paths.findAuthzObject(
+        new String[] {"warehouse", "db1", "tbl1", "p=1"}, false));
+
+    paths.deletePathsFromAuthzObject("db1.tbl1", Lists.<List<String>>newArrayList(
+        HMSPaths.getPathElements("/warehouse/db1/tbl1/p=0")));
+    Assert.assertFalse(table.hasChildren());
+    Assert.assertTrue(table.childrenValues().isEmpty());
+  }
+
+  @Test
+  public void testAuthzObjSetsAreShared() {
+    HMSPaths paths = new HMSPaths(new String[] {"/warehouse"});
+    paths._addAuthzObject("db1.tbl1", Lists.newArrayList("/warehouse/db1/tbl1",
+        "/warehouse/db1/tbl1/p=1", "/warehouse/db1/tbl1/p=2"));
+    Set<String> authzObjs = paths.findAuthzObject(
+        new String[] {"warehouse", "db1", "tbl1", "p=1"}, false);
+    Assert.assertSame(authzObjs, paths.findAuthzObject(
+        new String[] {"warehouse", "db1", "tbl1", "p=2"}, false));
+    Assert.assertTrue(authzObjs.contains("DB1.TBL1"));
+
+    // Changing the authzObjs of one entry leaves the others unchanged
+    paths._addAuthzObject("db1.tbl2", Lists.newArrayList("/warehouse/db1/tbl1/p=1"));
+    Assert.assertEquals(Sets.newHashSet("db1.tbl1", "db1.tbl2"), paths.findAuthzObject(
+        new String[] {"warehouse", "db1", "tbl1", "p=1"}, false));
+    Assert.assertEquals(Sets.newHashSet("db1.tbl1"), paths.findAuthzObject(
+        new String[] {"warehouse", "db1", "tbl1", "p=2"}, false));
+    try {
+      authzObjs.add("db1.tbl3");
+      Assert.fail("authzObj sets should be immutable");
+    } catch (UnsupportedOperationException e) {
+      // expected
+    }
+  }
 }
@@ -77,4 +77,20 @@ public class TestPathsUpdate {
     update.JSONDeserialize(update.JSONSerialize());
     junit.framework.Assert.assertEquals(before, update.toThrift());
   }
+
+  @Test
+  public void testSerializeDeserializeInCompactFormat() throws SentryMalformedPathException, TException{
+    PathsUpdate update = new PathsUpdate(1, false);
+    TPathChanges pathChange = update.newPathChange("db1.tbl12");
+    String path = PathsUpdate.parsePath("hdfs:///db1/tbl12/part121");
+    pathChange.addToAddPaths(Lists.newArrayList(path.split("/")));
+    update.newPathChange("db1.tbl13").addToDelPaths(Lists.newArrayList(PathsUpdate.ALL_PATHS));
+
+    // The compact representation is smaller than JSON, and decodes to the original update.
+    String compact = update.compactSerialize();
+    junit.framework.Assert.assertTrue(compact.length() < update.JSONSerialize().length());
+    PathsUpdate decoded = new PathsUpdate();
+    decoded.compactDeserialize(compact);
+    junit.framework.Assert.assertEquals(update.toThrift(), decoded.toThrift());
+  }
 }
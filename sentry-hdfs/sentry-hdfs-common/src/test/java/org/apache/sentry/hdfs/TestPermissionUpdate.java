@@ -38,4 +38,17 @@ public class TestPermissionUpdate {
     update.JSONDeserialize(update.JSONSerialize());
     Assert.assertEquals(before, update.toThrift());
   }
+
+  @Test
+  public void testSerializeDeserializeInCompactFormat() throws TException {
+    PermissionsUpdate update = new PermissionsUpdate(0, false);
+    TPrivilegeChanges privUpdate = update.addPrivilegeUpdate("db1.tbl1");
+    privUpdate.putToAddPrivileges("role1", "SELECT");
+    privUpdate.putToDelPrivileges("role2", "INSERT");
+
+    // The compact representation decodes to the original update.
+    PermissionsUpdate decoded = new PermissionsUpdate();
+    decoded.compactDeserialize(update.compactSerialize());
+    Assert.assertEquals(update.toThrift(), decoded.toThrift());
+  }
 }
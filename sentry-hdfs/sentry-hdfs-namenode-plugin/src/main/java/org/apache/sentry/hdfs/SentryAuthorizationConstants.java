@@ -53,6 +53,12 @@ public final class SentryAuthorizationConstants {
       "include-hdfs-authz-as-acl";
   public static final boolean INCLUDE_HDFS_AUTHZ_AS_ACL_DEFAULT = false;
 
+  // Number of resolved paths cached per version of the authorization info,
+  // 0 disables the cache.
+  public static final String PATH_CACHE_SIZE_KEY = CONFIG_PREFIX +
+      "path-cache-size";
+  public static final int PATH_CACHE_SIZE_DEFAULT = 10000;
+
   private SentryAuthorizationConstants() {
     // Make constructor private to avoid instantiation
   }
@@ -37,6 +37,9 @@ import org.slf4j.LoggerFactory;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
 
 public class SentryAuthorizationInfo implements Runnable {
   private static final Logger LOG =
@@ -44,9 +47,18 @@ public class SentryAuthorizationInfo implements Runnable {
 
   private static final String SENTRY_AUTHORIZATION_INFO_THREAD_NAME = "sentry-auth-info-refresher";
 
+  // Apparently setFAcl throws error if 'group::---' is not present
+  private static final AclEntry NO_GROUP_ACL = AclEntry.parseAclEntry("group::---", true);
+
+  // Marks a path which is not Sentry managed in the path cache
+  private static final Set<String> NOT_MANAGED = Collections.unmodifiableSet(new HashSet<String>());
+
   private SentryUpdater updater;
   private volatile UpdateableAuthzPaths authzPaths;
   private volatile UpdateableAuthzPermissions authzPermissions;
+  // Path elements to the authzObjs they belong to, or NOT_MANAGED, null if
+  // disabled. Invalidated under the write lock whenever the paths change.
+  private Cache<List<String>, Set<String>> resolvedPaths;
 
   private int refreshIntervalMillisec;
   private int staleThresholdMillisec;
@@ -86,6 +98,9 @@ public class SentryAuthorizationInfo implements Runnable {
       retryWaitMillisec = conf.getInt(
           SentryAuthorizationConstants.CACHE_REFRESH_RETRY_WAIT_KEY,
           SentryAuthorizationConstants.CACHE_REFRESH_RETRY_WAIT_DEFAULT);
+      int pathCacheSize = conf.getInt(
+          SentryAuthorizationConstants.PATH_CACHE_SIZE_KEY,
+          SentryAuthorizationConstants.PATH_CACHE_SIZE_DEFAULT);
 
       if (LOG.isDebugEnabled()) {
         LOG.debug(
@@ -99,6 +114,10 @@ public class SentryAuthorizationInfo implements Runnable {
 
       authzPaths = new UpdateableAuthzPaths(newPathPrefixes);
       authzPermissions = new UpdateableAuthzPermissions();
+      if (pathCacheSize > 0) {
+        resolvedPaths = CacheBuilder.newBuilder().maximumSize(pathCacheSize)
+            .<List<String>, Set<String>>build();
+      }
       waitUntil = System.currentTimeMillis();
       lastStaleReport = 0;
       updater = new SentryUpdater(conf, this);
@@ -134,17 +153,27 @@ public class SentryAuthorizationInfo implements Runnable {
     SentryAuthzUpdate updates = updater.getUpdates();
     // Updates can be null if Sentry Service is un-reachable
     if (updates != null) {
+      List<PathsUpdate> pathUpdates = updates.getPathUpdates();
+      boolean pathsChanged = !pathUpdates.isEmpty();
+      if (pathsChanged && !pathUpdates.get(0).hasFullImage()) {
+        // Partial updates change the paths in place
+        invalidateResolvedPaths();
+      }
       UpdateableAuthzPaths newAuthzPaths = processUpdates(
-          updates.getPathUpdates(), authzPaths);
+          pathUpdates, authzPaths);
       UpdateableAuthzPermissions newAuthzPerms = processUpdates(
           updates.getPermUpdates(), authzPermissions);
 
       // processUpdates() should return different newAuthzPaths and newAuthzPerms object references
       // if FULL updates were fetched from the Sentry server, otherwise, the same authzPaths and authzPermissions
       // objects will be returned.
-      if (newAuthzPaths != authzPaths || newAuthzPerms != authzPermissions) {
-        lock.writeLock().lock();
-        try {
+      boolean fullUpdate = newAuthzPaths != authzPaths || newAuthzPerms != authzPermissions;
+      if (!fullUpdate && !(pathsChanged && resolvedPaths != null)) {
+        return true;
+      }
+      lock.writeLock().lock();
+      try {
+        if (fullUpdate) {
           LOG.debug(String.format("FULL Updated paths seq Num [old=%d], [new=%d] img Num [old=%d], [new=%d]",
               authzPaths.getLastUpdatedSeqNum(), newAuthzPaths.getLastUpdatedSeqNum(),
               authzPaths.getLastUpdatedImgNum(), newAuthzPaths.getLastUpdatedImgNum()));
@@ -152,15 +181,30 @@ public class SentryAuthorizationInfo implements Runnable {
           LOG.debug(String.format("FULL Updated perms seq Num [old=%d], [new=%d]",
               authzPermissions.getLastUpdatedSeqNum(), newAuthzPerms.getLastUpdatedSeqNum()));
           authzPermissions = newAuthzPerms;
-        } finally {
-          lock.writeLock().unlock();
         }
+        if (pathsChanged && resolvedPaths != null) {
+          // Drops the resolutions readers cached while the updates were applied
+          resolvedPaths.invalidateAll();
+        }
+      } finally {
+        lock.writeLock().unlock();
       }
       return true;
     }
     return false;
   }
 
+  private void invalidateResolvedPaths() {
+    if (resolvedPaths != null) {
+      lock.writeLock().lock();
+      try {
+        resolvedPaths.invalidateAll();
+      } finally {
+        lock.writeLock().unlock();
+      }
+    }
+  }
+
   private <K extends Update, V extends Updateable<K>> V processUpdates(List<K> updates,
       V updateable) {
     // In a list of Updates, if there is a full Update, it will be the first
@@ -289,31 +333,78 @@ public class SentryAuthorizationInfo implements Runnable {
     }
   }
 
-  @SuppressWarnings("unchecked")
-  public List<AclEntry> getAclEntries(String[] pathElements) {
+  /**
+   * Resolves the given path in one go: returns the authzObjs it belongs to
+   * if it is Sentry managed (see {@link #isSentryManaged(String[])}), null
+   * otherwise. Resolutions are cached until the paths change.
+   */
+  public Set<String> getManagedAuthzObjects(String[] pathElements) {
     lock.readLock().lock();
     try {
-      Set<String> authzObjs = authzPaths.findAuthzObject(pathElements);
-      // Apparently setFAcl throws error if 'group::---' is not present
-      AclEntry noGroup = AclEntry.parseAclEntry("group::---", true);
-
-      Set<AclEntry> retSet = new HashSet<>();
-      retSet.add(noGroup);
-
+      if (resolvedPaths == null) {
+        return findManagedAuthzObjects(pathElements);
+      }
+      List<String> key = Arrays.asList(pathElements);
+      Set<String> authzObjs = resolvedPaths.getIfPresent(key);
       if (authzObjs == null) {
-        retSet.addAll(Collections.<AclEntry>emptyList());
-        return new ArrayList<>(retSet);
+        authzObjs = findManagedAuthzObjects(pathElements);
+        resolvedPaths.put(ImmutableList.copyOf(pathElements),
+            authzObjs != null ? authzObjs : NOT_MANAGED);
+        return authzObjs;
       }
+      return authzObjs != NOT_MANAGED ? authzObjs : null;
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
 
-      // No duplicate acls should be added.
-      for (String authzObj: authzObjs) {
-        retSet.addAll(authzPermissions.getAcls(authzObj));
-      }
+  private Set<String> findManagedAuthzObjects(String[] pathElements) {
+    return authzPaths.isUnderPrefix(pathElements) ?
+        authzPaths.findAuthzObject(pathElements) : null;
+  }
+
+  public List<AclEntry> getAclEntries(String[] pathElements) {
+    lock.readLock().lock();
+    try {
+      return getAclEntriesFor(authzPaths.findAuthzObject(pathElements));
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
 
-      return new ArrayList<>(retSet);
+  /**
+   * Returns the ACLs for the given authzObjs, as resolved by
+   * {@link #getManagedAuthzObjects(String[])}.
+   */
+  public List<AclEntry> getAclEntries(Set<String> authzObjs) {
+    lock.readLock().lock();
+    try {
+      return getAclEntriesFor(authzObjs);
     } finally {
       lock.readLock().unlock();
     }
   }
 
+  private List<AclEntry> getAclEntriesFor(Set<String> authzObjs) {
+    if (authzObjs == null) {
+      return Collections.singletonList(NO_GROUP_ACL);
+    }
+    if (authzObjs.size() == 1) {
+      // Common case: the cached ACLs never contain NO_GROUP_ACL nor duplicates.
+      return ImmutableList.<AclEntry>builder().add(NO_GROUP_ACL)
+          .addAll(authzPermissions.getAcls(authzObjs.iterator().next()))
+          .build();
+    }
+
+    Set<AclEntry> retSet = new HashSet<>();
+    retSet.add(NO_GROUP_ACL);
+
+    // No duplicate acls should be added.
+    for (String authzObj: authzObjs) {
+      retSet.addAll(authzPermissions.getAcls(authzObj));
+    }
+
+    return new ArrayList<>(retSet);
+  }
+
 }
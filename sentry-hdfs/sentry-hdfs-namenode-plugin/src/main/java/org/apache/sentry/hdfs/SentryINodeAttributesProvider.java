@@ -72,11 +72,13 @@ public class SentryINodeAttributesProvider extends INodeAttributeProvider
                                 FsAction subAccess,
                                 boolean ignoreEmptyDir) throws
             AccessControlException {
-      String[] pathElems = getPathElems(pathByNameArr);
-      if (pathElems != null && (pathElems.length > 1) && ("".equals(pathElems[0]))) {
-        pathElems = Arrays.copyOfRange(pathElems, 1, pathElems.length);
-      }
+      // The path elements are only decoded for logging: the attributes of the
+      // inodes were already resolved by getAttributes().
       if (LOG.isDebugEnabled()) {
+        String[] pathElems = getPathElems(pathByNameArr);
+        if (pathElems != null && (pathElems.length > 1) && ("".equals(pathElems[0]))) {
+          pathElems = Arrays.copyOfRange(pathElems, 1, pathElems.length);
+        }
         LOG.debug("Enforcing Permission : + " + Lists
               .newArrayList(fsOwner, supergroup, callerUgi.getShortUserName(),
                       Arrays.toString(callerUgi.getGroupNames()),
@@ -101,15 +103,25 @@ public class SentryINodeAttributesProvider extends INodeAttributeProvider
     }
   }
 
+  /**
+   * Attributes of a Sentry managed path. The path is resolved once, by
+   * {@link SentryINodeAttributesProvider#getAttributes}, and the result is
+   * carried here rather than looked up again by each getter.
+   */
   public class SentryINodeAttributes implements INodeAttributes {
 
     private final INodeAttributes defaultAttributes;
     private final String[] pathElements;
+    private final Set<String> authzObjs;
+    private final FsPermission sentryPermission;
+    private Long permissionLong;
 
     public SentryINodeAttributes(INodeAttributes defaultAttributes, String[]
-            pathElements) {
+            pathElements, Set<String> authzObjs) {
       this.defaultAttributes = defaultAttributes;
       this.pathElements = pathElements;
+      this.authzObjs = authzObjs;
+      this.sentryPermission = getSentryPermission(pathElements);
     }
 
     @Override
@@ -124,38 +136,17 @@ public class SentryINodeAttributesProvider extends INodeAttributeProvider
 
     @Override
     public String getUserName() {
-      return isSentryManaged(pathElements)?
-          SentryINodeAttributesProvider.this.user : defaultAttributes.getUserName();
+      return SentryINodeAttributesProvider.this.user;
     }
 
     @Override
     public String getGroupName() {
-      return isSentryManaged(pathElements)?
-          SentryINodeAttributesProvider.this.group : defaultAttributes.getGroupName();
+      return SentryINodeAttributesProvider.this.group;
     }
 
     @Override
     public FsPermission getFsPermission() {
-      FsPermission permission;
-
-      if (!isSentryManaged(pathElements)) {
-        permission = defaultAttributes.getFsPermission();
-      } else {
-        FsPermission returnPerm = SentryINodeAttributesProvider.this.permission;
-        // Handle case when prefix directory is itself associated with an
-        // authorizable object (default db directory in hive)
-        // An executable permission needs to be set on the the prefix directory
-        // in this case.. else, subdirectories (which map to other dbs) will
-        // not be travesible.
-        for (String [] prefixPath : authzInfo.getPathPrefixes()) {
-          if (Arrays.equals(prefixPath, pathElements)) {
-            returnPerm = FsPermission.createImmutable((short)(returnPerm.toShort() | 0x01));
-            break;
-          }
-        }
-        permission = returnPerm;
-      }
-      return permission;
+      return sentryPermission;
     }
 
     @Override
@@ -165,11 +156,14 @@ public class SentryINodeAttributesProvider extends INodeAttributeProvider
 
     @Override
     public long getPermissionLong() {
-      PermissionStatus permissionStatus = new PermissionStatus(getUserName(),
-              getGroupName(), getFsPermission());
-      // No other way to get the long permission currently
-      return new INodeDirectory(0L, null, permissionStatus, 0L)
-              .getPermissionLong();
+      if (permissionLong == null) {
+        PermissionStatus permissionStatus = new PermissionStatus(getUserName(),
+                getGroupName(), getFsPermission());
+        // No other way to get the long permission currently
+        permissionLong = new INodeDirectory(0L, null, permissionStatus, 0L)
+                .getPermissionLong();
+      }
+      return permissionLong;
     }
 
     /**
@@ -184,52 +178,35 @@ public class SentryINodeAttributesProvider extends INodeAttributeProvider
     @Override
     public AclFeature getAclFeature() {
       AclFeature aclFeature;
-      String p = Arrays.toString(pathElements);
-      boolean isPrefixed = false;
       boolean isStale = false;
-      boolean hasAuthzObj = false;
-      Map<String, AclEntry> aclMap = null;
-
-      // If path is not under prefix, return hadoop acls.
-      if (!authzInfo.isUnderPrefix(pathElements)) {
-        isPrefixed = false;
-        aclFeature = defaultAttributes.getAclFeature();
-      } else if (!authzInfo.doesBelongToAuthzObject(pathElements)) {
-        // If path is not managed, return hadoop acls.
-        isPrefixed = true;
-        aclFeature = defaultAttributes.getAclFeature();
+      // The path is managed, add original hadoop permission if originalAuthzAsAcl true.
+      Map<String, AclEntry> aclMap = new HashMap<String, AclEntry>();
+      if (originalAuthzAsAcl) {
+        String user = defaultAttributes.getUserName();
+        String group = defaultAttributes.getGroupName();
+        FsPermission perm = defaultAttributes.getFsPermission();
+        addToACLMap(aclMap, createAclEntries(user, group, perm));
       } else {
-        // If path is managed, add original hadoop permission if originalAuthzAsAcl true.
-        isPrefixed = true;
-        hasAuthzObj = true;
-        aclMap = new HashMap<String, AclEntry>();
-        if (originalAuthzAsAcl) {
-          String user = defaultAttributes.getUserName();
-          String group = defaultAttributes.getGroupName();
-          FsPermission perm = defaultAttributes.getFsPermission();
-          addToACLMap(aclMap, createAclEntries(user, group, perm));
-        } else {
-          // else add hive:hive
-          addToACLMap(aclMap, createAclEntries(user, group, permission));
-        }
-        if (!authzInfo.isStale()) {
-          // if not stale return sentry acls.
-          isStale = false;
-          addToACLMap(aclMap, authzInfo.getAclEntries(pathElements));
-          aclFeature = new SentryAclFeature(ImmutableList.copyOf(aclMap.values()));
-        } else {
-          // if stale return hive:hive
-          isStale = true;
-          aclFeature = new SentryAclFeature(ImmutableList.copyOf(aclMap.values()));
-        }
+        // else add hive:hive
+        addToACLMap(aclMap, createAclEntries(user, group, permission));
+      }
+      if (!authzInfo.isStale()) {
+        // if not stale return sentry acls.
+        isStale = false;
+        addToACLMap(aclMap, authzInfo.getAclEntries(authzObjs));
+        aclFeature = new SentryAclFeature(ImmutableList.copyOf(aclMap.values()));
+      } else {
+        // if stale return hive:hive
+        isStale = true;
+        aclFeature = new SentryAclFeature(ImmutableList.copyOf(aclMap.values()));
       }
       if (LOG.isDebugEnabled()) {
-        LOG.debug("### getAclEntry \n[" + (p == null ? "null" : p) + "] : ["
-            + "isPreifxed=" + isPrefixed
+        LOG.debug("### getAclEntry \n[" + Arrays.toString(pathElements) + "] : ["
+            + "isPreifxed=true"
             + ", isStale=" + isStale
-            + ", hasAuthzObj=" + hasAuthzObj
+            + ", hasAuthzObj=true"
             + ", origAuthzAsAcl=" + originalAuthzAsAcl + "]\n"
-            + "[" + (aclMap == null ? "null" : aclMap) + "]\n");
+            + "[" + aclMap + "]\n");
       }
       return aclFeature;
     }
@@ -261,8 +238,18 @@ public class SentryINodeAttributesProvider extends INodeAttributeProvider
   public SentryINodeAttributesProvider() {
   }
 
-  private boolean isSentryManaged(final String[] pathElements) {
-    return authzInfo.isSentryManaged(pathElements);
+  private FsPermission getSentryPermission(String[] pathElements) {
+    // Handle case when prefix directory is itself associated with an
+    // authorizable object (default db directory in hive)
+    // An executable permission needs to be set on the the prefix directory
+    // in this case.. else, subdirectories (which map to other dbs) will
+    // not be travesible.
+    for (String [] prefixPath : authzInfo.getPathPrefixes()) {
+      if (Arrays.equals(prefixPath, pathElements)) {
+        return FsPermission.createImmutable((short)(permission.toShort() | 0x01));
+      }
+    }
+    return permission;
   }
 
   @VisibleForTesting
@@ -334,8 +321,9 @@ public class SentryINodeAttributesProvider extends INodeAttributeProvider
     pathElements = "".equals(pathElements[0]) && pathElements.length > 1 ?
             Arrays.copyOfRange(pathElements, 1, pathElements.length) :
             pathElements;
-    return isSentryManaged(pathElements) ? new SentryINodeAttributes
-            (inode, pathElements) : inode;
+    Set<String> authzObjs = authzInfo.getManagedAuthzObjects(pathElements);
+    return authzObjs != null ? new SentryINodeAttributes
+            (inode, pathElements, authzObjs) : inode;
   }
 
   @Override
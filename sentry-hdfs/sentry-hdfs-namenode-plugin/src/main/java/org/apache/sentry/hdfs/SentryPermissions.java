@@ -18,7 +18,10 @@
 package org.apache.sentry.hdfs;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 
+import com.google.common.collect.ImmutableList;
 import org.apache.hadoop.fs.permission.AclEntry;
 import org.apache.hadoop.fs.permission.AclEntryScope;
 import org.apache.hadoop.fs.permission.AclEntryType;
@@ -80,6 +83,13 @@ public class SentryPermissions implements AuthzPermissions {
   // RoleInfo should be case insensitive.
   private final Map<String, RoleInfo> roles = new TreeMap<String, RoleInfo>(String.CASE_INSENSITIVE_ORDER);
 
+  // ACLs computed by getAcls(), per authzObj. Entries are dropped by every
+  // privilege or role change which can affect them, so a changed PrivilegeInfo
+  // or RoleInfo must be (re-)added. Sorted so that the entries of all the
+  // children of a parent authzObj are a sub-map.
+  private final ConcurrentNavigableMap<String, List<AclEntry>> aclCache =
+      new ConcurrentSkipListMap<String, List<AclEntry>>(String.CASE_INSENSITIVE_ORDER);
+
   String getParentAuthzObject(String authzObject) {
     if (authzObject != null) {
       int dot = authzObject.indexOf('.');
@@ -134,10 +144,26 @@ public class SentryPermissions implements AuthzPermissions {
     return groupPerms;
   }
 
+  /**
+   * Returns the ACLs of the given authzObj. The returned list is immutable
+   * and cached until a privilege or role change affects it.
+   */
   @Override
   public List<AclEntry> getAcls(String authzObj) {
+    List<AclEntry> acls = aclCache.get(authzObj);
+    if (acls == null) {
+      acls = computeAcls(authzObj);
+      aclCache.put(authzObj, acls);
+    }
+    return acls;
+  }
+
+  private List<AclEntry> computeAcls(String authzObj) {
     Map<String, FsAction> groupPerms = getGroupPerms(authzObj);
-    List<AclEntry> retList = new LinkedList<AclEntry>();
+    if (groupPerms.isEmpty()) {
+      return ImmutableList.of();
+    }
+    ImmutableList.Builder<AclEntry> retList = ImmutableList.builder();
     for (Map.Entry<String, FsAction> groupPerm : groupPerms.entrySet()) {
       AclEntry.Builder builder = new AclEntry.Builder();
       builder.setName(groupPerm.getKey());
@@ -151,7 +177,32 @@ public class SentryPermissions implements AuthzPermissions {
       builder.setPermission(action);
       retList.add(builder.build());
     }
-    return retList;
+    return retList.build();
+  }
+
+  /**
+   * Drops the cached ACLs of the given authzObj and, as their ACLs inherit
+   * its privileges, of all its children.
+   */
+  void invalidateAcls(String authzObj) {
+    aclCache.remove(authzObj);
+    String parent = getParentAuthzObject(authzObj);
+    if (parent != null && parent.equals(authzObj)) {
+      // '/' sorts right after '.', this is the range of "authzObj.*"
+      aclCache.subMap(authzObj + ".", authzObj + "/").clear();
+    }
+  }
+
+  /**
+   * Drops the cached ACLs of every authzObj on which the given role holds
+   * privileges.
+   */
+  void invalidateAclsForRole(String role) {
+    for (PrivilegeInfo pInfo : privileges.values()) {
+      if (pInfo.roleToPermission.containsKey(role)) {
+        invalidateAcls(pInfo.authzObj);
+      }
+    }
   }
 
   private void constructAclEntry(String role, FsAction permission,
@@ -182,10 +233,12 @@ public class SentryPermissions implements AuthzPermissions {
 
   public void delPrivilegeInfo(String authzObj) {
     privileges.remove(authzObj);
+    invalidateAcls(authzObj);
   }
 
   public void addPrivilegeInfo(PrivilegeInfo privilegeInfo) {
     privileges.put(privilegeInfo.authzObj, privilegeInfo);
+    invalidateAcls(privilegeInfo.authzObj);
   }
 
   public Set<String> getChildren(String authzObj) {
@@ -198,9 +251,11 @@ public class SentryPermissions implements AuthzPermissions {
 
   public void delRoleInfo(String role) {
     roles.remove(role);
+    invalidateAclsForRole(role);
   }
 
   public void addRoleInfo(RoleInfo roleInfo) {
     roles.put(roleInfo.role, roleInfo);
+    invalidateAclsForRole(roleInfo.role);
   }
 }
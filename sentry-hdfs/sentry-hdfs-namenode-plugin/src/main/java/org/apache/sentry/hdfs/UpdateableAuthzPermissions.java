@@ -96,6 +96,9 @@ public class UpdateableAuthzPermissions implements AuthzPermissions, Updateable<
         // Request to remove group from all roles
         String groupToRemove = rUpdate.getDelGroups().iterator().next();
         for (RoleInfo rInfo : perms.getAllRoles()) {
+          if (rInfo.getAllGroups().contains(groupToRemove)) {
+            perms.invalidateAclsForRole(rInfo.getRole());
+          }
           rInfo.delGroup(groupToRemove);
         }
       }
@@ -148,6 +151,7 @@ public class UpdateableAuthzPermissions implements AuthzPermissions, Updateable<
         // Request to remove role from all Privileges
         String roleToRemove = pUpdate.getDelPrivileges().keySet().iterator()
             .next();
+        perms.invalidateAclsForRole(roleToRemove);
         for (PrivilegeInfo pInfo : perms.getAllPrivileges()) {
           pInfo.removePermission(roleToRemove);
         }
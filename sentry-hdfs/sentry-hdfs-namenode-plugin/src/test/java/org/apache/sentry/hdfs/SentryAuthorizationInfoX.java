@@ -18,7 +18,9 @@
 package org.apache.sentry.hdfs;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.hadoop.fs.permission.AclEntry;
 import org.apache.hadoop.fs.permission.AclEntryScope;
@@ -81,6 +83,16 @@ public class SentryAuthorizationInfoX extends SentryAuthorizationInfo {
     return isUnderPrefix(pathElements) && doesBelongToAuthzObject(pathElements);
   }
 
+  @Override
+  public Set<String> getManagedAuthzObjects(String[] pathElements) {
+    return isSentryManaged(pathElements) ? Collections.singleton("obj") : null;
+  }
+
+  @Override
+  public List<AclEntry> getAclEntries(Set<String> authzObjs) {
+    return getAclEntries(AUTHZ_OBJ);
+  }
+
   @Override
   public List<AclEntry> getAclEntries(String[] pathElements) {
     AclEntry acl = new AclEntry.Builder().setType(AclEntryType.USER).
@@ -0,0 +1,71 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.hdfs;
+
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.google.common.collect.Lists;
+import org.apache.hadoop.conf.Configuration;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestSentryAuthorizationInfo {
+
+  private SentryAuthorizationInfo createAuthzInfo(int pathCacheSize) throws Exception {
+    Configuration conf = new Configuration(false);
+    conf.set(SentryAuthorizationConstants.HDFS_PATH_PREFIXES_KEY, "/user/hive/warehouse");
+    conf.setInt(SentryAuthorizationConstants.PATH_CACHE_SIZE_KEY, pathCacheSize);
+    SentryAuthorizationInfo authzInfo = new SentryAuthorizationInfo(conf);
+    PathsUpdate update = new PathsUpdate(1, false);
+    update.newPathChange("db1.tbl1").addToAddPaths(
+        Lists.newArrayList("user", "hive", "warehouse", "db1", "tbl1"));
+    authzInfo.getAuthzPaths().updatePartial(Lists.newArrayList(update),
+        new ReentrantReadWriteLock());
+    return authzInfo;
+  }
+
+  private void verifyManagedAuthzObjects(SentryAuthorizationInfo authzInfo) {
+    String[] partition = {"user", "hive", "warehouse", "db1", "tbl1", "p=1"};
+    for (int i = 0; i < 2; i++) {
+      Set<String> authzObjs = authzInfo.getManagedAuthzObjects(partition);
+      Assert.assertEquals(1, authzObjs.size());
+      Assert.assertTrue(authzObjs.contains("db1.tbl1"));
+      Assert.assertEquals(authzInfo.isSentryManaged(partition), authzObjs != null);
+      // Not under a prefix
+      Assert.assertNull(authzInfo.getManagedAuthzObjects(new String[]{"tmp", "db1", "tbl1"}));
+      // Under the prefix but not associated with any authzObj
+      Assert.assertNull(authzInfo.getManagedAuthzObjects(
+          new String[]{"user", "hive", "warehouse", "db2"}));
+    }
+  }
+
+  @Test
+  public void testManagedAuthzObjectsAreCached() throws Exception {
+    SentryAuthorizationInfo authzInfo = createAuthzInfo(10);
+    verifyManagedAuthzObjects(authzInfo);
+    String[] partition = {"user", "hive", "warehouse", "db1", "tbl1", "p=1"};
+    Assert.assertSame(authzInfo.getManagedAuthzObjects(partition),
+        authzInfo.getManagedAuthzObjects(partition.clone()));
+  }
+
+  @Test
+  public void testManagedAuthzObjectsWithoutCache() throws Exception {
+    verifyManagedAuthzObjects(createAuthzInfo(0));
+  }
+}
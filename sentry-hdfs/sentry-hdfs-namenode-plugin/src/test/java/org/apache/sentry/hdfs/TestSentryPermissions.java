@@ -19,6 +19,11 @@
 
 package org.apache.sentry.hdfs;
 
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import com.google.common.collect.Lists;
+import org.apache.hadoop.fs.permission.AclEntry;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -37,4 +42,56 @@ public class TestSentryPermissions {
     Assert.assertNotNull(perm.getRoleInfo("admin"));
     Assert.assertNull(perm.getRoleInfo("doesNotExist"));
   }
+
+  @Test
+  public void testCachedAclsAreInvalidatedByChanges() {
+    UpdateableAuthzPermissions authzPerms = new UpdateableAuthzPermissions();
+    ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    PermissionsUpdate update = new PermissionsUpdate(1, false);
+    update.addPrivilegeUpdate("db1").putToAddPrivileges("role1", "SELECT");
+    update.addPrivilegeUpdate("db2").putToAddPrivileges("role2", "SELECT");
+    update.addRoleUpdate("role1").addToAddGroups("group1");
+    update.addRoleUpdate("role2").addToAddGroups("group2");
+    authzPerms.updatePartial(Lists.newArrayList(update), lock);
+
+    // Table ACLs inherit the database privileges and are cached
+    List<AclEntry> tblAcls = authzPerms.getAcls("db1.tbl1");
+    Assert.assertEquals(1, tblAcls.size());
+    Assert.assertEquals("group1", tblAcls.get(0).getName());
+    Assert.assertSame(tblAcls, authzPerms.getAcls("DB1.TBL1"));
+    List<AclEntry> db2Acls = authzPerms.getAcls("db2");
+
+    // A group change of role1 drops the ACLs of the objects role1 has access to
+    update = new PermissionsUpdate(2, false);
+    update.addRoleUpdate("role1").addToAddGroups("group3");
+    authzPerms.updatePartial(Lists.newArrayList(update), lock);
+    Assert.assertEquals(2, authzPerms.getAcls("db1.tbl1").size());
+    Assert.assertSame(db2Acls, authzPerms.getAcls("db2"));
+
+    // A privilege change on the database drops the ACLs of its tables
+    tblAcls = authzPerms.getAcls("db1.tbl1");
+    update = new PermissionsUpdate(3, false);
+    update.addPrivilegeUpdate("db1").putToDelPrivileges("role1", "SELECT");
+    authzPerms.updatePartial(Lists.newArrayList(update), lock);
+    Assert.assertNotSame(tblAcls, authzPerms.getAcls("db1.tbl1"));
+    Assert.assertTrue(authzPerms.getAcls("db1.tbl1").isEmpty());
+    Assert.assertSame(db2Acls, authzPerms.getAcls("db2"));
+
+    // Removing a group from all roles
+    update = new PermissionsUpdate(4, false);
+    update.addRoleUpdate(PermissionsUpdate.ALL_ROLES).addToDelGroups("group2");
+    authzPerms.updatePartial(Lists.newArrayList(update), lock);
+    Assert.assertTrue(authzPerms.getAcls("db2").isEmpty());
+
+    // Removing a role from all privileges
+    update = new PermissionsUpdate(5, false);
+    update.addRoleUpdate("role2").addToAddGroups("group2");
+    authzPerms.updatePartial(Lists.newArrayList(update), lock);
+    Assert.assertEquals(1, authzPerms.getAcls("db2.tbl1").size());
+    update = new PermissionsUpdate(6, false);
+    update.addPrivilegeUpdate(PermissionsUpdate.ALL_AUTHZ_OBJ)
+        .putToDelPrivileges("role2", PermissionsUpdate.ALL_AUTHZ_OBJ);
+    authzPerms.updatePartial(Lists.newArrayList(update), lock);
+    Assert.assertTrue(authzPerms.getAcls("db2.tbl1").isEmpty());
+  }
 }
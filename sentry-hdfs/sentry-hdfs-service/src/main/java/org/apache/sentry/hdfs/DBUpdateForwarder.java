@@ -41,12 +41,29 @@ class DBUpdateForwarder<K extends Updateable.Update> {
 
   private final ImageRetriever<K> imageRetriever;
   private final DeltaRetriever<K> deltaRetriever;
+  private final DeltaCompactor<K> deltaCompactor;
+  private final long maxDeltas;
   private static final Logger LOGGER = LoggerFactory.getLogger(DBUpdateForwarder.class);
 
   DBUpdateForwarder(final ImageRetriever<K> imageRetriever,
                     final DeltaRetriever<K> deltaRetriever) {
+    this(imageRetriever, deltaRetriever, null, 0);
+  }
+
+  /**
+   * @param deltaCompactor compacts the delta updates before they are returned,
+   *                       or null to return them as they are persisted
+   * @param maxDeltas the number of pending delta updates past which a full update
+   *                  is returned instead, or 0 for no limit
+   */
+  DBUpdateForwarder(final ImageRetriever<K> imageRetriever,
+                    final DeltaRetriever<K> deltaRetriever,
+                    final DeltaCompactor<K> deltaCompactor,
+                    final long maxDeltas) {
     this.imageRetriever = imageRetriever;
     this.deltaRetriever = deltaRetriever;
+    this.deltaCompactor = deltaCompactor;
+    this.maxDeltas = maxDeltas;
   }
 
   /**
@@ -100,12 +117,27 @@ class DBUpdateForwarder<K extends Updateable.Update> {
       return Collections.emptyList();
     }
 
+    // When the consumer is too far behind, a full update is cheaper to send and
+    // to apply than the delta updates.
+    if (seqNum > SEQUENCE_NUMBER_UPDATE_UNINITIALIZED && maxDeltas > 0 &&
+        curSeqNum - seqNum + 1 > maxDeltas) {
+      LOGGER.info("A full update is returned instead of {} delta updates from sequence number {}",
+          curSeqNum - seqNum + 1, seqNum);
+      return Collections.singletonList(imageRetriever.retrieveFullImage());
+    }
+
     // Checks if newer deltas exist in the persistent storage.
     // If there are, return the list of delta updates.
     if (seqNum > SEQUENCE_NUMBER_UPDATE_UNINITIALIZED && deltaRetriever.isDeltaAvailable(seqNum)) {
       List<K> deltas = deltaRetriever.retrieveDelta(seqNum);
       if (!deltas.isEmpty()) {
         LOGGER.info("Newer delta updates are found up to sequence number: ", curSeqNum);
+        if (deltaCompactor != null && deltas.size() > 1) {
+          int retrieved = deltas.size();
+          deltas = deltaCompactor.compact(deltas);
+          SentryHdfsMetricsUtil.getCompactedDeltasCounter.inc(retrieved - deltas.size());
+          LOGGER.debug("Compacted {} delta updates into {}", retrieved, deltas.size());
+        }
         return deltas;
       }
     }
@@ -0,0 +1,172 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.hdfs;
+
+import com.google.common.collect.Lists;
+import org.apache.sentry.hdfs.service.thrift.TPathChanges;
+
+import javax.annotation.concurrent.ThreadSafe;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * PathDeltaCompactor merges runs of consecutive {@code PathsUpdate} deltas into a
+ * single update with the same effect on {@link UpdateableAuthzPaths}, so that a
+ * consumer catching up, such as HDFS NameNode, receives and applies less changes.
+ * <p>
+ * A delta update adds or deletes the mapping of paths to authorizable objects.
+ * Within a run, the last change of each path of an object wins, and deleting all
+ * the paths of an object drops its earlier changes. A merged update lists the
+ * deletions before the additions, which is the order they are applied in.
+ * <p>
+ * A rename moves the whole subtree of an object, so a rename update ends the
+ * current run and is kept as is. A run is also kept as is when its merged update
+ * would be taken as a rename.
+ * <p>
+ * It is a thread safe class, as it has no state.
+ */
+@ThreadSafe
+class PathDeltaCompactor implements DeltaCompactor<PathsUpdate> {
+
+  @Override
+  public List<PathsUpdate> compact(List<PathsUpdate> deltas) {
+    List<PathsUpdate> compacted = new ArrayList<>();
+    List<PathsUpdate> run = new ArrayList<>();
+    for (PathsUpdate delta : deltas) {
+      if (isRename(delta)) {
+        addRun(compacted, run);
+        run.clear();
+        compacted.add(delta);
+      } else {
+        run.add(delta);
+      }
+    }
+    addRun(compacted, run);
+    return compacted;
+  }
+
+  /**
+   * Adds the given run of deltas, merged into a single update when possible.
+   */
+  private static void addRun(List<PathsUpdate> compacted, List<PathsUpdate> run) {
+    if (run.size() < 2) {
+      compacted.addAll(run);
+      return;
+    }
+
+    Map<String, AuthzObjChanges> changes = new LinkedHashMap<>();
+    for (PathsUpdate delta : run) {
+      // The deletions of an update are applied before its additions.
+      for (TPathChanges pathChanges : delta.getPathChanges()) {
+        if (pathChanges.getDelPathsSize() > 0) {
+          getChanges(changes, pathChanges.getAuthzObj()).delete(pathChanges.getDelPaths());
+        }
+      }
+      for (TPathChanges pathChanges : delta.getPathChanges()) {
+        if (pathChanges.getAddPathsSize() > 0) {
+          getChanges(changes, pathChanges.getAuthzObj()).add(pathChanges.getAddPaths());
+        }
+      }
+    }
+
+    PathsUpdate last = run.get(run.size() - 1);
+    PathsUpdate merged = new PathsUpdate(last.getSeqNum(), last.getImgNum(), false);
+    for (Map.Entry<String, AuthzObjChanges> entry : changes.entrySet()) {
+      entry.getValue().addTo(merged.newPathChange(entry.getKey()));
+    }
+
+    if (isRename(merged)) {
+      compacted.addAll(run);
+    } else {
+      compacted.add(merged);
+    }
+  }
+
+  private static AuthzObjChanges getChanges(Map<String, AuthzObjChanges> changes,
+      String authzObj) {
+    AuthzObjChanges objChanges = changes.get(authzObj);
+    if (objChanges == null) {
+      objChanges = new AuthzObjChanges();
+      changes.put(authzObj, objChanges);
+    }
+    return objChanges;
+  }
+
+  /**
+   * @return true if the update is applied as a rename by {@link UpdateableAuthzPaths}
+   */
+  private static boolean isRename(PathsUpdate update) {
+    List<TPathChanges> pathChanges = update.getPathChanges();
+    if (pathChanges.size() != 2) {
+      return false;
+    }
+    TPathChanges first = pathChanges.get(0);
+    TPathChanges second = pathChanges.get(1);
+    return ((first.getAddPathsSize() == 1 && second.getDelPathsSize() == 1) ||
+        (second.getAddPathsSize() == 1 && first.getDelPathsSize() == 1)) &&
+        !first.getAuthzObj().equalsIgnoreCase(second.getAuthzObj());
+  }
+
+  /**
+   * The net changes of the paths of an authorizable object.
+   */
+  private static final class AuthzObjChanges {
+    // Whether all the paths of the object are deleted first
+    private boolean deleteAll;
+    // The last change of each path, true when it is added
+    private final Map<List<String>, Boolean> paths = new LinkedHashMap<>();
+
+    void delete(List<List<String>> delPaths) {
+      if (delPaths.size() == 1 && delPaths.get(0).size() == 1
+          && delPaths.get(0).get(0).equals(PathsUpdate.ALL_PATHS)) {
+        deleteAll = true;
+        paths.clear();
+        return;
+      }
+      for (List<String> path : delPaths) {
+        if (deleteAll) {
+          // The path is not mapped any more, unless it was added since.
+          paths.remove(path);
+        } else {
+          paths.put(path, false);
+        }
+      }
+    }
+
+    void add(List<List<String>> addPaths) {
+      for (List<String> path : addPaths) {
+        paths.put(path, true);
+      }
+    }
+
+    void addTo(TPathChanges pathChanges) {
+      if (deleteAll) {
+        pathChanges.addToDelPaths(Lists.newArrayList(PathsUpdate.ALL_PATHS));
+      }
+      for (Map.Entry<List<String>, Boolean> path : paths.entrySet()) {
+        if (path.getValue()) {
+          pathChanges.addToAddPaths(path.getKey());
+        } else {
+          pathChanges.addToDelPaths(path.getKey());
+        }
+      }
+    }
+  }
+}
@@ -61,10 +61,8 @@ public class PathDeltaRetriever implements DeltaRetriever<PathsUpdate> {
         // Gets the changeID from the persisted MSentryPathChange.
         long changeID = mSentryPathChange.getChangeID();
         // Creates a corresponding PathsUpdate and deserialize the
-        // persisted delta update in JSON format to TPathsUpdate with
-        // associated changeID.
-        PathsUpdate pathsUpdate = new PathsUpdate();
-        pathsUpdate.JSONDeserialize(mSentryPathChange.getPathChange());
+        // persisted delta update to TPathsUpdate with associated changeID.
+        PathsUpdate pathsUpdate = mSentryPathChange.getPathsUpdate();
         pathsUpdate.setSeqNum(changeID);
         updates.add(pathsUpdate);
       }
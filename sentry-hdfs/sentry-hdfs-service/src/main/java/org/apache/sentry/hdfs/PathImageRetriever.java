@@ -23,9 +23,12 @@ import com.google.common.collect.Lists;
 import org.apache.sentry.hdfs.service.thrift.TPathChanges;
 import org.apache.sentry.provider.db.service.persistent.PathsImage;
 import org.apache.sentry.provider.db.service.persistent.SentryStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.annotation.concurrent.ThreadSafe;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -35,57 +38,143 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
  * storage and translates it into {@code PathsUpdate} that the consumers, such as
  * HDFS NameNode, can understand.
  * <p>
- * It is a thread safe class, as all the underlying database operation is thread safe.
+ * When constructed with a {@link PathDeltaRetriever}, the last full image and the
+ * paths tree it was dumped from are cached. As long as no newer HMS snapshot is
+ * persisted, later requests are served from the cache, after applying the path
+ * deltas persisted since it was built to the cached tree. Only the
+ * {@code TPathsDump} of a rolled forward image is filled in, as it is all the
+ * consumers use to initialize from a full image.
+ * <p>
+ * It is a thread safe class, as all the underlying database operation is thread safe
+ * and the cached image is only accessed while holding the lock of this instance.
  */
 @ThreadSafe
 class PathImageRetriever implements ImageRetriever<PathsUpdate> {
 
+  private static final Logger LOGGER = LoggerFactory.getLogger(PathImageRetriever.class);
+
   private static final String[] root = {"/"};
   private final SentryStore sentryStore;
+  private final PathDeltaRetriever deltaRetriever;
+
+  // The last full image returned and the paths tree it was dumped from.
+  // Guarded by this.
+  private UpdateableAuthzPaths cachedPaths;
+  private PathsUpdate cachedImage;
 
   PathImageRetriever(SentryStore sentryStore) {
+    this(sentryStore, null);
+  }
+
+  /**
+   * @param sentryStore the persistent storage to read the images from
+   * @param deltaRetriever the retriever of the path deltas used to roll the
+   *        cached image forward, or null to build every full image from scratch
+   */
+  PathImageRetriever(SentryStore sentryStore, PathDeltaRetriever deltaRetriever) {
     this.sentryStore = sentryStore;
+    this.deltaRetriever = deltaRetriever;
   }
 
   @Override
   public PathsUpdate retrieveFullImage() throws Exception {
     try (final Timer.Context timerContext =
         SentryHdfsMetricsUtil.getRetrievePathFullImageTimer.time()) {
+      if (deltaRetriever == null) {
+        return buildFullImage(new UpdateableAuthzPaths(root));
+      }
 
-      // Reads a up-to-date complete snapshot of Hive paths from the
-      // persistent storage, along with the sequence number of latest
-      // delta change the snapshot corresponds to.
-      PathsImage pathsImage = sentryStore.retrieveFullPathsImage();
-      long curImgNum = pathsImage.getCurImgNum();
-      long curSeqNum = pathsImage.getId();
-      Map<String, Set<String>> pathImage = pathsImage.getPathImage();
-
-      // Translates the complete Hive paths snapshot into a PathsUpdate.
-      // Adds all <hiveObj, paths> mapping to be included in this paths update.
-      // And label it with the latest delta change sequence number for consumer
-      // to be aware of the next delta change it should continue with.
-      PathsUpdate pathsUpdate = new PathsUpdate(curSeqNum, curImgNum, true);
-      for (Map.Entry<String, Set<String>> pathEnt : pathImage.entrySet()) {
-        TPathChanges pathChange = pathsUpdate.newPathChange(pathEnt.getKey());
-
-        for (String path : pathEnt.getValue()) {
-          pathChange.addToAddPaths(Lists.newArrayList(Splitter.on("/").split(path)));
+      synchronized (this) {
+        if (cachedImage != null && rollForwardCachedImage()) {
+          SentryHdfsMetricsUtil.getPathFullImageCacheHitCounter.inc();
+          return cachedImage;
         }
+
+        UpdateableAuthzPaths authzPaths = new UpdateableAuthzPaths(root);
+        PathsUpdate pathsUpdate = buildFullImage(authzPaths);
+        cachedPaths = authzPaths;
+        cachedImage = pathsUpdate;
+        return pathsUpdate;
+      }
+    }
+  }
+
+  private PathsUpdate buildFullImage(UpdateableAuthzPaths authzPaths) throws Exception {
+    // Reads a up-to-date complete snapshot of Hive paths from the
+    // persistent storage, along with the sequence number of latest
+    // delta change the snapshot corresponds to.
+    PathsImage pathsImage = sentryStore.retrieveFullPathsImage();
+    long curImgNum = pathsImage.getCurImgNum();
+    long curSeqNum = pathsImage.getId();
+    Map<String, Set<String>> pathImage = pathsImage.getPathImage();
+
+    // Translates the complete Hive paths snapshot into a PathsUpdate.
+    // Adds all <hiveObj, paths> mapping to be included in this paths update.
+    // And label it with the latest delta change sequence number for consumer
+    // to be aware of the next delta change it should continue with.
+    PathsUpdate pathsUpdate = new PathsUpdate(curSeqNum, curImgNum, true);
+    for (Map.Entry<String, Set<String>> pathEnt : pathImage.entrySet()) {
+      TPathChanges pathChange = pathsUpdate.newPathChange(pathEnt.getKey());
+
+      for (String path : pathEnt.getValue()) {
+        pathChange.addToAddPaths(Lists.newArrayList(Splitter.on("/").split(path)));
       }
+    }
+
+    SentryHdfsMetricsUtil.getPathChangesHistogram.update(pathsUpdate
+        .getPathChanges().size());
+
+    // Translate PathsUpdate that contains a full image to TPathsDump for
+    // consumer (NN) to be able to quickly construct UpdateableAuthzPaths
+    // from TPathsDump.
+    authzPaths.updatePartial(Lists.newArrayList(pathsUpdate),
+        new ReentrantReadWriteLock());
+    //Setting minimizeSize parameter to false based on interface description
+    pathsUpdate.toThrift().setPathsDump(authzPaths.getPathsDump().createPathsDump(false));
+    return pathsUpdate;
+  }
 
-      SentryHdfsMetricsUtil.getPathChangesHistogram.update(pathsUpdate
-          .getPathChanges().size());
-
-      // Translate PathsUpdate that contains a full image to TPathsDump for
-      // consumer (NN) to be able to quickly construct UpdateableAuthzPaths
-      // from TPathsDump.
-      UpdateableAuthzPaths authzPaths = new UpdateableAuthzPaths(root);
-      authzPaths.updatePartial(Lists.newArrayList(pathsUpdate),
-          new ReentrantReadWriteLock());
-      //Setting minimizeSize parameter to false based on interface description
-      pathsUpdate.toThrift().setPathsDump(authzPaths.getPathsDump().createPathsDump(false));
-      return pathsUpdate;
+  /**
+   * Brings the cached full image up to date with the path deltas persisted
+   * since it was built. Must be called while holding the lock of this instance.
+   *
+   * @return false if the cached image cannot be rolled forward, because a newer
+   *         HMS snapshot was persisted or some of the deltas are not available
+   */
+  private boolean rollForwardCachedImage() throws Exception {
+    long imgNum = cachedImage.getImgNum();
+    if (sentryStore.getLastProcessedImageID() != imgNum) {
+      return false;
     }
+
+    long seqNum = cachedImage.getSeqNum();
+    long curSeqNum = deltaRetriever.getLatestDeltaID();
+    if (curSeqNum == seqNum) {
+      return true;
+    } else if (curSeqNum < seqNum) {
+      return false;
+    }
+
+    // The deltas with a greater ID are returned too when the next one was purged, and
+    // must not be applied over the gap
+    List<PathsUpdate> deltas = deltaRetriever.retrieveDelta(seqNum + 1);
+    if (deltas.isEmpty() || deltas.get(0).getSeqNum() != seqNum + 1) {
+      LOGGER.debug("The path delta following sequence number {} is not available", seqNum);
+      return false;
+    }
+
+    // The cached tree is about to change, so the cached image must not be
+    // served again if applying the deltas fails half way.
+    cachedImage = null;
+    cachedPaths.updatePartial(deltas, new ReentrantReadWriteLock());
+    PathsUpdate pathsUpdate =
+        new PathsUpdate(deltas.get(deltas.size() - 1).getSeqNum(), imgNum, true);
+    pathsUpdate.toThrift().setPathsDump(cachedPaths.getPathsDump().createPathsDump(false));
+    cachedImage = pathsUpdate;
+    SentryHdfsMetricsUtil.getPathFullImageRolledDeltasCounter.inc(deltas.size());
+    LOGGER.debug("Rolled the cached full paths image forward from sequence number {} to {}",
+        seqNum, pathsUpdate.getSeqNum());
+    return true;
   }
 
   @Override
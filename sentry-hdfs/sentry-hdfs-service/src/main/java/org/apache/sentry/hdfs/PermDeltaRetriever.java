@@ -61,10 +61,9 @@ public class PermDeltaRetriever implements DeltaRetriever<PermissionsUpdate> {
         // Get the changeID from the persisted MSentryPermChange
         long changeID = mSentryPermChange.getChangeID();
         // Create a corresponding PermissionsUpdate and deserialize the
-        // persisted delta update in JSON format to TPermissionsUpdate with
-        // associated changeID.
-        PermissionsUpdate permsUpdate = new PermissionsUpdate();
-        permsUpdate.JSONDeserialize(mSentryPermChange.getPermChange());
+        // persisted delta update to TPermissionsUpdate with associated
+        // changeID.
+        PermissionsUpdate permsUpdate = mSentryPermChange.getPermissionsUpdate();
         permsUpdate.setSeqNum(changeID);
         updates.add(permsUpdate);
       }
@@ -82,6 +82,18 @@ final class SentryHdfsMetricsUtil {
   static final Histogram getPathChangesHistogram = sentryMetrics.getHistogram(
       MetricRegistry.name(PathImageRetriever.class, "retrieve-path-full-image",
           "path-changes-size"));
+  // The number of retrievePathFullImage served from the cached full image
+  static final Counter getPathFullImageCacheHitCounter = sentryMetrics.getCounter(
+      MetricRegistry.name(PathImageRetriever.class, "retrieve-path-full-image",
+          "cache-hit-num"));
+  // The number of path deltas applied to roll the cached full image forward
+  static final Counter getPathFullImageRolledDeltasCounter = sentryMetrics.getCounter(
+      MetricRegistry.name(PathImageRetriever.class, "retrieve-path-full-image",
+          "rolled-deltas-num"));
+
+  // The number of delta updates removed by compacting them in DBUpdateForwarder
+  static final Counter getCompactedDeltasCounter = sentryMetrics.getCounter(
+      MetricRegistry.name(DBUpdateForwarder.class, "compacted-deltas-num"));
 
   // Timer for getting path changes deltas
   static final Timer getDeltaPathChangesTimer = sentryMetrics.getTimer(
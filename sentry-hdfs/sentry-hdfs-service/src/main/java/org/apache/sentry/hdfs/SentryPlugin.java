@@ -20,6 +20,7 @@ package org.apache.sentry.hdfs;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.hadoop.conf.Configuration;
@@ -104,11 +105,23 @@ public class SentryPlugin implements SentryPolicyStorePlugin, SigUtils.SigListen
   @Override
   public void initialize(Configuration conf, SentryStore sentryStore) throws SentryPluginException {
     PermImageRetriever permImageRetriever = new PermImageRetriever(sentryStore);
-    PathImageRetriever pathImageRetriever = new PathImageRetriever(sentryStore);
     PermDeltaRetriever permDeltaRetriever = new PermDeltaRetriever(sentryStore);
     PathDeltaRetriever pathDeltaRetriever = new PathDeltaRetriever(sentryStore);
-    pathsUpdater = new DBUpdateForwarder<>(pathImageRetriever, pathDeltaRetriever);
-    permsUpdater = new DBUpdateForwarder<>(permImageRetriever, permDeltaRetriever);
+    PathImageRetriever pathImageRetriever =
+        conf.getBoolean(ServerConfig.SENTRY_HDFS_SYNC_FULL_IMAGE_CACHE_ENABLED,
+            ServerConfig.SENTRY_HDFS_SYNC_FULL_IMAGE_CACHE_ENABLED_DEFAULT) ?
+        new PathImageRetriever(sentryStore, pathDeltaRetriever) :
+        new PathImageRetriever(sentryStore);
+    PathDeltaCompactor pathDeltaCompactor =
+        conf.getBoolean(ServerConfig.SENTRY_HDFS_SYNC_DELTA_COMPACTION_ENABLED,
+            ServerConfig.SENTRY_HDFS_SYNC_DELTA_COMPACTION_ENABLED_DEFAULT) ?
+        new PathDeltaCompactor() : null;
+    long maxDeltas = conf.getLong(ServerConfig.SENTRY_HDFS_SYNC_MAX_DELTAS_PER_UPDATE,
+        ServerConfig.SENTRY_HDFS_SYNC_MAX_DELTAS_PER_UPDATE_DEFAULT);
+    pathsUpdater = new DBUpdateForwarder<>(pathImageRetriever, pathDeltaRetriever,
+        pathDeltaCompactor, maxDeltas);
+    permsUpdater = new DBUpdateForwarder<>(permImageRetriever, permDeltaRetriever,
+        null, maxDeltas);
 
     LOGGER.info("Sentry HDFS plugin initialized !!");
     instance = this;
@@ -295,6 +308,56 @@ public class SentryPlugin implements SentryPolicyStorePlugin, SigUtils.SigListen
     return update;
   }
 
+  @Override
+  public Update onAlterSentryRolesGrantPrivileges(
+      Map<String, Set<TSentryPrivilege>> rolePrivileges) throws SentryPluginException {
+    PermissionsUpdate update = onAlterSentryRolesPrivileges(rolePrivileges, true);
+    LOGGER.debug("onAlterSentryRolesGrantPrivileges, Authz Perm preUpdate for roles [ {} ]",
+        rolePrivileges.keySet());
+    return update;
+  }
+
+  @Override
+  public Update onAlterSentryRolesRevokePrivileges(
+      Map<String, Set<TSentryPrivilege>> rolePrivileges) throws SentryPluginException {
+    PermissionsUpdate update = onAlterSentryRolesPrivileges(rolePrivileges, false);
+    LOGGER.debug("onAlterSentryRolesRevokePrivileges, Authz Perm preUpdate for roles [ {} ]",
+        rolePrivileges.keySet());
+    return update;
+  }
+
+  /**
+   * Coalesces the privilege changes of a batch into a single update. The actions granted
+   * to or revoked from a role on the same object are joined by commas, which the
+   * NameNode plugin combines.
+   */
+  private PermissionsUpdate onAlterSentryRolesPrivileges(
+      Map<String, Set<TSentryPrivilege>> rolePrivileges, boolean grant) {
+    PermissionsUpdate update = null;
+    for (Map.Entry<String, Set<TSentryPrivilege>> entry : rolePrivileges.entrySet()) {
+      String roleName = entry.getKey();
+      for (TSentryPrivilege privilege : entry.getValue()) {
+        if ("COLUMN".equalsIgnoreCase(privilege.getPrivilegeScope())) {
+          continue;
+        }
+        String authzObj = getAuthzObj(privilege);
+        if (authzObj == null) {
+          continue;
+        }
+        if (update == null) {
+          update = new PermissionsUpdate();
+        }
+        TPrivilegeChanges privUpdate = update.addPrivilegeUpdate(authzObj);
+        Map<String, String> actions = grant ? privUpdate.getAddPrivileges()
+            : privUpdate.getDelPrivileges();
+        String action = privilege.getAction().toUpperCase();
+        String previous = actions.get(roleName);
+        actions.put(roleName, previous == null ? action : previous + "," + action);
+      }
+    }
+    return update;
+  }
+
   @Override
   public Update onDropSentryRole(TDropSentryRoleRequest request)
       throws SentryPluginException {
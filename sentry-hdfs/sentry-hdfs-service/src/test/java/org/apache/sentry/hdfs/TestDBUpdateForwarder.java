@@ -140,4 +140,47 @@ public class TestDBUpdateForwarder {
     assertEquals(UNUSED_PATH_UPDATE_IMG_NUM, updates.get(0).getImgNum());
     assertTrue(updates.get(0).hasFullImage());
   }
+
+  @Test
+  public void testNewImageIsReturnedWhenTooManyDeltasArePending() throws Exception {
+    updater = new DBUpdateForwarder<>(imageRetriever, deltaRetriever, null, 10);
+    Mockito.when(imageRetriever.getLatestImageID()).thenReturn(1L);
+    Mockito.when(deltaRetriever.getLatestDeltaID()).thenReturn(12L);
+    Mockito.when(deltaRetriever.isDeltaAvailable(2L)).thenReturn(true);
+    Mockito.when(imageRetriever.retrieveFullImage())
+        .thenReturn(new PathsUpdate(12, 1, true));
+
+    List<PathsUpdate> updates = updater.getAllUpdatesFrom(2, 1);
+    assertEquals(1, updates.size());
+    assertEquals(12, updates.get(0).getSeqNum());
+    assertTrue(updates.get(0).hasFullImage());
+    Mockito.verify(deltaRetriever, Mockito.never()).retrieveDelta(Mockito.anyLong());
+
+    // Up to the limit, the deltas are returned
+    Mockito.when(deltaRetriever.isDeltaAvailable(3L)).thenReturn(true);
+    Mockito.when(deltaRetriever.retrieveDelta(3L))
+        .thenReturn(Arrays.asList(new PathsUpdate(12, 1, false)));
+    updates = updater.getAllUpdatesFrom(3, 1);
+    assertEquals(1, updates.size());
+    assertFalse(updates.get(0).hasFullImage());
+  }
+
+  @Test
+  public void testNewDeltasAreCompactedWhenCompactorIsUsed() throws Exception {
+    updater = new DBUpdateForwarder<>(imageRetriever, deltaRetriever, new PathDeltaCompactor(), 0);
+    PathsUpdate first = new PathsUpdate(2, 1, false);
+    first.newPathChange("db1.tbl1").addToAddPaths(Arrays.asList("db1", "tbl1"));
+    PathsUpdate second = new PathsUpdate(3, 1, false);
+    second.newPathChange("db1.tbl2").addToAddPaths(Arrays.asList("db1", "tbl2"));
+    Mockito.when(imageRetriever.getLatestImageID()).thenReturn(1L);
+    Mockito.when(deltaRetriever.getLatestDeltaID()).thenReturn(3L);
+    Mockito.when(deltaRetriever.isDeltaAvailable(2L)).thenReturn(true);
+    Mockito.when(deltaRetriever.retrieveDelta(2L)).thenReturn(Arrays.asList(first, second));
+
+    List<PathsUpdate> updates = updater.getAllUpdatesFrom(2, 1);
+    assertEquals(1, updates.size());
+    assertEquals(3, updates.get(0).getSeqNum());
+    assertEquals(2, updates.get(0).getPathChanges().size());
+    assertFalse(updates.get(0).hasFullImage());
+  }
 }
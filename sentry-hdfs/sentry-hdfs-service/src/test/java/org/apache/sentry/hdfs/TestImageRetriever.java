@@ -17,6 +17,7 @@
  */
 package org.apache.sentry.hdfs;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.apache.commons.lang.StringUtils;
 import org.apache.sentry.hdfs.service.thrift.TPathChanges;
@@ -32,6 +33,7 @@ import java.util.Map;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class TestImageRetriever {
@@ -76,6 +78,98 @@ public class TestImageRetriever {
     assertTrue(comparePaths(fullPathsImage, pathsUpdate.getPathChanges()));
   }
 
+  @Test
+  public void testCachedFullImageRolledForwardWithDeltas() throws Exception {
+    PathDeltaRetriever deltaRetrieverMock = Mockito.mock(PathDeltaRetriever.class);
+
+    Map<String, Set<String>> fullPathsImage = new HashMap<>();
+    fullPathsImage.put("db1", Sets.newHashSet("user/db1"));
+    fullPathsImage.put("db1.table1", Sets.newHashSet("user/db1/table1"));
+
+    Mockito.when(sentryStoreMock.retrieveFullPathsImage())
+        .thenReturn(new PathsImage(fullPathsImage, 1, 1));
+    Mockito.when(sentryStoreMock.getLastProcessedImageID()).thenReturn(1L);
+    Mockito.when(deltaRetrieverMock.getLatestDeltaID()).thenReturn(1L);
+
+    PathImageRetriever imageRetriever =
+        new PathImageRetriever(sentryStoreMock, deltaRetrieverMock);
+    PathsUpdate pathsUpdate = imageRetriever.retrieveFullImage();
+    assertEquals(1, pathsUpdate.getImgNum());
+    assertEquals(1, pathsUpdate.getSeqNum());
+
+    // Without new deltas, the cached image is returned as is
+    assertSame(pathsUpdate, imageRetriever.retrieveFullImage());
+    Mockito.verify(sentryStoreMock, Mockito.times(1)).retrieveFullPathsImage();
+
+    // A new table is added by the next delta, which is applied to the cached image
+    PathsUpdate delta = new PathsUpdate(2, false);
+    delta.newPathChange("db1.table2")
+        .addToAddPaths(Lists.newArrayList("user", "db1", "table2"));
+    Mockito.when(deltaRetrieverMock.getLatestDeltaID()).thenReturn(2L);
+    Mockito.when(deltaRetrieverMock.retrieveDelta(2L))
+        .thenReturn(Lists.newArrayList(delta));
+
+    pathsUpdate = imageRetriever.retrieveFullImage();
+    assertTrue(pathsUpdate.hasFullImage());
+    assertEquals(1, pathsUpdate.getImgNum());
+    assertEquals(2, pathsUpdate.getSeqNum());
+    Mockito.verify(sentryStoreMock, Mockito.times(1)).retrieveFullPathsImage();
+
+    UpdateableAuthzPaths authzPaths =
+        new UpdateableAuthzPaths(new String[] {"/"}).updateFull(pathsUpdate);
+    assertEquals(Sets.newHashSet("db1.table1"),
+        authzPaths.findAuthzObjectExactMatches(new String[] {"user", "db1", "table1"}));
+    assertEquals(Sets.newHashSet("db1.table2"),
+        authzPaths.findAuthzObjectExactMatches(new String[] {"user", "db1", "table2"}));
+
+    // A newer HMS snapshot makes the image be built again from the database
+    Mockito.when(sentryStoreMock.retrieveFullPathsImage())
+        .thenReturn(new PathsImage(fullPathsImage, 2, 2));
+    Mockito.when(sentryStoreMock.getLastProcessedImageID()).thenReturn(2L);
+
+    pathsUpdate = imageRetriever.retrieveFullImage();
+    assertEquals(2, pathsUpdate.getImgNum());
+    assertEquals(2, pathsUpdate.getSeqNum());
+    assertTrue(comparePaths(fullPathsImage, pathsUpdate.getPathChanges()));
+    Mockito.verify(sentryStoreMock, Mockito.times(2)).retrieveFullPathsImage();
+  }
+
+  @Test
+  public void testCachedFullImageRebuiltWhenDeltasArePurged() throws Exception {
+    PathDeltaRetriever deltaRetrieverMock = Mockito.mock(PathDeltaRetriever.class);
+
+    Map<String, Set<String>> fullPathsImage = new HashMap<>();
+    fullPathsImage.put("db1", Sets.newHashSet("user/db1"));
+
+    Mockito.when(sentryStoreMock.retrieveFullPathsImage())
+        .thenReturn(new PathsImage(fullPathsImage, 1, 1));
+    Mockito.when(sentryStoreMock.getLastProcessedImageID()).thenReturn(1L);
+    Mockito.when(deltaRetrieverMock.getLatestDeltaID()).thenReturn(1L);
+
+    PathImageRetriever imageRetriever =
+        new PathImageRetriever(sentryStoreMock, deltaRetrieverMock);
+    PathsUpdate pathsUpdate = imageRetriever.retrieveFullImage();
+    assertEquals(1, pathsUpdate.getSeqNum());
+
+    // The delta 2 was purged, only the delta 3 is returned from the sequence number 2
+    PathsUpdate delta = new PathsUpdate(3, false);
+    delta.newPathChange("db1.table3")
+        .addToAddPaths(Lists.newArrayList("user", "db1", "table3"));
+    Mockito.when(deltaRetrieverMock.getLatestDeltaID()).thenReturn(3L);
+    Mockito.when(deltaRetrieverMock.retrieveDelta(2L))
+        .thenReturn(Lists.newArrayList(delta));
+    fullPathsImage.put("db1.table2", Sets.newHashSet("user/db1/table2"));
+    fullPathsImage.put("db1.table3", Sets.newHashSet("user/db1/table3"));
+    Mockito.when(sentryStoreMock.retrieveFullPathsImage())
+        .thenReturn(new PathsImage(fullPathsImage, 3, 1));
+
+    // The image is built again from the database instead of skipping the delta 2
+    pathsUpdate = imageRetriever.retrieveFullImage();
+    assertEquals(3, pathsUpdate.getSeqNum());
+    assertTrue(comparePaths(fullPathsImage, pathsUpdate.getPathChanges()));
+    Mockito.verify(sentryStoreMock, Mockito.times(2)).retrieveFullPathsImage();
+  }
+
   private boolean comparePaths(Map<String, Set<String>> expected, List<TPathChanges> actual) {
     if (expected.size() != actual.size()) {
       return false;
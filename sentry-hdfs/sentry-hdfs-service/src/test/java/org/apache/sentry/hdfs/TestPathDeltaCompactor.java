@@ -0,0 +1,135 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.hdfs;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class TestPathDeltaCompactor {
+  private static final String[] root = {"/"};
+
+  private final PathDeltaCompactor compactor = new PathDeltaCompactor();
+
+  @Test
+  public void testRunIsMergedIntoNetUpdate() throws Exception {
+    PathsUpdate delta1 = new PathsUpdate(1, false);
+    delta1.newPathChange("db1").addToAddPaths(path("db1"));
+    delta1.newPathChange("db1.tbl1").addToAddPaths(path("db1/tbl1"));
+    delta1.newPathChange("db1.tbl1").addToAddPaths(path("db1/tbl1/part1"));
+    PathsUpdate delta2 = new PathsUpdate(2, false);
+    delta2.newPathChange("db1.tbl1").addToDelPaths(path("db1/tbl1/part1"));
+    delta2.newPathChange("db1.tbl1").addToAddPaths(path("db1/tbl1/part2"));
+    delta2.newPathChange("db1.tbl2").addToAddPaths(path("db1/tbl2"));
+    PathsUpdate delta3 = new PathsUpdate(3, false);
+    delta3.newPathChange("db1.tbl2").addToDelPaths(Lists.newArrayList(PathsUpdate.ALL_PATHS));
+    delta3.newPathChange("db1.tbl3").addToAddPaths(path("db1/tbl3"));
+    delta3.newPathChange("db1.tbl3").addToAddPaths(path("db1/tbl3/part1"));
+    PathsUpdate delta4 = new PathsUpdate(4, false);
+    delta4.newPathChange("db1.tbl2").addToAddPaths(path("db1/tbl2b"));
+    // The deletion is applied before the addition of the same update.
+    delta4.newPathChange("db1.tbl3").addToAddPaths(path("db1/tbl3"));
+    delta4.newPathChange("db1.tbl3").addToDelPaths(path("db1/tbl3"));
+    List<PathsUpdate> deltas = Arrays.asList(delta1, delta2, delta3, delta4);
+
+    List<PathsUpdate> compacted = compactor.compact(deltas);
+    assertEquals(1, compacted.size());
+    assertEquals(4, compacted.get(0).getSeqNum());
+    assertEquals(4, compacted.get(0).getPathChanges().size());
+
+    UpdateableAuthzPaths paths = apply(compacted);
+    assertPathsEqual(apply(deltas), paths, "db1", "db1/tbl1", "db1/tbl1/part1", "db1/tbl1/part2",
+        "db1/tbl2", "db1/tbl2b", "db1/tbl3", "db1/tbl3/part1");
+    assertEquals(Sets.newHashSet("db1.tbl1"), find(paths, "db1/tbl1"));
+    assertNull(find(paths, "db1/tbl1/part1"));
+    assertEquals(Sets.newHashSet("db1.tbl1"), find(paths, "db1/tbl1/part2"));
+    assertNull(find(paths, "db1/tbl2"));
+    assertEquals(Sets.newHashSet("db1.tbl2"), find(paths, "db1/tbl2b"));
+    assertEquals(Sets.newHashSet("db1.tbl3"), find(paths, "db1/tbl3"));
+    assertEquals(Sets.newHashSet("db1.tbl3"), find(paths, "db1/tbl3/part1"));
+    assertEquals(4, paths.getLastUpdatedSeqNum());
+  }
+
+  @Test
+  public void testRenameEndsRun() throws Exception {
+    PathsUpdate delta1 = new PathsUpdate(1, false);
+    delta1.newPathChange("db1.tbl1").addToAddPaths(path("db1/tbl1"));
+    PathsUpdate delta2 = new PathsUpdate(2, false);
+    delta2.newPathChange("db1.tbl1").addToAddPaths(path("db1/tbl1/part1"));
+    PathsUpdate rename = new PathsUpdate(3, false);
+    rename.newPathChange("db1.tbl2").addToAddPaths(path("db1/tbl2"));
+    rename.newPathChange("db1.tbl1").addToDelPaths(path("db1/tbl1"));
+    PathsUpdate delta4 = new PathsUpdate(4, false);
+    delta4.newPathChange("db1.tbl3").addToAddPaths(path("db1/tbl3"));
+    List<PathsUpdate> deltas = Arrays.asList(delta1, delta2, rename, delta4);
+
+    List<PathsUpdate> compacted = compactor.compact(deltas);
+    assertEquals(3, compacted.size());
+    assertEquals(2, compacted.get(0).getSeqNum());
+    assertSame(rename, compacted.get(1));
+    assertSame(delta4, compacted.get(2));
+    assertPathsEqual(apply(deltas), apply(compacted), "db1/tbl1", "db1/tbl1/part1",
+        "db1/tbl2", "db1/tbl2/part1", "db1/tbl3");
+  }
+
+  @Test
+  public void testRunIsKeptWhenMergedUpdateLooksLikeRename() throws Exception {
+    PathsUpdate drop = new PathsUpdate(1, false);
+    drop.newPathChange("db1.tbl1").addToDelPaths(Lists.newArrayList(PathsUpdate.ALL_PATHS));
+    PathsUpdate create = new PathsUpdate(2, false);
+    create.newPathChange("db1.tbl2").addToAddPaths(path("db1/tbl2"));
+    List<PathsUpdate> deltas = Arrays.asList(drop, create);
+
+    List<PathsUpdate> compacted = compactor.compact(deltas);
+    assertEquals(deltas, compacted);
+  }
+
+  private static List<String> path(String path) {
+    return Lists.newArrayList(path.split("/"));
+  }
+
+  private static UpdateableAuthzPaths apply(List<PathsUpdate> updates) {
+    UpdateableAuthzPaths paths = new UpdateableAuthzPaths(root);
+    PathsUpdate init = new PathsUpdate(0, false);
+    init.newPathChange("db1.tbl1").addToAddPaths(path("db1/tbl1/part0"));
+    paths.updatePartial(Lists.newArrayList(init), new ReentrantReadWriteLock());
+    paths.updatePartial(updates, new ReentrantReadWriteLock());
+    return paths;
+  }
+
+  private static Set<String> find(UpdateableAuthzPaths paths, String path) {
+    return paths.findAuthzObjectExactMatches(path.split("/"));
+  }
+
+  private static void assertPathsEqual(UpdateableAuthzPaths expected,
+      UpdateableAuthzPaths actual, String... paths) {
+    for (String path : paths) {
+      assertEquals(path, find(expected, path), find(actual, path));
+    }
+    assertEquals(find(expected, "db1/tbl1/part0"), find(actual, "db1/tbl1/part0"));
+  }
+}
@@ -0,0 +1,237 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.policy.common;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.apache.sentry.core.common.Action;
+import org.apache.sentry.core.common.Authorizable;
+import org.apache.sentry.core.common.BitFieldAction;
+import org.apache.sentry.core.common.ImplyMethodType;
+import org.apache.sentry.core.common.Model;
+import org.apache.sentry.core.common.exception.SentryUserException;
+import org.apache.sentry.core.common.utils.KeyValue;
+import org.apache.sentry.core.common.utils.PathUtils;
+import org.apache.sentry.core.common.utils.SentryConstants;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A {@link CommonPrivilege} compiled against a {@link Model}. Authorizable types are
+ * interned and lower cased, resource values are normalized according to their
+ * {@link ImplyMethodType} and actions are resolved to {@link BitFieldAction}s once,
+ * so {@link #implies(Privilege, Model)} does no parsing, map lookups or allocation.
+ * The result of implies is the same as for the equivalent {@link CommonPrivilege}.
+ */
+public final class CompiledPrivilege implements Privilege {
+
+  private final Model model;
+  private final ImmutableList<KeyValue> parts;
+  private final Part[] compiledParts;
+  private final int hashCode;
+
+  CompiledPrivilege(List<KeyValue> parts, Model model) {
+    this.model = Preconditions.checkNotNull(model, "Model cannot be null");
+    this.parts = ImmutableList.copyOf(parts);
+    this.hashCode = this.parts.hashCode();
+    this.compiledParts = new Part[this.parts.size()];
+    for (int i = 0; i < compiledParts.length; i++) {
+      compiledParts[i] = new Part(this.parts.get(i), model);
+    }
+  }
+
+  public CompiledPrivilege(String privilegeStr, Model model) {
+    this(new CommonPrivilege(privilegeStr).getParts(), model);
+  }
+
+  /**
+   * Compile the given privilege for the model.
+   */
+  public static CompiledPrivilege compile(CommonPrivilege privilege, Model model) {
+    return new CompiledPrivilege(privilege.getParts(), model);
+  }
+
+  /**
+   * Build the request privilege for the authorizable hierarchy and action directly,
+   * without joining it into a privilege string and splitting it again.
+   */
+  public static CompiledPrivilege forRequest(List<? extends Authorizable> authorizables,
+      Action action, Model model) {
+    List<KeyValue> parts = new ArrayList<KeyValue>(authorizables.size() + 1);
+    for (Authorizable authorizable : authorizables) {
+      parts.add(new KeyValue(authorizable.getTypeName(), authorizable.getName()));
+    }
+    parts.add(new KeyValue(SentryConstants.PRIVILEGE_NAME, action.getValue()));
+    return new CompiledPrivilege(parts, model);
+  }
+
+  @Override
+  public boolean implies(Privilege privilege, Model model) {
+    if (this.model != model) {
+      return new CompiledPrivilege(parts, model).implies(privilege, model);
+    }
+
+    CompiledPrivilege other;
+    if (privilege instanceof CompiledPrivilege && ((CompiledPrivilege) privilege).model == model) {
+      other = (CompiledPrivilege) privilege;
+    } else if (privilege instanceof CompiledPrivilege) {
+      other = new CompiledPrivilege(((CompiledPrivilege) privilege).parts, model);
+    } else if (privilege instanceof CommonPrivilege) {
+      other = compile((CommonPrivilege) privilege, model);
+    } else {
+      return false;
+    }
+
+    if (hashCode == other.hashCode && parts.equals(other.parts)) {
+      return true;
+    }
+
+    Part[] otherParts = other.compiledParts;
+    int index = 0;
+    for (Part otherPart : otherParts) {
+      // If this privilege has less parts than the other privilege, everything
+      // after the number of parts contained in this privilege is implied
+      if (index >= compiledParts.length) {
+        return true;
+      }
+      Part part = compiledParts[index];
+      if (!part.key.equals(otherPart.key)) {
+        // Support for action inheritance from parent to child
+        if (part.isAction) {
+          continue;
+        }
+        return false;
+      }
+
+      if (part.isAction) {
+        if (part.action == null || otherPart.action == null
+            || !part.action.implies(otherPart.action)) {
+          return false;
+        }
+      } else if (!impliesResource(part, otherPart)) {
+        return false;
+      }
+      index++;
+    }
+
+    // If this privilege has more parts than the other parts, only imply it if
+    // all of the other parts are wildcards
+    for (; index < compiledParts.length; index++) {
+      if (!SentryConstants.PRIVILEGE_WILDCARD_VALUE.equals(compiledParts[index].value)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  static boolean impliesResource(Part policyPart, Part requestPart) {
+    if (policyPart.policyWildcard || requestPart.requestWildcard) {
+      return true;
+    }
+    if (ImplyMethodType.URL == policyPart.implyMethodType) {
+      return PathUtils.impliesURI(policyPart.value, requestPart.value);
+    }
+    // values are already lower cased unless the comparison is case sensitive
+    return policyPart.value.equals(requestPart.value);
+  }
+
+  @Override
+  public List<KeyValue> getAuthorizable() {
+    List<KeyValue> authorizable = new ArrayList<>();
+    for (KeyValue part : parts) {
+      if (!SentryConstants.PRIVILEGE_NAME.equalsIgnoreCase(part.getKey())) {
+        authorizable.add(new KeyValue(part.getKey().toLowerCase(), part.getValue().toLowerCase()));
+      }
+    }
+    return authorizable;
+  }
+
+  public List<KeyValue> getParts() {
+    return parts;
+  }
+
+  Model getModel() {
+    return model;
+  }
+
+  Part[] getCompiledParts() {
+    return compiledParts;
+  }
+
+  @Override
+  public String toString() {
+    return SentryConstants.AUTHORIZABLE_JOINER.join(parts);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (o instanceof CompiledPrivilege) {
+      CompiledPrivilege cp = (CompiledPrivilege) o;
+      return model == cp.model && parts.equals(cp.parts);
+    }
+    return false;
+  }
+
+  @Override
+  public int hashCode() {
+    return hashCode;
+  }
+
+  /**
+   * One key=value section of the privilege, resolved against the model.
+   */
+  static final class Part {
+    final String key;
+    final String value;
+    final boolean isAction;
+    final BitFieldAction action;
+    final ImplyMethodType implyMethodType;
+    final boolean policyWildcard;
+    final boolean requestWildcard;
+
+    Part(KeyValue keyValue, Model model) {
+      key = keyValue.getKey().toLowerCase().intern();
+      isAction = SentryConstants.PRIVILEGE_NAME.equals(key);
+      String rawValue = keyValue.getValue();
+      if (isAction) {
+        implyMethodType = ImplyMethodType.ACTION;
+        action = getAction(rawValue, model);
+        value = rawValue;
+      } else {
+        implyMethodType = model.getImplyMethodMap().get(key);
+        action = null;
+        value = (implyMethodType == ImplyMethodType.URL
+            || implyMethodType == ImplyMethodType.STRING_CASE_SENSITIVE)
+            ? rawValue : rawValue.toLowerCase();
+      }
+      // "*", "+" and "all" ("+" and "all" are for backward compatibility) are wildcards
+      policyWildcard = SentryConstants.RESOURCE_WILDCARD_VALUE.equals(rawValue)
+          || SentryConstants.RESOURCE_WILDCARD_VALUE_ALL.equalsIgnoreCase(rawValue);
+      requestWildcard = policyWildcard
+          || SentryConstants.RESOURCE_WILDCARD_VALUE_SOME.equals(rawValue);
+    }
+
+    private static BitFieldAction getAction(String name, Model model) {
+      try {
+        return model.getBitFieldActionFactory().getActionByName(name);
+      } catch (SentryUserException e) {
+        return null;
+      }
+    }
+  }
+}
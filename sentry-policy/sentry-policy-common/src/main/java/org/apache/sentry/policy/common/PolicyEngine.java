@@ -17,6 +17,7 @@
 
 package org.apache.sentry.policy.common;
 
+import java.util.List;
 import java.util.Set;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -94,6 +95,22 @@ public interface PolicyEngine {
   ImmutableSet<String> getPrivileges(Set<String> groups, Set<String> users, ActiveRoleSet roleSet,
       Authorizable... authorizableHierarchy) throws SentryConfigurationException;
 
+  /**
+   * Batch version of {@link #getPrivileges(Set, Set, ActiveRoleSet, Authorizable...)}:
+   * get the privileges of groups and users for many authorizable hierarchies at once,
+   * so the backend can resolve the roles and fetch the privileges only once.
+   *
+   * @param group name
+   * @param user name
+   * @param active role-set
+   * @param authorizable hierarchies
+   * @return non-null immutable set of privileges for each of the authorizable
+   *         hierarchies, in the same order
+   */
+  List<ImmutableSet<String>> getPrivilegesBatch(Set<String> groups, Set<String> users,
+      ActiveRoleSet roleSet, List<? extends List<? extends Authorizable>> authorizableHierarchies)
+      throws SentryConfigurationException;
+
   void close();
 
   void validatePolicy(boolean strictValidation) throws SentryConfigurationException;
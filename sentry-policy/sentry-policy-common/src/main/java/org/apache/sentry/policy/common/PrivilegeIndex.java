@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.policy.common;
+
+import com.google.common.base.Preconditions;
+import org.apache.sentry.core.common.BitFieldAction;
+import org.apache.sentry.core.common.ImplyMethodType;
+import org.apache.sentry.core.common.Model;
+import org.apache.sentry.policy.common.CompiledPrivilege.Part;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of granted privileges keyed on the authorizable hierarchy
+ * (e.g. server -> db -> table -> column), which answers whether any of the
+ * privileges implies a request in time proportional to the depth of the
+ * request rather than to the number of privileges.
+ * <p>
+ * Each node is a prefix of resource parts. Its children are kept per
+ * authorizable type in three branches: exact values, wildcard values
+ * ("*" and "all") and, for types using {@link ImplyMethodType#URL}, URIs,
+ * which are matched with {@link org.apache.sentry.core.common.utils.PathUtils}
+ * since a URI implies everything below it. Privileges which are not a list of
+ * resources optionally followed by a single action are not indexed and are
+ * evaluated with {@link CompiledPrivilege#implies} instead.
+ * <p>
+ * The index is immutable once built and is safe to share between threads.
+ */
+public final class PrivilegeIndex {
+
+  private final Model model;
+  private final Node root = new Node();
+  private final Set<CompiledPrivilege> privileges = new HashSet<CompiledPrivilege>();
+  private final List<CompiledPrivilege> unindexed = new ArrayList<CompiledPrivilege>();
+
+  public PrivilegeIndex(Iterable<CompiledPrivilege> privileges, Model model) {
+    this.model = Preconditions.checkNotNull(model, "Model cannot be null");
+    for (CompiledPrivilege privilege : privileges) {
+      Preconditions.checkArgument(privilege.getModel() == model,
+          "Privilege %s is compiled for a different model", privilege);
+      if (!this.privileges.add(privilege)) {
+        continue;
+      }
+      if (isIndexable(privilege)) {
+        add(privilege);
+      } else {
+        unindexed.add(privilege);
+      }
+    }
+  }
+
+  /**
+   * @return true if any of the indexed privileges implies the request
+   */
+  public boolean implies(CompiledPrivilege request) {
+    if (request.getModel() != model) {
+      return implies(new CompiledPrivilege(request.getParts(), model));
+    }
+    // A privilege always implies itself, even when its action is not known to the model
+    if (privileges.contains(request)) {
+      return true;
+    }
+    for (CompiledPrivilege privilege : unindexed) {
+      if (privilege.implies(request, model)) {
+        return true;
+      }
+    }
+    Part[] parts = request.getCompiledParts();
+    if (isIndexable(request) && parts[parts.length - 1].isAction) {
+      return implies(root, parts, 0, parts.length - 1, parts[parts.length - 1].action);
+    }
+    // The request has no trailing action or is otherwise irregular
+    for (CompiledPrivilege privilege : privileges) {
+      if (privilege.implies(request, model)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  public int size() {
+    return privileges.size();
+  }
+
+  private static boolean implies(Node node, Part[] request, int depth, int resourceCount,
+      BitFieldAction requestAction) {
+    if (node.grantsAll) {
+      return true;
+    }
+    if (requestAction != null) {
+      for (BitFieldAction action : node.actions) {
+        if (action.implies(requestAction)) {
+          return true;
+        }
+      }
+    }
+    if (depth == resourceCount || node.children == null) {
+      return false;
+    }
+
+    Part requestPart = request[depth];
+    Children children = node.children.get(requestPart.key);
+    if (children == null) {
+      return false;
+    }
+    if (children.wildcard != null
+        && implies(children.wildcard, request, depth + 1, resourceCount, requestAction)) {
+      return true;
+    }
+    if (requestPart.requestWildcard) {
+      // The request matches any value of this authorizable type
+      for (Node child : children.values.values()) {
+        if (implies(child, request, depth + 1, resourceCount, requestAction)) {
+          return true;
+        }
+      }
+      for (UriNode child : children.uris) {
+        if (implies(child.node, request, depth + 1, resourceCount, requestAction)) {
+          return true;
+        }
+      }
+      return false;
+    }
+    Node child = children.values.get(requestPart.value);
+    if (child != null && implies(child, request, depth + 1, resourceCount, requestAction)) {
+      return true;
+    }
+    for (UriNode uriChild : children.uris) {
+      if (CompiledPrivilege.impliesResource(uriChild.part, requestPart)
+          && implies(uriChild.node, request, depth + 1, resourceCount, requestAction)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private void add(CompiledPrivilege privilege) {
+    Node node = root;
+    for (Part part : privilege.getCompiledParts()) {
+      if (part.isAction) {
+        // Unknown actions can only match themselves, which is checked separately
+        if (part.action != null && !node.actions.contains(part.action)) {
+          node.actions.add(part.action);
+        }
+        return;
+      }
+      node = node.getOrCreateChild(part);
+    }
+    node.grantsAll = true;
+  }
+
+  /**
+   * A privilege can be indexed when it is a list of resources optionally followed
+   * by a single action.
+   */
+  private static boolean isIndexable(CompiledPrivilege privilege) {
+    Part[] parts = privilege.getCompiledParts();
+    for (int i = 0; i < parts.length - 1; i++) {
+      if (parts[i].isAction) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static final class Node {
+    private boolean grantsAll;
+    private final List<BitFieldAction> actions = new ArrayList<BitFieldAction>(1);
+    // Lazily allocated, most nodes are leaves
+    private Map<String, Children> children;
+
+    private Node getOrCreateChild(Part part) {
+      if (children == null) {
+        children = new HashMap<String, Children>();
+      }
+      Children typeChildren = children.get(part.key);
+      if (typeChildren == null) {
+        typeChildren = new Children();
+        children.put(part.key, typeChildren);
+      }
+      return typeChildren.getOrCreate(part);
+    }
+  }
+
+  /**
+   * The children of a node for one authorizable type.
+   */
+  private static final class Children {
+    private Node wildcard;
+    private final Map<String, Node> values = new HashMap<String, Node>();
+    private final List<UriNode> uris = new ArrayList<UriNode>(0);
+
+    private Node getOrCreate(Part part) {
+      if (part.policyWildcard) {
+        if (wildcard == null) {
+          wildcard = new Node();
+        }
+        return wildcard;
+      }
+      if (part.implyMethodType == ImplyMethodType.URL) {
+        for (UriNode uri : uris) {
+          if (uri.part.value.equals(part.value)) {
+            return uri.node;
+          }
+        }
+        UriNode uri = new UriNode(part);
+        uris.add(uri);
+        return uri.node;
+      }
+      Node node = values.get(part.value);
+      if (node == null) {
+        node = new Node();
+        values.put(part.value, node);
+      }
+      return node;
+    }
+  }
+
+  private static final class UriNode {
+    private final Part part;
+    private final Node node = new Node();
+
+    private UriNode(Part part) {
+      this.part = part;
+    }
+  }
+}
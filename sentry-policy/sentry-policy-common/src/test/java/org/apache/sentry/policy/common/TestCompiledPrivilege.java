@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.policy.common;
+
+import com.google.common.collect.Lists;
+import org.apache.sentry.core.common.Authorizable;
+import org.apache.sentry.core.common.Model;
+import org.apache.sentry.core.model.db.AccessConstants;
+import org.apache.sentry.core.model.db.Database;
+import org.apache.sentry.core.model.db.DBModelAction;
+import org.apache.sentry.core.model.db.Server;
+import org.apache.sentry.core.model.db.Table;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class TestCompiledPrivilege {
+
+  static final String[] PRIVILEGES = {
+      "server=server1",
+      "server=*",
+      "server=server1->action=select",
+      "server=server1->db=db1",
+      "server=server1->db=DB1->action=insert",
+      "server=server1->db=*->action=all",
+      "server=server1->db=db1->table=table1",
+      "server=server1->db=db1->table=table2",
+      "server=server1->db=db1->table=+",
+      "server=server1->db=db1->table=ALL->action=select",
+      "server=server1->db=db1->table=table1->action=select",
+      "server=server1->db=db1->table=table1->action=insert",
+      "server=server1->db=db1->table=table1->action=*",
+      "server=server1->db=db1->table=table1->action=unknown",
+      "server=SERver1->db=Db1->TABLE=TAbLe1->column=col1->action=select",
+      "server=server1->db=db1->table=table1->column=CoL1->action=select",
+      "server=server1->db=db1->table=table1->column=*",
+      "server=server1->db=db1->table=table1->column=*->action=*",
+      "server=server1->uri=hdfs:///url",
+      "server=server1->uri=hdfs:///url/for/request",
+      "server=server1->uri=hdfs:///url/unvalid/for/request->action=all",
+  };
+
+  private Model testModel;
+
+  @Before
+  public void prepareData() {
+    testModel = new ModelForTest();
+  }
+
+  @Test
+  public void testSameResultAsCommonPrivilege() throws Exception {
+    for (String policy : PRIVILEGES) {
+      CommonPrivilege commonPolicy = new CommonPrivilege(policy);
+      CompiledPrivilege compiledPolicy = new CompiledPrivilege(policy, testModel);
+      for (String request : PRIVILEGES) {
+        CommonPrivilege commonRequest = new CommonPrivilege(request);
+        boolean expected = commonPolicy.implies(commonRequest, testModel);
+        String message = policy + " implies " + request;
+        assertEquals(message, expected,
+            compiledPolicy.implies(new CompiledPrivilege(request, testModel), testModel));
+        assertEquals(message, expected, compiledPolicy.implies(commonRequest, testModel));
+      }
+    }
+  }
+
+  @Test
+  public void testRequestFromAuthorizables() throws Exception {
+    List<Authorizable> authorizables = Lists.<Authorizable>newArrayList(new Server("server1"),
+        new Database("DB1"), new Table("table1"));
+    CompiledPrivilege request = CompiledPrivilege.forRequest(authorizables,
+        DBModelAction.SELECT, testModel);
+    CompiledPrivilege parsedRequest = new CompiledPrivilege(
+        "Server=server1->Db=DB1->Table=table1->action=select", testModel);
+
+    assertEquals(parsedRequest, request);
+    assertEquals(parsedRequest.hashCode(), request.hashCode());
+    assertTrue(new CompiledPrivilege("server=server1->db=db1", testModel)
+        .implies(request, testModel));
+    assertFalse(new CompiledPrivilege("server=server1->db=db1->action=insert", testModel)
+        .implies(request, testModel));
+
+    authorizables.set(2, new Table(AccessConstants.SOME));
+    request = CompiledPrivilege.forRequest(authorizables, DBModelAction.SELECT, testModel);
+    assertTrue(new CompiledPrivilege("server=server1->db=db1->table=table2->action=select",
+        testModel).implies(request, testModel));
+  }
+
+  @Test
+  public void testDoesNotImplyOtherPrivilegeTypes() throws Exception {
+    CompiledPrivilege privilege = new CompiledPrivilege("server=server1", testModel);
+    assertFalse(privilege.implies(null, testModel));
+  }
+}
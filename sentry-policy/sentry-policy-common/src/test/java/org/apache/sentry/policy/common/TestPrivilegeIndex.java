@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.policy.common;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.apache.sentry.core.common.Model;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class TestPrivilegeIndex {
+
+  private static final String[] REQUESTS = {
+      "server=server1->action=select",
+      "server=server1->db=db1->action=select",
+      "server=server1->db=db2->action=insert",
+      "server=server1->db=db1->table=table1->action=select",
+      "server=server1->db=db1->table=table1->action=insert",
+      "server=server1->db=db1->table=table1->action=all",
+      "server=server1->db=db1->table=table3->action=select",
+      "server=server1->db=db1->table=+->action=select",
+      "server=server1->db=*->table=*->action=select",
+      "server=server1->db=db1->table=table1->column=col1->action=select",
+      "server=server1->db=db1->table=table1->column=CoL1->action=select",
+      "server=server1->db=db1->table=table1->action=unknown",
+      "server=server2->db=db1->action=select",
+      "server=server1->uri=hdfs:///url/for/request->action=select",
+      "server=server1->uri=hdfs:///other->action=all",
+      "server=server1->db=db1->table=table1",
+  };
+
+  private Model testModel;
+
+  @Before
+  public void prepareData() {
+    testModel = new ModelForTest();
+  }
+
+  @Test
+  public void testSameResultAsLinearScan() throws Exception {
+    List<CompiledPrivilege> all = Lists.newArrayList();
+    for (String privilege : TestCompiledPrivilege.PRIVILEGES) {
+      all.add(new CompiledPrivilege(privilege, testModel));
+    }
+    List<String> requests = Lists.newArrayList(REQUESTS);
+    requests.addAll(Lists.newArrayList(TestCompiledPrivilege.PRIVILEGES));
+
+    for (String requestStr : requests) {
+      CompiledPrivilege request = new CompiledPrivilege(requestStr, testModel);
+      boolean anyImplies = false;
+      for (CompiledPrivilege privilege : all) {
+        boolean expected = privilege.implies(request, testModel);
+        anyImplies |= expected;
+        PrivilegeIndex index = new PrivilegeIndex(ImmutableList.of(privilege), testModel);
+        assertEquals(privilege + " implies " + request, expected, index.implies(request));
+      }
+      assertEquals("any implies " + request, anyImplies,
+          new PrivilegeIndex(all, testModel).implies(request));
+    }
+  }
+
+  @Test
+  public void testActionsAtDifferentLevels() throws Exception {
+    PrivilegeIndex index = new PrivilegeIndex(ImmutableList.of(
+        new CompiledPrivilege("server=server1->db=db1->action=select", testModel),
+        new CompiledPrivilege("server=server1->db=db1->table=table1->action=insert", testModel)),
+        testModel);
+
+    assertEquals(2, index.size());
+    assertTrue(index.implies(new CompiledPrivilege(
+        "server=server1->db=db1->table=table1->action=select", testModel)));
+    assertTrue(index.implies(new CompiledPrivilege(
+        "server=server1->db=db1->table=table1->action=insert", testModel)));
+    assertFalse(index.implies(new CompiledPrivilege(
+        "server=server1->db=db1->table=table2->action=insert", testModel)));
+    // neither privilege implies all on its own
+    assertFalse(index.implies(new CompiledPrivilege(
+        "server=server1->db=db1->table=table1->action=all", testModel)));
+  }
+}
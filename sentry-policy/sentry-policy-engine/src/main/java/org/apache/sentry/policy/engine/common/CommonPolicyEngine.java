@@ -26,6 +26,7 @@ import org.apache.sentry.provider.common.ProviderBackend;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Set;
 
 public class CommonPolicyEngine implements PolicyEngine {
@@ -92,6 +93,16 @@ public class CommonPolicyEngine implements PolicyEngine {
     return result;
   }
 
+  @Override
+  public List<ImmutableSet<String>> getPrivilegesBatch(Set<String> groups, Set<String> users,
+          ActiveRoleSet roleSet, List<? extends List<? extends Authorizable>> authorizableHierarchies)
+          throws SentryConfigurationException {
+    if (LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Getting permissions for groups: {}, users: {}", groups, users);
+    }
+    return providerBackend.getPrivilegesBatch(groups, users, roleSet, authorizableHierarchies);
+  }
+
   @Override
   public void validatePolicy(boolean strictValidation) throws SentryConfigurationException {
     this.providerBackend.validatePolicy(strictValidation);
@@ -16,6 +16,8 @@
  */
 package org.apache.sentry.policy.indexer;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.apache.sentry.core.common.ActiveRoleSet;
@@ -94,6 +96,14 @@ public class SimpleIndexerPolicyEngine implements PolicyEngine {
     return result;
   }
 
+  @Override
+  public List<ImmutableSet<String>> getPrivilegesBatch(Set<String> groups, Set<String> users,
+      ActiveRoleSet roleSet, List<? extends List<? extends Authorizable>> authorizableHierarchies) {
+    // The authorization hierarchy is not used, all the hierarchies get the same privileges
+    ImmutableSet<String> privileges = getPrivileges(groups, users, roleSet);
+    return Collections.nCopies(authorizableHierarchies.size(), privileges);
+  }
+
   @Override
   public void validatePolicy(boolean strictValidation)
       throws SentryConfigurationException {
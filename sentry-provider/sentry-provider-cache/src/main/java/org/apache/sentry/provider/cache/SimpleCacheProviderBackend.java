@@ -17,6 +17,8 @@
 
 package org.apache.sentry.provider.cache;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.apache.hadoop.conf.Configuration;
@@ -76,6 +78,17 @@ public class SimpleCacheProviderBackend implements ProviderBackend {
         roleSet, authorizableHierarchy));
   }
 
+  @Override
+  public List<ImmutableSet<String>> getPrivilegesBatch(Set<String> groups, Set<String> users,
+      ActiveRoleSet roleSet, List<? extends List<? extends Authorizable>> authorizableHierarchies) {
+    List<ImmutableSet<String>> result = new ArrayList<>(authorizableHierarchies.size());
+    for (List<? extends Authorizable> authorizableHierarchy : authorizableHierarchies) {
+      result.add(getPrivileges(groups, users, roleSet,
+          authorizableHierarchy.toArray(new Authorizable[authorizableHierarchy.size()])));
+    }
+    return result;
+  }
+
   @Override
   public ImmutableSet<String> getRoles(Set<String> groups, ActiveRoleSet roleSet) {
     if (!initialized()) {
@@ -24,194 +24,163 @@ import org.apache.sentry.core.model.db.DBModelAuthorizable.AuthorizableType;
 import org.apache.sentry.policy.common.CommonPrivilege;
 import org.apache.sentry.policy.common.Privilege;
 
-import java.util.Set;
-import java.util.HashSet;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
-import java.util.List;
-import java.util.LinkedList;
+import java.util.Set;
 
-/*
- * The class is used for saving and getting user's privileges when do the hive command like "show tables".
- * This will enhance the performance for the hive metadata filter. This class is not thread safe.
+/**
+ * Privilege cache for the privileges of one user. The privileges are indexed by
+ * their authorizable hierarchy in a tree of (authorizable type, value) nodes, so a
+ * lookup walks the request hierarchy without building any strings, and a wildcard
+ * in the request only visits the values which actually have privileges below them.
+ * The cache is immutable after construction, so it can be shared by all metadata
+ * filter calls of a session.
  */
 public class SimplePrivilegeCache implements PrivilegeCache {
 
-  private Set<String> cachedPrivileges;
+  private static final String URI_TYPE = AuthorizableType.URI.toString().toLowerCase();
 
-  // <Authorizable, Set<PrivilegeObject>> map, this is a cache for mapping authorizable
-  // to corresponding set of privilege objects.
-  // e.g. (server=server1->database=b1, (server=server1->database=b1->action=insert))
-  private final Map<String, Set<String>> cachedAuthzPrivileges = new HashMap<>();
+  private volatile ImmutableSet<String> cachedPrivileges;
 
-  // <AuthorizableType, Set<AuthorizableValue>> wild card map
-  private final Map<String, Set<String>> wildCardAuthz = new HashMap<>();
+  // Tree of <AuthorizableType, <AuthorizableValue, Node>>, the privileges are kept at
+  // the node of their authorizable, e.g. server=server1->db=db1->action=insert is
+  // kept at server=server1 -> db=db1.
+  private volatile Node root;
 
   public SimplePrivilegeCache(Set<String> cachedPrivileges) {
-    this.cachedPrivileges = cachedPrivileges;
-
+    Node newRoot = new Node();
     for (String cachedPrivilege : cachedPrivileges) {
       Privilege privilege = new CommonPrivilege(cachedPrivilege);
-      List<KeyValue> authorizable = privilege.getAuthorizable();
-      String authzString = getAuthzString(authorizable);
-      updateWildCardAuthzMap(authorizable);
-
-      Set<String> authzPrivileges = cachedAuthzPrivileges.get(authzString);
-      if (authzPrivileges == null) {
-        authzPrivileges = new HashSet();
-        cachedAuthzPrivileges.put(authzString, authzPrivileges);
-      }
-      authzPrivileges.add(cachedPrivilege);
-    }
-  }
-
-  private String getAuthzString(List<KeyValue> authoriable) {
-    List<KeyValue> authz = new LinkedList<>();
-    for (KeyValue auth : authoriable) {
-
-      // For authorizable e.g. sever=server1->uri=hdfs://namenode:8020/path/,
-      // use sever=server1 as the key of cachedAuthzPrivileges, since
-      // cannot do string matchinf on URI paths.
-      if (!AuthorizableType.URI.toString().equalsIgnoreCase(auth.getKey())) {
-        authz.add(auth);
-      }
-    }
-
-    return SentryConstants.AUTHORIZABLE_JOINER.join(authz);
-  }
-
-  private void updateWildCardAuthzMap(List<KeyValue> authz) {
-    for (KeyValue auth : authz) {
-      String authKey = auth.getKey().toLowerCase();
-      String authValue = auth.getValue().toLowerCase();
-      Set<String> authzValue = wildCardAuthz.get(authKey);
-
-      if (authzValue != null ) {
-        if (!authzValue.contains(authValue)) {
-          authzValue.add(authValue);
+      Node node = newRoot;
+      for (KeyValue auth : privilege.getAuthorizable()) {
+        // For authorizable e.g. sever=server1->uri=hdfs://namenode:8020/path/,
+        // keep the privilege at sever=server1, since cannot do string matching
+        // on URI paths.
+        if (!URI_TYPE.equals(auth.getKey())) {
+          node = node.getOrCreateChild(auth.getKey(), auth.getValue());
         }
-      } else {
-        authzValue = new HashSet<>();
-        authzValue.add(authValue);
-        wildCardAuthz.put(authKey, authzValue);
       }
+      node.privileges.add(cachedPrivilege);
     }
+    this.root = newRoot;
+    this.cachedPrivileges = ImmutableSet.copyOf(cachedPrivileges);
   }
 
   // return the cached privileges
   @Override
   public Set<String> listPrivileges(Set<String> groups, ActiveRoleSet roleSet) {
-    if (cachedPrivileges == null) {
-      cachedPrivileges = new HashSet<String>();
-    }
     return cachedPrivileges;
   }
 
   @Override
   public void close() {
-    if (cachedPrivileges != null) {
-      cachedPrivileges.clear();
-    }
+    cachedPrivileges = ImmutableSet.of();
+    root = new Node();
   }
 
   @Override
   public Set<String> listPrivileges(Set<String> groups, Set<String> users, ActiveRoleSet roleSet) {
-    if (cachedPrivileges == null) {
-      cachedPrivileges = new HashSet<String>();
-    }
     return cachedPrivileges;
   }
 
+  /**
+   * Get the privileges whose authorizable matches a prefix of the authorizable
+   * hierarchy. This logic follows Privilege.implies: at each level the privileges of
+   * the requested value and of the wildcard values (* and ALL) match, and a wildcard
+   * in the request matches every value. e.g. given authorizable hierarchy
+   * server=server1->db=db1, returns privileges on server=server1, server=*,
+   * server=server1->db=db1 and server=server1->db=*.
+   */
   @Override
   public Set<String> listPrivileges(Set<String> groups, Set<String> users, ActiveRoleSet roleSet,
       Authorizable... authorizationHierarchy) {
     Set<String> privileges = new HashSet<>();
-    Set<StringBuilder> authzKeys = getAuthzKeys(authorizationHierarchy);
-    for (StringBuilder authzKey : authzKeys) {
-      if (cachedAuthzPrivileges.get(authzKey.toString()) != null) {
-        privileges.addAll(cachedAuthzPrivileges.get(authzKey.toString()));
-      }
-    }
-
+    collectChildren(root, authorizationHierarchy, 0, privileges);
     return privileges;
   }
 
-  /**
-   * Get authoriables from the <Authorizable, Set<PrivilegeObject>> cache map,
-   * based on the authorizable hierarchy. This logic follows Privilege.implies.
-   * e.g. given authorizable hierarchy:server=server1->db=db1, returns matched
-   * privileges including server=server1;server=*;server=server1->db=db1;server=server1->db=*.
-   * @param authorizationHierarchy
-   * @return
-   */
-  private Set<StringBuilder> getAuthzKeys(Authorizable... authorizationHierarchy) {
-    Set<StringBuilder> targets = new HashSet<>();
-    for (Authorizable auth : authorizationHierarchy) {
-      String authzType = auth.getTypeName().toLowerCase();
-      String authzName = auth.getName().toLowerCase();
-
-      // No op for URI authorizable type.
-      if (authzType.equalsIgnoreCase(AuthorizableType.URI.toString())) {
-        continue;
-      }
-      // If authorizable name is a wild card, need to add all possible authorizable objects
-      // basesd on the authorizable type.
-      if (authzName.equals(SentryConstants.RESOURCE_WILDCARD_VALUE) ||
-          authzName.equals(SentryConstants.RESOURCE_WILDCARD_VALUE_SOME)||
-          authzName.equals(SentryConstants.RESOURCE_WILDCARD_VALUE_ALL)) {
-        Set<String> wildcardValues = wildCardAuthz.get(authzType);
-
-        if (wildcardValues != null && wildcardValues.size() > 0) {
-          Set<StringBuilder> newTargets = new HashSet<>(targets);
-          for (StringBuilder target : targets) {
-            for (String wildcardValue : wildcardValues) {
-              newTargets.add(addAuthz(target, authzType, wildcardValue));
-            }
-          }
-
-          targets = newTargets;
-        } else {
-          return targets;
-        }
-      } else {
-        if (targets.isEmpty()) {
-          targets.add(addAuthz(new StringBuilder(), authzType, authzName));
-
-          // Add wild card * search, e.g server=*, server=ALL
-          targets.add(addAuthz(new StringBuilder(), authzType,
-              SentryConstants.RESOURCE_WILDCARD_VALUE.toLowerCase()));
-          targets.add(addAuthz(new StringBuilder(), authzType,
-              SentryConstants.RESOURCE_WILDCARD_VALUE_ALL.toLowerCase()));
-        } else {
-          Set<StringBuilder> newTargets = new HashSet<>(targets);
-
-          for (StringBuilder target : targets) {
-            newTargets.add(addAuthz(target, authzType, authzName));
-
-            // Add wild card * search, e.g server=server1->db=*, server=server1->db=ALL
-            newTargets.add(addAuthz(target, authzType,
-                SentryConstants.RESOURCE_WILDCARD_VALUE.toLowerCase()));
-            newTargets.add(addAuthz(target, authzType,
-                SentryConstants.RESOURCE_WILDCARD_VALUE_ALL.toLowerCase()));
-          }
-
-          targets = newTargets;
-        }
+  private void collect(Node node, Authorizable[] authorizationHierarchy, int depth,
+      Set<String> privileges) {
+    privileges.addAll(node.privileges);
+    collectChildren(node, authorizationHierarchy, depth, privileges);
+  }
+
+  private void collectChildren(Node node, Authorizable[] authorizationHierarchy, int depth,
+      Set<String> privileges) {
+    // No op for URI authorizable type.
+    while (depth < authorizationHierarchy.length
+        && URI_TYPE.equalsIgnoreCase(authorizationHierarchy[depth].getTypeName())) {
+      depth++;
+    }
+    if (depth == authorizationHierarchy.length) {
+      return;
+    }
+    Authorizable auth = authorizationHierarchy[depth];
+    Map<String, Node> children = node.getChildren(auth.getTypeName().toLowerCase());
+    if (children.isEmpty()) {
+      return;
+    }
+
+    String authzName = auth.getName().toLowerCase();
+    if (isWildcard(authzName)) {
+      // Any value of the authorizable type matches
+      for (Node child : children.values()) {
+        collect(child, authorizationHierarchy, depth + 1, privileges);
       }
+      return;
+    }
+    collectChild(children.get(authzName), authorizationHierarchy, depth, privileges);
+    collectChild(children.get(SentryConstants.RESOURCE_WILDCARD_VALUE),
+        authorizationHierarchy, depth, privileges);
+    collectChild(children.get(SentryConstants.RESOURCE_WILDCARD_VALUE_ALL.toLowerCase()),
+        authorizationHierarchy, depth, privileges);
+  }
+
+  private void collectChild(Node child, Authorizable[] authorizationHierarchy, int depth,
+      Set<String> privileges) {
+    if (child != null) {
+      collect(child, authorizationHierarchy, depth + 1, privileges);
     }
+  }
 
-    return targets;
+  private static boolean isWildcard(String authzName) {
+    return authzName.equals(SentryConstants.RESOURCE_WILDCARD_VALUE)
+        || authzName.equals(SentryConstants.RESOURCE_WILDCARD_VALUE_SOME)
+        || authzName.equalsIgnoreCase(SentryConstants.RESOURCE_WILDCARD_VALUE_ALL);
   }
 
-  private StringBuilder addAuthz(StringBuilder authorizable, String authzType, String authzName) {
-    StringBuilder newAuthrizable = new StringBuilder(authorizable);
-    if (newAuthrizable.length() > 0) {
-      newAuthrizable.append(SentryConstants.AUTHORIZABLE_SEPARATOR);
-      newAuthrizable.append(SentryConstants.KV_JOINER.join(authzType, authzName));
-    } else {
-      newAuthrizable.append(SentryConstants.KV_JOINER.join(authzType, authzName));
+  private static final class Node {
+    private final Set<String> privileges = new HashSet<>();
+    // Lazily allocated, most nodes are leaves
+    private Map<String, Map<String, Node>> children;
+
+    private Node getOrCreateChild(String authzType, String authzValue) {
+      if (children == null) {
+        children = new HashMap<>();
+      }
+      Map<String, Node> typeChildren = children.get(authzType);
+      if (typeChildren == null) {
+        typeChildren = new HashMap<>();
+        children.put(authzType, typeChildren);
+      }
+      Node child = typeChildren.get(authzValue);
+      if (child == null) {
+        child = new Node();
+        typeChildren.put(authzValue, child);
+      }
+      return child;
     }
 
-    return newAuthrizable;
+    private Map<String, Node> getChildren(String authzType) {
+      if (children == null) {
+        return Collections.emptyMap();
+      }
+      Map<String, Node> typeChildren = children.get(authzType);
+      return typeChildren == null ? Collections.<String, Node>emptyMap() : typeChildren;
+    }
   }
 }
@@ -19,6 +19,7 @@ package org.apache.sentry.provider.cache;
 import com.google.common.collect.Sets;
 import org.apache.sentry.core.common.utils.KeyValue;
 import org.apache.sentry.core.common.utils.SentryConstants;
+import org.apache.sentry.core.model.db.Column;
 import org.apache.sentry.core.model.db.Database;
 import org.apache.sentry.core.model.db.Table;
 import org.apache.sentry.policy.common.CommonPrivilege;
@@ -67,6 +68,47 @@ public class TestSimplePrivilegeCache {
     assertEquals(4, cache.listPrivileges(null, null, null, new Server("server1"), new Database("db1"), new Table("t1")).size());
   }
 
+  @Test
+  public void testListPrivilegesWildCardRequest() {
+    CommonPrivilege t1D1Select = create(new KeyValue("Server", "server1"),
+        new KeyValue("db", "db1"), new KeyValue("table", "t1"), new KeyValue("action", "SELECT"));
+    CommonPrivilege t2D1Select = create(new KeyValue("Server", "server1"),
+        new KeyValue("db", "db1"), new KeyValue("table", "t2"), new KeyValue("action", "SELECT"));
+    CommonPrivilege t1D2Select = create(new KeyValue("Server", "server1"),
+        new KeyValue("db", "db2"), new KeyValue("table", "t1"), new KeyValue("action", "SELECT"));
+    CommonPrivilege c1Select = create(new KeyValue("Server", "server1"),
+        new KeyValue("db", "db1"), new KeyValue("table", "t1"), new KeyValue("column", "c1"),
+        new KeyValue("action", "SELECT"));
+    CommonPrivilege allDatabase = create(new KeyValue("Server", "server1"),
+        new KeyValue("db", "*"));
+
+    SimplePrivilegeCache cache = new SimplePrivilegeCache(Sets.newHashSet(t1D1Select.toString(),
+        t2D1Select.toString(), t1D2Select.toString(), c1Select.toString(), allDatabase.toString()));
+
+    // only the tables of db1 match, not those of other databases with the same name
+    assertEquals(Sets.newHashSet(t1D1Select.toString(), t2D1Select.toString(),
+        allDatabase.toString()), cache.listPrivileges(null, null, null, new Server("server1"),
+        new Database("db1"), new Table(SentryConstants.RESOURCE_WILDCARD_VALUE_SOME)));
+    assertEquals(5, cache.listPrivileges(null, null, null, new Server("server1"),
+        new Database(SentryConstants.RESOURCE_WILDCARD_VALUE_ALL),
+        new Table(SentryConstants.RESOURCE_WILDCARD_VALUE), new Column("*")).size());
+    // nothing below the table is requested
+    assertEquals(2, cache.listPrivileges(null, null, null, new Server("server1"),
+        new Database("db1"), new Table("t1")).size());
+  }
+
+  @Test
+  public void testListPrivilegesAfterClose() {
+    CommonPrivilege dbSelect = create(new KeyValue("Server", "server1"),
+        new KeyValue("db", "db1"), new KeyValue("action", "SELECT"));
+
+    SimplePrivilegeCache cache = new SimplePrivilegeCache(Sets.newHashSet(dbSelect.toString()));
+    cache.close();
+    assertEquals(0, cache.listPrivileges(null, null).size());
+    assertEquals(0, cache.listPrivileges(null, null, null,
+        new Server("server1"), new Database("db1")).size());
+  }
+
   @Test
   public void testListPrivilegesURI() {
     CommonPrivilege uri1Select = create(new KeyValue("Server", "server1"),
@@ -16,6 +16,7 @@
  */
 package org.apache.sentry.provider.common;
 
+import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
 
@@ -51,6 +52,26 @@ public interface AuthorizationProvider {
   boolean hasAccess(Subject subject, List<? extends Authorizable> authorizableHierarchy,
       Set<? extends Action> actions, ActiveRoleSet roleSet);
 
+  /***
+   * Validates subject privileges on many Authorizable objects at once, e.g. to
+   * filter the tables returned by SHOW TABLES. The privileges of the subject are
+   * resolved once for all the objects, and denied objects are reported in the
+   * result rather than by an exception. The list of missing privileges returned by
+   * {@link #getLastFailedPrivileges()} is not updated.
+   *
+   * @param subject: UserID to validate privileges
+   * @param authorizableHierarchies : List of objects, each according to namespace
+   *        hierarchy. eg. Server->Db->Table or Server->Function
+   * @param actions : Privileges to validate
+   * @param roleSet : Roles which should be used when obtaining privileges
+   * @return
+   *        The set of indexes in authorizableHierarchies of the objects on which the
+   *        subject is authorized to perform the requested action
+   */
+  BitSet hasAccessBatch(Subject subject,
+      List<? extends List<? extends Authorizable>> authorizableHierarchies,
+      Set<? extends Action> actions, ActiveRoleSet roleSet);
+
   /***
    * Get the GroupMappingService used by the AuthorizationProvider
    *
@@ -87,6 +108,12 @@ public interface AuthorizationProvider {
    */
   List<String> getLastFailedPrivileges();
 
+  /**
+   * Discards the privileges kept by the provider for the subjects, e.g. after the
+   * active roles of the session changed
+   */
+  void invalidatePrivileges();
+
   /**
    * Frees any resources held by the the provider
    */
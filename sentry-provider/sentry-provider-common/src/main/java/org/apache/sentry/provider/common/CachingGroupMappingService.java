@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.provider.common;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.sentry.core.common.exception.SentryGroupNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Ticker;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListenableFutureTask;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+/**
+ * GroupMappingService which caches the groups of the users returned by another
+ * GroupMappingService, so the authorization requests don't wait for the group
+ * lookups (e.g. LDAP).
+ * <p>
+ * The groups of a user are reloaded in the background when they are requested
+ * after the refresh interval, and the previous groups are returned meanwhile.
+ * They are only reloaded synchronously once they expire. Users without groups
+ * are cached for a shorter time.
+ */
+@ThreadSafe
+public class CachingGroupMappingService implements GroupMappingService {
+  private static final Logger LOGGER = LoggerFactory
+      .getLogger(CachingGroupMappingService.class);
+
+  public static final String CACHE_ENABLED = "sentry.provider.group.cache.enabled";
+  public static final boolean CACHE_ENABLED_DEFAULT = false;
+  public static final String CACHE_SIZE = "sentry.provider.group.cache.size";
+  public static final int CACHE_SIZE_DEFAULT = 10000;
+  public static final String CACHE_REFRESH_MS = "sentry.provider.group.cache.refresh.ms";
+  public static final long CACHE_REFRESH_MS_DEFAULT = 60000;
+  public static final String CACHE_EXPIRE_MS = "sentry.provider.group.cache.expire.ms";
+  public static final long CACHE_EXPIRE_MS_DEFAULT = 600000;
+  public static final String CACHE_NEGATIVE_EXPIRE_MS = "sentry.provider.group.cache.negative.expire.ms";
+  public static final long CACHE_NEGATIVE_EXPIRE_MS_DEFAULT = 30000;
+
+  // Reloads the groups in the background for all the caches
+  private static final ExecutorService refreshExecutor = Executors.newFixedThreadPool(2,
+      new ThreadFactoryBuilder()
+          .setNameFormat("sentry-group-cache-refresh-%d")
+          .setDaemon(true)
+          .build());
+
+  private static CachingGroupMappingService sharedInstance;
+
+  private final GroupMappingService groupService;
+  private final Ticker ticker;
+  private final long negativeExpireNs;
+  private final LoadingCache<String, CachedGroups> cache;
+
+  // Guava only records the cache stats from 12.0 when asked to, so they are kept here
+  private final AtomicLong requestCount = new AtomicLong();
+  private final AtomicLong missCount = new AtomicLong();
+  private final AtomicLong refreshCount = new AtomicLong();
+  private final AtomicLong totalLoadTimeNs = new AtomicLong();
+
+  public CachingGroupMappingService(GroupMappingService groupService, Configuration conf) {
+    this(groupService, conf, Ticker.systemTicker());
+  }
+
+  @VisibleForTesting
+  CachingGroupMappingService(GroupMappingService groupService, Configuration conf,
+      Ticker ticker) {
+    this.groupService = Preconditions.checkNotNull(groupService);
+    this.ticker = ticker;
+    this.negativeExpireNs = TimeUnit.MILLISECONDS.toNanos(
+        conf.getLong(CACHE_NEGATIVE_EXPIRE_MS, CACHE_NEGATIVE_EXPIRE_MS_DEFAULT));
+    this.cache = CacheBuilder.newBuilder()
+        .maximumSize(conf.getInt(CACHE_SIZE, CACHE_SIZE_DEFAULT))
+        .refreshAfterWrite(conf.getLong(CACHE_REFRESH_MS, CACHE_REFRESH_MS_DEFAULT),
+            TimeUnit.MILLISECONDS)
+        .expireAfterWrite(conf.getLong(CACHE_EXPIRE_MS, CACHE_EXPIRE_MS_DEFAULT),
+            TimeUnit.MILLISECONDS)
+        .ticker(ticker)
+        .build(new GroupsLoader());
+  }
+
+  /**
+   * Returns the cache shared by all the authorization providers of the process
+   * which use the Hadoop groups mapping. The group mapping and configuration of
+   * the first call are used.
+   */
+  public static synchronized CachingGroupMappingService getSharedInstance(
+      GroupMappingService groupService, Configuration conf) {
+    if (sharedInstance == null) {
+      sharedInstance = new CachingGroupMappingService(groupService, conf);
+    }
+    return sharedInstance;
+  }
+
+  /**
+   * @return the cache shared by the process, null if it has not been created yet
+   */
+  public static synchronized CachingGroupMappingService getSharedInstance() {
+    return sharedInstance;
+  }
+
+  @Override
+  public Set<String> getGroups(String user) {
+    requestCount.incrementAndGet();
+    CachedGroups groups = get(user);
+    if (groups.groups == null && ticker.read() - groups.loadedNs > negativeExpireNs) {
+      cache.invalidate(user);
+      groups = get(user);
+    }
+    if (groups.groups == null) {
+      throw new SentryGroupNotFoundException(groups.notFoundMessage);
+    }
+    return groups.groups;
+  }
+
+  private CachedGroups get(String user) {
+    try {
+      return cache.get(user);
+    } catch (ExecutionException e) {
+      throw new SentryGroupNotFoundException("Unable to obtain groups for " + user, e.getCause());
+    } catch (UncheckedExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * @return the number of group requests answered from the cache
+   */
+  public long getHitCount() {
+    return requestCount.get() - missCount.get();
+  }
+
+  /**
+   * @return the number of group requests which waited for the groups to be loaded
+   */
+  public long getMissCount() {
+    return missCount.get();
+  }
+
+  /**
+   * @return the number of background reloads of the groups
+   */
+  public long getRefreshCount() {
+    return refreshCount.get();
+  }
+
+  /**
+   * @return the total time spent loading the groups, in milliseconds
+   */
+  public long getTotalLoadTimeMs() {
+    return TimeUnit.NANOSECONDS.toMillis(totalLoadTimeNs.get());
+  }
+
+  public long size() {
+    return cache.size();
+  }
+
+  @VisibleForTesting
+  void invalidateAll() {
+    cache.invalidateAll();
+  }
+
+  /**
+   * The groups of a user, or the reason why they were not found.
+   */
+  private static final class CachedGroups {
+    private final ImmutableSet<String> groups;
+    private final String notFoundMessage;
+    private final long loadedNs;
+
+    private CachedGroups(ImmutableSet<String> groups, String notFoundMessage, long loadedNs) {
+      this.groups = groups;
+      this.notFoundMessage = notFoundMessage;
+      this.loadedNs = loadedNs;
+    }
+  }
+
+  private final class GroupsLoader extends CacheLoader<String, CachedGroups> {
+    @Override
+    public CachedGroups load(String user) {
+      missCount.incrementAndGet();
+      return loadGroups(user);
+    }
+
+    private CachedGroups loadGroups(String user) {
+      long startNs = ticker.read();
+      try {
+        return new CachedGroups(ImmutableSet.copyOf(groupService.getGroups(user)), null,
+            ticker.read());
+      } catch (SentryGroupNotFoundException e) {
+        LOGGER.debug("Caching missing groups of user {}: {}", user, e.getMessage());
+        return new CachedGroups(null, e.getMessage(), ticker.read());
+      } finally {
+        long loadTimeNs = ticker.read() - startNs;
+        totalLoadTimeNs.addAndGet(loadTimeNs);
+        if (LOGGER.isDebugEnabled()) {
+          LOGGER.debug("Loaded groups of user {} in {} ms", user,
+              TimeUnit.NANOSECONDS.toMillis(loadTimeNs));
+        }
+      }
+    }
+
+    @Override
+    public ListenableFuture<CachedGroups> reload(final String user, CachedGroups oldGroups) {
+      ListenableFutureTask<CachedGroups> task = ListenableFutureTask.create(
+          new Callable<CachedGroups>() {
+            @Override
+            public CachedGroups call() {
+              refreshCount.incrementAndGet();
+              return loadGroups(user);
+            }
+          });
+      refreshExecutor.execute(task);
+      return task;
+    }
+  }
+}
@@ -43,7 +43,7 @@ public class HadoopGroupResourceAuthorizationProvider extends
 
   public HadoopGroupResourceAuthorizationProvider(Configuration conf, String resource, //NOPMD
       PolicyEngine policy, Model model) throws IOException {
-    this(policy, new HadoopGroupMappingService(getGroups(conf)), model);
+    this(policy, getGroupMappingService(conf), model);
   }
 
   @VisibleForTesting
@@ -52,6 +52,21 @@ public class HadoopGroupResourceAuthorizationProvider extends
     super(policy, groupService, model);
   }
 
+  private static GroupMappingService getGroupMappingService(Configuration conf) {
+    if (!conf.getBoolean(CachingGroupMappingService.CACHE_ENABLED,
+        CachingGroupMappingService.CACHE_ENABLED_DEFAULT)) {
+      return new HadoopGroupMappingService(getGroups(conf));
+    }
+    // The providers of the process, e.g. the one of each Hive query, share one cache
+    // which keeps the group mapping of the first one
+    CachingGroupMappingService cache = CachingGroupMappingService.getSharedInstance();
+    if (cache != null) {
+      return cache;
+    }
+    return CachingGroupMappingService.getSharedInstance(
+        new HadoopGroupMappingService(getGroups(conf)), conf);
+  }
+
   private static Groups getGroups(Configuration conf) {
     if (conf.getBoolean(USE_NEW_GROUPS, false)) {
       return new Groups(conf);
@@ -17,6 +17,7 @@
 package org.apache.sentry.provider.common;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -37,6 +38,13 @@ public class NoAuthorizationProvider implements AuthorizationProvider {
     return false;
   }
 
+  @Override
+  public BitSet hasAccessBatch(Subject subject,
+      List<? extends List<? extends Authorizable>> authorizableHierarchies,
+      Set<? extends Action> actions, ActiveRoleSet roleSet) {
+    return new BitSet();
+  }
+
   @Override
   public GroupMappingService getGroupMapping() {
     return noGroupMappingService;
@@ -63,6 +71,11 @@ public class NoAuthorizationProvider implements AuthorizationProvider {
     return new ArrayList<String>();
   }
 
+  @Override
+  public void invalidatePrivileges() {
+
+  }
+
   @Override
   public void close() {
 
@@ -16,6 +16,7 @@
  */
 package org.apache.sentry.provider.common;
 
+import java.util.List;
 import java.util.Set;
 
 import javax.annotation.concurrent.ThreadSafe;
@@ -55,6 +56,14 @@ public interface ProviderBackend {
   ImmutableSet<String> getPrivileges(Set<String> groups, Set<String> users,
       ActiveRoleSet roleSet, Authorizable... authorizableHierarchy);
 
+  /**
+   * Get the privileges from the backend for users and groups for many authorizable
+   * hierarchies at once. The result has the privileges of each hierarchy in the same
+   * order as the hierarchies.
+   */
+  List<ImmutableSet<String>> getPrivilegesBatch(Set<String> groups, Set<String> users,
+      ActiveRoleSet roleSet, List<? extends List<? extends Authorizable>> authorizableHierarchies);
+
   /**
    * Get the roles associated with the groups from the backend.
    */
@@ -22,9 +22,10 @@ import static org.apache.sentry.core.common.utils.SentryConstants.KV_JOINER;
 import static org.apache.sentry.core.common.utils.SentryConstants.PRIVILEGE_NAME;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.BitSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import org.apache.sentry.core.common.Action;
 import org.apache.sentry.core.common.ActiveRoleSet;
@@ -32,22 +33,34 @@ import org.apache.sentry.core.common.Authorizable;
 import org.apache.sentry.core.common.Model;
 import org.apache.sentry.core.common.exception.SentryConfigurationException;
 import org.apache.sentry.core.common.Subject;
+import org.apache.sentry.policy.common.CommonPrivilege;
+import org.apache.sentry.policy.common.CompiledPrivilege;
 import org.apache.sentry.policy.common.PolicyEngine;
 import org.apache.sentry.policy.common.Privilege;
 import org.apache.sentry.policy.common.PrivilegeFactory;
+import org.apache.sentry.policy.common.PrivilegeIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.base.Function;
+import com.google.common.base.Objects;
 import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
 public abstract class ResourceAuthorizationProvider implements AuthorizationProvider {
   private static final Logger LOGGER = LoggerFactory
       .getLogger(ResourceAuthorizationProvider.class);
+  // Maximum number of distinct privilege strings kept in compiled form
+  private static final int PRIVILEGE_CACHE_SIZE = 100000;
+  // Maximum number of distinct privilege sets kept indexed
+  private static final int GRANTED_PRIVILEGES_CACHE_SIZE = 1000;
+  // Maximum number of subjects whose privileges are kept, and for how long. The entries
+  // only need to outlive the authorization of a single statement.
+  private static final int SUBJECT_PRIVILEGES_CACHE_SIZE = 1000;
+  private static final long SUBJECT_PRIVILEGES_EXPIRE_MS = 2000;
   private final static ThreadLocal<List<String>> lastFailedPrivileges =
       new ThreadLocal<List<String>>() {
         @Override
@@ -60,6 +73,12 @@ public abstract class ResourceAuthorizationProvider implements AuthorizationProv
   private final PolicyEngine policy;
   private final PrivilegeFactory privilegeFactory;
   private final Model model;
+  // Parsed and compiled privileges, keyed by the privilege string
+  private final Cache<String, Privilege> privilegeCache;
+  // Indexed privileges, keyed by the set of privilege strings returned by the policy
+  private final Cache<Set<String>, GrantedPrivileges> grantedPrivilegesCache;
+  // Privileges of a subject for an authorizable hierarchy
+  private final Cache<SubjectPrivilegesKey, GrantedPrivileges> subjectPrivilegesCache;
 
   public ResourceAuthorizationProvider(PolicyEngine policy,
       GroupMappingService groupService, Model model) {
@@ -67,6 +86,16 @@ public abstract class ResourceAuthorizationProvider implements AuthorizationProv
     this.groupService = groupService;
     this.privilegeFactory = policy.getPrivilegeFactory();
     this.model = model;
+    this.privilegeCache = CacheBuilder.newBuilder()
+        .maximumSize(PRIVILEGE_CACHE_SIZE)
+        .build();
+    this.grantedPrivilegesCache = CacheBuilder.newBuilder()
+        .maximumSize(GRANTED_PRIVILEGES_CACHE_SIZE)
+        .build();
+    this.subjectPrivilegesCache = CacheBuilder.newBuilder()
+        .maximumSize(SUBJECT_PRIVILEGES_CACHE_SIZE)
+        .expireAfterWrite(SUBJECT_PRIVILEGES_EXPIRE_MS, TimeUnit.MILLISECONDS)
+        .build();
   }
 
   /***
@@ -94,56 +123,182 @@ public abstract class ResourceAuthorizationProvider implements AuthorizationProv
     return doHasAccess(subject, authorizableHierarchy, actions, roleSet);
   }
 
+  /***
+   * Evaluates all the authorizable hierarchies against the privileges of the subject,
+   * which are fetched from the policy with a single batch call rather than once per
+   * hierarchy.
+   */
+  @Override
+  public BitSet hasAccessBatch(Subject subject,
+      List<? extends List<? extends Authorizable>> authorizableHierarchies,
+      Set<? extends Action> actions, ActiveRoleSet roleSet) {
+    if(LOGGER.isDebugEnabled()) {
+      LOGGER.debug("Authorization Request for " + subject + " " +
+          authorizableHierarchies.size() + " objects and " + actions);
+    }
+    Preconditions.checkNotNull(subject, "Subject cannot be null");
+    Preconditions.checkNotNull(authorizableHierarchies, "Authorizables cannot be null");
+    for (List<? extends Authorizable> authorizableHierarchy : authorizableHierarchies) {
+      Preconditions.checkNotNull(authorizableHierarchy, "Authorizable cannot be null");
+      Preconditions.checkArgument(!authorizableHierarchy.isEmpty(), "Authorizable cannot be empty");
+    }
+    Preconditions.checkNotNull(actions, "Actions cannot be null");
+    Preconditions.checkArgument(!actions.isEmpty(), "Actions cannot be empty");
+    Preconditions.checkNotNull(roleSet, "ActiveRoleSet cannot be null");
+    BitSet result = new BitSet(authorizableHierarchies.size());
+    if (authorizableHierarchies.isEmpty()) {
+      return result;
+    }
+
+    Set<String> groups =  getGroups(subject);
+    Set<String> users = Sets.newHashSet(subject.getName());
+    List<ImmutableSet<String>> privilegesList =
+        policy.getPrivilegesBatch(groups, users, roleSet, authorizableHierarchies);
+    // The privileges fetched for any of the hierarchies are privileges of the subject,
+    // so a single index of all of them is used to evaluate every hierarchy.
+    ImmutableSet.Builder<String> allPrivileges = ImmutableSet.builder();
+    for (ImmutableSet<String> privileges : privilegesList) {
+      allPrivileges.addAll(privileges);
+    }
+    GrantedPrivileges granted = getGrantedPrivileges(allPrivileges.build());
+
+    for (int i = 0; i < authorizableHierarchies.size(); i++) {
+      List<? extends Authorizable> authorizables = authorizableHierarchies.get(i);
+      GrantedPrivileges hierarchyPrivileges = granted;
+      Authorizable[] authorizableArray = authorizables.toArray(new Authorizable[0]);
+      if (isSwitchDb(authorizableArray)) {
+        // The default db privilege depends on the privileges of this hierarchy only
+        hierarchyPrivileges = getGrantedPrivileges(
+            appendDefaultDBPriv(privilegesList.get(i), authorizableArray));
+      }
+      for (Action action : actions) {
+        if (implies(hierarchyPrivileges, authorizables, action, roleSet)) {
+          result.set(i);
+          break;
+        }
+      }
+    }
+    return result;
+  }
+
   private boolean doHasAccess(Subject subject,
       List<? extends Authorizable> authorizables, Set<? extends Action> actions,
       ActiveRoleSet roleSet) {
     Set<String> groups =  getGroups(subject);
     Set<String> users = Sets.newHashSet(subject.getName());
-    Set<String> hierarchy = new HashSet<String>();
-    for (Authorizable authorizable : authorizables) {
-      hierarchy.add(KV_JOINER.join(authorizable.getTypeName(), authorizable.getName()));
-    }
-    List<String> requestPrivileges = buildPermissions(authorizables, actions);
-    Iterable<Privilege> privileges = getPrivileges(groups, users, roleSet,
-        authorizables.toArray(new Authorizable[0]));
+    GrantedPrivileges privileges = getSubjectPrivileges(subject.getName(), groups, users,
+        roleSet, authorizables.toArray(new Authorizable[0]));
     lastFailedPrivileges.get().clear();
 
-    for (String requestPrivilege : requestPrivileges) {
-      Privilege priv = privilegeFactory.createPrivilege(requestPrivilege);
-      for (Privilege permission : privileges) {
-        /*
-         * Does the permission granted in the policy file imply the requested action?
-         */
-        boolean result = permission.implies(priv, model);
-        if (LOGGER.isDebugEnabled()) {
-          LOGGER.debug("ProviderPrivilege {}, RequestPrivilege {}, RoleSet {}, Result {}",
-              new Object[]{ permission, requestPrivilege, roleSet, result});
-        }
-        if (result) {
-          return true;
-        }
+    for (Action action : actions) {
+      if (implies(privileges, authorizables, action, roleSet)) {
+        return true;
       }
     }
 
-    lastFailedPrivileges.get().addAll(requestPrivileges);
+    lastFailedPrivileges.get().addAll(buildPermissions(authorizables, actions));
+    return false;
+  }
+
+  /**
+   * Does any permission granted in the policy imply the requested action?
+   * Compiled privileges are looked up in the index with a request built directly
+   * from the authorizables, other privilege types are matched one by one against
+   * a request built by their factory.
+   */
+  private boolean implies(GrantedPrivileges privileges, List<? extends Authorizable> authorizables,
+      Action action, ActiveRoleSet roleSet) {
+    if (privileges.index != null) {
+      CompiledPrivilege requestPrivilege = CompiledPrivilege.forRequest(authorizables, action, model);
+      boolean result = privileges.index.implies(requestPrivilege);
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("ProviderPrivileges {}, RequestPrivilege {}, RoleSet {}, Result {}",
+            new Object[]{ privileges.index.size(), requestPrivilege, roleSet, result});
+      }
+      if (result) {
+        return true;
+      }
+    }
+    if (privileges.others.isEmpty()) {
+      return false;
+    }
+    Privilege requestPrivilege = privilegeFactory.createPrivilege(buildPermission(authorizables, action));
+    for (Privilege permission : privileges.others) {
+      boolean result = permission.implies(requestPrivilege, model);
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("ProviderPrivilege {}, RequestPrivilege {}, RoleSet {}, Result {}",
+            new Object[]{ permission, requestPrivilege, roleSet, result});
+      }
+      if (result) {
+        return true;
+      }
+    }
     return false;
   }
 
-  private Iterable<Privilege> getPrivileges(Set<String> groups, Set<String> users,
+  private GrantedPrivileges getPrivileges(Set<String> groups, Set<String> users,
       ActiveRoleSet roleSet, Authorizable[] authorizables) {
-    ImmutableSet<String> privileges = policy.getPrivileges(groups, users, roleSet, authorizables);
-    return Iterables.transform(appendDefaultDBPriv(privileges, authorizables),
-        new Function<String, Privilege>() {
-      @Override
-      public Privilege apply(String privilege) {
-        return privilegeFactory.createPrivilege(privilege);
+    return getGrantedPrivileges(appendDefaultDBPriv(
+        policy.getPrivileges(groups, users, roleSet, authorizables), authorizables));
+  }
+
+  /**
+   * Returns the privileges of the subject for the authorizable hierarchy. They are kept
+   * for a short time so the checks of a statement which request the same hierarchy again,
+   * e.g. for another action or another entity of the same object, don't resolve them
+   * again. The key is the whole hierarchy: the backends only return the privileges which
+   * may imply the requested one, e.g. those on the ancestors of the requested object.
+   */
+  private GrantedPrivileges getSubjectPrivileges(String user, Set<String> groups,
+      Set<String> users, ActiveRoleSet roleSet, Authorizable[] authorizables) {
+    SubjectPrivilegesKey key = new SubjectPrivilegesKey(user, groups, roleSet, authorizables);
+    GrantedPrivileges privileges = subjectPrivilegesCache.getIfPresent(key);
+    if (privileges == null) {
+      privileges = getPrivileges(groups, users, roleSet, authorizables);
+      subjectPrivilegesCache.put(key, privileges);
+    }
+    return privileges;
+  }
+
+  private GrantedPrivileges getGrantedPrivileges(ImmutableSet<String> privileges) {
+    GrantedPrivileges granted = grantedPrivilegesCache.getIfPresent(privileges);
+    if (granted == null) {
+      List<CompiledPrivilege> compiled = new ArrayList<CompiledPrivilege>(privileges.size());
+      List<Privilege> others = new ArrayList<Privilege>();
+      for (String privilegeStr : privileges) {
+        Privilege privilege = getPrivilege(privilegeStr);
+        if (privilege instanceof CompiledPrivilege) {
+          compiled.add((CompiledPrivilege) privilege);
+        } else {
+          others.add(privilege);
+        }
       }
-    });
+      granted = new GrantedPrivileges(
+          compiled.isEmpty() ? null : new PrivilegeIndex(compiled, model), others);
+      grantedPrivilegesCache.put(privileges, granted);
+    }
+    return granted;
+  }
+
+  /**
+   * Returns the privilege object for the privilege string, parsing and compiling
+   * it only the first time it is seen.
+   */
+  private Privilege getPrivilege(String privilegeStr) {
+    Privilege privilege = privilegeCache.getIfPresent(privilegeStr);
+    if (privilege == null) {
+      privilege = privilegeFactory.createPrivilege(privilegeStr);
+      if (privilege instanceof CommonPrivilege && model != null) {
+        privilege = CompiledPrivilege.compile((CommonPrivilege) privilege, model);
+      }
+      privilegeCache.put(privilegeStr, privilege);
+    }
+    return privilege;
   }
 
   private ImmutableSet<String> appendDefaultDBPriv(ImmutableSet<String> privileges, Authorizable[] authorizables) {
     // Only for switch db
-    if (authorizables != null && authorizables.length == 4 && authorizables[2].getName().equals("+")
+    if (isSwitchDb(authorizables)
       && privileges.size() == 1 && hasOnlyServerPrivilege(privileges.asList().get(0))) {
       // Assuming authorizable[0] will always be the server
       // This Code is only reachable only when user fires a 'use default'
@@ -156,6 +311,11 @@ public abstract class ResourceAuthorizationProvider implements AuthorizationProv
     return privileges;
   }
 
+  private static boolean isSwitchDb(Authorizable[] authorizables) {
+    return authorizables != null && authorizables.length == 4
+        && authorizables[2].getName().equals("+");
+  }
+
   private boolean hasOnlyServerPrivilege(String priv) {
     ArrayList<String> l = Lists.newArrayList(AUTHORIZABLE_SPLITTER.split(priv));
     if (l.size() == 1 && l.get(0).toLowerCase().startsWith("server")) {
@@ -194,6 +354,11 @@ public abstract class ResourceAuthorizationProvider implements AuthorizationProv
     return lastFailedPrivileges.get();
   }
 
+  @Override
+  public void invalidatePrivileges() {
+    subjectPrivilegesCache.invalidateAll();
+  }
+
   @Override
   public void close() {
     if (policy != null) {
@@ -203,24 +368,83 @@ public abstract class ResourceAuthorizationProvider implements AuthorizationProv
 
   private List<String> buildPermissions(List<? extends Authorizable> authorizables,
       Set<? extends Action> actions) {
-    List<String> hierarchy = new ArrayList<String>();
     List<String> requestedPermissions = new ArrayList<String>();
+    for (Action action : actions) {
+      requestedPermissions.add(buildPermission(authorizables, action));
+    }
+    return requestedPermissions;
+  }
 
+  private String buildPermission(List<? extends Authorizable> authorizables, Action action) {
+    List<String> hierarchy = new ArrayList<String>();
     for (Authorizable authorizable : authorizables) {
       hierarchy.add(KV_JOINER.join(authorizable.getTypeName(), authorizable.getName()));
     }
-
-    for (Action action : actions) {
-      String requestPermission = AUTHORIZABLE_JOINER.join(hierarchy);
-      requestPermission = AUTHORIZABLE_JOINER.join(requestPermission,
-          KV_JOINER.join(PRIVILEGE_NAME, action.getValue()));
-      requestedPermissions.add(requestPermission);
-    }
-    return requestedPermissions;
+    return AUTHORIZABLE_JOINER.join(AUTHORIZABLE_JOINER.join(hierarchy),
+        KV_JOINER.join(PRIVILEGE_NAME, action.getValue()));
   }
 
   @Override
   public PolicyEngine getPolicyEngine() {
     return policy;
   }
+
+  /**
+   * The privileges granted to a subject: those compiled for the model are indexed,
+   * other privilege types are kept as a list.
+   */
+  private static final class GrantedPrivileges {
+    private final PrivilegeIndex index;
+    private final List<Privilege> others;
+
+    private GrantedPrivileges(PrivilegeIndex index, List<Privilege> others) {
+      this.index = index;
+      this.others = others;
+    }
+  }
+
+  /**
+   * Identifies the privileges of a subject: the user, its groups and active roles,
+   * and the authorizable hierarchy they were requested for.
+   */
+  private static final class SubjectPrivilegesKey {
+    private final String user;
+    private final ImmutableSet<String> groups;
+    private final boolean allRoles;
+    private final Set<String> roles;
+    // The type and name of each authorizable of the hierarchy
+    private final List<String> hierarchy;
+
+    private SubjectPrivilegesKey(String user, Set<String> groups, ActiveRoleSet roleSet,
+        Authorizable[] authorizables) {
+      this.user = user;
+      this.groups = ImmutableSet.copyOf(groups);
+      this.allRoles = roleSet.isAll();
+      this.roles = roleSet.getRoles();
+      this.hierarchy = new ArrayList<String>(2 * authorizables.length);
+      for (Authorizable authorizable : authorizables) {
+        hierarchy.add(authorizable.getTypeName());
+        hierarchy.add(authorizable.getName());
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(user, groups, allRoles, roles, hierarchy);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof SubjectPrivilegesKey)) {
+        return false;
+      }
+      SubjectPrivilegesKey other = (SubjectPrivilegesKey) obj;
+      return user.equals(other.user) && groups.equals(other.groups)
+          && allRoles == other.allRoles && roles.equals(other.roles)
+          && hierarchy.equals(other.hierarchy);
+    }
+  }
 }
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.provider.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.sentry.core.common.exception.SentryGroupNotFoundException;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.base.Ticker;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+public class TestCachingGroupMappingService {
+
+  private static class CountingGroupMappingService implements GroupMappingService {
+    private final Map<String, Set<String>> groups = Maps.newHashMap();
+    private int lookups;
+
+    @Override
+    public synchronized Set<String> getGroups(String user) {
+      lookups++;
+      Set<String> userGroups = groups.get(user);
+      if (userGroups == null) {
+        throw new SentryGroupNotFoundException("Unknown user " + user);
+      }
+      return Sets.newHashSet(userGroups);
+    }
+  }
+
+  private static class FakeTicker extends Ticker {
+    private long nanos;
+
+    @Override
+    public long read() {
+      return nanos;
+    }
+
+    private void advance(long millis) {
+      nanos += TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+  }
+
+  private CountingGroupMappingService groupService;
+  private FakeTicker ticker;
+  private Configuration conf;
+
+  @Before
+  public void setup() {
+    groupService = new CountingGroupMappingService();
+    groupService.groups.put("user1", Sets.newHashSet("g1", "g2"));
+    ticker = new FakeTicker();
+    conf = new Configuration(false);
+    conf.setLong(CachingGroupMappingService.CACHE_REFRESH_MS, 60000);
+    conf.setLong(CachingGroupMappingService.CACHE_EXPIRE_MS, 600000);
+    conf.setLong(CachingGroupMappingService.CACHE_NEGATIVE_EXPIRE_MS, 10000);
+  }
+
+  @Test
+  public void testCachedGroups() {
+    CachingGroupMappingService cache =
+        new CachingGroupMappingService(groupService, conf, ticker);
+    assertEquals(Sets.newHashSet("g1", "g2"), cache.getGroups("user1"));
+    assertEquals(Sets.newHashSet("g1", "g2"), cache.getGroups("user1"));
+    assertEquals(1, groupService.lookups);
+    assertEquals(1, cache.getHitCount());
+    assertEquals(1, cache.getMissCount());
+
+    // Expired groups are loaded again
+    groupService.groups.put("user1", Sets.newHashSet("g3"));
+    ticker.advance(600001);
+    assertEquals(Sets.newHashSet("g3"), cache.getGroups("user1"));
+    assertEquals(2, groupService.lookups);
+
+    cache.invalidateAll();
+    cache.getGroups("user1");
+    assertEquals(3, groupService.lookups);
+  }
+
+  @Test
+  public void testRefreshedGroups() throws Exception {
+    CachingGroupMappingService cache =
+        new CachingGroupMappingService(groupService, conf, ticker);
+    cache.getGroups("user1");
+    groupService.groups.put("user1", Sets.newHashSet("g3"));
+    ticker.advance(60001);
+
+    // The old groups are returned while the new ones are loaded in the background
+    Set<String> groups = cache.getGroups("user1");
+    long deadline = System.currentTimeMillis() + 10000;
+    while (!groups.equals(Sets.newHashSet("g3")) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+      groups = cache.getGroups("user1");
+    }
+    assertEquals(Sets.newHashSet("g3"), groups);
+    assertEquals(2, groupService.lookups);
+    assertEquals(1, cache.getRefreshCount());
+  }
+
+  @Test
+  public void testUnknownUser() {
+    CachingGroupMappingService cache =
+        new CachingGroupMappingService(groupService, conf, ticker);
+    for (int i = 0; i < 2; i++) {
+      try {
+        cache.getGroups("user2");
+        fail("Expected SentryGroupNotFoundException");
+      } catch (SentryGroupNotFoundException e) {
+        assertEquals("Unknown user user2", e.getMessage());
+      }
+    }
+    assertEquals(1, groupService.lookups);
+
+    // The unknown user is looked up again after the negative expiration
+    groupService.groups.put("user2", Sets.newHashSet("g1"));
+    ticker.advance(10001);
+    assertEquals(Sets.newHashSet("g1"), cache.getGroups("user2"));
+    assertEquals(2, groupService.lookups);
+  }
+
+  @Test
+  public void testMaximumSize() {
+    conf.setInt(CachingGroupMappingService.CACHE_SIZE, 1);
+    groupService.groups.put("user2", Sets.newHashSet("g1"));
+    CachingGroupMappingService cache =
+        new CachingGroupMappingService(groupService, conf, ticker);
+    cache.getGroups("user1");
+    cache.getGroups("user2");
+    cache.getGroups("user1");
+    assertEquals(3, groupService.lookups);
+    assertEquals(1, cache.size());
+  }
+}
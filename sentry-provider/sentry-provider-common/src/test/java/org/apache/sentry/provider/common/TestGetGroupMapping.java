@@ -18,6 +18,8 @@ package org.apache.sentry.provider.common;
 
 import static org.junit.Assert.assertSame;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.apache.sentry.core.common.ActiveRoleSet;
@@ -79,6 +81,13 @@ public class TestGetGroupMapping {
         return ImmutableSet.of();
       }
 
+      @Override
+      public List<ImmutableSet<String>> getPrivilegesBatch(Set<String> groups, Set<String> users,
+          ActiveRoleSet roleSet, List<? extends List<? extends Authorizable>> authorizableHierarchies)
+          throws SentryConfigurationException {
+        return Collections.nCopies(authorizableHierarchies.size(), ImmutableSet.<String>of());
+      }
+
       @Override
       public void close() {}
     };
@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.provider.common;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.sentry.core.common.Action;
+import org.apache.sentry.core.common.ActiveRoleSet;
+import org.apache.sentry.core.common.Authorizable;
+import org.apache.sentry.core.common.Subject;
+import org.apache.sentry.core.common.exception.SentryConfigurationException;
+import org.apache.sentry.policy.common.PolicyEngine;
+import org.apache.sentry.policy.common.PrivilegeFactory;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+public class TestResourceAuthorizationProvider {
+
+  private static class TestAuthorizationProvider extends ResourceAuthorizationProvider {
+    public TestAuthorizationProvider(PolicyEngine policy, GroupMappingService groupService) {
+      super(policy, groupService, null);
+    }
+  }
+
+  private static class CountingPolicyEngine implements PolicyEngine {
+    private final List<Authorizable[]> requests = Lists.newArrayList();
+
+    @Override
+    public PrivilegeFactory getPrivilegeFactory() {
+      return null;
+    }
+
+    @Override
+    public ImmutableSet<String> getAllPrivileges(Set<String> groups, ActiveRoleSet roleSet)
+        throws SentryConfigurationException {
+      return ImmutableSet.of();
+    }
+
+    @Override
+    public ImmutableSet<String> getAllPrivileges(Set<String> groups, Set<String> users,
+        ActiveRoleSet roleSet) throws SentryConfigurationException {
+      return ImmutableSet.of();
+    }
+
+    @Override
+    public ImmutableSet<String> getPrivileges(Set<String> groups, ActiveRoleSet roleSet,
+        Authorizable... authorizableHierarchy) throws SentryConfigurationException {
+      return getPrivileges(groups, null, roleSet, authorizableHierarchy);
+    }
+
+    @Override
+    public ImmutableSet<String> getPrivileges(Set<String> groups, Set<String> users,
+        ActiveRoleSet roleSet, Authorizable... authorizableHierarchy)
+        throws SentryConfigurationException {
+      requests.add(authorizableHierarchy);
+      return ImmutableSet.of();
+    }
+
+    @Override
+    public List<ImmutableSet<String>> getPrivilegesBatch(Set<String> groups, Set<String> users,
+        ActiveRoleSet roleSet, List<? extends List<? extends Authorizable>> authorizableHierarchies)
+        throws SentryConfigurationException {
+      return Collections.nCopies(authorizableHierarchies.size(), ImmutableSet.<String>of());
+    }
+
+    @Override
+    public void validatePolicy(boolean strictValidation) throws SentryConfigurationException {
+    }
+
+    @Override
+    public void close() {
+    }
+  }
+
+  private static final Set<Action> SELECT = Collections.singleton((Action) new Action() {
+    @Override
+    public String getValue() {
+      return "select";
+    }
+  });
+
+  private CountingPolicyEngine policy;
+  private TestAuthorizationProvider authProvider;
+
+  @Before
+  public void setup() {
+    policy = new CountingPolicyEngine();
+    authProvider = new TestAuthorizationProvider(policy, new GroupMappingService() {
+      @Override
+      public Set<String> getGroups(String user) {
+        return Sets.newHashSet("g1");
+      }
+    });
+  }
+
+  @Test
+  public void testSubjectPrivilegesCached() {
+    Subject subject = new Subject("user1");
+    assertFalse(authProvider.hasAccess(subject, hierarchy("server1", "db1", "t1"), SELECT,
+        ActiveRoleSet.ALL));
+    assertFalse(authProvider.hasAccess(subject, hierarchy("server1", "db1", "t1"), SELECT,
+        ActiveRoleSet.ALL));
+    // The privileges are fetched once for the hierarchy
+    assertEquals(1, policy.requests.size());
+    assertEquals(3, policy.requests.get(0).length);
+
+    // The backends only return the privileges which may imply the requested hierarchy,
+    // so another hierarchy of the same server is fetched again
+    assertFalse(authProvider.hasAccess(subject, hierarchy("server1", "db1", "t2"), SELECT,
+        ActiveRoleSet.ALL));
+    assertFalse(authProvider.hasAccess(subject, hierarchy("server1", "db1"), SELECT,
+        ActiveRoleSet.ALL));
+    assertEquals(3, policy.requests.size());
+    assertEquals(Lists.newArrayList("Server=server1->Db=db1->action=select"),
+        authProvider.getLastFailedPrivileges());
+
+    // Another user or role set is a different subject
+    authProvider.hasAccess(new Subject("user2"), hierarchy("server1", "db1", "t1"), SELECT,
+        ActiveRoleSet.ALL);
+    authProvider.hasAccess(subject, hierarchy("server1", "db1", "t1"), SELECT,
+        new ActiveRoleSet(Sets.newHashSet("r1")));
+    // Role names are not case sensitive
+    authProvider.hasAccess(subject, hierarchy("server1", "db1", "t1"), SELECT,
+        new ActiveRoleSet(Sets.newHashSet("R1")));
+    assertEquals(5, policy.requests.size());
+
+    authProvider.invalidatePrivileges();
+    authProvider.hasAccess(subject, hierarchy("server1", "db1", "t1"), SELECT,
+        ActiveRoleSet.ALL);
+    assertEquals(6, policy.requests.size());
+  }
+
+  @Test
+  public void testSwitchDbCached() {
+    Subject subject = new Subject("user1");
+    authProvider.hasAccess(subject, hierarchy("server1", "default", "+", "+"), SELECT,
+        ActiveRoleSet.ALL);
+    authProvider.hasAccess(subject, hierarchy("server1", "default", "+", "+"), SELECT,
+        ActiveRoleSet.ALL);
+    // The default db privilege depends on the privileges of the full hierarchy
+    assertEquals(1, policy.requests.size());
+    assertEquals(4, policy.requests.get(0).length);
+  }
+
+  private static List<Authorizable> hierarchy(String... names) {
+    String[] types = { "Server", "Db", "Table", "Column" };
+    List<Authorizable> authorizables = Lists.newArrayList();
+    for (int i = 0; i < names.length; i++) {
+      final String type = types[i];
+      final String name = names[i];
+      authorizables.add(new Authorizable() {
+        @Override
+        public String getName() {
+          return name;
+        }
+
+        @Override
+        public String getTypeName() {
+          return type;
+        }
+      });
+    }
+    return authorizables;
+  }
+}
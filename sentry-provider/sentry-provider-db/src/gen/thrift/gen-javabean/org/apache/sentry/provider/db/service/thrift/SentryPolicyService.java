@@ -47,6 +47,8 @@ public class SentryPolicyService {
 
     public TAlterSentryRoleRevokePrivilegeResponse alter_sentry_role_revoke_privilege(TAlterSentryRoleRevokePrivilegeRequest request) throws org.apache.thrift.TException;
 
+    public TAlterSentryRolesGrantPrivilegesResponse alter_sentry_roles_grant_privileges(TAlterSentryRolesGrantPrivilegesRequest request) throws org.apache.thrift.TException;
+
     public TAlterSentryRoleAddGroupsResponse alter_sentry_role_add_groups(TAlterSentryRoleAddGroupsRequest request) throws org.apache.thrift.TException;
 
     public TAlterSentryRoleDeleteGroupsResponse alter_sentry_role_delete_groups(TAlterSentryRoleDeleteGroupsRequest request) throws org.apache.thrift.TException;
@@ -63,6 +65,10 @@ public class SentryPolicyService {
 
     public TListSentryPrivilegesForProviderResponse list_sentry_privileges_for_provider(TListSentryPrivilegesForProviderRequest request) throws org.apache.thrift.TException;
 
+    public TListSentryPrivilegesForProviderBatchResponse list_sentry_privileges_for_provider_batch(TListSentryPrivilegesForProviderBatchRequest request) throws org.apache.thrift.TException;
+
+    public TSentryPrivilegesDeltaResponse get_sentry_privileges_delta(TSentryPrivilegesDeltaRequest request) throws org.apache.thrift.TException;
+
     public TDropPrivilegesResponse drop_sentry_privilege(TDropPrivilegesRequest request) throws org.apache.thrift.TException;
 
     public TRenamePrivilegesResponse rename_sentry_privilege(TRenamePrivilegesRequest request) throws org.apache.thrift.TException;
@@ -89,6 +95,8 @@ public class SentryPolicyService {
 
     public void alter_sentry_role_revoke_privilege(TAlterSentryRoleRevokePrivilegeRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void alter_sentry_roles_grant_privileges(TAlterSentryRolesGrantPrivilegesRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void alter_sentry_role_add_groups(TAlterSentryRoleAddGroupsRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void alter_sentry_role_delete_groups(TAlterSentryRoleDeleteGroupsRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -105,6 +113,10 @@ public class SentryPolicyService {
 
     public void list_sentry_privileges_for_provider(TListSentryPrivilegesForProviderRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void list_sentry_privileges_for_provider_batch(TListSentryPrivilegesForProviderBatchRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void get_sentry_privileges_delta(TSentryPrivilegesDeltaRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void drop_sentry_privilege(TDropPrivilegesRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void rename_sentry_privilege(TRenamePrivilegesRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
@@ -233,6 +245,29 @@ public class SentryPolicyService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "alter_sentry_role_revoke_privilege failed: unknown result");
     }
 
+    public TAlterSentryRolesGrantPrivilegesResponse alter_sentry_roles_grant_privileges(TAlterSentryRolesGrantPrivilegesRequest request) throws org.apache.thrift.TException
+    {
+      send_alter_sentry_roles_grant_privileges(request);
+      return recv_alter_sentry_roles_grant_privileges();
+    }
+
+    public void send_alter_sentry_roles_grant_privileges(TAlterSentryRolesGrantPrivilegesRequest request) throws org.apache.thrift.TException
+    {
+      alter_sentry_roles_grant_privileges_args args = new alter_sentry_roles_grant_privileges_args();
+      args.setRequest(request);
+      sendBase("alter_sentry_roles_grant_privileges", args);
+    }
+
+    public TAlterSentryRolesGrantPrivilegesResponse recv_alter_sentry_roles_grant_privileges() throws org.apache.thrift.TException
+    {
+      alter_sentry_roles_grant_privileges_result result = new alter_sentry_roles_grant_privileges_result();
+      receiveBase(result, "alter_sentry_roles_grant_privileges");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "alter_sentry_roles_grant_privileges failed: unknown result");
+    }
+
     public TAlterSentryRoleAddGroupsResponse alter_sentry_role_add_groups(TAlterSentryRoleAddGroupsRequest request) throws org.apache.thrift.TException
     {
       send_alter_sentry_role_add_groups(request);
@@ -417,6 +452,52 @@ public class SentryPolicyService {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "list_sentry_privileges_for_provider failed: unknown result");
     }
 
+    public TListSentryPrivilegesForProviderBatchResponse list_sentry_privileges_for_provider_batch(TListSentryPrivilegesForProviderBatchRequest request) throws org.apache.thrift.TException
+    {
+      send_list_sentry_privileges_for_provider_batch(request);
+      return recv_list_sentry_privileges_for_provider_batch();
+    }
+
+    public void send_list_sentry_privileges_for_provider_batch(TListSentryPrivilegesForProviderBatchRequest request) throws org.apache.thrift.TException
+    {
+      list_sentry_privileges_for_provider_batch_args args = new list_sentry_privileges_for_provider_batch_args();
+      args.setRequest(request);
+      sendBase("list_sentry_privileges_for_provider_batch", args);
+    }
+
+    public TListSentryPrivilegesForProviderBatchResponse recv_list_sentry_privileges_for_provider_batch() throws org.apache.thrift.TException
+    {
+      list_sentry_privileges_for_provider_batch_result result = new list_sentry_privileges_for_provider_batch_result();
+      receiveBase(result, "list_sentry_privileges_for_provider_batch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "list_sentry_privileges_for_provider_batch failed: unknown result");
+    }
+
+    public TSentryPrivilegesDeltaResponse get_sentry_privileges_delta(TSentryPrivilegesDeltaRequest request) throws org.apache.thrift.TException
+    {
+      send_get_sentry_privileges_delta(request);
+      return recv_get_sentry_privileges_delta();
+    }
+
+    public void send_get_sentry_privileges_delta(TSentryPrivilegesDeltaRequest request) throws org.apache.thrift.TException
+    {
+      get_sentry_privileges_delta_args args = new get_sentry_privileges_delta_args();
+      args.setRequest(request);
+      sendBase("get_sentry_privileges_delta", args);
+    }
+
+    public TSentryPrivilegesDeltaResponse recv_get_sentry_privileges_delta() throws org.apache.thrift.TException
+    {
+      get_sentry_privileges_delta_result result = new get_sentry_privileges_delta_result();
+      receiveBase(result, "get_sentry_privileges_delta");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "get_sentry_privileges_delta failed: unknown result");
+    }
+
     public TDropPrivilegesResponse drop_sentry_privilege(TDropPrivilegesRequest request) throws org.apache.thrift.TException
     {
       send_drop_sentry_privilege(request);
@@ -724,6 +805,38 @@ public class SentryPolicyService {
       }
     }
 
+    public void alter_sentry_roles_grant_privileges(TAlterSentryRolesGrantPrivilegesRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      alter_sentry_roles_grant_privileges_call method_call = new alter_sentry_roles_grant_privileges_call(request, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class alter_sentry_roles_grant_privileges_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private TAlterSentryRolesGrantPrivilegesRequest request;
+      public alter_sentry_roles_grant_privileges_call(TAlterSentryRolesGrantPrivilegesRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.request = request;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("alter_sentry_roles_grant_privileges", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        alter_sentry_roles_grant_privileges_args args = new alter_sentry_roles_grant_privileges_args();
+        args.setRequest(request);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public TAlterSentryRolesGrantPrivilegesResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_alter_sentry_roles_grant_privileges();
+      }
+    }
+
     public void alter_sentry_role_add_groups(TAlterSentryRoleAddGroupsRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       alter_sentry_role_add_groups_call method_call = new alter_sentry_role_add_groups_call(request, resultHandler, this, ___protocolFactory, ___transport);
@@ -980,6 +1093,70 @@ public class SentryPolicyService {
       }
     }
 
+    public void list_sentry_privileges_for_provider_batch(TListSentryPrivilegesForProviderBatchRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      list_sentry_privileges_for_provider_batch_call method_call = new list_sentry_privileges_for_provider_batch_call(request, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class list_sentry_privileges_for_provider_batch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private TListSentryPrivilegesForProviderBatchRequest request;
+      public list_sentry_privileges_for_provider_batch_call(TListSentryPrivilegesForProviderBatchRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.request = request;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("list_sentry_privileges_for_provider_batch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        list_sentry_privileges_for_provider_batch_args args = new list_sentry_privileges_for_provider_batch_args();
+        args.setRequest(request);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public TListSentryPrivilegesForProviderBatchResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_list_sentry_privileges_for_provider_batch();
+      }
+    }
+
+    public void get_sentry_privileges_delta(TSentryPrivilegesDeltaRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      get_sentry_privileges_delta_call method_call = new get_sentry_privileges_delta_call(request, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class get_sentry_privileges_delta_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private TSentryPrivilegesDeltaRequest request;
+      public get_sentry_privileges_delta_call(TSentryPrivilegesDeltaRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.request = request;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("get_sentry_privileges_delta", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        get_sentry_privileges_delta_args args = new get_sentry_privileges_delta_args();
+        args.setRequest(request);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public TSentryPrivilegesDeltaResponse getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_get_sentry_privileges_delta();
+      }
+    }
+
     public void drop_sentry_privilege(TDropPrivilegesRequest request, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       drop_sentry_privilege_call method_call = new drop_sentry_privilege_call(request, resultHandler, this, ___protocolFactory, ___transport);
@@ -1221,6 +1398,7 @@ public class SentryPolicyService {
       processMap.put("drop_sentry_role", new drop_sentry_role());
       processMap.put("alter_sentry_role_grant_privilege", new alter_sentry_role_grant_privilege());
       processMap.put("alter_sentry_role_revoke_privilege", new alter_sentry_role_revoke_privilege());
+      processMap.put("alter_sentry_roles_grant_privileges", new alter_sentry_roles_grant_privileges());
       processMap.put("alter_sentry_role_add_groups", new alter_sentry_role_add_groups());
       processMap.put("alter_sentry_role_delete_groups", new alter_sentry_role_delete_groups());
       processMap.put("alter_sentry_role_add_users", new alter_sentry_role_add_users());
@@ -1229,6 +1407,8 @@ public class SentryPolicyService {
       processMap.put("list_sentry_roles_by_user", new list_sentry_roles_by_user());
       processMap.put("list_sentry_privileges_by_role", new list_sentry_privileges_by_role());
       processMap.put("list_sentry_privileges_for_provider", new list_sentry_privileges_for_provider());
+      processMap.put("list_sentry_privileges_for_provider_batch", new list_sentry_privileges_for_provider_batch());
+      processMap.put("get_sentry_privileges_delta", new get_sentry_privileges_delta());
       processMap.put("drop_sentry_privilege", new drop_sentry_privilege());
       processMap.put("rename_sentry_privilege", new rename_sentry_privilege());
       processMap.put("list_sentry_privileges_by_authorizable", new list_sentry_privileges_by_authorizable());
@@ -1319,6 +1499,26 @@ public class SentryPolicyService {
       }
     }
 
+    public static class alter_sentry_roles_grant_privileges<I extends Iface> extends org.apache.thrift.ProcessFunction<I, alter_sentry_roles_grant_privileges_args> {
+      public alter_sentry_roles_grant_privileges() {
+        super("alter_sentry_roles_grant_privileges");
+      }
+
+      public alter_sentry_roles_grant_privileges_args getEmptyArgsInstance() {
+        return new alter_sentry_roles_grant_privileges_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public alter_sentry_roles_grant_privileges_result getResult(I iface, alter_sentry_roles_grant_privileges_args args) throws org.apache.thrift.TException {
+        alter_sentry_roles_grant_privileges_result result = new alter_sentry_roles_grant_privileges_result();
+        result.success = iface.alter_sentry_roles_grant_privileges(args.request);
+        return result;
+      }
+    }
+
     public static class alter_sentry_role_add_groups<I extends Iface> extends org.apache.thrift.ProcessFunction<I, alter_sentry_role_add_groups_args> {
       public alter_sentry_role_add_groups() {
         super("alter_sentry_role_add_groups");
@@ -1479,6 +1679,46 @@ public class SentryPolicyService {
       }
     }
 
+    public static class list_sentry_privileges_for_provider_batch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, list_sentry_privileges_for_provider_batch_args> {
+      public list_sentry_privileges_for_provider_batch() {
+        super("list_sentry_privileges_for_provider_batch");
+      }
+
+      public list_sentry_privileges_for_provider_batch_args getEmptyArgsInstance() {
+        return new list_sentry_privileges_for_provider_batch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public list_sentry_privileges_for_provider_batch_result getResult(I iface, list_sentry_privileges_for_provider_batch_args args) throws org.apache.thrift.TException {
+        list_sentry_privileges_for_provider_batch_result result = new list_sentry_privileges_for_provider_batch_result();
+        result.success = iface.list_sentry_privileges_for_provider_batch(args.request);
+        return result;
+      }
+    }
+
+    public static class get_sentry_privileges_delta<I extends Iface> extends org.apache.thrift.ProcessFunction<I, get_sentry_privileges_delta_args> {
+      public get_sentry_privileges_delta() {
+        super("get_sentry_privileges_delta");
+      }
+
+      public get_sentry_privileges_delta_args getEmptyArgsInstance() {
+        return new get_sentry_privileges_delta_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public get_sentry_privileges_delta_result getResult(I iface, get_sentry_privileges_delta_args args) throws org.apache.thrift.TException {
+        get_sentry_privileges_delta_result result = new get_sentry_privileges_delta_result();
+        result.success = iface.get_sentry_privileges_delta(args.request);
+        return result;
+      }
+    }
+
     public static class drop_sentry_privilege<I extends Iface> extends org.apache.thrift.ProcessFunction<I, drop_sentry_privilege_args> {
       public drop_sentry_privilege() {
         super("drop_sentry_privilege");
@@ -1636,6 +1876,7 @@ public class SentryPolicyService {
       processMap.put("drop_sentry_role", new drop_sentry_role());
       processMap.put("alter_sentry_role_grant_privilege", new alter_sentry_role_grant_privilege());
       processMap.put("alter_sentry_role_revoke_privilege", new alter_sentry_role_revoke_privilege());
+      processMap.put("alter_sentry_roles_grant_privileges", new alter_sentry_roles_grant_privileges());
       processMap.put("alter_sentry_role_add_groups", new alter_sentry_role_add_groups());
       processMap.put("alter_sentry_role_delete_groups", new alter_sentry_role_delete_groups());
       processMap.put("alter_sentry_role_add_users", new alter_sentry_role_add_users());
@@ -1644,6 +1885,8 @@ public class SentryPolicyService {
       processMap.put("list_sentry_roles_by_user", new list_sentry_roles_by_user());
       processMap.put("list_sentry_privileges_by_role", new list_sentry_privileges_by_role());
       processMap.put("list_sentry_privileges_for_provider", new list_sentry_privileges_for_provider());
+      processMap.put("list_sentry_privileges_for_provider_batch", new list_sentry_privileges_for_provider_batch());
+      processMap.put("get_sentry_privileges_delta", new get_sentry_privileges_delta());
       processMap.put("drop_sentry_privilege", new drop_sentry_privilege());
       processMap.put("rename_sentry_privilege", new rename_sentry_privilege());
       processMap.put("list_sentry_privileges_by_authorizable", new list_sentry_privileges_by_authorizable());
@@ -1858,6 +2101,57 @@ public class SentryPolicyService {
       }
     }
 
+    public static class alter_sentry_roles_grant_privileges<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, alter_sentry_roles_grant_privileges_args, TAlterSentryRolesGrantPrivilegesResponse> {
+      public alter_sentry_roles_grant_privileges() {
+        super("alter_sentry_roles_grant_privileges");
+      }
+
+      public alter_sentry_roles_grant_privileges_args getEmptyArgsInstance() {
+        return new alter_sentry_roles_grant_privileges_args();
+      }
+
+      public AsyncMethodCallback<TAlterSentryRolesGrantPrivilegesResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<TAlterSentryRolesGrantPrivilegesResponse>() { 
+          public void onComplete(TAlterSentryRolesGrantPrivilegesResponse o) {
+            alter_sentry_roles_grant_privileges_result result = new alter_sentry_roles_grant_privileges_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            alter_sentry_roles_grant_privileges_result result = new alter_sentry_roles_grant_privileges_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, alter_sentry_roles_grant_privileges_args args, org.apache.thrift.async.AsyncMethodCallback<TAlterSentryRolesGrantPrivilegesResponse> resultHandler) throws TException {
+        iface.alter_sentry_roles_grant_privileges(args.request,resultHandler);
+      }
+    }
+
     public static class alter_sentry_role_add_groups<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, alter_sentry_role_add_groups_args, TAlterSentryRoleAddGroupsResponse> {
       public alter_sentry_role_add_groups() {
         super("alter_sentry_role_add_groups");
@@ -2266,20 +2560,20 @@ public class SentryPolicyService {
       }
     }
 
-    public static class drop_sentry_privilege<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, drop_sentry_privilege_args, TDropPrivilegesResponse> {
-      public drop_sentry_privilege() {
-        super("drop_sentry_privilege");
+    public static class list_sentry_privileges_for_provider_batch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, list_sentry_privileges_for_provider_batch_args, TListSentryPrivilegesForProviderBatchResponse> {
+      public list_sentry_privileges_for_provider_batch() {
+        super("list_sentry_privileges_for_provider_batch");
       }
 
-      public drop_sentry_privilege_args getEmptyArgsInstance() {
-        return new drop_sentry_privilege_args();
+      public list_sentry_privileges_for_provider_batch_args getEmptyArgsInstance() {
+        return new list_sentry_privileges_for_provider_batch_args();
       }
 
-      public AsyncMethodCallback<TDropPrivilegesResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<TListSentryPrivilegesForProviderBatchResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<TDropPrivilegesResponse>() { 
-          public void onComplete(TDropPrivilegesResponse o) {
-            drop_sentry_privilege_result result = new drop_sentry_privilege_result();
+        return new AsyncMethodCallback<TListSentryPrivilegesForProviderBatchResponse>() { 
+          public void onComplete(TListSentryPrivilegesForProviderBatchResponse o) {
+            list_sentry_privileges_for_provider_batch_result result = new list_sentry_privileges_for_provider_batch_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2292,7 +2586,7 @@ public class SentryPolicyService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            drop_sentry_privilege_result result = new drop_sentry_privilege_result();
+            list_sentry_privileges_for_provider_batch_result result = new list_sentry_privileges_for_provider_batch_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -2312,25 +2606,25 @@ public class SentryPolicyService {
         return false;
       }
 
-      public void start(I iface, drop_sentry_privilege_args args, org.apache.thrift.async.AsyncMethodCallback<TDropPrivilegesResponse> resultHandler) throws TException {
-        iface.drop_sentry_privilege(args.request,resultHandler);
+      public void start(I iface, list_sentry_privileges_for_provider_batch_args args, org.apache.thrift.async.AsyncMethodCallback<TListSentryPrivilegesForProviderBatchResponse> resultHandler) throws TException {
+        iface.list_sentry_privileges_for_provider_batch(args.request,resultHandler);
       }
     }
 
-    public static class rename_sentry_privilege<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, rename_sentry_privilege_args, TRenamePrivilegesResponse> {
-      public rename_sentry_privilege() {
-        super("rename_sentry_privilege");
+    public static class get_sentry_privileges_delta<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, get_sentry_privileges_delta_args, TSentryPrivilegesDeltaResponse> {
+      public get_sentry_privileges_delta() {
+        super("get_sentry_privileges_delta");
       }
 
-      public rename_sentry_privilege_args getEmptyArgsInstance() {
-        return new rename_sentry_privilege_args();
+      public get_sentry_privileges_delta_args getEmptyArgsInstance() {
+        return new get_sentry_privileges_delta_args();
       }
 
-      public AsyncMethodCallback<TRenamePrivilegesResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<TSentryPrivilegesDeltaResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<TRenamePrivilegesResponse>() { 
-          public void onComplete(TRenamePrivilegesResponse o) {
-            rename_sentry_privilege_result result = new rename_sentry_privilege_result();
+        return new AsyncMethodCallback<TSentryPrivilegesDeltaResponse>() { 
+          public void onComplete(TSentryPrivilegesDeltaResponse o) {
+            get_sentry_privileges_delta_result result = new get_sentry_privileges_delta_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2343,7 +2637,7 @@ public class SentryPolicyService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            rename_sentry_privilege_result result = new rename_sentry_privilege_result();
+            get_sentry_privileges_delta_result result = new get_sentry_privileges_delta_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -2363,25 +2657,25 @@ public class SentryPolicyService {
         return false;
       }
 
-      public void start(I iface, rename_sentry_privilege_args args, org.apache.thrift.async.AsyncMethodCallback<TRenamePrivilegesResponse> resultHandler) throws TException {
-        iface.rename_sentry_privilege(args.request,resultHandler);
+      public void start(I iface, get_sentry_privileges_delta_args args, org.apache.thrift.async.AsyncMethodCallback<TSentryPrivilegesDeltaResponse> resultHandler) throws TException {
+        iface.get_sentry_privileges_delta(args.request,resultHandler);
       }
     }
 
-    public static class list_sentry_privileges_by_authorizable<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, list_sentry_privileges_by_authorizable_args, TListSentryPrivilegesByAuthResponse> {
-      public list_sentry_privileges_by_authorizable() {
-        super("list_sentry_privileges_by_authorizable");
+    public static class drop_sentry_privilege<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, drop_sentry_privilege_args, TDropPrivilegesResponse> {
+      public drop_sentry_privilege() {
+        super("drop_sentry_privilege");
       }
 
-      public list_sentry_privileges_by_authorizable_args getEmptyArgsInstance() {
-        return new list_sentry_privileges_by_authorizable_args();
+      public drop_sentry_privilege_args getEmptyArgsInstance() {
+        return new drop_sentry_privilege_args();
       }
 
-      public AsyncMethodCallback<TListSentryPrivilegesByAuthResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<TDropPrivilegesResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<TListSentryPrivilegesByAuthResponse>() { 
-          public void onComplete(TListSentryPrivilegesByAuthResponse o) {
-            list_sentry_privileges_by_authorizable_result result = new list_sentry_privileges_by_authorizable_result();
+        return new AsyncMethodCallback<TDropPrivilegesResponse>() { 
+          public void onComplete(TDropPrivilegesResponse o) {
+            drop_sentry_privilege_result result = new drop_sentry_privilege_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2394,7 +2688,7 @@ public class SentryPolicyService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            list_sentry_privileges_by_authorizable_result result = new list_sentry_privileges_by_authorizable_result();
+            drop_sentry_privilege_result result = new drop_sentry_privilege_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -2414,25 +2708,25 @@ public class SentryPolicyService {
         return false;
       }
 
-      public void start(I iface, list_sentry_privileges_by_authorizable_args args, org.apache.thrift.async.AsyncMethodCallback<TListSentryPrivilegesByAuthResponse> resultHandler) throws TException {
-        iface.list_sentry_privileges_by_authorizable(args.request,resultHandler);
+      public void start(I iface, drop_sentry_privilege_args args, org.apache.thrift.async.AsyncMethodCallback<TDropPrivilegesResponse> resultHandler) throws TException {
+        iface.drop_sentry_privilege(args.request,resultHandler);
       }
     }
 
-    public static class get_sentry_config_value<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, get_sentry_config_value_args, TSentryConfigValueResponse> {
-      public get_sentry_config_value() {
-        super("get_sentry_config_value");
+    public static class rename_sentry_privilege<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, rename_sentry_privilege_args, TRenamePrivilegesResponse> {
+      public rename_sentry_privilege() {
+        super("rename_sentry_privilege");
       }
 
-      public get_sentry_config_value_args getEmptyArgsInstance() {
-        return new get_sentry_config_value_args();
+      public rename_sentry_privilege_args getEmptyArgsInstance() {
+        return new rename_sentry_privilege_args();
       }
 
-      public AsyncMethodCallback<TSentryConfigValueResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<TRenamePrivilegesResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<TSentryConfigValueResponse>() { 
-          public void onComplete(TSentryConfigValueResponse o) {
-            get_sentry_config_value_result result = new get_sentry_config_value_result();
+        return new AsyncMethodCallback<TRenamePrivilegesResponse>() { 
+          public void onComplete(TRenamePrivilegesResponse o) {
+            rename_sentry_privilege_result result = new rename_sentry_privilege_result();
             result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
@@ -2445,7 +2739,109 @@ public class SentryPolicyService {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            get_sentry_config_value_result result = new get_sentry_config_value_result();
+            rename_sentry_privilege_result result = new rename_sentry_privilege_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, rename_sentry_privilege_args args, org.apache.thrift.async.AsyncMethodCallback<TRenamePrivilegesResponse> resultHandler) throws TException {
+        iface.rename_sentry_privilege(args.request,resultHandler);
+      }
+    }
+
+    public static class list_sentry_privileges_by_authorizable<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, list_sentry_privileges_by_authorizable_args, TListSentryPrivilegesByAuthResponse> {
+      public list_sentry_privileges_by_authorizable() {
+        super("list_sentry_privileges_by_authorizable");
+      }
+
+      public list_sentry_privileges_by_authorizable_args getEmptyArgsInstance() {
+        return new list_sentry_privileges_by_authorizable_args();
+      }
+
+      public AsyncMethodCallback<TListSentryPrivilegesByAuthResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<TListSentryPrivilegesByAuthResponse>() { 
+          public void onComplete(TListSentryPrivilegesByAuthResponse o) {
+            list_sentry_privileges_by_authorizable_result result = new list_sentry_privileges_by_authorizable_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            list_sentry_privileges_by_authorizable_result result = new list_sentry_privileges_by_authorizable_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, list_sentry_privileges_by_authorizable_args args, org.apache.thrift.async.AsyncMethodCallback<TListSentryPrivilegesByAuthResponse> resultHandler) throws TException {
+        iface.list_sentry_privileges_by_authorizable(args.request,resultHandler);
+      }
+    }
+
+    public static class get_sentry_config_value<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, get_sentry_config_value_args, TSentryConfigValueResponse> {
+      public get_sentry_config_value() {
+        super("get_sentry_config_value");
+      }
+
+      public get_sentry_config_value_args getEmptyArgsInstance() {
+        return new get_sentry_config_value_args();
+      }
+
+      public AsyncMethodCallback<TSentryConfigValueResponse> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<TSentryConfigValueResponse>() { 
+          public void onComplete(TSentryConfigValueResponse o) {
+            get_sentry_config_value_result result = new get_sentry_config_value_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            get_sentry_config_value_result result = new get_sentry_config_value_result();
             {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
@@ -5529,18 +5925,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class alter_sentry_role_add_groups_args implements org.apache.thrift.TBase<alter_sentry_role_add_groups_args, alter_sentry_role_add_groups_args._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_add_groups_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_add_groups_args");
+  public static class alter_sentry_roles_grant_privileges_args implements org.apache.thrift.TBase<alter_sentry_roles_grant_privileges_args, alter_sentry_roles_grant_privileges_args._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_roles_grant_privileges_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_roles_grant_privileges_args");
 
     private static final org.apache.thrift.protocol.TField REQUEST_FIELD_DESC = new org.apache.thrift.protocol.TField("request", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new alter_sentry_role_add_groups_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new alter_sentry_role_add_groups_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new alter_sentry_roles_grant_privileges_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new alter_sentry_roles_grant_privileges_argsTupleSchemeFactory());
     }
 
-    private TAlterSentryRoleAddGroupsRequest request; // required
+    private TAlterSentryRolesGrantPrivilegesRequest request; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -5605,16 +6001,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.REQUEST, new org.apache.thrift.meta_data.FieldMetaData("request", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleAddGroupsRequest.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRolesGrantPrivilegesRequest.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_add_groups_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_roles_grant_privileges_args.class, metaDataMap);
     }
 
-    public alter_sentry_role_add_groups_args() {
+    public alter_sentry_roles_grant_privileges_args() {
     }
 
-    public alter_sentry_role_add_groups_args(
-      TAlterSentryRoleAddGroupsRequest request)
+    public alter_sentry_roles_grant_privileges_args(
+      TAlterSentryRolesGrantPrivilegesRequest request)
     {
       this();
       this.request = request;
@@ -5623,14 +6019,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public alter_sentry_role_add_groups_args(alter_sentry_role_add_groups_args other) {
+    public alter_sentry_roles_grant_privileges_args(alter_sentry_roles_grant_privileges_args other) {
       if (other.isSetRequest()) {
-        this.request = new TAlterSentryRoleAddGroupsRequest(other.request);
+        this.request = new TAlterSentryRolesGrantPrivilegesRequest(other.request);
       }
     }
 
-    public alter_sentry_role_add_groups_args deepCopy() {
-      return new alter_sentry_role_add_groups_args(this);
+    public alter_sentry_roles_grant_privileges_args deepCopy() {
+      return new alter_sentry_roles_grant_privileges_args(this);
     }
 
     @Override
@@ -5638,11 +6034,11 @@ public class SentryPolicyService {
       this.request = null;
     }
 
-    public TAlterSentryRoleAddGroupsRequest getRequest() {
+    public TAlterSentryRolesGrantPrivilegesRequest getRequest() {
       return this.request;
     }
 
-    public void setRequest(TAlterSentryRoleAddGroupsRequest request) {
+    public void setRequest(TAlterSentryRolesGrantPrivilegesRequest request) {
       this.request = request;
     }
 
@@ -5667,7 +6063,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetRequest();
         } else {
-          setRequest((TAlterSentryRoleAddGroupsRequest)value);
+          setRequest((TAlterSentryRolesGrantPrivilegesRequest)value);
         }
         break;
 
@@ -5700,12 +6096,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof alter_sentry_role_add_groups_args)
-        return this.equals((alter_sentry_role_add_groups_args)that);
+      if (that instanceof alter_sentry_roles_grant_privileges_args)
+        return this.equals((alter_sentry_roles_grant_privileges_args)that);
       return false;
     }
 
-    public boolean equals(alter_sentry_role_add_groups_args that) {
+    public boolean equals(alter_sentry_roles_grant_privileges_args that) {
       if (that == null)
         return false;
 
@@ -5734,7 +6130,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(alter_sentry_role_add_groups_args other) {
+    public int compareTo(alter_sentry_roles_grant_privileges_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -5768,7 +6164,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("alter_sentry_role_add_groups_args(");
+      StringBuilder sb = new StringBuilder("alter_sentry_roles_grant_privileges_args(");
       boolean first = true;
 
       sb.append("request:");
@@ -5806,15 +6202,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class alter_sentry_role_add_groups_argsStandardSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_add_groups_argsStandardScheme getScheme() {
-        return new alter_sentry_role_add_groups_argsStandardScheme();
+    private static class alter_sentry_roles_grant_privileges_argsStandardSchemeFactory implements SchemeFactory {
+      public alter_sentry_roles_grant_privileges_argsStandardScheme getScheme() {
+        return new alter_sentry_roles_grant_privileges_argsStandardScheme();
       }
     }
 
-    private static class alter_sentry_role_add_groups_argsStandardScheme extends StandardScheme<alter_sentry_role_add_groups_args> {
+    private static class alter_sentry_roles_grant_privileges_argsStandardScheme extends StandardScheme<alter_sentry_roles_grant_privileges_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_add_groups_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_roles_grant_privileges_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -5826,7 +6222,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 1: // REQUEST
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.request = new TAlterSentryRoleAddGroupsRequest();
+                struct.request = new TAlterSentryRolesGrantPrivilegesRequest();
                 struct.request.read(iprot);
                 struct.setRequestIsSet(true);
               } else { 
@@ -5842,7 +6238,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_add_groups_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_roles_grant_privileges_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -5857,16 +6253,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class alter_sentry_role_add_groups_argsTupleSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_add_groups_argsTupleScheme getScheme() {
-        return new alter_sentry_role_add_groups_argsTupleScheme();
+    private static class alter_sentry_roles_grant_privileges_argsTupleSchemeFactory implements SchemeFactory {
+      public alter_sentry_roles_grant_privileges_argsTupleScheme getScheme() {
+        return new alter_sentry_roles_grant_privileges_argsTupleScheme();
       }
     }
 
-    private static class alter_sentry_role_add_groups_argsTupleScheme extends TupleScheme<alter_sentry_role_add_groups_args> {
+    private static class alter_sentry_roles_grant_privileges_argsTupleScheme extends TupleScheme<alter_sentry_roles_grant_privileges_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_groups_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_roles_grant_privileges_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetRequest()) {
@@ -5879,11 +6275,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_groups_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_roles_grant_privileges_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.request = new TAlterSentryRoleAddGroupsRequest();
+          struct.request = new TAlterSentryRolesGrantPrivilegesRequest();
           struct.request.read(iprot);
           struct.setRequestIsSet(true);
         }
@@ -5892,18 +6288,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class alter_sentry_role_add_groups_result implements org.apache.thrift.TBase<alter_sentry_role_add_groups_result, alter_sentry_role_add_groups_result._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_add_groups_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_add_groups_result");
+  public static class alter_sentry_roles_grant_privileges_result implements org.apache.thrift.TBase<alter_sentry_roles_grant_privileges_result, alter_sentry_roles_grant_privileges_result._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_roles_grant_privileges_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_roles_grant_privileges_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new alter_sentry_role_add_groups_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new alter_sentry_role_add_groups_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new alter_sentry_roles_grant_privileges_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new alter_sentry_roles_grant_privileges_resultTupleSchemeFactory());
     }
 
-    private TAlterSentryRoleAddGroupsResponse success; // required
+    private TAlterSentryRolesGrantPrivilegesResponse success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -5968,16 +6364,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleAddGroupsResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRolesGrantPrivilegesResponse.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_add_groups_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_roles_grant_privileges_result.class, metaDataMap);
     }
 
-    public alter_sentry_role_add_groups_result() {
+    public alter_sentry_roles_grant_privileges_result() {
     }
 
-    public alter_sentry_role_add_groups_result(
-      TAlterSentryRoleAddGroupsResponse success)
+    public alter_sentry_roles_grant_privileges_result(
+      TAlterSentryRolesGrantPrivilegesResponse success)
     {
       this();
       this.success = success;
@@ -5986,14 +6382,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public alter_sentry_role_add_groups_result(alter_sentry_role_add_groups_result other) {
+    public alter_sentry_roles_grant_privileges_result(alter_sentry_roles_grant_privileges_result other) {
       if (other.isSetSuccess()) {
-        this.success = new TAlterSentryRoleAddGroupsResponse(other.success);
+        this.success = new TAlterSentryRolesGrantPrivilegesResponse(other.success);
       }
     }
 
-    public alter_sentry_role_add_groups_result deepCopy() {
-      return new alter_sentry_role_add_groups_result(this);
+    public alter_sentry_roles_grant_privileges_result deepCopy() {
+      return new alter_sentry_roles_grant_privileges_result(this);
     }
 
     @Override
@@ -6001,11 +6397,11 @@ public class SentryPolicyService {
       this.success = null;
     }
 
-    public TAlterSentryRoleAddGroupsResponse getSuccess() {
+    public TAlterSentryRolesGrantPrivilegesResponse getSuccess() {
       return this.success;
     }
 
-    public void setSuccess(TAlterSentryRoleAddGroupsResponse success) {
+    public void setSuccess(TAlterSentryRolesGrantPrivilegesResponse success) {
       this.success = success;
     }
 
@@ -6030,7 +6426,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((TAlterSentryRoleAddGroupsResponse)value);
+          setSuccess((TAlterSentryRolesGrantPrivilegesResponse)value);
         }
         break;
 
@@ -6063,12 +6459,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof alter_sentry_role_add_groups_result)
-        return this.equals((alter_sentry_role_add_groups_result)that);
+      if (that instanceof alter_sentry_roles_grant_privileges_result)
+        return this.equals((alter_sentry_roles_grant_privileges_result)that);
       return false;
     }
 
-    public boolean equals(alter_sentry_role_add_groups_result that) {
+    public boolean equals(alter_sentry_roles_grant_privileges_result that) {
       if (that == null)
         return false;
 
@@ -6097,7 +6493,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(alter_sentry_role_add_groups_result other) {
+    public int compareTo(alter_sentry_roles_grant_privileges_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6131,7 +6527,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("alter_sentry_role_add_groups_result(");
+      StringBuilder sb = new StringBuilder("alter_sentry_roles_grant_privileges_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -6169,15 +6565,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class alter_sentry_role_add_groups_resultStandardSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_add_groups_resultStandardScheme getScheme() {
-        return new alter_sentry_role_add_groups_resultStandardScheme();
+    private static class alter_sentry_roles_grant_privileges_resultStandardSchemeFactory implements SchemeFactory {
+      public alter_sentry_roles_grant_privileges_resultStandardScheme getScheme() {
+        return new alter_sentry_roles_grant_privileges_resultStandardScheme();
       }
     }
 
-    private static class alter_sentry_role_add_groups_resultStandardScheme extends StandardScheme<alter_sentry_role_add_groups_result> {
+    private static class alter_sentry_roles_grant_privileges_resultStandardScheme extends StandardScheme<alter_sentry_roles_grant_privileges_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_add_groups_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_roles_grant_privileges_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6189,7 +6585,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new TAlterSentryRoleAddGroupsResponse();
+                struct.success = new TAlterSentryRolesGrantPrivilegesResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -6205,7 +6601,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_add_groups_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_roles_grant_privileges_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6220,16 +6616,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class alter_sentry_role_add_groups_resultTupleSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_add_groups_resultTupleScheme getScheme() {
-        return new alter_sentry_role_add_groups_resultTupleScheme();
+    private static class alter_sentry_roles_grant_privileges_resultTupleSchemeFactory implements SchemeFactory {
+      public alter_sentry_roles_grant_privileges_resultTupleScheme getScheme() {
+        return new alter_sentry_roles_grant_privileges_resultTupleScheme();
       }
     }
 
-    private static class alter_sentry_role_add_groups_resultTupleScheme extends TupleScheme<alter_sentry_role_add_groups_result> {
+    private static class alter_sentry_roles_grant_privileges_resultTupleScheme extends TupleScheme<alter_sentry_roles_grant_privileges_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_groups_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_roles_grant_privileges_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -6242,11 +6638,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_groups_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_roles_grant_privileges_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new TAlterSentryRoleAddGroupsResponse();
+          struct.success = new TAlterSentryRolesGrantPrivilegesResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -6255,18 +6651,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class alter_sentry_role_delete_groups_args implements org.apache.thrift.TBase<alter_sentry_role_delete_groups_args, alter_sentry_role_delete_groups_args._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_delete_groups_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_delete_groups_args");
+  public static class alter_sentry_role_add_groups_args implements org.apache.thrift.TBase<alter_sentry_role_add_groups_args, alter_sentry_role_add_groups_args._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_add_groups_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_add_groups_args");
 
     private static final org.apache.thrift.protocol.TField REQUEST_FIELD_DESC = new org.apache.thrift.protocol.TField("request", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new alter_sentry_role_delete_groups_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new alter_sentry_role_delete_groups_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new alter_sentry_role_add_groups_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new alter_sentry_role_add_groups_argsTupleSchemeFactory());
     }
 
-    private TAlterSentryRoleDeleteGroupsRequest request; // required
+    private TAlterSentryRoleAddGroupsRequest request; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -6331,16 +6727,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.REQUEST, new org.apache.thrift.meta_data.FieldMetaData("request", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleDeleteGroupsRequest.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleAddGroupsRequest.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_delete_groups_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_add_groups_args.class, metaDataMap);
     }
 
-    public alter_sentry_role_delete_groups_args() {
+    public alter_sentry_role_add_groups_args() {
     }
 
-    public alter_sentry_role_delete_groups_args(
-      TAlterSentryRoleDeleteGroupsRequest request)
+    public alter_sentry_role_add_groups_args(
+      TAlterSentryRoleAddGroupsRequest request)
     {
       this();
       this.request = request;
@@ -6349,14 +6745,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public alter_sentry_role_delete_groups_args(alter_sentry_role_delete_groups_args other) {
+    public alter_sentry_role_add_groups_args(alter_sentry_role_add_groups_args other) {
       if (other.isSetRequest()) {
-        this.request = new TAlterSentryRoleDeleteGroupsRequest(other.request);
+        this.request = new TAlterSentryRoleAddGroupsRequest(other.request);
       }
     }
 
-    public alter_sentry_role_delete_groups_args deepCopy() {
-      return new alter_sentry_role_delete_groups_args(this);
+    public alter_sentry_role_add_groups_args deepCopy() {
+      return new alter_sentry_role_add_groups_args(this);
     }
 
     @Override
@@ -6364,11 +6760,11 @@ public class SentryPolicyService {
       this.request = null;
     }
 
-    public TAlterSentryRoleDeleteGroupsRequest getRequest() {
+    public TAlterSentryRoleAddGroupsRequest getRequest() {
       return this.request;
     }
 
-    public void setRequest(TAlterSentryRoleDeleteGroupsRequest request) {
+    public void setRequest(TAlterSentryRoleAddGroupsRequest request) {
       this.request = request;
     }
 
@@ -6393,7 +6789,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetRequest();
         } else {
-          setRequest((TAlterSentryRoleDeleteGroupsRequest)value);
+          setRequest((TAlterSentryRoleAddGroupsRequest)value);
         }
         break;
 
@@ -6426,12 +6822,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof alter_sentry_role_delete_groups_args)
-        return this.equals((alter_sentry_role_delete_groups_args)that);
+      if (that instanceof alter_sentry_role_add_groups_args)
+        return this.equals((alter_sentry_role_add_groups_args)that);
       return false;
     }
 
-    public boolean equals(alter_sentry_role_delete_groups_args that) {
+    public boolean equals(alter_sentry_role_add_groups_args that) {
       if (that == null)
         return false;
 
@@ -6460,7 +6856,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(alter_sentry_role_delete_groups_args other) {
+    public int compareTo(alter_sentry_role_add_groups_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6494,7 +6890,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("alter_sentry_role_delete_groups_args(");
+      StringBuilder sb = new StringBuilder("alter_sentry_role_add_groups_args(");
       boolean first = true;
 
       sb.append("request:");
@@ -6532,15 +6928,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class alter_sentry_role_delete_groups_argsStandardSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_delete_groups_argsStandardScheme getScheme() {
-        return new alter_sentry_role_delete_groups_argsStandardScheme();
+    private static class alter_sentry_role_add_groups_argsStandardSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_add_groups_argsStandardScheme getScheme() {
+        return new alter_sentry_role_add_groups_argsStandardScheme();
       }
     }
 
-    private static class alter_sentry_role_delete_groups_argsStandardScheme extends StandardScheme<alter_sentry_role_delete_groups_args> {
+    private static class alter_sentry_role_add_groups_argsStandardScheme extends StandardScheme<alter_sentry_role_add_groups_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_delete_groups_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_add_groups_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6552,7 +6948,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 1: // REQUEST
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.request = new TAlterSentryRoleDeleteGroupsRequest();
+                struct.request = new TAlterSentryRoleAddGroupsRequest();
                 struct.request.read(iprot);
                 struct.setRequestIsSet(true);
               } else { 
@@ -6568,7 +6964,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_delete_groups_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_add_groups_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6583,16 +6979,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class alter_sentry_role_delete_groups_argsTupleSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_delete_groups_argsTupleScheme getScheme() {
-        return new alter_sentry_role_delete_groups_argsTupleScheme();
+    private static class alter_sentry_role_add_groups_argsTupleSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_add_groups_argsTupleScheme getScheme() {
+        return new alter_sentry_role_add_groups_argsTupleScheme();
       }
     }
 
-    private static class alter_sentry_role_delete_groups_argsTupleScheme extends TupleScheme<alter_sentry_role_delete_groups_args> {
+    private static class alter_sentry_role_add_groups_argsTupleScheme extends TupleScheme<alter_sentry_role_add_groups_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_groups_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_groups_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetRequest()) {
@@ -6605,11 +7001,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_groups_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_groups_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.request = new TAlterSentryRoleDeleteGroupsRequest();
+          struct.request = new TAlterSentryRoleAddGroupsRequest();
           struct.request.read(iprot);
           struct.setRequestIsSet(true);
         }
@@ -6618,18 +7014,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class alter_sentry_role_delete_groups_result implements org.apache.thrift.TBase<alter_sentry_role_delete_groups_result, alter_sentry_role_delete_groups_result._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_delete_groups_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_delete_groups_result");
+  public static class alter_sentry_role_add_groups_result implements org.apache.thrift.TBase<alter_sentry_role_add_groups_result, alter_sentry_role_add_groups_result._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_add_groups_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_add_groups_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new alter_sentry_role_delete_groups_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new alter_sentry_role_delete_groups_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new alter_sentry_role_add_groups_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new alter_sentry_role_add_groups_resultTupleSchemeFactory());
     }
 
-    private TAlterSentryRoleDeleteGroupsResponse success; // required
+    private TAlterSentryRoleAddGroupsResponse success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -6694,16 +7090,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleDeleteGroupsResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleAddGroupsResponse.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_delete_groups_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_add_groups_result.class, metaDataMap);
     }
 
-    public alter_sentry_role_delete_groups_result() {
+    public alter_sentry_role_add_groups_result() {
     }
 
-    public alter_sentry_role_delete_groups_result(
-      TAlterSentryRoleDeleteGroupsResponse success)
+    public alter_sentry_role_add_groups_result(
+      TAlterSentryRoleAddGroupsResponse success)
     {
       this();
       this.success = success;
@@ -6712,14 +7108,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public alter_sentry_role_delete_groups_result(alter_sentry_role_delete_groups_result other) {
+    public alter_sentry_role_add_groups_result(alter_sentry_role_add_groups_result other) {
       if (other.isSetSuccess()) {
-        this.success = new TAlterSentryRoleDeleteGroupsResponse(other.success);
+        this.success = new TAlterSentryRoleAddGroupsResponse(other.success);
       }
     }
 
-    public alter_sentry_role_delete_groups_result deepCopy() {
-      return new alter_sentry_role_delete_groups_result(this);
+    public alter_sentry_role_add_groups_result deepCopy() {
+      return new alter_sentry_role_add_groups_result(this);
     }
 
     @Override
@@ -6727,11 +7123,11 @@ public class SentryPolicyService {
       this.success = null;
     }
 
-    public TAlterSentryRoleDeleteGroupsResponse getSuccess() {
+    public TAlterSentryRoleAddGroupsResponse getSuccess() {
       return this.success;
     }
 
-    public void setSuccess(TAlterSentryRoleDeleteGroupsResponse success) {
+    public void setSuccess(TAlterSentryRoleAddGroupsResponse success) {
       this.success = success;
     }
 
@@ -6756,7 +7152,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((TAlterSentryRoleDeleteGroupsResponse)value);
+          setSuccess((TAlterSentryRoleAddGroupsResponse)value);
         }
         break;
 
@@ -6789,12 +7185,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof alter_sentry_role_delete_groups_result)
-        return this.equals((alter_sentry_role_delete_groups_result)that);
+      if (that instanceof alter_sentry_role_add_groups_result)
+        return this.equals((alter_sentry_role_add_groups_result)that);
       return false;
     }
 
-    public boolean equals(alter_sentry_role_delete_groups_result that) {
+    public boolean equals(alter_sentry_role_add_groups_result that) {
       if (that == null)
         return false;
 
@@ -6823,7 +7219,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(alter_sentry_role_delete_groups_result other) {
+    public int compareTo(alter_sentry_role_add_groups_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -6857,7 +7253,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("alter_sentry_role_delete_groups_result(");
+      StringBuilder sb = new StringBuilder("alter_sentry_role_add_groups_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -6895,15 +7291,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class alter_sentry_role_delete_groups_resultStandardSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_delete_groups_resultStandardScheme getScheme() {
-        return new alter_sentry_role_delete_groups_resultStandardScheme();
+    private static class alter_sentry_role_add_groups_resultStandardSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_add_groups_resultStandardScheme getScheme() {
+        return new alter_sentry_role_add_groups_resultStandardScheme();
       }
     }
 
-    private static class alter_sentry_role_delete_groups_resultStandardScheme extends StandardScheme<alter_sentry_role_delete_groups_result> {
+    private static class alter_sentry_role_add_groups_resultStandardScheme extends StandardScheme<alter_sentry_role_add_groups_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_delete_groups_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_add_groups_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -6915,7 +7311,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new TAlterSentryRoleDeleteGroupsResponse();
+                struct.success = new TAlterSentryRoleAddGroupsResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -6931,7 +7327,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_delete_groups_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_add_groups_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -6946,16 +7342,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class alter_sentry_role_delete_groups_resultTupleSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_delete_groups_resultTupleScheme getScheme() {
-        return new alter_sentry_role_delete_groups_resultTupleScheme();
+    private static class alter_sentry_role_add_groups_resultTupleSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_add_groups_resultTupleScheme getScheme() {
+        return new alter_sentry_role_add_groups_resultTupleScheme();
       }
     }
 
-    private static class alter_sentry_role_delete_groups_resultTupleScheme extends TupleScheme<alter_sentry_role_delete_groups_result> {
+    private static class alter_sentry_role_add_groups_resultTupleScheme extends TupleScheme<alter_sentry_role_add_groups_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_groups_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_groups_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -6968,11 +7364,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_groups_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_groups_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new TAlterSentryRoleDeleteGroupsResponse();
+          struct.success = new TAlterSentryRoleAddGroupsResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -6981,18 +7377,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class alter_sentry_role_add_users_args implements org.apache.thrift.TBase<alter_sentry_role_add_users_args, alter_sentry_role_add_users_args._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_add_users_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_add_users_args");
+  public static class alter_sentry_role_delete_groups_args implements org.apache.thrift.TBase<alter_sentry_role_delete_groups_args, alter_sentry_role_delete_groups_args._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_delete_groups_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_delete_groups_args");
 
     private static final org.apache.thrift.protocol.TField REQUEST_FIELD_DESC = new org.apache.thrift.protocol.TField("request", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new alter_sentry_role_add_users_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new alter_sentry_role_add_users_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new alter_sentry_role_delete_groups_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new alter_sentry_role_delete_groups_argsTupleSchemeFactory());
     }
 
-    private TAlterSentryRoleAddUsersRequest request; // required
+    private TAlterSentryRoleDeleteGroupsRequest request; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -7057,16 +7453,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.REQUEST, new org.apache.thrift.meta_data.FieldMetaData("request", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleAddUsersRequest.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleDeleteGroupsRequest.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_add_users_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_delete_groups_args.class, metaDataMap);
     }
 
-    public alter_sentry_role_add_users_args() {
+    public alter_sentry_role_delete_groups_args() {
     }
 
-    public alter_sentry_role_add_users_args(
-      TAlterSentryRoleAddUsersRequest request)
+    public alter_sentry_role_delete_groups_args(
+      TAlterSentryRoleDeleteGroupsRequest request)
     {
       this();
       this.request = request;
@@ -7075,14 +7471,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public alter_sentry_role_add_users_args(alter_sentry_role_add_users_args other) {
+    public alter_sentry_role_delete_groups_args(alter_sentry_role_delete_groups_args other) {
       if (other.isSetRequest()) {
-        this.request = new TAlterSentryRoleAddUsersRequest(other.request);
+        this.request = new TAlterSentryRoleDeleteGroupsRequest(other.request);
       }
     }
 
-    public alter_sentry_role_add_users_args deepCopy() {
-      return new alter_sentry_role_add_users_args(this);
+    public alter_sentry_role_delete_groups_args deepCopy() {
+      return new alter_sentry_role_delete_groups_args(this);
     }
 
     @Override
@@ -7090,11 +7486,11 @@ public class SentryPolicyService {
       this.request = null;
     }
 
-    public TAlterSentryRoleAddUsersRequest getRequest() {
+    public TAlterSentryRoleDeleteGroupsRequest getRequest() {
       return this.request;
     }
 
-    public void setRequest(TAlterSentryRoleAddUsersRequest request) {
+    public void setRequest(TAlterSentryRoleDeleteGroupsRequest request) {
       this.request = request;
     }
 
@@ -7119,7 +7515,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetRequest();
         } else {
-          setRequest((TAlterSentryRoleAddUsersRequest)value);
+          setRequest((TAlterSentryRoleDeleteGroupsRequest)value);
         }
         break;
 
@@ -7152,12 +7548,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof alter_sentry_role_add_users_args)
-        return this.equals((alter_sentry_role_add_users_args)that);
+      if (that instanceof alter_sentry_role_delete_groups_args)
+        return this.equals((alter_sentry_role_delete_groups_args)that);
       return false;
     }
 
-    public boolean equals(alter_sentry_role_add_users_args that) {
+    public boolean equals(alter_sentry_role_delete_groups_args that) {
       if (that == null)
         return false;
 
@@ -7186,7 +7582,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(alter_sentry_role_add_users_args other) {
+    public int compareTo(alter_sentry_role_delete_groups_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7220,7 +7616,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("alter_sentry_role_add_users_args(");
+      StringBuilder sb = new StringBuilder("alter_sentry_role_delete_groups_args(");
       boolean first = true;
 
       sb.append("request:");
@@ -7258,15 +7654,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class alter_sentry_role_add_users_argsStandardSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_add_users_argsStandardScheme getScheme() {
-        return new alter_sentry_role_add_users_argsStandardScheme();
+    private static class alter_sentry_role_delete_groups_argsStandardSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_delete_groups_argsStandardScheme getScheme() {
+        return new alter_sentry_role_delete_groups_argsStandardScheme();
       }
     }
 
-    private static class alter_sentry_role_add_users_argsStandardScheme extends StandardScheme<alter_sentry_role_add_users_args> {
+    private static class alter_sentry_role_delete_groups_argsStandardScheme extends StandardScheme<alter_sentry_role_delete_groups_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_add_users_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_delete_groups_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7278,7 +7674,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 1: // REQUEST
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.request = new TAlterSentryRoleAddUsersRequest();
+                struct.request = new TAlterSentryRoleDeleteGroupsRequest();
                 struct.request.read(iprot);
                 struct.setRequestIsSet(true);
               } else { 
@@ -7294,7 +7690,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_add_users_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_delete_groups_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7309,16 +7705,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class alter_sentry_role_add_users_argsTupleSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_add_users_argsTupleScheme getScheme() {
-        return new alter_sentry_role_add_users_argsTupleScheme();
+    private static class alter_sentry_role_delete_groups_argsTupleSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_delete_groups_argsTupleScheme getScheme() {
+        return new alter_sentry_role_delete_groups_argsTupleScheme();
       }
     }
 
-    private static class alter_sentry_role_add_users_argsTupleScheme extends TupleScheme<alter_sentry_role_add_users_args> {
+    private static class alter_sentry_role_delete_groups_argsTupleScheme extends TupleScheme<alter_sentry_role_delete_groups_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_users_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_groups_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetRequest()) {
@@ -7331,11 +7727,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_users_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_groups_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.request = new TAlterSentryRoleAddUsersRequest();
+          struct.request = new TAlterSentryRoleDeleteGroupsRequest();
           struct.request.read(iprot);
           struct.setRequestIsSet(true);
         }
@@ -7344,18 +7740,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class alter_sentry_role_add_users_result implements org.apache.thrift.TBase<alter_sentry_role_add_users_result, alter_sentry_role_add_users_result._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_add_users_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_add_users_result");
+  public static class alter_sentry_role_delete_groups_result implements org.apache.thrift.TBase<alter_sentry_role_delete_groups_result, alter_sentry_role_delete_groups_result._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_delete_groups_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_delete_groups_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new alter_sentry_role_add_users_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new alter_sentry_role_add_users_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new alter_sentry_role_delete_groups_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new alter_sentry_role_delete_groups_resultTupleSchemeFactory());
     }
 
-    private TAlterSentryRoleAddUsersResponse success; // required
+    private TAlterSentryRoleDeleteGroupsResponse success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -7420,16 +7816,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleAddUsersResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleDeleteGroupsResponse.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_add_users_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_delete_groups_result.class, metaDataMap);
     }
 
-    public alter_sentry_role_add_users_result() {
+    public alter_sentry_role_delete_groups_result() {
     }
 
-    public alter_sentry_role_add_users_result(
-      TAlterSentryRoleAddUsersResponse success)
+    public alter_sentry_role_delete_groups_result(
+      TAlterSentryRoleDeleteGroupsResponse success)
     {
       this();
       this.success = success;
@@ -7438,14 +7834,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public alter_sentry_role_add_users_result(alter_sentry_role_add_users_result other) {
+    public alter_sentry_role_delete_groups_result(alter_sentry_role_delete_groups_result other) {
       if (other.isSetSuccess()) {
-        this.success = new TAlterSentryRoleAddUsersResponse(other.success);
+        this.success = new TAlterSentryRoleDeleteGroupsResponse(other.success);
       }
     }
 
-    public alter_sentry_role_add_users_result deepCopy() {
-      return new alter_sentry_role_add_users_result(this);
+    public alter_sentry_role_delete_groups_result deepCopy() {
+      return new alter_sentry_role_delete_groups_result(this);
     }
 
     @Override
@@ -7453,11 +7849,11 @@ public class SentryPolicyService {
       this.success = null;
     }
 
-    public TAlterSentryRoleAddUsersResponse getSuccess() {
+    public TAlterSentryRoleDeleteGroupsResponse getSuccess() {
       return this.success;
     }
 
-    public void setSuccess(TAlterSentryRoleAddUsersResponse success) {
+    public void setSuccess(TAlterSentryRoleDeleteGroupsResponse success) {
       this.success = success;
     }
 
@@ -7482,7 +7878,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((TAlterSentryRoleAddUsersResponse)value);
+          setSuccess((TAlterSentryRoleDeleteGroupsResponse)value);
         }
         break;
 
@@ -7515,12 +7911,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof alter_sentry_role_add_users_result)
-        return this.equals((alter_sentry_role_add_users_result)that);
+      if (that instanceof alter_sentry_role_delete_groups_result)
+        return this.equals((alter_sentry_role_delete_groups_result)that);
       return false;
     }
 
-    public boolean equals(alter_sentry_role_add_users_result that) {
+    public boolean equals(alter_sentry_role_delete_groups_result that) {
       if (that == null)
         return false;
 
@@ -7549,7 +7945,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(alter_sentry_role_add_users_result other) {
+    public int compareTo(alter_sentry_role_delete_groups_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7583,7 +7979,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("alter_sentry_role_add_users_result(");
+      StringBuilder sb = new StringBuilder("alter_sentry_role_delete_groups_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -7621,15 +8017,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class alter_sentry_role_add_users_resultStandardSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_add_users_resultStandardScheme getScheme() {
-        return new alter_sentry_role_add_users_resultStandardScheme();
+    private static class alter_sentry_role_delete_groups_resultStandardSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_delete_groups_resultStandardScheme getScheme() {
+        return new alter_sentry_role_delete_groups_resultStandardScheme();
       }
     }
 
-    private static class alter_sentry_role_add_users_resultStandardScheme extends StandardScheme<alter_sentry_role_add_users_result> {
+    private static class alter_sentry_role_delete_groups_resultStandardScheme extends StandardScheme<alter_sentry_role_delete_groups_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_add_users_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_delete_groups_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -7641,7 +8037,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new TAlterSentryRoleAddUsersResponse();
+                struct.success = new TAlterSentryRoleDeleteGroupsResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -7657,7 +8053,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_add_users_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_delete_groups_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -7672,16 +8068,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class alter_sentry_role_add_users_resultTupleSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_add_users_resultTupleScheme getScheme() {
-        return new alter_sentry_role_add_users_resultTupleScheme();
+    private static class alter_sentry_role_delete_groups_resultTupleSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_delete_groups_resultTupleScheme getScheme() {
+        return new alter_sentry_role_delete_groups_resultTupleScheme();
       }
     }
 
-    private static class alter_sentry_role_add_users_resultTupleScheme extends TupleScheme<alter_sentry_role_add_users_result> {
+    private static class alter_sentry_role_delete_groups_resultTupleScheme extends TupleScheme<alter_sentry_role_delete_groups_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_users_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_groups_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -7694,11 +8090,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_users_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_groups_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new TAlterSentryRoleAddUsersResponse();
+          struct.success = new TAlterSentryRoleDeleteGroupsResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -7707,18 +8103,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class alter_sentry_role_delete_users_args implements org.apache.thrift.TBase<alter_sentry_role_delete_users_args, alter_sentry_role_delete_users_args._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_delete_users_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_delete_users_args");
+  public static class alter_sentry_role_add_users_args implements org.apache.thrift.TBase<alter_sentry_role_add_users_args, alter_sentry_role_add_users_args._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_add_users_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_add_users_args");
 
     private static final org.apache.thrift.protocol.TField REQUEST_FIELD_DESC = new org.apache.thrift.protocol.TField("request", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new alter_sentry_role_delete_users_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new alter_sentry_role_delete_users_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new alter_sentry_role_add_users_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new alter_sentry_role_add_users_argsTupleSchemeFactory());
     }
 
-    private TAlterSentryRoleDeleteUsersRequest request; // required
+    private TAlterSentryRoleAddUsersRequest request; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -7783,16 +8179,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.REQUEST, new org.apache.thrift.meta_data.FieldMetaData("request", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleDeleteUsersRequest.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleAddUsersRequest.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_delete_users_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_add_users_args.class, metaDataMap);
     }
 
-    public alter_sentry_role_delete_users_args() {
+    public alter_sentry_role_add_users_args() {
     }
 
-    public alter_sentry_role_delete_users_args(
-      TAlterSentryRoleDeleteUsersRequest request)
+    public alter_sentry_role_add_users_args(
+      TAlterSentryRoleAddUsersRequest request)
     {
       this();
       this.request = request;
@@ -7801,14 +8197,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public alter_sentry_role_delete_users_args(alter_sentry_role_delete_users_args other) {
+    public alter_sentry_role_add_users_args(alter_sentry_role_add_users_args other) {
       if (other.isSetRequest()) {
-        this.request = new TAlterSentryRoleDeleteUsersRequest(other.request);
+        this.request = new TAlterSentryRoleAddUsersRequest(other.request);
       }
     }
 
-    public alter_sentry_role_delete_users_args deepCopy() {
-      return new alter_sentry_role_delete_users_args(this);
+    public alter_sentry_role_add_users_args deepCopy() {
+      return new alter_sentry_role_add_users_args(this);
     }
 
     @Override
@@ -7816,11 +8212,11 @@ public class SentryPolicyService {
       this.request = null;
     }
 
-    public TAlterSentryRoleDeleteUsersRequest getRequest() {
+    public TAlterSentryRoleAddUsersRequest getRequest() {
       return this.request;
     }
 
-    public void setRequest(TAlterSentryRoleDeleteUsersRequest request) {
+    public void setRequest(TAlterSentryRoleAddUsersRequest request) {
       this.request = request;
     }
 
@@ -7845,7 +8241,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetRequest();
         } else {
-          setRequest((TAlterSentryRoleDeleteUsersRequest)value);
+          setRequest((TAlterSentryRoleAddUsersRequest)value);
         }
         break;
 
@@ -7878,12 +8274,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof alter_sentry_role_delete_users_args)
-        return this.equals((alter_sentry_role_delete_users_args)that);
+      if (that instanceof alter_sentry_role_add_users_args)
+        return this.equals((alter_sentry_role_add_users_args)that);
       return false;
     }
 
-    public boolean equals(alter_sentry_role_delete_users_args that) {
+    public boolean equals(alter_sentry_role_add_users_args that) {
       if (that == null)
         return false;
 
@@ -7912,7 +8308,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(alter_sentry_role_delete_users_args other) {
+    public int compareTo(alter_sentry_role_add_users_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -7946,7 +8342,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("alter_sentry_role_delete_users_args(");
+      StringBuilder sb = new StringBuilder("alter_sentry_role_add_users_args(");
       boolean first = true;
 
       sb.append("request:");
@@ -7984,15 +8380,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class alter_sentry_role_delete_users_argsStandardSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_delete_users_argsStandardScheme getScheme() {
-        return new alter_sentry_role_delete_users_argsStandardScheme();
-      }
-    }
+    private static class alter_sentry_role_add_users_argsStandardSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_add_users_argsStandardScheme getScheme() {
+        return new alter_sentry_role_add_users_argsStandardScheme();
+      }
+    }
 
-    private static class alter_sentry_role_delete_users_argsStandardScheme extends StandardScheme<alter_sentry_role_delete_users_args> {
+    private static class alter_sentry_role_add_users_argsStandardScheme extends StandardScheme<alter_sentry_role_add_users_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_delete_users_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_add_users_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8004,7 +8400,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 1: // REQUEST
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.request = new TAlterSentryRoleDeleteUsersRequest();
+                struct.request = new TAlterSentryRoleAddUsersRequest();
                 struct.request.read(iprot);
                 struct.setRequestIsSet(true);
               } else { 
@@ -8020,7 +8416,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_delete_users_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_add_users_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8035,16 +8431,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class alter_sentry_role_delete_users_argsTupleSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_delete_users_argsTupleScheme getScheme() {
-        return new alter_sentry_role_delete_users_argsTupleScheme();
+    private static class alter_sentry_role_add_users_argsTupleSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_add_users_argsTupleScheme getScheme() {
+        return new alter_sentry_role_add_users_argsTupleScheme();
       }
     }
 
-    private static class alter_sentry_role_delete_users_argsTupleScheme extends TupleScheme<alter_sentry_role_delete_users_args> {
+    private static class alter_sentry_role_add_users_argsTupleScheme extends TupleScheme<alter_sentry_role_add_users_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_users_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_users_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetRequest()) {
@@ -8057,11 +8453,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_users_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_users_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.request = new TAlterSentryRoleDeleteUsersRequest();
+          struct.request = new TAlterSentryRoleAddUsersRequest();
           struct.request.read(iprot);
           struct.setRequestIsSet(true);
         }
@@ -8070,18 +8466,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class alter_sentry_role_delete_users_result implements org.apache.thrift.TBase<alter_sentry_role_delete_users_result, alter_sentry_role_delete_users_result._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_delete_users_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_delete_users_result");
+  public static class alter_sentry_role_add_users_result implements org.apache.thrift.TBase<alter_sentry_role_add_users_result, alter_sentry_role_add_users_result._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_add_users_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_add_users_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new alter_sentry_role_delete_users_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new alter_sentry_role_delete_users_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new alter_sentry_role_add_users_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new alter_sentry_role_add_users_resultTupleSchemeFactory());
     }
 
-    private TAlterSentryRoleDeleteUsersResponse success; // required
+    private TAlterSentryRoleAddUsersResponse success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -8146,16 +8542,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleDeleteUsersResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleAddUsersResponse.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_delete_users_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_add_users_result.class, metaDataMap);
     }
 
-    public alter_sentry_role_delete_users_result() {
+    public alter_sentry_role_add_users_result() {
     }
 
-    public alter_sentry_role_delete_users_result(
-      TAlterSentryRoleDeleteUsersResponse success)
+    public alter_sentry_role_add_users_result(
+      TAlterSentryRoleAddUsersResponse success)
     {
       this();
       this.success = success;
@@ -8164,14 +8560,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public alter_sentry_role_delete_users_result(alter_sentry_role_delete_users_result other) {
+    public alter_sentry_role_add_users_result(alter_sentry_role_add_users_result other) {
       if (other.isSetSuccess()) {
-        this.success = new TAlterSentryRoleDeleteUsersResponse(other.success);
+        this.success = new TAlterSentryRoleAddUsersResponse(other.success);
       }
     }
 
-    public alter_sentry_role_delete_users_result deepCopy() {
-      return new alter_sentry_role_delete_users_result(this);
+    public alter_sentry_role_add_users_result deepCopy() {
+      return new alter_sentry_role_add_users_result(this);
     }
 
     @Override
@@ -8179,11 +8575,11 @@ public class SentryPolicyService {
       this.success = null;
     }
 
-    public TAlterSentryRoleDeleteUsersResponse getSuccess() {
+    public TAlterSentryRoleAddUsersResponse getSuccess() {
       return this.success;
     }
 
-    public void setSuccess(TAlterSentryRoleDeleteUsersResponse success) {
+    public void setSuccess(TAlterSentryRoleAddUsersResponse success) {
       this.success = success;
     }
 
@@ -8208,7 +8604,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((TAlterSentryRoleDeleteUsersResponse)value);
+          setSuccess((TAlterSentryRoleAddUsersResponse)value);
         }
         break;
 
@@ -8241,12 +8637,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof alter_sentry_role_delete_users_result)
-        return this.equals((alter_sentry_role_delete_users_result)that);
+      if (that instanceof alter_sentry_role_add_users_result)
+        return this.equals((alter_sentry_role_add_users_result)that);
       return false;
     }
 
-    public boolean equals(alter_sentry_role_delete_users_result that) {
+    public boolean equals(alter_sentry_role_add_users_result that) {
       if (that == null)
         return false;
 
@@ -8275,7 +8671,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(alter_sentry_role_delete_users_result other) {
+    public int compareTo(alter_sentry_role_add_users_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8309,7 +8705,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("alter_sentry_role_delete_users_result(");
+      StringBuilder sb = new StringBuilder("alter_sentry_role_add_users_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -8347,15 +8743,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class alter_sentry_role_delete_users_resultStandardSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_delete_users_resultStandardScheme getScheme() {
-        return new alter_sentry_role_delete_users_resultStandardScheme();
+    private static class alter_sentry_role_add_users_resultStandardSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_add_users_resultStandardScheme getScheme() {
+        return new alter_sentry_role_add_users_resultStandardScheme();
       }
     }
 
-    private static class alter_sentry_role_delete_users_resultStandardScheme extends StandardScheme<alter_sentry_role_delete_users_result> {
+    private static class alter_sentry_role_add_users_resultStandardScheme extends StandardScheme<alter_sentry_role_add_users_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_delete_users_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_add_users_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8367,7 +8763,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new TAlterSentryRoleDeleteUsersResponse();
+                struct.success = new TAlterSentryRoleAddUsersResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -8383,7 +8779,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_delete_users_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_add_users_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8398,16 +8794,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class alter_sentry_role_delete_users_resultTupleSchemeFactory implements SchemeFactory {
-      public alter_sentry_role_delete_users_resultTupleScheme getScheme() {
-        return new alter_sentry_role_delete_users_resultTupleScheme();
+    private static class alter_sentry_role_add_users_resultTupleSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_add_users_resultTupleScheme getScheme() {
+        return new alter_sentry_role_add_users_resultTupleScheme();
       }
     }
 
-    private static class alter_sentry_role_delete_users_resultTupleScheme extends TupleScheme<alter_sentry_role_delete_users_result> {
+    private static class alter_sentry_role_add_users_resultTupleScheme extends TupleScheme<alter_sentry_role_add_users_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_users_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_users_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -8420,11 +8816,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_users_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_add_users_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new TAlterSentryRoleDeleteUsersResponse();
+          struct.success = new TAlterSentryRoleAddUsersResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -8433,18 +8829,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class list_sentry_roles_by_group_args implements org.apache.thrift.TBase<list_sentry_roles_by_group_args, list_sentry_roles_by_group_args._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_roles_by_group_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_roles_by_group_args");
+  public static class alter_sentry_role_delete_users_args implements org.apache.thrift.TBase<alter_sentry_role_delete_users_args, alter_sentry_role_delete_users_args._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_delete_users_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_delete_users_args");
 
     private static final org.apache.thrift.protocol.TField REQUEST_FIELD_DESC = new org.apache.thrift.protocol.TField("request", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new list_sentry_roles_by_group_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new list_sentry_roles_by_group_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new alter_sentry_role_delete_users_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new alter_sentry_role_delete_users_argsTupleSchemeFactory());
     }
 
-    private TListSentryRolesRequest request; // required
+    private TAlterSentryRoleDeleteUsersRequest request; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -8509,16 +8905,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.REQUEST, new org.apache.thrift.meta_data.FieldMetaData("request", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryRolesRequest.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleDeleteUsersRequest.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_roles_by_group_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_delete_users_args.class, metaDataMap);
     }
 
-    public list_sentry_roles_by_group_args() {
+    public alter_sentry_role_delete_users_args() {
     }
 
-    public list_sentry_roles_by_group_args(
-      TListSentryRolesRequest request)
+    public alter_sentry_role_delete_users_args(
+      TAlterSentryRoleDeleteUsersRequest request)
     {
       this();
       this.request = request;
@@ -8527,14 +8923,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public list_sentry_roles_by_group_args(list_sentry_roles_by_group_args other) {
+    public alter_sentry_role_delete_users_args(alter_sentry_role_delete_users_args other) {
       if (other.isSetRequest()) {
-        this.request = new TListSentryRolesRequest(other.request);
+        this.request = new TAlterSentryRoleDeleteUsersRequest(other.request);
       }
     }
 
-    public list_sentry_roles_by_group_args deepCopy() {
-      return new list_sentry_roles_by_group_args(this);
+    public alter_sentry_role_delete_users_args deepCopy() {
+      return new alter_sentry_role_delete_users_args(this);
     }
 
     @Override
@@ -8542,11 +8938,11 @@ public class SentryPolicyService {
       this.request = null;
     }
 
-    public TListSentryRolesRequest getRequest() {
+    public TAlterSentryRoleDeleteUsersRequest getRequest() {
       return this.request;
     }
 
-    public void setRequest(TListSentryRolesRequest request) {
+    public void setRequest(TAlterSentryRoleDeleteUsersRequest request) {
       this.request = request;
     }
 
@@ -8571,7 +8967,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetRequest();
         } else {
-          setRequest((TListSentryRolesRequest)value);
+          setRequest((TAlterSentryRoleDeleteUsersRequest)value);
         }
         break;
 
@@ -8604,12 +9000,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof list_sentry_roles_by_group_args)
-        return this.equals((list_sentry_roles_by_group_args)that);
+      if (that instanceof alter_sentry_role_delete_users_args)
+        return this.equals((alter_sentry_role_delete_users_args)that);
       return false;
     }
 
-    public boolean equals(list_sentry_roles_by_group_args that) {
+    public boolean equals(alter_sentry_role_delete_users_args that) {
       if (that == null)
         return false;
 
@@ -8638,7 +9034,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(list_sentry_roles_by_group_args other) {
+    public int compareTo(alter_sentry_role_delete_users_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -8672,7 +9068,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("list_sentry_roles_by_group_args(");
+      StringBuilder sb = new StringBuilder("alter_sentry_role_delete_users_args(");
       boolean first = true;
 
       sb.append("request:");
@@ -8710,15 +9106,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class list_sentry_roles_by_group_argsStandardSchemeFactory implements SchemeFactory {
-      public list_sentry_roles_by_group_argsStandardScheme getScheme() {
-        return new list_sentry_roles_by_group_argsStandardScheme();
+    private static class alter_sentry_role_delete_users_argsStandardSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_delete_users_argsStandardScheme getScheme() {
+        return new alter_sentry_role_delete_users_argsStandardScheme();
       }
     }
 
-    private static class list_sentry_roles_by_group_argsStandardScheme extends StandardScheme<list_sentry_roles_by_group_args> {
+    private static class alter_sentry_role_delete_users_argsStandardScheme extends StandardScheme<alter_sentry_role_delete_users_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_roles_by_group_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_delete_users_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -8730,7 +9126,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 1: // REQUEST
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.request = new TListSentryRolesRequest();
+                struct.request = new TAlterSentryRoleDeleteUsersRequest();
                 struct.request.read(iprot);
                 struct.setRequestIsSet(true);
               } else { 
@@ -8746,7 +9142,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_roles_by_group_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_delete_users_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -8761,16 +9157,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class list_sentry_roles_by_group_argsTupleSchemeFactory implements SchemeFactory {
-      public list_sentry_roles_by_group_argsTupleScheme getScheme() {
-        return new list_sentry_roles_by_group_argsTupleScheme();
+    private static class alter_sentry_role_delete_users_argsTupleSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_delete_users_argsTupleScheme getScheme() {
+        return new alter_sentry_role_delete_users_argsTupleScheme();
       }
     }
 
-    private static class list_sentry_roles_by_group_argsTupleScheme extends TupleScheme<list_sentry_roles_by_group_args> {
+    private static class alter_sentry_role_delete_users_argsTupleScheme extends TupleScheme<alter_sentry_role_delete_users_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_group_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_users_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetRequest()) {
@@ -8783,11 +9179,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_group_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_users_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.request = new TListSentryRolesRequest();
+          struct.request = new TAlterSentryRoleDeleteUsersRequest();
           struct.request.read(iprot);
           struct.setRequestIsSet(true);
         }
@@ -8796,18 +9192,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class list_sentry_roles_by_group_result implements org.apache.thrift.TBase<list_sentry_roles_by_group_result, list_sentry_roles_by_group_result._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_roles_by_group_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_roles_by_group_result");
+  public static class alter_sentry_role_delete_users_result implements org.apache.thrift.TBase<alter_sentry_role_delete_users_result, alter_sentry_role_delete_users_result._Fields>, java.io.Serializable, Cloneable, Comparable<alter_sentry_role_delete_users_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("alter_sentry_role_delete_users_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new list_sentry_roles_by_group_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new list_sentry_roles_by_group_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new alter_sentry_role_delete_users_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new alter_sentry_role_delete_users_resultTupleSchemeFactory());
     }
 
-    private TListSentryRolesResponse success; // required
+    private TAlterSentryRoleDeleteUsersResponse success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -8872,16 +9268,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryRolesResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TAlterSentryRoleDeleteUsersResponse.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_roles_by_group_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(alter_sentry_role_delete_users_result.class, metaDataMap);
     }
 
-    public list_sentry_roles_by_group_result() {
+    public alter_sentry_role_delete_users_result() {
     }
 
-    public list_sentry_roles_by_group_result(
-      TListSentryRolesResponse success)
+    public alter_sentry_role_delete_users_result(
+      TAlterSentryRoleDeleteUsersResponse success)
     {
       this();
       this.success = success;
@@ -8890,14 +9286,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public list_sentry_roles_by_group_result(list_sentry_roles_by_group_result other) {
+    public alter_sentry_role_delete_users_result(alter_sentry_role_delete_users_result other) {
       if (other.isSetSuccess()) {
-        this.success = new TListSentryRolesResponse(other.success);
+        this.success = new TAlterSentryRoleDeleteUsersResponse(other.success);
       }
     }
 
-    public list_sentry_roles_by_group_result deepCopy() {
-      return new list_sentry_roles_by_group_result(this);
+    public alter_sentry_role_delete_users_result deepCopy() {
+      return new alter_sentry_role_delete_users_result(this);
     }
 
     @Override
@@ -8905,11 +9301,11 @@ public class SentryPolicyService {
       this.success = null;
     }
 
-    public TListSentryRolesResponse getSuccess() {
+    public TAlterSentryRoleDeleteUsersResponse getSuccess() {
       return this.success;
     }
 
-    public void setSuccess(TListSentryRolesResponse success) {
+    public void setSuccess(TAlterSentryRoleDeleteUsersResponse success) {
       this.success = success;
     }
 
@@ -8934,7 +9330,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((TListSentryRolesResponse)value);
+          setSuccess((TAlterSentryRoleDeleteUsersResponse)value);
         }
         break;
 
@@ -8967,12 +9363,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof list_sentry_roles_by_group_result)
-        return this.equals((list_sentry_roles_by_group_result)that);
+      if (that instanceof alter_sentry_role_delete_users_result)
+        return this.equals((alter_sentry_role_delete_users_result)that);
       return false;
     }
 
-    public boolean equals(list_sentry_roles_by_group_result that) {
+    public boolean equals(alter_sentry_role_delete_users_result that) {
       if (that == null)
         return false;
 
@@ -9001,7 +9397,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(list_sentry_roles_by_group_result other) {
+    public int compareTo(alter_sentry_role_delete_users_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9035,7 +9431,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("list_sentry_roles_by_group_result(");
+      StringBuilder sb = new StringBuilder("alter_sentry_role_delete_users_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -9073,15 +9469,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class list_sentry_roles_by_group_resultStandardSchemeFactory implements SchemeFactory {
-      public list_sentry_roles_by_group_resultStandardScheme getScheme() {
-        return new list_sentry_roles_by_group_resultStandardScheme();
+    private static class alter_sentry_role_delete_users_resultStandardSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_delete_users_resultStandardScheme getScheme() {
+        return new alter_sentry_role_delete_users_resultStandardScheme();
       }
     }
 
-    private static class list_sentry_roles_by_group_resultStandardScheme extends StandardScheme<list_sentry_roles_by_group_result> {
+    private static class alter_sentry_role_delete_users_resultStandardScheme extends StandardScheme<alter_sentry_role_delete_users_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_roles_by_group_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, alter_sentry_role_delete_users_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9093,7 +9489,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new TListSentryRolesResponse();
+                struct.success = new TAlterSentryRoleDeleteUsersResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -9109,7 +9505,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_roles_by_group_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, alter_sentry_role_delete_users_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9124,16 +9520,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class list_sentry_roles_by_group_resultTupleSchemeFactory implements SchemeFactory {
-      public list_sentry_roles_by_group_resultTupleScheme getScheme() {
-        return new list_sentry_roles_by_group_resultTupleScheme();
+    private static class alter_sentry_role_delete_users_resultTupleSchemeFactory implements SchemeFactory {
+      public alter_sentry_role_delete_users_resultTupleScheme getScheme() {
+        return new alter_sentry_role_delete_users_resultTupleScheme();
       }
     }
 
-    private static class list_sentry_roles_by_group_resultTupleScheme extends TupleScheme<list_sentry_roles_by_group_result> {
+    private static class alter_sentry_role_delete_users_resultTupleScheme extends TupleScheme<alter_sentry_role_delete_users_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_group_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_users_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -9146,11 +9542,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_group_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, alter_sentry_role_delete_users_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new TListSentryRolesResponse();
+          struct.success = new TAlterSentryRoleDeleteUsersResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -9159,18 +9555,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class list_sentry_roles_by_user_args implements org.apache.thrift.TBase<list_sentry_roles_by_user_args, list_sentry_roles_by_user_args._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_roles_by_user_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_roles_by_user_args");
+  public static class list_sentry_roles_by_group_args implements org.apache.thrift.TBase<list_sentry_roles_by_group_args, list_sentry_roles_by_group_args._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_roles_by_group_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_roles_by_group_args");
 
     private static final org.apache.thrift.protocol.TField REQUEST_FIELD_DESC = new org.apache.thrift.protocol.TField("request", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new list_sentry_roles_by_user_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new list_sentry_roles_by_user_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new list_sentry_roles_by_group_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new list_sentry_roles_by_group_argsTupleSchemeFactory());
     }
 
-    private TListSentryRolesForUserRequest request; // required
+    private TListSentryRolesRequest request; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -9235,16 +9631,2194 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.REQUEST, new org.apache.thrift.meta_data.FieldMetaData("request", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryRolesForUserRequest.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryRolesRequest.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_roles_by_user_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_roles_by_group_args.class, metaDataMap);
+    }
+
+    public list_sentry_roles_by_group_args() {
+    }
+
+    public list_sentry_roles_by_group_args(
+      TListSentryRolesRequest request)
+    {
+      this();
+      this.request = request;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public list_sentry_roles_by_group_args(list_sentry_roles_by_group_args other) {
+      if (other.isSetRequest()) {
+        this.request = new TListSentryRolesRequest(other.request);
+      }
+    }
+
+    public list_sentry_roles_by_group_args deepCopy() {
+      return new list_sentry_roles_by_group_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.request = null;
+    }
+
+    public TListSentryRolesRequest getRequest() {
+      return this.request;
+    }
+
+    public void setRequest(TListSentryRolesRequest request) {
+      this.request = request;
+    }
+
+    public void unsetRequest() {
+      this.request = null;
+    }
+
+    /** Returns true if field request is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequest() {
+      return this.request != null;
+    }
+
+    public void setRequestIsSet(boolean value) {
+      if (!value) {
+        this.request = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case REQUEST:
+        if (value == null) {
+          unsetRequest();
+        } else {
+          setRequest((TListSentryRolesRequest)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REQUEST:
+        return getRequest();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REQUEST:
+        return isSetRequest();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof list_sentry_roles_by_group_args)
+        return this.equals((list_sentry_roles_by_group_args)that);
+      return false;
+    }
+
+    public boolean equals(list_sentry_roles_by_group_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_request = true && this.isSetRequest();
+      boolean that_present_request = true && that.isSetRequest();
+      if (this_present_request || that_present_request) {
+        if (!(this_present_request && that_present_request))
+          return false;
+        if (!this.request.equals(that.request))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_request = true && (isSetRequest());
+      list.add(present_request);
+      if (present_request)
+        list.add(request);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(list_sentry_roles_by_group_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetRequest()).compareTo(other.isSetRequest());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRequest()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.request, other.request);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("list_sentry_roles_by_group_args(");
+      boolean first = true;
+
+      sb.append("request:");
+      if (this.request == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.request);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (request != null) {
+        request.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class list_sentry_roles_by_group_argsStandardSchemeFactory implements SchemeFactory {
+      public list_sentry_roles_by_group_argsStandardScheme getScheme() {
+        return new list_sentry_roles_by_group_argsStandardScheme();
+      }
+    }
+
+    private static class list_sentry_roles_by_group_argsStandardScheme extends StandardScheme<list_sentry_roles_by_group_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_roles_by_group_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REQUEST
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.request = new TListSentryRolesRequest();
+                struct.request.read(iprot);
+                struct.setRequestIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_roles_by_group_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.request != null) {
+          oprot.writeFieldBegin(REQUEST_FIELD_DESC);
+          struct.request.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class list_sentry_roles_by_group_argsTupleSchemeFactory implements SchemeFactory {
+      public list_sentry_roles_by_group_argsTupleScheme getScheme() {
+        return new list_sentry_roles_by_group_argsTupleScheme();
+      }
+    }
+
+    private static class list_sentry_roles_by_group_argsTupleScheme extends TupleScheme<list_sentry_roles_by_group_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_group_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRequest()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRequest()) {
+          struct.request.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_group_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.request = new TListSentryRolesRequest();
+          struct.request.read(iprot);
+          struct.setRequestIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class list_sentry_roles_by_group_result implements org.apache.thrift.TBase<list_sentry_roles_by_group_result, list_sentry_roles_by_group_result._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_roles_by_group_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_roles_by_group_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new list_sentry_roles_by_group_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new list_sentry_roles_by_group_resultTupleSchemeFactory());
+    }
+
+    private TListSentryRolesResponse success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryRolesResponse.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_roles_by_group_result.class, metaDataMap);
+    }
+
+    public list_sentry_roles_by_group_result() {
+    }
+
+    public list_sentry_roles_by_group_result(
+      TListSentryRolesResponse success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public list_sentry_roles_by_group_result(list_sentry_roles_by_group_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new TListSentryRolesResponse(other.success);
+      }
+    }
+
+    public list_sentry_roles_by_group_result deepCopy() {
+      return new list_sentry_roles_by_group_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public TListSentryRolesResponse getSuccess() {
+      return this.success;
+    }
+
+    public void setSuccess(TListSentryRolesResponse success) {
+      this.success = success;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((TListSentryRolesResponse)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof list_sentry_roles_by_group_result)
+        return this.equals((list_sentry_roles_by_group_result)that);
+      return false;
+    }
+
+    public boolean equals(list_sentry_roles_by_group_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(list_sentry_roles_by_group_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("list_sentry_roles_by_group_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class list_sentry_roles_by_group_resultStandardSchemeFactory implements SchemeFactory {
+      public list_sentry_roles_by_group_resultStandardScheme getScheme() {
+        return new list_sentry_roles_by_group_resultStandardScheme();
+      }
+    }
+
+    private static class list_sentry_roles_by_group_resultStandardScheme extends StandardScheme<list_sentry_roles_by_group_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_roles_by_group_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new TListSentryRolesResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_roles_by_group_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class list_sentry_roles_by_group_resultTupleSchemeFactory implements SchemeFactory {
+      public list_sentry_roles_by_group_resultTupleScheme getScheme() {
+        return new list_sentry_roles_by_group_resultTupleScheme();
+      }
+    }
+
+    private static class list_sentry_roles_by_group_resultTupleScheme extends TupleScheme<list_sentry_roles_by_group_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_group_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_group_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new TListSentryRolesResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class list_sentry_roles_by_user_args implements org.apache.thrift.TBase<list_sentry_roles_by_user_args, list_sentry_roles_by_user_args._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_roles_by_user_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_roles_by_user_args");
+
+    private static final org.apache.thrift.protocol.TField REQUEST_FIELD_DESC = new org.apache.thrift.protocol.TField("request", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new list_sentry_roles_by_user_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new list_sentry_roles_by_user_argsTupleSchemeFactory());
+    }
+
+    private TListSentryRolesForUserRequest request; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REQUEST((short)1, "request");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REQUEST
+            return REQUEST;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REQUEST, new org.apache.thrift.meta_data.FieldMetaData("request", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryRolesForUserRequest.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_roles_by_user_args.class, metaDataMap);
+    }
+
+    public list_sentry_roles_by_user_args() {
+    }
+
+    public list_sentry_roles_by_user_args(
+      TListSentryRolesForUserRequest request)
+    {
+      this();
+      this.request = request;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public list_sentry_roles_by_user_args(list_sentry_roles_by_user_args other) {
+      if (other.isSetRequest()) {
+        this.request = new TListSentryRolesForUserRequest(other.request);
+      }
+    }
+
+    public list_sentry_roles_by_user_args deepCopy() {
+      return new list_sentry_roles_by_user_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.request = null;
+    }
+
+    public TListSentryRolesForUserRequest getRequest() {
+      return this.request;
+    }
+
+    public void setRequest(TListSentryRolesForUserRequest request) {
+      this.request = request;
+    }
+
+    public void unsetRequest() {
+      this.request = null;
+    }
+
+    /** Returns true if field request is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequest() {
+      return this.request != null;
+    }
+
+    public void setRequestIsSet(boolean value) {
+      if (!value) {
+        this.request = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case REQUEST:
+        if (value == null) {
+          unsetRequest();
+        } else {
+          setRequest((TListSentryRolesForUserRequest)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REQUEST:
+        return getRequest();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REQUEST:
+        return isSetRequest();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof list_sentry_roles_by_user_args)
+        return this.equals((list_sentry_roles_by_user_args)that);
+      return false;
+    }
+
+    public boolean equals(list_sentry_roles_by_user_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_request = true && this.isSetRequest();
+      boolean that_present_request = true && that.isSetRequest();
+      if (this_present_request || that_present_request) {
+        if (!(this_present_request && that_present_request))
+          return false;
+        if (!this.request.equals(that.request))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_request = true && (isSetRequest());
+      list.add(present_request);
+      if (present_request)
+        list.add(request);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(list_sentry_roles_by_user_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetRequest()).compareTo(other.isSetRequest());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRequest()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.request, other.request);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("list_sentry_roles_by_user_args(");
+      boolean first = true;
+
+      sb.append("request:");
+      if (this.request == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.request);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (request != null) {
+        request.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class list_sentry_roles_by_user_argsStandardSchemeFactory implements SchemeFactory {
+      public list_sentry_roles_by_user_argsStandardScheme getScheme() {
+        return new list_sentry_roles_by_user_argsStandardScheme();
+      }
+    }
+
+    private static class list_sentry_roles_by_user_argsStandardScheme extends StandardScheme<list_sentry_roles_by_user_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_roles_by_user_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REQUEST
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.request = new TListSentryRolesForUserRequest();
+                struct.request.read(iprot);
+                struct.setRequestIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_roles_by_user_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.request != null) {
+          oprot.writeFieldBegin(REQUEST_FIELD_DESC);
+          struct.request.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class list_sentry_roles_by_user_argsTupleSchemeFactory implements SchemeFactory {
+      public list_sentry_roles_by_user_argsTupleScheme getScheme() {
+        return new list_sentry_roles_by_user_argsTupleScheme();
+      }
+    }
+
+    private static class list_sentry_roles_by_user_argsTupleScheme extends TupleScheme<list_sentry_roles_by_user_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_user_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRequest()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRequest()) {
+          struct.request.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_user_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.request = new TListSentryRolesForUserRequest();
+          struct.request.read(iprot);
+          struct.setRequestIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class list_sentry_roles_by_user_result implements org.apache.thrift.TBase<list_sentry_roles_by_user_result, list_sentry_roles_by_user_result._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_roles_by_user_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_roles_by_user_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new list_sentry_roles_by_user_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new list_sentry_roles_by_user_resultTupleSchemeFactory());
+    }
+
+    private TListSentryRolesResponse success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryRolesResponse.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_roles_by_user_result.class, metaDataMap);
+    }
+
+    public list_sentry_roles_by_user_result() {
+    }
+
+    public list_sentry_roles_by_user_result(
+      TListSentryRolesResponse success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public list_sentry_roles_by_user_result(list_sentry_roles_by_user_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new TListSentryRolesResponse(other.success);
+      }
+    }
+
+    public list_sentry_roles_by_user_result deepCopy() {
+      return new list_sentry_roles_by_user_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public TListSentryRolesResponse getSuccess() {
+      return this.success;
+    }
+
+    public void setSuccess(TListSentryRolesResponse success) {
+      this.success = success;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((TListSentryRolesResponse)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof list_sentry_roles_by_user_result)
+        return this.equals((list_sentry_roles_by_user_result)that);
+      return false;
+    }
+
+    public boolean equals(list_sentry_roles_by_user_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(list_sentry_roles_by_user_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("list_sentry_roles_by_user_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class list_sentry_roles_by_user_resultStandardSchemeFactory implements SchemeFactory {
+      public list_sentry_roles_by_user_resultStandardScheme getScheme() {
+        return new list_sentry_roles_by_user_resultStandardScheme();
+      }
+    }
+
+    private static class list_sentry_roles_by_user_resultStandardScheme extends StandardScheme<list_sentry_roles_by_user_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_roles_by_user_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new TListSentryRolesResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_roles_by_user_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class list_sentry_roles_by_user_resultTupleSchemeFactory implements SchemeFactory {
+      public list_sentry_roles_by_user_resultTupleScheme getScheme() {
+        return new list_sentry_roles_by_user_resultTupleScheme();
+      }
+    }
+
+    private static class list_sentry_roles_by_user_resultTupleScheme extends TupleScheme<list_sentry_roles_by_user_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_user_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_user_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new TListSentryRolesResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class list_sentry_privileges_by_role_args implements org.apache.thrift.TBase<list_sentry_privileges_by_role_args, list_sentry_privileges_by_role_args._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_privileges_by_role_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_privileges_by_role_args");
+
+    private static final org.apache.thrift.protocol.TField REQUEST_FIELD_DESC = new org.apache.thrift.protocol.TField("request", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new list_sentry_privileges_by_role_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new list_sentry_privileges_by_role_argsTupleSchemeFactory());
+    }
+
+    private TListSentryPrivilegesRequest request; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REQUEST((short)1, "request");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REQUEST
+            return REQUEST;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REQUEST, new org.apache.thrift.meta_data.FieldMetaData("request", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryPrivilegesRequest.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_privileges_by_role_args.class, metaDataMap);
+    }
+
+    public list_sentry_privileges_by_role_args() {
+    }
+
+    public list_sentry_privileges_by_role_args(
+      TListSentryPrivilegesRequest request)
+    {
+      this();
+      this.request = request;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public list_sentry_privileges_by_role_args(list_sentry_privileges_by_role_args other) {
+      if (other.isSetRequest()) {
+        this.request = new TListSentryPrivilegesRequest(other.request);
+      }
+    }
+
+    public list_sentry_privileges_by_role_args deepCopy() {
+      return new list_sentry_privileges_by_role_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.request = null;
+    }
+
+    public TListSentryPrivilegesRequest getRequest() {
+      return this.request;
+    }
+
+    public void setRequest(TListSentryPrivilegesRequest request) {
+      this.request = request;
+    }
+
+    public void unsetRequest() {
+      this.request = null;
+    }
+
+    /** Returns true if field request is set (has been assigned a value) and false otherwise */
+    public boolean isSetRequest() {
+      return this.request != null;
+    }
+
+    public void setRequestIsSet(boolean value) {
+      if (!value) {
+        this.request = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case REQUEST:
+        if (value == null) {
+          unsetRequest();
+        } else {
+          setRequest((TListSentryPrivilegesRequest)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case REQUEST:
+        return getRequest();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case REQUEST:
+        return isSetRequest();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof list_sentry_privileges_by_role_args)
+        return this.equals((list_sentry_privileges_by_role_args)that);
+      return false;
+    }
+
+    public boolean equals(list_sentry_privileges_by_role_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_request = true && this.isSetRequest();
+      boolean that_present_request = true && that.isSetRequest();
+      if (this_present_request || that_present_request) {
+        if (!(this_present_request && that_present_request))
+          return false;
+        if (!this.request.equals(that.request))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_request = true && (isSetRequest());
+      list.add(present_request);
+      if (present_request)
+        list.add(request);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(list_sentry_privileges_by_role_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetRequest()).compareTo(other.isSetRequest());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRequest()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.request, other.request);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("list_sentry_privileges_by_role_args(");
+      boolean first = true;
+
+      sb.append("request:");
+      if (this.request == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.request);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (request != null) {
+        request.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class list_sentry_privileges_by_role_argsStandardSchemeFactory implements SchemeFactory {
+      public list_sentry_privileges_by_role_argsStandardScheme getScheme() {
+        return new list_sentry_privileges_by_role_argsStandardScheme();
+      }
+    }
+
+    private static class list_sentry_privileges_by_role_argsStandardScheme extends StandardScheme<list_sentry_privileges_by_role_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_privileges_by_role_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // REQUEST
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.request = new TListSentryPrivilegesRequest();
+                struct.request.read(iprot);
+                struct.setRequestIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_privileges_by_role_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.request != null) {
+          oprot.writeFieldBegin(REQUEST_FIELD_DESC);
+          struct.request.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class list_sentry_privileges_by_role_argsTupleSchemeFactory implements SchemeFactory {
+      public list_sentry_privileges_by_role_argsTupleScheme getScheme() {
+        return new list_sentry_privileges_by_role_argsTupleScheme();
+      }
+    }
+
+    private static class list_sentry_privileges_by_role_argsTupleScheme extends TupleScheme<list_sentry_privileges_by_role_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_by_role_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRequest()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRequest()) {
+          struct.request.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_by_role_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.request = new TListSentryPrivilegesRequest();
+          struct.request.read(iprot);
+          struct.setRequestIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class list_sentry_privileges_by_role_result implements org.apache.thrift.TBase<list_sentry_privileges_by_role_result, list_sentry_privileges_by_role_result._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_privileges_by_role_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_privileges_by_role_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new list_sentry_privileges_by_role_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new list_sentry_privileges_by_role_resultTupleSchemeFactory());
+    }
+
+    private TListSentryPrivilegesResponse success; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryPrivilegesResponse.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_privileges_by_role_result.class, metaDataMap);
+    }
+
+    public list_sentry_privileges_by_role_result() {
+    }
+
+    public list_sentry_privileges_by_role_result(
+      TListSentryPrivilegesResponse success)
+    {
+      this();
+      this.success = success;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public list_sentry_privileges_by_role_result(list_sentry_privileges_by_role_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new TListSentryPrivilegesResponse(other.success);
+      }
+    }
+
+    public list_sentry_privileges_by_role_result deepCopy() {
+      return new list_sentry_privileges_by_role_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+    }
+
+    public TListSentryPrivilegesResponse getSuccess() {
+      return this.success;
+    }
+
+    public void setSuccess(TListSentryPrivilegesResponse success) {
+      this.success = success;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((TListSentryPrivilegesResponse)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof list_sentry_privileges_by_role_result)
+        return this.equals((list_sentry_privileges_by_role_result)that);
+      return false;
+    }
+
+    public boolean equals(list_sentry_privileges_by_role_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(list_sentry_privileges_by_role_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
     }
 
-    public list_sentry_roles_by_user_args() {
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
     }
 
-    public list_sentry_roles_by_user_args(
-      TListSentryRolesForUserRequest request)
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("list_sentry_privileges_by_role_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class list_sentry_privileges_by_role_resultStandardSchemeFactory implements SchemeFactory {
+      public list_sentry_privileges_by_role_resultStandardScheme getScheme() {
+        return new list_sentry_privileges_by_role_resultStandardScheme();
+      }
+    }
+
+    private static class list_sentry_privileges_by_role_resultStandardScheme extends StandardScheme<list_sentry_privileges_by_role_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_privileges_by_role_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new TListSentryPrivilegesResponse();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_privileges_by_role_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class list_sentry_privileges_by_role_resultTupleSchemeFactory implements SchemeFactory {
+      public list_sentry_privileges_by_role_resultTupleScheme getScheme() {
+        return new list_sentry_privileges_by_role_resultTupleScheme();
+      }
+    }
+
+    private static class list_sentry_privileges_by_role_resultTupleScheme extends TupleScheme<list_sentry_privileges_by_role_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_by_role_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_by_role_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.success = new TListSentryPrivilegesResponse();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class list_sentry_privileges_for_provider_args implements org.apache.thrift.TBase<list_sentry_privileges_for_provider_args, list_sentry_privileges_for_provider_args._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_privileges_for_provider_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_privileges_for_provider_args");
+
+    private static final org.apache.thrift.protocol.TField REQUEST_FIELD_DESC = new org.apache.thrift.protocol.TField("request", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new list_sentry_privileges_for_provider_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new list_sentry_privileges_for_provider_argsTupleSchemeFactory());
+    }
+
+    private TListSentryPrivilegesForProviderRequest request; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      REQUEST((short)1, "request");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // REQUEST
+            return REQUEST;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.REQUEST, new org.apache.thrift.meta_data.FieldMetaData("request", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryPrivilegesForProviderRequest.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_privileges_for_provider_args.class, metaDataMap);
+    }
+
+    public list_sentry_privileges_for_provider_args() {
+    }
+
+    public list_sentry_privileges_for_provider_args(
+      TListSentryPrivilegesForProviderRequest request)
     {
       this();
       this.request = request;
@@ -9253,14 +11827,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public list_sentry_roles_by_user_args(list_sentry_roles_by_user_args other) {
+    public list_sentry_privileges_for_provider_args(list_sentry_privileges_for_provider_args other) {
       if (other.isSetRequest()) {
-        this.request = new TListSentryRolesForUserRequest(other.request);
+        this.request = new TListSentryPrivilegesForProviderRequest(other.request);
       }
     }
 
-    public list_sentry_roles_by_user_args deepCopy() {
-      return new list_sentry_roles_by_user_args(this);
+    public list_sentry_privileges_for_provider_args deepCopy() {
+      return new list_sentry_privileges_for_provider_args(this);
     }
 
     @Override
@@ -9268,11 +11842,11 @@ public class SentryPolicyService {
       this.request = null;
     }
 
-    public TListSentryRolesForUserRequest getRequest() {
+    public TListSentryPrivilegesForProviderRequest getRequest() {
       return this.request;
     }
 
-    public void setRequest(TListSentryRolesForUserRequest request) {
+    public void setRequest(TListSentryPrivilegesForProviderRequest request) {
       this.request = request;
     }
 
@@ -9297,7 +11871,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetRequest();
         } else {
-          setRequest((TListSentryRolesForUserRequest)value);
+          setRequest((TListSentryPrivilegesForProviderRequest)value);
         }
         break;
 
@@ -9330,12 +11904,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof list_sentry_roles_by_user_args)
-        return this.equals((list_sentry_roles_by_user_args)that);
+      if (that instanceof list_sentry_privileges_for_provider_args)
+        return this.equals((list_sentry_privileges_for_provider_args)that);
       return false;
     }
 
-    public boolean equals(list_sentry_roles_by_user_args that) {
+    public boolean equals(list_sentry_privileges_for_provider_args that) {
       if (that == null)
         return false;
 
@@ -9364,7 +11938,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(list_sentry_roles_by_user_args other) {
+    public int compareTo(list_sentry_privileges_for_provider_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9398,7 +11972,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("list_sentry_roles_by_user_args(");
+      StringBuilder sb = new StringBuilder("list_sentry_privileges_for_provider_args(");
       boolean first = true;
 
       sb.append("request:");
@@ -9436,15 +12010,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class list_sentry_roles_by_user_argsStandardSchemeFactory implements SchemeFactory {
-      public list_sentry_roles_by_user_argsStandardScheme getScheme() {
-        return new list_sentry_roles_by_user_argsStandardScheme();
+    private static class list_sentry_privileges_for_provider_argsStandardSchemeFactory implements SchemeFactory {
+      public list_sentry_privileges_for_provider_argsStandardScheme getScheme() {
+        return new list_sentry_privileges_for_provider_argsStandardScheme();
       }
     }
 
-    private static class list_sentry_roles_by_user_argsStandardScheme extends StandardScheme<list_sentry_roles_by_user_args> {
+    private static class list_sentry_privileges_for_provider_argsStandardScheme extends StandardScheme<list_sentry_privileges_for_provider_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_roles_by_user_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_privileges_for_provider_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9456,7 +12030,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 1: // REQUEST
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.request = new TListSentryRolesForUserRequest();
+                struct.request = new TListSentryPrivilegesForProviderRequest();
                 struct.request.read(iprot);
                 struct.setRequestIsSet(true);
               } else { 
@@ -9472,7 +12046,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_roles_by_user_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_privileges_for_provider_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9487,16 +12061,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class list_sentry_roles_by_user_argsTupleSchemeFactory implements SchemeFactory {
-      public list_sentry_roles_by_user_argsTupleScheme getScheme() {
-        return new list_sentry_roles_by_user_argsTupleScheme();
+    private static class list_sentry_privileges_for_provider_argsTupleSchemeFactory implements SchemeFactory {
+      public list_sentry_privileges_for_provider_argsTupleScheme getScheme() {
+        return new list_sentry_privileges_for_provider_argsTupleScheme();
       }
     }
 
-    private static class list_sentry_roles_by_user_argsTupleScheme extends TupleScheme<list_sentry_roles_by_user_args> {
+    private static class list_sentry_privileges_for_provider_argsTupleScheme extends TupleScheme<list_sentry_privileges_for_provider_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_user_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_for_provider_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetRequest()) {
@@ -9509,11 +12083,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_user_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_for_provider_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.request = new TListSentryRolesForUserRequest();
+          struct.request = new TListSentryPrivilegesForProviderRequest();
           struct.request.read(iprot);
           struct.setRequestIsSet(true);
         }
@@ -9522,18 +12096,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class list_sentry_roles_by_user_result implements org.apache.thrift.TBase<list_sentry_roles_by_user_result, list_sentry_roles_by_user_result._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_roles_by_user_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_roles_by_user_result");
+  public static class list_sentry_privileges_for_provider_result implements org.apache.thrift.TBase<list_sentry_privileges_for_provider_result, list_sentry_privileges_for_provider_result._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_privileges_for_provider_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_privileges_for_provider_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new list_sentry_roles_by_user_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new list_sentry_roles_by_user_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new list_sentry_privileges_for_provider_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new list_sentry_privileges_for_provider_resultTupleSchemeFactory());
     }
 
-    private TListSentryRolesResponse success; // required
+    private TListSentryPrivilegesForProviderResponse success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -9598,16 +12172,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryRolesResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryPrivilegesForProviderResponse.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_roles_by_user_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_privileges_for_provider_result.class, metaDataMap);
     }
 
-    public list_sentry_roles_by_user_result() {
+    public list_sentry_privileges_for_provider_result() {
     }
 
-    public list_sentry_roles_by_user_result(
-      TListSentryRolesResponse success)
+    public list_sentry_privileges_for_provider_result(
+      TListSentryPrivilegesForProviderResponse success)
     {
       this();
       this.success = success;
@@ -9616,14 +12190,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public list_sentry_roles_by_user_result(list_sentry_roles_by_user_result other) {
+    public list_sentry_privileges_for_provider_result(list_sentry_privileges_for_provider_result other) {
       if (other.isSetSuccess()) {
-        this.success = new TListSentryRolesResponse(other.success);
+        this.success = new TListSentryPrivilegesForProviderResponse(other.success);
       }
     }
 
-    public list_sentry_roles_by_user_result deepCopy() {
-      return new list_sentry_roles_by_user_result(this);
+    public list_sentry_privileges_for_provider_result deepCopy() {
+      return new list_sentry_privileges_for_provider_result(this);
     }
 
     @Override
@@ -9631,11 +12205,11 @@ public class SentryPolicyService {
       this.success = null;
     }
 
-    public TListSentryRolesResponse getSuccess() {
+    public TListSentryPrivilegesForProviderResponse getSuccess() {
       return this.success;
     }
 
-    public void setSuccess(TListSentryRolesResponse success) {
+    public void setSuccess(TListSentryPrivilegesForProviderResponse success) {
       this.success = success;
     }
 
@@ -9660,7 +12234,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((TListSentryRolesResponse)value);
+          setSuccess((TListSentryPrivilegesForProviderResponse)value);
         }
         break;
 
@@ -9693,12 +12267,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof list_sentry_roles_by_user_result)
-        return this.equals((list_sentry_roles_by_user_result)that);
+      if (that instanceof list_sentry_privileges_for_provider_result)
+        return this.equals((list_sentry_privileges_for_provider_result)that);
       return false;
     }
 
-    public boolean equals(list_sentry_roles_by_user_result that) {
+    public boolean equals(list_sentry_privileges_for_provider_result that) {
       if (that == null)
         return false;
 
@@ -9727,7 +12301,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(list_sentry_roles_by_user_result other) {
+    public int compareTo(list_sentry_privileges_for_provider_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -9761,7 +12335,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("list_sentry_roles_by_user_result(");
+      StringBuilder sb = new StringBuilder("list_sentry_privileges_for_provider_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -9799,15 +12373,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class list_sentry_roles_by_user_resultStandardSchemeFactory implements SchemeFactory {
-      public list_sentry_roles_by_user_resultStandardScheme getScheme() {
-        return new list_sentry_roles_by_user_resultStandardScheme();
+    private static class list_sentry_privileges_for_provider_resultStandardSchemeFactory implements SchemeFactory {
+      public list_sentry_privileges_for_provider_resultStandardScheme getScheme() {
+        return new list_sentry_privileges_for_provider_resultStandardScheme();
       }
     }
 
-    private static class list_sentry_roles_by_user_resultStandardScheme extends StandardScheme<list_sentry_roles_by_user_result> {
+    private static class list_sentry_privileges_for_provider_resultStandardScheme extends StandardScheme<list_sentry_privileges_for_provider_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_roles_by_user_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_privileges_for_provider_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -9819,7 +12393,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new TListSentryRolesResponse();
+                struct.success = new TListSentryPrivilegesForProviderResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -9835,7 +12409,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_roles_by_user_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_privileges_for_provider_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -9850,16 +12424,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class list_sentry_roles_by_user_resultTupleSchemeFactory implements SchemeFactory {
-      public list_sentry_roles_by_user_resultTupleScheme getScheme() {
-        return new list_sentry_roles_by_user_resultTupleScheme();
+    private static class list_sentry_privileges_for_provider_resultTupleSchemeFactory implements SchemeFactory {
+      public list_sentry_privileges_for_provider_resultTupleScheme getScheme() {
+        return new list_sentry_privileges_for_provider_resultTupleScheme();
       }
     }
 
-    private static class list_sentry_roles_by_user_resultTupleScheme extends TupleScheme<list_sentry_roles_by_user_result> {
+    private static class list_sentry_privileges_for_provider_resultTupleScheme extends TupleScheme<list_sentry_privileges_for_provider_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_user_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_for_provider_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -9872,11 +12446,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_roles_by_user_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_for_provider_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new TListSentryRolesResponse();
+          struct.success = new TListSentryPrivilegesForProviderResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -9885,18 +12459,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class list_sentry_privileges_by_role_args implements org.apache.thrift.TBase<list_sentry_privileges_by_role_args, list_sentry_privileges_by_role_args._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_privileges_by_role_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_privileges_by_role_args");
+  public static class list_sentry_privileges_for_provider_batch_args implements org.apache.thrift.TBase<list_sentry_privileges_for_provider_batch_args, list_sentry_privileges_for_provider_batch_args._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_privileges_for_provider_batch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_privileges_for_provider_batch_args");
 
     private static final org.apache.thrift.protocol.TField REQUEST_FIELD_DESC = new org.apache.thrift.protocol.TField("request", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new list_sentry_privileges_by_role_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new list_sentry_privileges_by_role_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new list_sentry_privileges_for_provider_batch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new list_sentry_privileges_for_provider_batch_argsTupleSchemeFactory());
     }
 
-    private TListSentryPrivilegesRequest request; // required
+    private TListSentryPrivilegesForProviderBatchRequest request; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -9961,16 +12535,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.REQUEST, new org.apache.thrift.meta_data.FieldMetaData("request", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryPrivilegesRequest.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryPrivilegesForProviderBatchRequest.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_privileges_by_role_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_privileges_for_provider_batch_args.class, metaDataMap);
     }
 
-    public list_sentry_privileges_by_role_args() {
+    public list_sentry_privileges_for_provider_batch_args() {
     }
 
-    public list_sentry_privileges_by_role_args(
-      TListSentryPrivilegesRequest request)
+    public list_sentry_privileges_for_provider_batch_args(
+      TListSentryPrivilegesForProviderBatchRequest request)
     {
       this();
       this.request = request;
@@ -9979,14 +12553,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public list_sentry_privileges_by_role_args(list_sentry_privileges_by_role_args other) {
+    public list_sentry_privileges_for_provider_batch_args(list_sentry_privileges_for_provider_batch_args other) {
       if (other.isSetRequest()) {
-        this.request = new TListSentryPrivilegesRequest(other.request);
+        this.request = new TListSentryPrivilegesForProviderBatchRequest(other.request);
       }
     }
 
-    public list_sentry_privileges_by_role_args deepCopy() {
-      return new list_sentry_privileges_by_role_args(this);
+    public list_sentry_privileges_for_provider_batch_args deepCopy() {
+      return new list_sentry_privileges_for_provider_batch_args(this);
     }
 
     @Override
@@ -9994,11 +12568,11 @@ public class SentryPolicyService {
       this.request = null;
     }
 
-    public TListSentryPrivilegesRequest getRequest() {
+    public TListSentryPrivilegesForProviderBatchRequest getRequest() {
       return this.request;
     }
 
-    public void setRequest(TListSentryPrivilegesRequest request) {
+    public void setRequest(TListSentryPrivilegesForProviderBatchRequest request) {
       this.request = request;
     }
 
@@ -10023,7 +12597,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetRequest();
         } else {
-          setRequest((TListSentryPrivilegesRequest)value);
+          setRequest((TListSentryPrivilegesForProviderBatchRequest)value);
         }
         break;
 
@@ -10056,12 +12630,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof list_sentry_privileges_by_role_args)
-        return this.equals((list_sentry_privileges_by_role_args)that);
+      if (that instanceof list_sentry_privileges_for_provider_batch_args)
+        return this.equals((list_sentry_privileges_for_provider_batch_args)that);
       return false;
     }
 
-    public boolean equals(list_sentry_privileges_by_role_args that) {
+    public boolean equals(list_sentry_privileges_for_provider_batch_args that) {
       if (that == null)
         return false;
 
@@ -10090,7 +12664,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(list_sentry_privileges_by_role_args other) {
+    public int compareTo(list_sentry_privileges_for_provider_batch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10124,7 +12698,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("list_sentry_privileges_by_role_args(");
+      StringBuilder sb = new StringBuilder("list_sentry_privileges_for_provider_batch_args(");
       boolean first = true;
 
       sb.append("request:");
@@ -10162,15 +12736,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class list_sentry_privileges_by_role_argsStandardSchemeFactory implements SchemeFactory {
-      public list_sentry_privileges_by_role_argsStandardScheme getScheme() {
-        return new list_sentry_privileges_by_role_argsStandardScheme();
+    private static class list_sentry_privileges_for_provider_batch_argsStandardSchemeFactory implements SchemeFactory {
+      public list_sentry_privileges_for_provider_batch_argsStandardScheme getScheme() {
+        return new list_sentry_privileges_for_provider_batch_argsStandardScheme();
       }
     }
 
-    private static class list_sentry_privileges_by_role_argsStandardScheme extends StandardScheme<list_sentry_privileges_by_role_args> {
+    private static class list_sentry_privileges_for_provider_batch_argsStandardScheme extends StandardScheme<list_sentry_privileges_for_provider_batch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_privileges_by_role_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_privileges_for_provider_batch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10182,7 +12756,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 1: // REQUEST
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.request = new TListSentryPrivilegesRequest();
+                struct.request = new TListSentryPrivilegesForProviderBatchRequest();
                 struct.request.read(iprot);
                 struct.setRequestIsSet(true);
               } else { 
@@ -10198,7 +12772,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_privileges_by_role_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_privileges_for_provider_batch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10213,16 +12787,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class list_sentry_privileges_by_role_argsTupleSchemeFactory implements SchemeFactory {
-      public list_sentry_privileges_by_role_argsTupleScheme getScheme() {
-        return new list_sentry_privileges_by_role_argsTupleScheme();
+    private static class list_sentry_privileges_for_provider_batch_argsTupleSchemeFactory implements SchemeFactory {
+      public list_sentry_privileges_for_provider_batch_argsTupleScheme getScheme() {
+        return new list_sentry_privileges_for_provider_batch_argsTupleScheme();
       }
     }
 
-    private static class list_sentry_privileges_by_role_argsTupleScheme extends TupleScheme<list_sentry_privileges_by_role_args> {
+    private static class list_sentry_privileges_for_provider_batch_argsTupleScheme extends TupleScheme<list_sentry_privileges_for_provider_batch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_by_role_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_for_provider_batch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetRequest()) {
@@ -10235,11 +12809,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_by_role_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_for_provider_batch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.request = new TListSentryPrivilegesRequest();
+          struct.request = new TListSentryPrivilegesForProviderBatchRequest();
           struct.request.read(iprot);
           struct.setRequestIsSet(true);
         }
@@ -10248,18 +12822,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class list_sentry_privileges_by_role_result implements org.apache.thrift.TBase<list_sentry_privileges_by_role_result, list_sentry_privileges_by_role_result._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_privileges_by_role_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_privileges_by_role_result");
+  public static class list_sentry_privileges_for_provider_batch_result implements org.apache.thrift.TBase<list_sentry_privileges_for_provider_batch_result, list_sentry_privileges_for_provider_batch_result._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_privileges_for_provider_batch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_privileges_for_provider_batch_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new list_sentry_privileges_by_role_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new list_sentry_privileges_by_role_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new list_sentry_privileges_for_provider_batch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new list_sentry_privileges_for_provider_batch_resultTupleSchemeFactory());
     }
 
-    private TListSentryPrivilegesResponse success; // required
+    private TListSentryPrivilegesForProviderBatchResponse success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -10324,16 +12898,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryPrivilegesResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryPrivilegesForProviderBatchResponse.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_privileges_by_role_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_privileges_for_provider_batch_result.class, metaDataMap);
     }
 
-    public list_sentry_privileges_by_role_result() {
+    public list_sentry_privileges_for_provider_batch_result() {
     }
 
-    public list_sentry_privileges_by_role_result(
-      TListSentryPrivilegesResponse success)
+    public list_sentry_privileges_for_provider_batch_result(
+      TListSentryPrivilegesForProviderBatchResponse success)
     {
       this();
       this.success = success;
@@ -10342,14 +12916,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public list_sentry_privileges_by_role_result(list_sentry_privileges_by_role_result other) {
+    public list_sentry_privileges_for_provider_batch_result(list_sentry_privileges_for_provider_batch_result other) {
       if (other.isSetSuccess()) {
-        this.success = new TListSentryPrivilegesResponse(other.success);
+        this.success = new TListSentryPrivilegesForProviderBatchResponse(other.success);
       }
     }
 
-    public list_sentry_privileges_by_role_result deepCopy() {
-      return new list_sentry_privileges_by_role_result(this);
+    public list_sentry_privileges_for_provider_batch_result deepCopy() {
+      return new list_sentry_privileges_for_provider_batch_result(this);
     }
 
     @Override
@@ -10357,11 +12931,11 @@ public class SentryPolicyService {
       this.success = null;
     }
 
-    public TListSentryPrivilegesResponse getSuccess() {
+    public TListSentryPrivilegesForProviderBatchResponse getSuccess() {
       return this.success;
     }
 
-    public void setSuccess(TListSentryPrivilegesResponse success) {
+    public void setSuccess(TListSentryPrivilegesForProviderBatchResponse success) {
       this.success = success;
     }
 
@@ -10386,7 +12960,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((TListSentryPrivilegesResponse)value);
+          setSuccess((TListSentryPrivilegesForProviderBatchResponse)value);
         }
         break;
 
@@ -10419,12 +12993,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof list_sentry_privileges_by_role_result)
-        return this.equals((list_sentry_privileges_by_role_result)that);
+      if (that instanceof list_sentry_privileges_for_provider_batch_result)
+        return this.equals((list_sentry_privileges_for_provider_batch_result)that);
       return false;
     }
 
-    public boolean equals(list_sentry_privileges_by_role_result that) {
+    public boolean equals(list_sentry_privileges_for_provider_batch_result that) {
       if (that == null)
         return false;
 
@@ -10453,7 +13027,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(list_sentry_privileges_by_role_result other) {
+    public int compareTo(list_sentry_privileges_for_provider_batch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10487,7 +13061,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("list_sentry_privileges_by_role_result(");
+      StringBuilder sb = new StringBuilder("list_sentry_privileges_for_provider_batch_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -10525,15 +13099,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class list_sentry_privileges_by_role_resultStandardSchemeFactory implements SchemeFactory {
-      public list_sentry_privileges_by_role_resultStandardScheme getScheme() {
-        return new list_sentry_privileges_by_role_resultStandardScheme();
+    private static class list_sentry_privileges_for_provider_batch_resultStandardSchemeFactory implements SchemeFactory {
+      public list_sentry_privileges_for_provider_batch_resultStandardScheme getScheme() {
+        return new list_sentry_privileges_for_provider_batch_resultStandardScheme();
       }
     }
 
-    private static class list_sentry_privileges_by_role_resultStandardScheme extends StandardScheme<list_sentry_privileges_by_role_result> {
+    private static class list_sentry_privileges_for_provider_batch_resultStandardScheme extends StandardScheme<list_sentry_privileges_for_provider_batch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_privileges_by_role_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_privileges_for_provider_batch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10545,7 +13119,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new TListSentryPrivilegesResponse();
+                struct.success = new TListSentryPrivilegesForProviderBatchResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -10561,7 +13135,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_privileges_by_role_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_privileges_for_provider_batch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10576,16 +13150,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class list_sentry_privileges_by_role_resultTupleSchemeFactory implements SchemeFactory {
-      public list_sentry_privileges_by_role_resultTupleScheme getScheme() {
-        return new list_sentry_privileges_by_role_resultTupleScheme();
+    private static class list_sentry_privileges_for_provider_batch_resultTupleSchemeFactory implements SchemeFactory {
+      public list_sentry_privileges_for_provider_batch_resultTupleScheme getScheme() {
+        return new list_sentry_privileges_for_provider_batch_resultTupleScheme();
       }
     }
 
-    private static class list_sentry_privileges_by_role_resultTupleScheme extends TupleScheme<list_sentry_privileges_by_role_result> {
+    private static class list_sentry_privileges_for_provider_batch_resultTupleScheme extends TupleScheme<list_sentry_privileges_for_provider_batch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_by_role_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_for_provider_batch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -10598,11 +13172,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_by_role_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_for_provider_batch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new TListSentryPrivilegesResponse();
+          struct.success = new TListSentryPrivilegesForProviderBatchResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -10611,18 +13185,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class list_sentry_privileges_for_provider_args implements org.apache.thrift.TBase<list_sentry_privileges_for_provider_args, list_sentry_privileges_for_provider_args._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_privileges_for_provider_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_privileges_for_provider_args");
+  public static class get_sentry_privileges_delta_args implements org.apache.thrift.TBase<get_sentry_privileges_delta_args, get_sentry_privileges_delta_args._Fields>, java.io.Serializable, Cloneable, Comparable<get_sentry_privileges_delta_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("get_sentry_privileges_delta_args");
 
     private static final org.apache.thrift.protocol.TField REQUEST_FIELD_DESC = new org.apache.thrift.protocol.TField("request", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new list_sentry_privileges_for_provider_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new list_sentry_privileges_for_provider_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new get_sentry_privileges_delta_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new get_sentry_privileges_delta_argsTupleSchemeFactory());
     }
 
-    private TListSentryPrivilegesForProviderRequest request; // required
+    private TSentryPrivilegesDeltaRequest request; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -10687,16 +13261,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.REQUEST, new org.apache.thrift.meta_data.FieldMetaData("request", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryPrivilegesForProviderRequest.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TSentryPrivilegesDeltaRequest.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_privileges_for_provider_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(get_sentry_privileges_delta_args.class, metaDataMap);
     }
 
-    public list_sentry_privileges_for_provider_args() {
+    public get_sentry_privileges_delta_args() {
     }
 
-    public list_sentry_privileges_for_provider_args(
-      TListSentryPrivilegesForProviderRequest request)
+    public get_sentry_privileges_delta_args(
+      TSentryPrivilegesDeltaRequest request)
     {
       this();
       this.request = request;
@@ -10705,14 +13279,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public list_sentry_privileges_for_provider_args(list_sentry_privileges_for_provider_args other) {
+    public get_sentry_privileges_delta_args(get_sentry_privileges_delta_args other) {
       if (other.isSetRequest()) {
-        this.request = new TListSentryPrivilegesForProviderRequest(other.request);
+        this.request = new TSentryPrivilegesDeltaRequest(other.request);
       }
     }
 
-    public list_sentry_privileges_for_provider_args deepCopy() {
-      return new list_sentry_privileges_for_provider_args(this);
+    public get_sentry_privileges_delta_args deepCopy() {
+      return new get_sentry_privileges_delta_args(this);
     }
 
     @Override
@@ -10720,11 +13294,11 @@ public class SentryPolicyService {
       this.request = null;
     }
 
-    public TListSentryPrivilegesForProviderRequest getRequest() {
+    public TSentryPrivilegesDeltaRequest getRequest() {
       return this.request;
     }
 
-    public void setRequest(TListSentryPrivilegesForProviderRequest request) {
+    public void setRequest(TSentryPrivilegesDeltaRequest request) {
       this.request = request;
     }
 
@@ -10749,7 +13323,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetRequest();
         } else {
-          setRequest((TListSentryPrivilegesForProviderRequest)value);
+          setRequest((TSentryPrivilegesDeltaRequest)value);
         }
         break;
 
@@ -10782,12 +13356,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof list_sentry_privileges_for_provider_args)
-        return this.equals((list_sentry_privileges_for_provider_args)that);
+      if (that instanceof get_sentry_privileges_delta_args)
+        return this.equals((get_sentry_privileges_delta_args)that);
       return false;
     }
 
-    public boolean equals(list_sentry_privileges_for_provider_args that) {
+    public boolean equals(get_sentry_privileges_delta_args that) {
       if (that == null)
         return false;
 
@@ -10816,7 +13390,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(list_sentry_privileges_for_provider_args other) {
+    public int compareTo(get_sentry_privileges_delta_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -10850,7 +13424,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("list_sentry_privileges_for_provider_args(");
+      StringBuilder sb = new StringBuilder("get_sentry_privileges_delta_args(");
       boolean first = true;
 
       sb.append("request:");
@@ -10888,15 +13462,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class list_sentry_privileges_for_provider_argsStandardSchemeFactory implements SchemeFactory {
-      public list_sentry_privileges_for_provider_argsStandardScheme getScheme() {
-        return new list_sentry_privileges_for_provider_argsStandardScheme();
+    private static class get_sentry_privileges_delta_argsStandardSchemeFactory implements SchemeFactory {
+      public get_sentry_privileges_delta_argsStandardScheme getScheme() {
+        return new get_sentry_privileges_delta_argsStandardScheme();
       }
     }
 
-    private static class list_sentry_privileges_for_provider_argsStandardScheme extends StandardScheme<list_sentry_privileges_for_provider_args> {
+    private static class get_sentry_privileges_delta_argsStandardScheme extends StandardScheme<get_sentry_privileges_delta_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_privileges_for_provider_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, get_sentry_privileges_delta_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -10908,7 +13482,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 1: // REQUEST
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.request = new TListSentryPrivilegesForProviderRequest();
+                struct.request = new TSentryPrivilegesDeltaRequest();
                 struct.request.read(iprot);
                 struct.setRequestIsSet(true);
               } else { 
@@ -10924,7 +13498,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_privileges_for_provider_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, get_sentry_privileges_delta_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -10939,16 +13513,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class list_sentry_privileges_for_provider_argsTupleSchemeFactory implements SchemeFactory {
-      public list_sentry_privileges_for_provider_argsTupleScheme getScheme() {
-        return new list_sentry_privileges_for_provider_argsTupleScheme();
+    private static class get_sentry_privileges_delta_argsTupleSchemeFactory implements SchemeFactory {
+      public get_sentry_privileges_delta_argsTupleScheme getScheme() {
+        return new get_sentry_privileges_delta_argsTupleScheme();
       }
     }
 
-    private static class list_sentry_privileges_for_provider_argsTupleScheme extends TupleScheme<list_sentry_privileges_for_provider_args> {
+    private static class get_sentry_privileges_delta_argsTupleScheme extends TupleScheme<get_sentry_privileges_delta_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_for_provider_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, get_sentry_privileges_delta_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetRequest()) {
@@ -10961,11 +13535,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_for_provider_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, get_sentry_privileges_delta_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.request = new TListSentryPrivilegesForProviderRequest();
+          struct.request = new TSentryPrivilegesDeltaRequest();
           struct.request.read(iprot);
           struct.setRequestIsSet(true);
         }
@@ -10974,18 +13548,18 @@ public class SentryPolicyService {
 
   }
 
-  public static class list_sentry_privileges_for_provider_result implements org.apache.thrift.TBase<list_sentry_privileges_for_provider_result, list_sentry_privileges_for_provider_result._Fields>, java.io.Serializable, Cloneable, Comparable<list_sentry_privileges_for_provider_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("list_sentry_privileges_for_provider_result");
+  public static class get_sentry_privileges_delta_result implements org.apache.thrift.TBase<get_sentry_privileges_delta_result, get_sentry_privileges_delta_result._Fields>, java.io.Serializable, Cloneable, Comparable<get_sentry_privileges_delta_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("get_sentry_privileges_delta_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new list_sentry_privileges_for_provider_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new list_sentry_privileges_for_provider_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new get_sentry_privileges_delta_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new get_sentry_privileges_delta_resultTupleSchemeFactory());
     }
 
-    private TListSentryPrivilegesForProviderResponse success; // required
+    private TSentryPrivilegesDeltaResponse success; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -11050,16 +13624,16 @@ public class SentryPolicyService {
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
       tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TListSentryPrivilegesForProviderResponse.class)));
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, TSentryPrivilegesDeltaResponse.class)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(list_sentry_privileges_for_provider_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(get_sentry_privileges_delta_result.class, metaDataMap);
     }
 
-    public list_sentry_privileges_for_provider_result() {
+    public get_sentry_privileges_delta_result() {
     }
 
-    public list_sentry_privileges_for_provider_result(
-      TListSentryPrivilegesForProviderResponse success)
+    public get_sentry_privileges_delta_result(
+      TSentryPrivilegesDeltaResponse success)
     {
       this();
       this.success = success;
@@ -11068,14 +13642,14 @@ public class SentryPolicyService {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public list_sentry_privileges_for_provider_result(list_sentry_privileges_for_provider_result other) {
+    public get_sentry_privileges_delta_result(get_sentry_privileges_delta_result other) {
       if (other.isSetSuccess()) {
-        this.success = new TListSentryPrivilegesForProviderResponse(other.success);
+        this.success = new TSentryPrivilegesDeltaResponse(other.success);
       }
     }
 
-    public list_sentry_privileges_for_provider_result deepCopy() {
-      return new list_sentry_privileges_for_provider_result(this);
+    public get_sentry_privileges_delta_result deepCopy() {
+      return new get_sentry_privileges_delta_result(this);
     }
 
     @Override
@@ -11083,11 +13657,11 @@ public class SentryPolicyService {
       this.success = null;
     }
 
-    public TListSentryPrivilegesForProviderResponse getSuccess() {
+    public TSentryPrivilegesDeltaResponse getSuccess() {
       return this.success;
     }
 
-    public void setSuccess(TListSentryPrivilegesForProviderResponse success) {
+    public void setSuccess(TSentryPrivilegesDeltaResponse success) {
       this.success = success;
     }
 
@@ -11112,7 +13686,7 @@ public class SentryPolicyService {
         if (value == null) {
           unsetSuccess();
         } else {
-          setSuccess((TListSentryPrivilegesForProviderResponse)value);
+          setSuccess((TSentryPrivilegesDeltaResponse)value);
         }
         break;
 
@@ -11145,12 +13719,12 @@ public class SentryPolicyService {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof list_sentry_privileges_for_provider_result)
-        return this.equals((list_sentry_privileges_for_provider_result)that);
+      if (that instanceof get_sentry_privileges_delta_result)
+        return this.equals((get_sentry_privileges_delta_result)that);
       return false;
     }
 
-    public boolean equals(list_sentry_privileges_for_provider_result that) {
+    public boolean equals(get_sentry_privileges_delta_result that) {
       if (that == null)
         return false;
 
@@ -11179,7 +13753,7 @@ public class SentryPolicyService {
     }
 
     @Override
-    public int compareTo(list_sentry_privileges_for_provider_result other) {
+    public int compareTo(get_sentry_privileges_delta_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -11213,7 +13787,7 @@ public class SentryPolicyService {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("list_sentry_privileges_for_provider_result(");
+      StringBuilder sb = new StringBuilder("get_sentry_privileges_delta_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -11251,15 +13825,15 @@ public class SentryPolicyService {
       }
     }
 
-    private static class list_sentry_privileges_for_provider_resultStandardSchemeFactory implements SchemeFactory {
-      public list_sentry_privileges_for_provider_resultStandardScheme getScheme() {
-        return new list_sentry_privileges_for_provider_resultStandardScheme();
+    private static class get_sentry_privileges_delta_resultStandardSchemeFactory implements SchemeFactory {
+      public get_sentry_privileges_delta_resultStandardScheme getScheme() {
+        return new get_sentry_privileges_delta_resultStandardScheme();
       }
     }
 
-    private static class list_sentry_privileges_for_provider_resultStandardScheme extends StandardScheme<list_sentry_privileges_for_provider_result> {
+    private static class get_sentry_privileges_delta_resultStandardScheme extends StandardScheme<get_sentry_privileges_delta_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, list_sentry_privileges_for_provider_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, get_sentry_privileges_delta_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -11271,7 +13845,7 @@ public class SentryPolicyService {
           switch (schemeField.id) {
             case 0: // SUCCESS
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new TListSentryPrivilegesForProviderResponse();
+                struct.success = new TSentryPrivilegesDeltaResponse();
                 struct.success.read(iprot);
                 struct.setSuccessIsSet(true);
               } else { 
@@ -11287,7 +13861,7 @@ public class SentryPolicyService {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, list_sentry_privileges_for_provider_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, get_sentry_privileges_delta_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -11302,16 +13876,16 @@ public class SentryPolicyService {
 
     }
 
-    private static class list_sentry_privileges_for_provider_resultTupleSchemeFactory implements SchemeFactory {
-      public list_sentry_privileges_for_provider_resultTupleScheme getScheme() {
-        return new list_sentry_privileges_for_provider_resultTupleScheme();
+    private static class get_sentry_privileges_delta_resultTupleSchemeFactory implements SchemeFactory {
+      public get_sentry_privileges_delta_resultTupleScheme getScheme() {
+        return new get_sentry_privileges_delta_resultTupleScheme();
       }
     }
 
-    private static class list_sentry_privileges_for_provider_resultTupleScheme extends TupleScheme<list_sentry_privileges_for_provider_result> {
+    private static class get_sentry_privileges_delta_resultTupleScheme extends TupleScheme<get_sentry_privileges_delta_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_for_provider_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, get_sentry_privileges_delta_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -11324,11 +13898,11 @@ public class SentryPolicyService {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, list_sentry_privileges_for_provider_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, get_sentry_privileges_delta_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new TListSentryPrivilegesForProviderResponse();
+          struct.success = new TSentryPrivilegesDeltaResponse();
           struct.success.read(iprot);
           struct.setSuccessIsSet(true);
         }
@@ -0,0 +1,379 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.provider.db;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.Timer;
+import java.util.TimerTask;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.sentry.core.common.ActiveRoleSet;
+import org.apache.sentry.provider.db.service.model.MSentryPrivilege;
+import org.apache.sentry.provider.db.service.persistent.SentryStore;
+import org.apache.sentry.provider.db.service.thrift.SentryPolicyServiceClient;
+import org.apache.sentry.provider.db.service.thrift.TSentryAuthorizable;
+import org.apache.sentry.provider.db.service.thrift.TSentryMappingData;
+import org.apache.sentry.provider.db.service.thrift.TSentryPrivilege;
+import org.apache.sentry.provider.db.service.thrift.TSentryPrivilegesDelta;
+import org.apache.sentry.service.thrift.SentryServiceClientFactory;
+import org.apache.sentry.service.thrift.ServiceConstants;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Client side copy of the roles and privileges of the Sentry server, used by
+ * {@link SimpleDBProviderBackend} to answer the privilege requests without a RPC.
+ * <p>
+ * The copy is kept up to date in the background with get_sentry_privileges_delta,
+ * which only returns the roles changed since the change ID of the copy (see
+ * {@link SentryStore#getPrivilegesDelta(long)}). The full image is also reloaded
+ * periodically, in case a change was missed.
+ * <p>
+ * The backends of a process share one copy, see {@link #acquire(Configuration)}.
+ */
+public final class PrivilegeImageCache implements AutoCloseable {
+  private static final Logger LOGGER = LoggerFactory.getLogger(PrivilegeImageCache.class);
+
+  /**
+   * Change ID of an empty copy, the server returns the full image for it.
+   */
+  static final long NO_CHANGE_ID = -1L;
+
+  // The copy shared by the backends of the process, and the number of backends using it
+  private static PrivilegeImageCache sharedInstance;
+  private static int sharedRefCount = 0;
+
+  // Timer for getting updates periodically
+  private final Timer timer = new Timer("PrivilegeImageCache", true);
+  private boolean initialized = false;
+
+  private final Configuration conf;
+  private final long updateIntervalMs;
+  private final long fullUpdateIntervalNs;
+  private final int allowedUpdateFailuresCount;
+  private final long idleCloseDelayMs;
+  // Closes the shared copy once it has not been used for idleCloseDelayMs, guarded by
+  // the class lock
+  private TimerTask idleCloseTask;
+
+  private long lastFullUpdateNs = 0;
+  private int consecutiveUpdateFailuresCount = 0;
+
+  /**
+   * The image is never modified once published, updates build a new image sharing the
+   * unchanged roles with the previous one.
+   */
+  private volatile Image image = Image.EMPTY;
+
+  PrivilegeImageCache(Configuration conf) {
+    this.conf = conf;
+    this.updateIntervalMs = conf.getLong(ServiceConstants.ClientConfig.DB_CACHE_UPDATE_INTERVAL_MS,
+        ServiceConstants.ClientConfig.DB_CACHE_UPDATE_INTERVAL_MS_DEFAULT);
+    this.fullUpdateIntervalNs = 1000000L * conf.getLong(
+        ServiceConstants.ClientConfig.DB_CACHE_FULL_UPDATE_INTERVAL_MS,
+        ServiceConstants.ClientConfig.DB_CACHE_FULL_UPDATE_INTERVAL_MS_DEFAULT);
+    this.allowedUpdateFailuresCount = conf.getInt(
+        ServiceConstants.ClientConfig.DB_CACHE_UPDATE_FAILURES_BEFORE_PRIV_REVOKE,
+        ServiceConstants.ClientConfig.DB_CACHE_UPDATE_FAILURES_BEFORE_PRIV_REVOKE_DEFAULT);
+    this.idleCloseDelayMs = conf.getLong(ServiceConstants.ClientConfig.DB_CACHE_IDLE_CLOSE_MS,
+        ServiceConstants.ClientConfig.DB_CACHE_IDLE_CLOSE_MS_DEFAULT);
+  }
+
+  /**
+   * Gets the copy shared by the backends of the process. The first call creates it and
+   * loads the image from the server, so the next ones return at once. The configuration
+   * of the first call is used.
+   * <p>
+   * Each call must be matched by a {@link #release(PrivilegeImageCache)}.
+   *
+   * @param conf the client configuration
+   * @return the shared copy
+   * @throws Exception if the first load of the image fails
+   */
+  static synchronized PrivilegeImageCache acquire(Configuration conf) throws Exception {
+    if (sharedInstance == null) {
+      PrivilegeImageCache cache = new PrivilegeImageCache(conf);
+      try {
+        cache.startUpdateThread(true);
+      } catch (Exception e) {
+        cache.close();
+        throw e;
+      }
+      sharedInstance = cache;
+    }
+    if (sharedInstance.idleCloseTask != null) {
+      sharedInstance.idleCloseTask.cancel();
+      sharedInstance.idleCloseTask = null;
+    }
+    sharedRefCount++;
+    return sharedInstance;
+  }
+
+  /**
+   * Releases a copy returned by {@link #acquire(Configuration)}. Hive creates and closes
+   * a backend per query, so the shared copy is only closed once no backend has used it
+   * for a while, instead of being reloaded by the next query.
+   *
+   * @param cache the copy to release
+   */
+  static synchronized void release(final PrivilegeImageCache cache) {
+    if (cache != sharedInstance || --sharedRefCount > 0) {
+      return;
+    }
+    cache.idleCloseTask = new TimerTask() {
+      public void run() {
+        synchronized (PrivilegeImageCache.class) {
+          if (cache.idleCloseTask == this) {
+            sharedInstance = null;
+            cache.close();
+          }
+        }
+      }
+    };
+    cache.timer.schedule(cache.idleCloseTask, cache.idleCloseDelayMs);
+  }
+
+  @VisibleForTesting
+  static synchronized PrivilegeImageCache getSharedInstance() {
+    return sharedInstance;
+  }
+
+  synchronized void startUpdateThread(boolean blockUntilFirstReload) throws Exception {
+    if (blockUntilFirstReload) {
+      reloadData();
+    }
+
+    if (initialized) {
+      LOGGER.info("Already initialized");
+      return;
+    }
+
+    initialized = true;
+    timer.scheduleAtFixedRate(
+        new TimerTask() {
+          public void run() {
+            try {
+              reloadData();
+            } catch (Exception e) {
+              LOGGER.warn("Exception while updating privileges from the Sentry server", e);
+              revokeAllPrivilegesIfRequired();
+            }
+          }
+        },
+        blockUntilFirstReload ? updateIntervalMs : 0,
+        updateIntervalMs);
+  }
+
+  private synchronized void revokeAllPrivilegesIfRequired() {
+    if (++consecutiveUpdateFailuresCount > allowedUpdateFailuresCount) {
+      LOGGER.error("Failed to update roles and privileges cache for " + consecutiveUpdateFailuresCount
+          + " times. Revoking all privileges from cache, which will cause all authorization"
+          + " requests to fail.");
+      consecutiveUpdateFailuresCount = 0;
+      image = Image.EMPTY;
+    }
+  }
+
+  private synchronized void reloadData() throws Exception {
+    long changeId = image.changeId;
+    boolean fullUpdate = System.nanoTime() - lastFullUpdateNs > fullUpdateIntervalNs;
+    if (fullUpdate) {
+      changeId = NO_CHANGE_ID;
+    }
+    try (SentryPolicyServiceClient client = SentryServiceClientFactory.create(conf)) {
+      update(client.getPrivilegesDelta(changeId));
+    }
+    if (fullUpdate) {
+      lastFullUpdateNs = System.nanoTime();
+    }
+    consecutiveUpdateFailuresCount = 0;
+  }
+
+  /**
+   * Applies a delta returned by the server: the full image replaces the copy, otherwise
+   * the changed roles replace the ones of the copy.
+   */
+  @VisibleForTesting
+  synchronized void update(TSentryPrivilegesDelta delta) {
+    TSentryMappingData mappingData = delta.getMappingData();
+    Map<String, Set<String>> groupRoles = emptyIfNull(mappingData.getGroupRolesMap());
+    Map<String, Set<String>> userRoles = emptyIfNull(mappingData.getUserRolesMap());
+    Map<String, Set<TSentryPrivilege>> rolePrivileges =
+        emptyIfNull(mappingData.getRolePrivilegesMap());
+    Image current = image;
+    if (delta.isFullImage()) {
+      image = new Image(delta.getChangeId(),
+          replaceRoles(Collections.<String, Set<String>>emptyMap(),
+              Collections.<String>emptySet(), groupRoles),
+          replaceRoles(Collections.<String, Set<String>>emptyMap(),
+              Collections.<String>emptySet(), userRoles),
+          toPrivileges(rolePrivileges));
+    } else if (delta.getChangedRolesSize() > 0) {
+      Set<String> changedRoles = delta.getChangedRoles();
+      Map<String, List<MSentryPrivilege>> newRolePrivileges =
+          new HashMap<>(current.rolePrivileges);
+      newRolePrivileges.keySet().removeAll(changedRoles);
+      newRolePrivileges.putAll(toPrivileges(rolePrivileges));
+      image = new Image(delta.getChangeId(),
+          replaceRoles(current.groupRoles, changedRoles, groupRoles),
+          replaceRoles(current.userRoles, changedRoles, userRoles),
+          newRolePrivileges);
+    } else if (delta.getChangeId() != current.changeId) {
+      image = new Image(delta.getChangeId(), current.groupRoles, current.userRoles,
+          current.rolePrivileges);
+    }
+  }
+
+  /**
+   * @return a copy of the group (or user) to roles map where the changed roles
+   * are first removed then the ones of the delta added.
+   */
+  private static Map<String, Set<String>> replaceRoles(Map<String, Set<String>> current,
+      Set<String> changedRoles, Map<String, Set<String>> delta) {
+    Map<String, Set<String>> result = new HashMap<>();
+    for (Map.Entry<String, Set<String>> entry : current.entrySet()) {
+      Set<String> roles = new HashSet<>(entry.getValue());
+      roles.removeAll(changedRoles);
+      if (!roles.isEmpty()) {
+        result.put(entry.getKey(), roles);
+      }
+    }
+    for (Map.Entry<String, Set<String>> entry : delta.entrySet()) {
+      Set<String> roles = result.get(entry.getKey());
+      if (roles == null) {
+        roles = new HashSet<>();
+        result.put(entry.getKey(), roles);
+      }
+      roles.addAll(SentryStore.toTrimedLower(entry.getValue()));
+    }
+    return result;
+  }
+
+  private static Map<String, List<MSentryPrivilege>> toPrivileges(
+      Map<String, Set<TSentryPrivilege>> rolePrivileges) {
+    Map<String, List<MSentryPrivilege>> result = new HashMap<>();
+    for (Map.Entry<String, Set<TSentryPrivilege>> entry : rolePrivileges.entrySet()) {
+      List<MSentryPrivilege> privileges = new ArrayList<>(entry.getValue().size());
+      for (TSentryPrivilege privilege : entry.getValue()) {
+        privileges.add(new MSentryPrivilege(privilege.getPrivilegeScope(),
+            privilege.getServerName(), privilege.getDbName(), privilege.getTableName(),
+            privilege.getColumnName(), privilege.getURI(), privilege.getAction()));
+      }
+      result.put(entry.getKey().trim().toLowerCase(), privileges);
+    }
+    return result;
+  }
+
+  private static <V> Map<String, V> emptyIfNull(Map<String, V> map) {
+    return map == null ? Collections.<String, V>emptyMap() : map;
+  }
+
+  /**
+   * Same result as list_sentry_privileges_for_provider, computed from the copy.
+   */
+  Set<String> listPrivileges(Set<String> groups, Set<String> users, ActiveRoleSet roleSet,
+      TSentryAuthorizable authHierarchy) {
+    Image current = image;
+    Set<String> roles = getRoles(current, groups, users, roleSet);
+    Set<String> result = new HashSet<>();
+    String server = authHierarchy == null || authHierarchy.getServer() == null
+        ? null : authHierarchy.getServer().trim().toLowerCase();
+    boolean hasAnyServerPrivileges = false;
+    for (String role : roles) {
+      List<MSentryPrivilege> privileges = current.rolePrivileges.get(role);
+      if (privileges == null) {
+        continue;
+      }
+      for (MSentryPrivilege privilege : privileges) {
+        if (authHierarchy == null || SentryStore.matchesAuthorizable(privilege, authHierarchy)) {
+          result.add(SentryStore.toAuthorizable(privilege));
+        } else if (privilege.getServerName().equals(server)) {
+          hasAnyServerPrivileges = true;
+        }
+      }
+    }
+    if (result.isEmpty() && hasAnyServerPrivileges) {
+      // Same as the server: the access to the 'default' Db requires a privilege
+      // on at least one object of the server
+      result.add("server=+");
+    }
+    return result;
+  }
+
+  private static Set<String> getRoles(Image current, Set<String> groups, Set<String> users,
+      ActiveRoleSet roleSet) {
+    Set<String> roles = new HashSet<>();
+    addRoles(roles, current.groupRoles, groups);
+    addRoles(roles, current.userRoles, users);
+    if (!roleSet.isAll()) {
+      roles.retainAll(SentryStore.toTrimedLower(roleSet.getRoles()));
+    }
+    return roles;
+  }
+
+  private static void addRoles(Set<String> roles, Map<String, Set<String>> rolesMap,
+      Set<String> names) {
+    if (names == null) {
+      return;
+    }
+    for (String name : names) {
+      Set<String> nameRoles = rolesMap.get(name);
+      if (nameRoles != null) {
+        roles.addAll(nameRoles);
+      }
+    }
+  }
+
+  @VisibleForTesting
+  long getChangeId() {
+    return image.changeId;
+  }
+
+  @Override
+  public void close() {
+    timer.cancel();
+    LOGGER.info("Closed privilege image cache");
+  }
+
+  private static final class Image {
+    static final Image EMPTY = new Image(NO_CHANGE_ID,
+        Collections.<String, Set<String>>emptyMap(),
+        Collections.<String, Set<String>>emptyMap(),
+        Collections.<String, List<MSentryPrivilege>>emptyMap());
+
+    final long changeId;
+    final Map<String, Set<String>> groupRoles;
+    final Map<String, Set<String>> userRoles;
+    final Map<String, List<MSentryPrivilege>> rolePrivileges;
+
+    Image(long changeId, Map<String, Set<String>> groupRoles,
+        Map<String, Set<String>> userRoles, Map<String, List<MSentryPrivilege>> rolePrivileges) {
+      this.changeId = changeId;
+      this.groupRoles = groupRoles;
+      this.userRoles = userRoles;
+      this.rolePrivileges = rolePrivileges;
+    }
+  }
+}
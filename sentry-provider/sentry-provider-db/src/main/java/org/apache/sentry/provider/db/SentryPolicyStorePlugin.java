@@ -32,6 +32,7 @@ import org.apache.sentry.provider.db.service.thrift.TRenamePrivilegesRequest;
 import org.apache.sentry.provider.db.service.thrift.TSentryPrivilege;
 
 import java.util.Map;
+import java.util.Set;
 
 import static org.apache.sentry.hdfs.Updateable.Update;
 
@@ -67,6 +68,22 @@ public interface SentryPolicyStorePlugin {
   void onAlterSentryRoleRevokePrivilege(TAlterSentryRoleRevokePrivilegeRequest tRequest,
         Map<TSentryPrivilege, Update> privilegesUpdateMap) throws SentryPluginException;
 
+  /**
+   * Generate a single update for the grant of the privileges to each role, persisted as
+   * one delta along with the whole batch.
+   * @return the update, or null if none of the privileges has a delta
+   */
+  Update onAlterSentryRolesGrantPrivileges(Map<String, Set<TSentryPrivilege>> rolePrivileges)
+      throws SentryPluginException;
+
+  /**
+   * Generate a single update for the revoke of the privileges from each role, persisted
+   * as one delta along with the whole batch.
+   * @return the update, or null if none of the privileges has a delta
+   */
+  Update onAlterSentryRolesRevokePrivileges(Map<String, Set<TSentryPrivilege>> rolePrivileges)
+      throws SentryPluginException;
+
   Update onDropSentryRole(TDropSentryRoleRequest tRequest) throws SentryPluginException;
 
   Update onRenameSentryPrivilege(TRenamePrivilegesRequest request)
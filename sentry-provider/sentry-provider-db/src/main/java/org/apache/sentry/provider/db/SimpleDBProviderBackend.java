@@ -16,6 +16,12 @@
  */
 package org.apache.sentry.provider.db;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.apache.hadoop.conf.Configuration;
@@ -25,12 +31,15 @@ import org.apache.sentry.core.common.exception.SentryConfigurationException;
 import org.apache.sentry.provider.common.ProviderBackend;
 import org.apache.sentry.provider.common.ProviderBackendContext;
 import org.apache.sentry.provider.db.service.thrift.SentryPolicyServiceClient;
+import org.apache.sentry.provider.db.service.thrift.SentryPolicyServiceClientDefaultImpl;
+import org.apache.sentry.provider.db.service.thrift.TSentryAuthorizable;
 import org.apache.sentry.service.thrift.SentryServiceClientFactory;
 import org.apache.sentry.service.thrift.ServiceConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
 
 public class SimpleDBProviderBackend implements ProviderBackend {
 
@@ -40,6 +49,8 @@ public class SimpleDBProviderBackend implements ProviderBackend {
   private Configuration conf;
   private int retryCount;
   private int retryIntervalSec;
+  private final boolean enableCaching;
+  private PrivilegeImageCache privilegeCache;
 
   public SimpleDBProviderBackend(Configuration conf, String resourcePath) throws Exception { //NOPMD
     // DB Provider doesn't use policy file path
@@ -50,13 +61,20 @@ public class SimpleDBProviderBackend implements ProviderBackend {
     this.conf = conf;
     this.retryCount = conf.getInt(ServiceConstants.ClientConfig.RETRY_COUNT_CONF, ServiceConstants.ClientConfig.RETRY_COUNT_DEFAULT);
     this.retryIntervalSec = conf.getInt(ServiceConstants.ClientConfig.RETRY_INTERVAL_SEC_CONF, ServiceConstants.ClientConfig.RETRY_INTERVAL_SEC_DEFAULT);
+    this.enableCaching = conf.getBoolean(ServiceConstants.ClientConfig.DB_CACHE_ENABLED, ServiceConstants.ClientConfig.DB_CACHE_ENABLED_DEFAULT);
   }
   /**
    * {@inheritDoc}
    */
   @Override
   public void initialize(ProviderBackendContext context) {
-    //Noop
+    if (enableCaching && privilegeCache == null) {
+      try {
+        privilegeCache = PrivilegeImageCache.acquire(conf);
+      } catch (Exception e) {
+        throw new RuntimeException("Failed to load the privileges from the Sentry server", e);
+      }
+    }
   }
 
   /**
@@ -74,6 +92,11 @@ public class SimpleDBProviderBackend implements ProviderBackend {
   @Override
   public ImmutableSet<String> getPrivileges(Set<String> groups, Set<String> users,
       ActiveRoleSet roleSet, Authorizable... authorizableHierarchy) {
+    if (privilegeCache != null) {
+      return ImmutableSet.copyOf(privilegeCache.listPrivileges(groups, users, roleSet,
+          SentryPolicyServiceClientDefaultImpl.setupSentryAuthorizable(
+              Arrays.asList(authorizableHierarchy))));
+    }
     int retries = Math.max(retryCount + 1, 1); // if customer configs retryCount as Integer.MAX_VALUE, try only once
     while (retries > 0) {
       retries--;
@@ -102,6 +125,67 @@ public class SimpleDBProviderBackend implements ProviderBackend {
     return ImmutableSet.of();
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public List<ImmutableSet<String>> getPrivilegesBatch(Set<String> groups, Set<String> users,
+      ActiveRoleSet roleSet, List<? extends List<? extends Authorizable>> authorizableHierarchies) {
+    Map<TSentryAuthorizable, Set<String>> privilegesByAuth = Collections.emptyMap();
+    if (!authorizableHierarchies.isEmpty()) {
+      privilegesByAuth = listPrivilegesForProviderBatch(groups, users, roleSet,
+          Sets.<List<? extends Authorizable>>newHashSet(authorizableHierarchies));
+    }
+    List<ImmutableSet<String>> result = new ArrayList<>(authorizableHierarchies.size());
+    for (List<? extends Authorizable> authorizableHierarchy : authorizableHierarchies) {
+      Set<String> privileges = privilegesByAuth.get(
+          SentryPolicyServiceClientDefaultImpl.setupSentryAuthorizable(authorizableHierarchy));
+      result.add(privileges == null ? ImmutableSet.<String>of() : ImmutableSet.copyOf(privileges));
+    }
+    return result;
+  }
+
+  private Map<TSentryAuthorizable, Set<String>> listPrivilegesForProviderBatch(
+      Set<String> groups, Set<String> users, ActiveRoleSet roleSet,
+      Set<List<? extends Authorizable>> authorizableHierarchies) {
+    if (privilegeCache != null) {
+      Map<TSentryAuthorizable, Set<String>> privilegesByAuth = new HashMap<>();
+      for (List<? extends Authorizable> authorizableHierarchy : authorizableHierarchies) {
+        TSentryAuthorizable authorizable =
+            SentryPolicyServiceClientDefaultImpl.setupSentryAuthorizable(authorizableHierarchy);
+        privilegesByAuth.put(authorizable,
+            privilegeCache.listPrivileges(groups, users, roleSet, authorizable));
+      }
+      return privilegesByAuth;
+    }
+    int retries = Math.max(retryCount + 1, 1); // if customer configs retryCount as Integer.MAX_VALUE, try only once
+    while (retries > 0) {
+      retries--;
+      try (SentryPolicyServiceClient policyServiceClient =
+                   SentryServiceClientFactory.create(conf)) {
+        return policyServiceClient.listPrivilegesForProviderBatch(groups, users, roleSet,
+            authorizableHierarchies);
+      } catch (Exception e) {
+        //TODO: differentiate transient errors and permanent errors
+        String msg = "Unable to obtain privileges from server: " + e.getMessage() + ".";
+        if (retries > 0) {
+          LOGGER.warn(msg +  " Will retry for " + retries + " time(s)");
+        } else {
+          LOGGER.error(msg, e);
+        }
+        if (retries > 0) {
+          try {
+            Thread.sleep(retryIntervalSec * 1000);
+          } catch (InterruptedException e1) {
+            LOGGER.info("Sleeping is interrupted.", e1);
+          }
+        }
+      }
+    }
+
+    return Collections.emptyMap();
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -112,7 +196,10 @@ public class SimpleDBProviderBackend implements ProviderBackend {
 
   @Override
   public void close() {
-    //Noop
+    if (privilegeCache != null) {
+      PrivilegeImageCache.release(privilegeCache);
+      privilegeCache = null;
+    }
   }
 
   /**
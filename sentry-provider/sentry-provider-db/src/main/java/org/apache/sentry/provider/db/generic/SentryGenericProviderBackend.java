@@ -20,6 +20,8 @@ package org.apache.sentry.provider.db.generic;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
 
 import org.apache.hadoop.conf.Configuration;
@@ -174,6 +176,14 @@ public class SentryGenericProviderBackend extends CacheProvider implements Provi
     return getPrivileges(groups, roleSet);
   }
 
+  @Override
+  public List<ImmutableSet<String>> getPrivilegesBatch(Set<String> groups, Set<String> users,
+      ActiveRoleSet roleSet, List<? extends List<? extends Authorizable>> authorizableHierarchies) {
+    // The privileges for users are not filtered by authorizable, all the hierarchies get the same
+    ImmutableSet<String> privileges = getPrivileges(groups, users, roleSet);
+    return Collections.nCopies(authorizableHierarchies.size(), privileges);
+  }
+
   @Override
   public void close() {
   }
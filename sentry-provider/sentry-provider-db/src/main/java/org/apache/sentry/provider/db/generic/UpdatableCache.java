@@ -23,7 +23,9 @@ import org.apache.sentry.service.thrift.ServiceConstants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.Timer;
 import java.util.TimerTask;
@@ -44,9 +46,17 @@ public final class UpdatableCache implements TableCache, AutoCloseable {
   private final int allowedUpdateFailuresCount;
   private final Configuration conf;
   private final TSentryPrivilegeConverter tSentryPrivilegeConverter;
+  private final boolean deltaEnabled;
 
   private volatile long lastRefreshedNs = 0;
   private int consecutiveUpdateFailuresCount = 0;
+
+  // Roles loaded with the delta API, and the change ID they are current with.
+  // Only accessed by the thread reloading the data.
+  private long lastChangeId = -1;
+  private Map<String, Set<String>> roleGroups = new HashMap<>();
+  private Map<String, Set<String>> rolePrivileges = new HashMap<>();
+  private Table<String, String, Set<String>> deltaTable;
   /**
    * Sparse table where group is the row key and role is the cell.
    * The value is the set of privileges located in the cell. For example,
@@ -83,6 +93,7 @@ public final class UpdatableCache implements TableCache, AutoCloseable {
     // check caching configuration
     this.cacheTtlNs = TimeUnit.MILLISECONDS.toNanos(conf.getLong(ServiceConstants.ClientConfig.CACHE_TTL_MS, ServiceConstants.ClientConfig.CACHING_TTL_MS_DEFAULT));
     this.allowedUpdateFailuresCount = conf.getInt(ServiceConstants.ClientConfig.CACHE_UPDATE_FAILURES_BEFORE_PRIV_REVOKE, ServiceConstants.ClientConfig.CACHE_UPDATE_FAILURES_BEFORE_PRIV_REVOKE_DEFAULT);
+    this.deltaEnabled = conf.getBoolean(ServiceConstants.ClientConfig.CACHE_DELTA_ENABLED, ServiceConstants.ClientConfig.CACHE_DELTA_ENABLED_DEFAULT);
   }
 
   @Override
@@ -96,6 +107,9 @@ public final class UpdatableCache implements TableCache, AutoCloseable {
    * @return cache replica with latest values
    */
   private Table<String, String, Set<String>> loadFromRemote() throws Exception {
+    if (deltaEnabled) {
+      return loadDeltaFromRemote();
+    }
     Table<String, String, Set<String>> tempCache = HashBasedTable.create();
     String requestor;
     requestor = UserGroupInformation.getLoginUser().getShortUserName();
@@ -122,6 +136,72 @@ public final class UpdatableCache implements TableCache, AutoCloseable {
     }
   }
 
+  /**
+   * Fetch the roles changed since the last reload in a single request and apply
+   * them to the local copy of the roles. The server sends all the roles when it
+   * can't tell what has changed.
+   *
+   * @return cache replica with latest values
+   */
+  private Table<String, String, Set<String>> loadDeltaFromRemote() throws Exception {
+    String requestor = UserGroupInformation.getLoginUser().getShortUserName();
+    TSentryRolePrivilegesDelta delta;
+    try(SentryGenericServiceClient client = getClient()) {
+      delta = client.listPrivilegesDelta(requestor, componentType, serviceName, lastChangeId);
+    }
+
+    if (!delta.isFullImage() && delta.getRoles().isEmpty()
+        && (delta.getChangedRoles() == null || delta.getChangedRoles().isEmpty())
+        && deltaTable != null) {
+      LOGGER.debug("No role changes after change ID {}", lastChangeId);
+      lastChangeId = delta.getChangeId();
+      return deltaTable;
+    }
+
+    Map<String, Set<String>> newRoleGroups;
+    Map<String, Set<String>> newRolePrivileges;
+    if (delta.isFullImage()) {
+      newRoleGroups = new HashMap<>();
+      newRolePrivileges = new HashMap<>();
+    } else {
+      newRoleGroups = new HashMap<>(roleGroups);
+      newRolePrivileges = new HashMap<>(rolePrivileges);
+      if (delta.getChangedRoles() != null) {
+        for (String roleName : delta.getChangedRoles()) {
+          newRoleGroups.remove(roleName);
+          newRolePrivileges.remove(roleName);
+        }
+      }
+    }
+    for (TSentryRolePrivileges role : delta.getRoles()) {
+      Set<String> privileges = new HashSet<>();
+      if (role.getPrivileges() != null) {
+        for (TSentryPrivilege tSentryPrivilege : role.getPrivileges()) {
+          privileges.add(tSentryPrivilegeConverter.toString(tSentryPrivilege));
+        }
+      }
+      newRoleGroups.put(role.getRoleName(), role.getGroups() == null ?
+          new HashSet<String>() : role.getGroups());
+      newRolePrivileges.put(role.getRoleName(), privileges);
+    }
+
+    Table<String, String, Set<String>> tempCache = HashBasedTable.create();
+    for (Map.Entry<String, Set<String>> entry : newRoleGroups.entrySet()) {
+      String roleName = entry.getKey();
+      for (String group : entry.getValue()) {
+        tempCache.put(group, roleName, new HashSet<>(newRolePrivileges.get(roleName)));
+      }
+    }
+    LOGGER.debug("Applied {} roles up to change ID {}", delta.getRoles().size(),
+        delta.getChangeId());
+
+    roleGroups = newRoleGroups;
+    rolePrivileges = newRolePrivileges;
+    lastChangeId = delta.getChangeId();
+    deltaTable = tempCache;
+    return tempCache;
+  }
+
   /**
    *  The Sentry-296(generate client for connection pooling) has already finished development and reviewed by now. When it
    *  was committed to master, the getClient method was needed to refactor using the connection pool
@@ -17,13 +17,18 @@
  */
 package org.apache.sentry.provider.db.generic.service.persistent;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.jdo.PersistenceManager;
+import javax.jdo.Query;
 
 import org.apache.hadoop.conf.Configuration;
 import org.apache.sentry.core.common.exception.SentryUserException;
@@ -32,6 +37,8 @@ import org.apache.sentry.core.common.exception.SentryAccessDeniedException;
 import org.apache.sentry.core.common.exception.SentryGrantDeniedException;
 import org.apache.sentry.core.common.exception.SentryInvalidInputException;
 import org.apache.sentry.core.common.exception.SentryNoSuchObjectException;
+import org.apache.sentry.provider.db.generic.service.persistent.RolePrivilegesDelta.RolePrivileges;
+import org.apache.sentry.provider.db.service.model.MSentryGMChange;
 import org.apache.sentry.provider.db.service.model.MSentryGMPrivilege;
 import org.apache.sentry.provider.db.service.model.MSentryGroup;
 import org.apache.sentry.provider.db.service.model.MSentryRole;
@@ -129,6 +136,7 @@ public class DelegateSentryStore implements SentryStoreLayer {
           grantOptionCheck(privilege, grantorPrincipal, pm);
 
           privilegeOperator.grantPrivilege(privilege, mRole, pm);
+          SentryStore.persistGMChangesCore(pm, Collections.singleton(trimmedRole));
           return null;
         }
       });
@@ -153,6 +161,7 @@ public class DelegateSentryStore implements SentryStoreLayer {
           grantOptionCheck(privilege, grantorPrincipal, pm);
 
           privilegeOperator.revokePrivilege(privilege, mRole, pm);
+          SentryStore.persistGMChangesCore(pm, Collections.singleton(trimmedRole));
           return null;
         }
       });
@@ -180,8 +189,10 @@ public class DelegateSentryStore implements SentryStoreLayer {
         new TransactionBlock() {
           public Object execute(PersistenceManager pm) throws Exception {
             pm.setDetachAllOnCommit(false); // No need to detach objects
-            privilegeOperator.renamePrivilege(toTrimmedLower(component), toTrimmedLower(service),
+            Set<String> changedRoles = privilegeOperator.renamePrivilege(
+                toTrimmedLower(component), toTrimmedLower(service),
                 oldAuthorizables, newAuthorizables, requestor, pm);
+            SentryStore.persistGMChangesCore(pm, changedRoles);
             return null;
           }
         });
@@ -197,7 +208,8 @@ public class DelegateSentryStore implements SentryStoreLayer {
         new TransactionBlock() {
           public Object execute(PersistenceManager pm) throws Exception {
             pm.setDetachAllOnCommit(false); // No need to detach objects
-            privilegeOperator.dropPrivilege(privilege, pm);
+            Set<String> changedRoles = privilegeOperator.dropPrivilege(privilege, pm);
+            SentryStore.persistGMChangesCore(pm, changedRoles);
             return null;
           }
         });
@@ -389,7 +401,145 @@ public class DelegateSentryStore implements SentryStoreLayer {
       });
   }
 
-   @Override
+  @Override
+  public RolePrivilegesDelta getRolePrivilegesDelta(final String component,
+      final String service, final long changeId) throws Exception {
+    Preconditions.checkNotNull(component);
+    Preconditions.checkNotNull(service);
+
+    return delegate.getTransactionManager().executeTransaction(
+      new TransactionBlock<RolePrivilegesDelta>() {
+        public RolePrivilegesDelta execute(PersistenceManager pm) throws Exception {
+          pm.setDetachAllOnCommit(false); // No need to detach objects
+          String lComponent = toTrimmedLower(component);
+          String lService = toTrimmedLower(service);
+          long lastChangeId = SentryStore.getLastProcessedGMChangeIDCore(pm);
+
+          // Collect the roles changed after the requested change ID. A full image
+          // is returned when the caller has no image yet, or when some of the
+          // changes it needs have been purged.
+          Set<String> changedRoles = null;
+          if (changeId >= 0 && changeId <= lastChangeId) {
+            List<MSentryGMChange> changes = delegate.getMSentryGMChangesCore(pm, changeId + 1);
+            if (changes != null) {
+              changedRoles = new HashSet<>(changes.size());
+              for (MSentryGMChange change : changes) {
+                changedRoles.add(change.getRoleName());
+              }
+              if (!changes.isEmpty()) {
+                lastChangeId = changes.get(changes.size() - 1).getChangeID();
+              }
+            }
+          }
+
+          boolean fullImage = changedRoles == null;
+          Collection<MSentryRole> mRoles;
+          if (fullImage) {
+            changedRoles = Collections.emptySet();
+            mRoles = delegate.getAllRoles(pm);
+          } else {
+            mRoles = new ArrayList<>(changedRoles.size());
+            for (String roleName : changedRoles) {
+              MSentryRole mRole = getRole(roleName, pm);
+              if (mRole != null) {
+                mRoles.add(mRole);
+              }
+            }
+          }
+
+          List<RolePrivileges> roles = new ArrayList<>(mRoles.size());
+          for (MSentryRole mRole : mRoles) {
+            Set<String> groups = new HashSet<>(mRole.getGroups().size());
+            for (MSentryGroup group : mRole.getGroups()) {
+              groups.add(group.getGroupName());
+            }
+            roles.add(new RolePrivileges(mRole.getRoleName(), groups,
+                privilegeOperator.getPrivilegesByRole(lComponent, lService, mRole)));
+          }
+          return new RolePrivilegesDelta(lastChangeId, fullImage, changedRoles, roles);
+        }
+      });
+  }
+
+  /**
+   * The roles of the page are loaded with three queries, one for the role names,
+   * one for their groups and one for their privileges, whatever the number of roles.
+   */
+  @Override
+  public List<RolePrivileges> getRolePrivilegesSnapshot(final String component,
+      final String service, final String startAfterRoleName, final int maxRoles)
+      throws Exception {
+    Preconditions.checkNotNull(component);
+    Preconditions.checkNotNull(service);
+    Preconditions.checkArgument(maxRoles > 0, "maxRoles must be positive");
+
+    return delegate.getTransactionManager().executeTransaction(
+      new TransactionBlock<List<RolePrivileges>>() {
+        public List<RolePrivileges> execute(PersistenceManager pm) throws Exception {
+          pm.setDetachAllOnCommit(false); // No need to detach objects
+          Query query = pm.newQuery(MSentryRole.class);
+          query.setResult("roleName");
+          query.setOrdering("roleName ascending");
+          query.setRange(0, maxRoles);
+          List<String> roleNames;
+          if (startAfterRoleName == null) {
+            roleNames = (List<String>) query.execute();
+          } else {
+            query.setFilter("roleName > :startAfterRoleName");
+            roleNames = (List<String>) query.execute(toTrimmedLower(startAfterRoleName));
+          }
+          if (roleNames.isEmpty()) {
+            return Collections.emptyList();
+          }
+
+          String firstRoleName = roleNames.get(0);
+          String lastRoleName = roleNames.get(roleNames.size() - 1);
+          Map<String, Set<String>> roleGroups = getGroupsByRoleRange(firstRoleName,
+              lastRoleName, pm);
+          Map<String, Set<PrivilegeObject>> rolePrivileges =
+              privilegeOperator.getPrivilegesByRoleRange(toTrimmedLower(component),
+                  toTrimmedLower(service), firstRoleName, lastRoleName, pm);
+
+          List<RolePrivileges> roles = new ArrayList<>(roleNames.size());
+          for (String roleName : roleNames) {
+            Set<String> groups = roleGroups.get(roleName);
+            Set<PrivilegeObject> privileges = rolePrivileges.get(roleName);
+            roles.add(new RolePrivileges(roleName,
+                groups == null ? new HashSet<String>() : groups,
+                privileges == null ? new HashSet<PrivilegeObject>() : privileges));
+          }
+          return roles;
+        }
+      });
+  }
+
+  /**
+   * Get the groups of the roles whose names are in the range [firstRoleName, lastRoleName]
+   * @return Map of role names to their groups. Roles without groups are missing.
+   */
+  private Map<String, Set<String>> getGroupsByRoleRange(String firstRoleName,
+      String lastRoleName, PersistenceManager pm) {
+    Query query = pm.newQuery(MSentryGroup.class);
+    query.declareVariables(MSentryRole.class.getName() + " role");
+    query.setFilter("roles.contains(role)"
+        + " && role.roleName >= :firstRoleName && role.roleName <= :lastRoleName");
+    query.setResult("role.roleName, groupName");
+    List<Object[]> rows = (List<Object[]>) query.execute(firstRoleName, lastRoleName);
+
+    Map<String, Set<String>> roleGroups = new HashMap<>();
+    for (Object[] row : rows) {
+      String roleName = (String) row[0];
+      Set<String> groups = roleGroups.get(roleName);
+      if (groups == null) {
+        groups = new HashSet<>();
+        roleGroups.put(roleName, groups);
+      }
+      groups.add((String) row[1]);
+    }
+    return roleGroups;
+  }
+
+  @Override
   public void close() {
     delegate.stop();
   }
@@ -436,6 +586,7 @@ public class DelegateSentryStore implements SentryStoreLayer {
             pm.newQuery(MSentryRole.class).deletePersistentAll();
             pm.newQuery(MSentryGroup.class).deletePersistentAll();
             pm.newQuery(MSentryGMPrivilege.class).deletePersistentAll();
+            pm.newQuery(MSentryGMChange.class).deletePersistentAll();
             return null;
           }
         });
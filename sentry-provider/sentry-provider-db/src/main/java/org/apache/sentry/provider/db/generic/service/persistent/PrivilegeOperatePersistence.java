@@ -357,8 +357,9 @@ public class PrivilegeOperatePersistence {
 
   /**
    * Drop any role related to the requested privilege and its children privileges
+   * @return the names of the roles whose privileges were revoked
    */
-  public void dropPrivilege(PrivilegeObject privilege,PersistenceManager pm) throws SentryUserException {
+  public Set<String> dropPrivilege(PrivilegeObject privilege,PersistenceManager pm) throws SentryUserException {
     MSentryGMPrivilege requestPrivilege = convertToPrivilege(privilege);
 
     if (Strings.isNullOrEmpty(privilege.getAction())) {
@@ -371,6 +372,7 @@ public class PrivilegeOperatePersistence {
     Set<MSentryGMPrivilege> privilegeGraph = Sets.newHashSet();
     privilegeGraph.addAll(populateIncludePrivileges(null, requestPrivilege, pm));
 
+    Set<String> changedRoleNames = new HashSet<>();
     for (MSentryGMPrivilege mPrivilege : privilegeGraph) {
       /*
        * force to load all roles related this privilege
@@ -379,9 +381,11 @@ public class PrivilegeOperatePersistence {
       pm.retrieve(mPrivilege);
       Set<MSentryRole> roles = mPrivilege.getRoles();
       for (MSentryRole role : roles) {
+        changedRoleNames.add(role.getRoleName());
         revokeRolePartial(requestPrivilege, mPrivilege, role, pm);
       }
     }
+    return changedRoleNames;
   }
 
   private MSentryGMPrivilege convertToPrivilege(PrivilegeObject privilege) {
@@ -434,6 +438,68 @@ public class PrivilegeOperatePersistence {
     return privileges;
   }
 
+  /**
+   * Get the privileges of the given role which belong to the component and service
+   * @param component Component name in lower case
+   * @param service Service name in lower case
+   * @param role The role whose privileges are loaded
+   * @return Set (potentially empty) of privileges associated with the role
+   */
+  Set<PrivilegeObject> getPrivilegesByRole(String component, String service, MSentryRole role) {
+    Set<PrivilegeObject> privileges = new HashSet<>();
+    for (MSentryGMPrivilege mPrivilege : role.getGmPrivileges()) {
+      if (component.equalsIgnoreCase(mPrivilege.getComponentName())
+          && service.equalsIgnoreCase(mPrivilege.getServiceName())) {
+        privileges.add(new Builder()
+                                 .setComponent(mPrivilege.getComponentName())
+                                 .setService(mPrivilege.getServiceName())
+                                 .setAction(mPrivilege.getAction())
+                                 .setAuthorizables(mPrivilege.getAuthorizables())
+                                 .withGrantOption(mPrivilege.getGrantOption())
+                                 .build());
+      }
+    }
+    return privileges;
+  }
+
+  /**
+   * Get the privileges of the component and service held by the roles whose names
+   * are in the range [firstRoleName, lastRoleName], with a single query.
+   * @param component Component name in lower case
+   * @param service Service name in lower case
+   * @return Map of role names to their privileges. Roles without privileges are missing.
+   */
+  Map<String, Set<PrivilegeObject>> getPrivilegesByRoleRange(String component, String service,
+      String firstRoleName, String lastRoleName, PersistenceManager pm) {
+    Query query = pm.newQuery(MSentryGMPrivilege.class);
+    query.declareVariables(MSentryRole.class.getName() + " role");
+    query.setFilter("this.componentName == :componentName && this.serviceName == :serviceName"
+        + " && roles.contains(role)"
+        + " && role.roleName >= :firstRoleName && role.roleName <= :lastRoleName");
+    query.setResult("role.roleName, this");
+    List<Object[]> rows = (List<Object[]>) query.executeWithArray(component, service,
+        firstRoleName, lastRoleName);
+
+    Map<String, Set<PrivilegeObject>> privileges = Maps.newHashMap();
+    for (Object[] row : rows) {
+      String roleName = (String) row[0];
+      MSentryGMPrivilege mPrivilege = (MSentryGMPrivilege) row[1];
+      Set<PrivilegeObject> rolePrivileges = privileges.get(roleName);
+      if (rolePrivileges == null) {
+        rolePrivileges = new HashSet<>();
+        privileges.put(roleName, rolePrivileges);
+      }
+      rolePrivileges.add(new Builder()
+                               .setComponent(mPrivilege.getComponentName())
+                               .setService(mPrivilege.getServiceName())
+                               .setAction(mPrivilege.getAction())
+                               .setAuthorizables(mPrivilege.getAuthorizables())
+                               .withGrantOption(mPrivilege.getGrantOption())
+                               .build());
+    }
+    return privileges;
+  }
+
   Set<PrivilegeObject> getPrivilegesByProvider(String component,
                                                String service, Set<MSentryRole> roles,
                                                List<? extends Authorizable> authorizables, PersistenceManager pm) {
@@ -473,7 +539,11 @@ public class PrivilegeOperatePersistence {
     return privilegeGraph;
   }
 
-  public void renamePrivilege(String component, String service,
+  /**
+   * Rename the privileges of any role related to the old authorizables
+   * @return the names of the roles whose privileges were renamed
+   */
+  public Set<String> renamePrivilege(String component, String service,
       List<? extends Authorizable> oldAuthorizables, List<? extends Authorizable> newAuthorizables,
       String grantorPrincipal, PersistenceManager pm)
       throws SentryUserException {
@@ -486,6 +556,7 @@ public class PrivilegeOperatePersistence {
     Set<MSentryGMPrivilege> privilegeGraph = Sets.newHashSet();
     privilegeGraph.addAll(populateIncludePrivileges(null, oldPrivilege, pm));
 
+    Set<String> changedRoleNames = new HashSet<>();
     for (MSentryGMPrivilege dropPrivilege : privilegeGraph) {
       /*
        * construct the new privilege needed to add
@@ -507,10 +578,12 @@ public class PrivilegeOperatePersistence {
 
       Set<MSentryRole> roles = dropPrivilege.getRoles();
       for (MSentryRole role : roles) {
+        changedRoleNames.add(role.getRoleName());
         revokeRolePartial(oldPrivilege, dropPrivilege, role, pm);
         grantRolePartial(newPrivilge, role, pm);
       }
     }
+    return changedRoleNames;
   }
 
   private BitFieldAction getAction(String component, String name) throws SentryUserException {
@@ -0,0 +1,91 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.provider.db.generic.service.persistent;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The generic model roles changed after a given change ID, together with their
+ * current groups and privileges. When the changes can't be tracked any more the
+ * delta is a full image which contains all the roles.
+ */
+public final class RolePrivilegesDelta {
+  private final long changeId;
+  private final boolean fullImage;
+  private final Set<String> changedRoles;
+  private final List<RolePrivileges> roles;
+
+  public RolePrivilegesDelta(long changeId, boolean fullImage, Set<String> changedRoles,
+      List<RolePrivileges> roles) {
+    this.changeId = changeId;
+    this.fullImage = fullImage;
+    this.changedRoles = changedRoles;
+    this.roles = roles;
+  }
+
+  /**
+   * @return the change ID the delta brings the caller up to
+   */
+  public long getChangeId() {
+    return changeId;
+  }
+
+  public boolean isFullImage() {
+    return fullImage;
+  }
+
+  /**
+   * @return the names of the changed roles. The roles which are not in
+   * {@link #getRoles()} have been dropped. Empty for a full image.
+   */
+  public Set<String> getChangedRoles() {
+    return changedRoles;
+  }
+
+  public List<RolePrivileges> getRoles() {
+    return roles;
+  }
+
+  /**
+   * The groups and the privileges of a single role
+   */
+  public static final class RolePrivileges {
+    private final String roleName;
+    private final Set<String> groups;
+    private final Set<PrivilegeObject> privileges;
+
+    public RolePrivileges(String roleName, Set<String> groups, Set<PrivilegeObject> privileges) {
+      this.roleName = roleName;
+      this.groups = groups;
+      this.privileges = privileges;
+    }
+
+    public String getRoleName() {
+      return roleName;
+    }
+
+    public Set<String> getGroups() {
+      return groups;
+    }
+
+    public Set<PrivilegeObject> getPrivileges() {
+      return privileges;
+    }
+  }
+}
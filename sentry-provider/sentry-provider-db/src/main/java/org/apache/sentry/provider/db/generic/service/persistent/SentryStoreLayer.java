@@ -178,6 +178,35 @@ public interface SentryStoreLayer {
       Set<String> validActiveRoles, List<? extends Authorizable> authorizables)
       throws Exception;
 
+  /**
+   * Get the roles changed after the given change ID with their groups and the
+   * privileges which belong to the component and service.
+   *
+   * @param component: The request respond to which component
+   * @param service: The name of service
+   * @param changeId: The last change ID seen by the caller, or a negative value
+   *                  to request a full image
+   * @returns The changed roles, or a full image when the changes are not available
+   * @throws Exception
+   */
+  RolePrivilegesDelta getRolePrivilegesDelta(String component, String service, long changeId)
+      throws Exception;
+
+  /**
+   * Get a page of all the roles, ordered by name, with their groups and the
+   * privileges which belong to the component and service.
+   *
+   * @param component: The request respond to which component
+   * @param service: The name of service
+   * @param startAfterRoleName: Only the roles whose names sort after it are returned,
+   *                            all the roles if null
+   * @param maxRoles: The maximum number of roles returned
+   * @returns The roles of the page
+   * @throws Exception
+   */
+  List<RolePrivilegesDelta.RolePrivileges> getRolePrivilegesSnapshot(String component,
+      String service, String startAfterRoleName, int maxRoles) throws Exception;
+
   /**
    * close sentryStore
    */
@@ -21,6 +21,7 @@ import static org.apache.sentry.core.common.utils.SentryConstants.AUTHORIZABLE_J
 import static org.apache.sentry.core.common.utils.SentryConstants.KV_JOINER;
 
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
@@ -43,6 +44,8 @@ import org.apache.sentry.core.common.exception.SentryThriftAPIMismatchException;
 import org.apache.sentry.provider.db.generic.service.persistent.DelegateSentryStore;
 import org.apache.sentry.provider.db.generic.service.persistent.PrivilegeObject;
 import org.apache.sentry.provider.db.generic.service.persistent.PrivilegeObject.Builder;
+import org.apache.sentry.provider.db.generic.service.persistent.RolePrivilegesDelta;
+import org.apache.sentry.provider.db.generic.service.persistent.RolePrivilegesDelta.RolePrivileges;
 import org.apache.sentry.provider.db.generic.service.persistent.SentryStoreLayer;
 import org.apache.sentry.provider.db.log.entity.JsonLogEntityFactory;
 import org.apache.sentry.provider.db.log.util.Constants;
@@ -800,6 +803,77 @@ public class SentryGenericPolicyProcessor implements SentryGenericPolicyService.
     return tResponse;
   }
 
+  @Override
+  public TListSentryPrivilegesDeltaResponse list_sentry_privileges_delta(
+      final TListSentryPrivilegesDeltaRequest request) throws TException {
+    Response<TSentryRolePrivilegesDelta> respose = requestHandle(
+        new RequestHandler<TSentryRolePrivilegesDelta>() {
+      @Override
+      public Response<TSentryRolePrivilegesDelta> handle() throws Exception {
+        validateClientVersion(request.getProtocol_version());
+        authorize(request.getRequestorUserName(),
+            getRequestorGroups(conf, request.getRequestorUserName()));
+        RolePrivilegesDelta delta = store.getRolePrivilegesDelta(request.getComponent(),
+            request.getServiceName(), request.getChangeId());
+        List<TSentryRolePrivileges> tRoles = new ArrayList<>(delta.getRoles().size());
+        for (RolePrivileges role : delta.getRoles()) {
+          tRoles.add(toTSentryRolePrivileges(role));
+        }
+        TSentryRolePrivilegesDelta tDelta = new TSentryRolePrivilegesDelta(delta.getChangeId(),
+            delta.isFullImage(), tRoles);
+        tDelta.setChangedRoles(delta.getChangedRoles());
+        return new Response<TSentryRolePrivilegesDelta>(Status.OK(), tDelta);
+      }
+    });
+    TListSentryPrivilegesDeltaResponse tResponse = new TListSentryPrivilegesDeltaResponse();
+    tResponse.setStatus(respose.status);
+    tResponse.setDelta(respose.content);
+    return tResponse;
+  }
+
+  @Override
+  public TListSentryPrivilegesSnapshotResponse list_all_privileges_snapshot(
+      final TListSentryPrivilegesSnapshotRequest request) throws TException {
+    final TListSentryPrivilegesSnapshotResponse tResponse = new TListSentryPrivilegesSnapshotResponse();
+    Response<List<TSentryRolePrivileges>> respose = requestHandle(
+        new RequestHandler<List<TSentryRolePrivileges>>() {
+      @Override
+      public Response<List<TSentryRolePrivileges>> handle() throws Exception {
+        validateClientVersion(request.getProtocol_version());
+        authorize(request.getRequestorUserName(),
+            getRequestorGroups(conf, request.getRequestorUserName()));
+        int maxRoles = conf.getInt(ServerConfig.SENTRY_GENERIC_SNAPSHOT_MAX_ROLES,
+            ServerConfig.SENTRY_GENERIC_SNAPSHOT_MAX_ROLES_DEFAULT);
+        if (request.isSetMaxRoles() && request.getMaxRoles() > 0) {
+          maxRoles = Math.min(maxRoles, request.getMaxRoles());
+        }
+        // Ask for one more role to tell whether there is a next page
+        List<RolePrivileges> roles = store.getRolePrivilegesSnapshot(request.getComponent(),
+            request.getServiceName(), request.getStartAfterRoleName(), maxRoles + 1);
+        tResponse.setHasMore(roles.size() > maxRoles);
+        if (roles.size() > maxRoles) {
+          roles = roles.subList(0, maxRoles);
+        }
+        List<TSentryRolePrivileges> tRoles = new ArrayList<>(roles.size());
+        for (RolePrivileges role : roles) {
+          tRoles.add(toTSentryRolePrivileges(role));
+        }
+        return new Response<List<TSentryRolePrivileges>>(Status.OK(), tRoles);
+      }
+    });
+    tResponse.setStatus(respose.status);
+    tResponse.setRoles(respose.content);
+    return tResponse;
+  }
+
+  private TSentryRolePrivileges toTSentryRolePrivileges(RolePrivileges role) {
+    Set<TSentryPrivilege> tPrivileges = new HashSet<>(role.getPrivileges().size());
+    for (PrivilegeObject privilege : role.getPrivileges()) {
+      tPrivileges.add(fromPrivilegeObject(privilege));
+    }
+    return new TSentryRolePrivileges(role.getRoleName(), role.getGroups(), tPrivileges);
+  }
+
   private static class Response<T> {
     private TSentryResponseStatus status;
     private T content;
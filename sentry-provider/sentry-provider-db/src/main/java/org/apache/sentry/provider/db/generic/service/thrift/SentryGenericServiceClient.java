@@ -191,4 +191,28 @@ public interface SentryGenericServiceClient extends AutoCloseable {
   Map<String, TSentryPrivilegeMap> listPrivilegsbyAuthorizable(String component,
       String serviceName, String requestorUserName, Set<String> authorizablesSet,
       Set<String> groups, ActiveRoleSet roleSet) throws SentryUserException;
+
+  /**
+   * Get the roles changed after the given change ID, with their groups and privileges.
+   * @param requestorUserName: user on whose behalf the request is issued
+   * @param component: The request is issued to which component
+   * @param serviceName: The privilege belongs to which service
+   * @param changeId: The change ID of the last delta, or a negative value for a full image
+   * @returns the changed roles, or all the roles when the server returns a full image
+   * @throws SentryUserException
+   */
+  TSentryRolePrivilegesDelta listPrivilegesDelta(String requestorUserName, String component,
+      String serviceName, long changeId) throws SentryUserException;
+
+  /**
+   * Get all the roles with their groups and privileges. The roles are fetched in
+   * pages, so the result may mix changes made while it is listed.
+   * @param requestorUserName: user on whose behalf the request is issued
+   * @param component: The request is issued to which component
+   * @param serviceName: The privilege belongs to which service
+   * @returns all the roles, ordered by name
+   * @throws SentryUserException
+   */
+  List<TSentryRolePrivileges> listAllPrivilegesSnapshot(String requestorUserName,
+      String component, String serviceName) throws SentryUserException;
 }
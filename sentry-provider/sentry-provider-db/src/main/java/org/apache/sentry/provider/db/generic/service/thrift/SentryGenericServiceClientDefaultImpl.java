@@ -536,6 +536,54 @@ public class SentryGenericServiceClientDefaultImpl
     }
   }
 
+  @Override
+  public TSentryRolePrivilegesDelta listPrivilegesDelta(String requestorUserName,
+      String component, String serviceName, long changeId) throws SentryUserException {
+    TListSentryPrivilegesDeltaRequest request = new TListSentryPrivilegesDeltaRequest();
+    request.setProtocol_version(sentry_common_serviceConstants.TSENTRY_SERVICE_V2);
+    request.setRequestorUserName(requestorUserName);
+    request.setComponent(component);
+    request.setServiceName(serviceName);
+    request.setChangeId(changeId);
+
+    try {
+      TListSentryPrivilegesDeltaResponse response = client.list_sentry_privileges_delta(request);
+      Status.throwIfNotOk(response.getStatus());
+      return response.getDelta();
+    } catch (TException e) {
+      throw new SentryUserException(THRIFT_EXCEPTION_MESSAGE, e);
+    }
+  }
+
+  @Override
+  public List<TSentryRolePrivileges> listAllPrivilegesSnapshot(String requestorUserName,
+      String component, String serviceName) throws SentryUserException {
+    List<TSentryRolePrivileges> roles = Lists.newArrayList();
+    TListSentryPrivilegesSnapshotRequest request = new TListSentryPrivilegesSnapshotRequest();
+    request.setProtocol_version(sentry_common_serviceConstants.TSENTRY_SERVICE_V2);
+    request.setRequestorUserName(requestorUserName);
+    request.setComponent(component);
+    request.setServiceName(serviceName);
+
+    try {
+      while (true) {
+        TListSentryPrivilegesSnapshotResponse response = client.list_all_privileges_snapshot(request);
+        Status.throwIfNotOk(response.getStatus());
+        List<TSentryRolePrivileges> page = response.getRoles();
+        if (page == null || page.isEmpty()) {
+          return roles;
+        }
+        roles.addAll(page);
+        if (!response.isHasMore()) {
+          return roles;
+        }
+        request.setStartAfterRoleName(page.get(page.size() - 1).getRoleName());
+      }
+    } catch (TException e) {
+      throw new SentryUserException(THRIFT_EXCEPTION_MESSAGE, e);
+    }
+  }
+
   @Override
   public void close() {
     done();
@@ -21,5 +21,14 @@ package org.apache.sentry.provider.db.service.model;
  * The base class for various delta changes stored in Sentry DB.
  */
 public interface MSentryChange {
+  /** The change is persisted in the Thrift JSON format. */
+  int JSON_FORMAT = 0;
+
+  /**
+   * The change is persisted in the Thrift compact format, compressed and
+   * encoded in base64.
+   */
+  int COMPACT_FORMAT = 1;
+
   long getChangeID();
 }
@@ -0,0 +1,106 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.sentry.provider.db.service.model;
+
+import javax.jdo.annotations.PersistenceCapable;
+import javax.jdo.annotations.PrimaryKey;
+
+/**
+ * Database backend store for the changes of the roles. Each record contains change
+ * ID, the name of a role whose groups, users, or privileges of the Hive or of the
+ * generic model were changed, and timestamp.
+ * <p>
+ * Clients caching the policy use them to only reload the changed roles.
+ * <p>
+ * Any changes to this objects require re-running the maven build so DN
+ * can re-enhance.
+ */
+@PersistenceCapable
+public class MSentryGMChange implements MSentryChange {
+
+  @PrimaryKey
+  private long changeID;
+
+  // Name of the changed role, which may have been dropped since.
+  private String roleName;
+  private long createTimeMs;
+
+  public MSentryGMChange(long changeID, String roleName) {
+    this.changeID = changeID;
+    this.roleName = MSentryUtil.safeIntern(roleName);
+    this.createTimeMs = System.currentTimeMillis();
+  }
+
+  public long getCreateTimeMs() {
+    return createTimeMs;
+  }
+
+  public String getRoleName() {
+    return roleName;
+  }
+
+  public long getChangeID() {
+    return changeID;
+  }
+
+  @Override
+  public String toString() {
+    return "MSentryGMChange [changeID=" + changeID + ", roleName= " + roleName +
+        ", createTimeMs=" + createTimeMs +  "]";
+  }
+
+  @Override
+  public int hashCode() {
+    final int prime = 31;
+    int result = 1;
+    result = prime * result + Long.valueOf(changeID).hashCode();
+    result = prime * result + ((roleName == null) ? 0 : roleName.hashCode());
+    return result;
+  }
+
+  @Override
+  public boolean equals(Object obj) {
+    if (this == obj) {
+      return true;
+    }
+
+    if (obj == null) {
+      return false;
+    }
+
+    if (getClass() != obj.getClass()) {
+      return false;
+    }
+
+    MSentryGMChange other = (MSentryGMChange) obj;
+    if (changeID != other.changeID) {
+      return false;
+    }
+
+    if (createTimeMs != other.createTimeMs) {
+      return false;
+    }
+
+    if (roleName == null) {
+      return other.roleName == null;
+    }
+
+    return roleName.equals(other.roleName);
+  }
+}
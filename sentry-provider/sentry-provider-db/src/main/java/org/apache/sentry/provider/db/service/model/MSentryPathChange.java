@@ -26,8 +26,9 @@ import javax.jdo.annotations.PrimaryKey;
 
 /**
  * Database backend store for HMS path delta change. Each record contains
- * change ID, HMS notification ID, JSON format of a single
- * &lt Hive Obj, HDFS Path &gt change, and timestamp.
+ * change ID, HMS notification ID, a single &lt Hive Obj, HDFS Path &gt
+ * change, its format and timestamp. The change is persisted in JSON format,
+ * or in the format given by {@link #COMPACT_FORMAT}.
  * <p>
  * e.g. for add paths change in JSON format.
  * <pre>
@@ -63,19 +64,27 @@ public class MSentryPathChange implements MSentryChange {
   //This value is auto incremented by JDO
   private long changeID;
 
-  // Path change in JSON format.
+  // Path change, in the format given by changeFormat.
   private String pathChange;
+  private int changeFormat;
   private long createTimeMs;
   private long notificationID;
 
   public MSentryPathChange(long changeID, PathsUpdate pathChange) throws TException {
+    this(changeID, pathChange, JSON_FORMAT);
+  }
+
+  public MSentryPathChange(long changeID, PathsUpdate pathChange, int changeFormat)
+      throws TException {
     // Each PathsUpdate maps to a MSentryPathChange object.
     // The PathsUpdate is generated from a HMS notification log,
     // the notification ID is stored as seqNum and
-    // the notification update is serialized as JSON string.
+    // the notification update is serialized in the given format.
     this.changeID = changeID;
     this.notificationID = pathChange.getSeqNum();
-    this.pathChange = pathChange.JSONSerialize();
+    this.pathChange = changeFormat == COMPACT_FORMAT ?
+        pathChange.compactSerialize() : pathChange.JSONSerialize();
+    this.changeFormat = changeFormat;
     this.createTimeMs = System.currentTimeMillis();
   }
 
@@ -87,6 +96,30 @@ public class MSentryPathChange implements MSentryChange {
     return pathChange;
   }
 
+  public int getChangeFormat() {
+    return changeFormat;
+  }
+
+  /**
+   * @return the path change, decoded according to its format
+   * @throws TException if the change can't be decoded
+   */
+  public PathsUpdate getPathsUpdate() throws TException {
+    PathsUpdate update = new PathsUpdate();
+    switch (changeFormat) {
+      case JSON_FORMAT:
+        update.JSONDeserialize(pathChange);
+        break;
+      case COMPACT_FORMAT:
+        update.compactDeserialize(pathChange);
+        break;
+      default:
+        throw new TException("Unknown format " + changeFormat + " of path change "
+            + changeID);
+    }
+    return update;
+  }
+
   public long getChangeID() {
     return changeID;
   }
@@ -99,7 +132,7 @@ public class MSentryPathChange implements MSentryChange {
   public String toString() {
     return "MSentryChange [changeID=" + changeID + " , notificationID= "
         + notificationID +" , pathChange= " + pathChange +
-        ", createTime=" + createTimeMs +  "]";
+        ", changeFormat=" + changeFormat + ", createTime=" + createTimeMs +  "]";
   }
 
   @Override
@@ -109,6 +142,7 @@ public class MSentryPathChange implements MSentryChange {
     result = prime * result + Long.valueOf(changeID).hashCode();
     result = prime * result + Long.valueOf(notificationID).hashCode();
     result = prime * result + ((pathChange == null) ? 0 : pathChange.hashCode());
+    result = prime * result + changeFormat;
     return result;
   }
 
@@ -139,6 +173,10 @@ public class MSentryPathChange implements MSentryChange {
       return false;
     }
 
+    if (changeFormat != other.changeFormat) {
+      return false;
+    }
+
     if (pathChange == null) {
       return other.pathChange == null;
     }
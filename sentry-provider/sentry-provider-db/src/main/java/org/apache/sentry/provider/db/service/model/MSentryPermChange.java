@@ -27,8 +27,9 @@ import javax.jdo.annotations.PrimaryKey;
 
 /**
  * Database backend store for Sentry permission delta change. Each record
- * contains change ID, JSON format of a single Sentry permission change,
- * and timestamp.
+ * contains change ID, a single Sentry permission change, its format and
+ * timestamp. The change is persisted in JSON format, or in the format
+ * given by {@link #COMPACT_FORMAT}.
  * <p>
  * e.g. for rename privileges change in JSON format.
  * <pre>
@@ -61,13 +62,21 @@ public class MSentryPermChange implements MSentryChange {
   //This value is auto incremented by JDO
   private long changeID;
 
-  // Permission change in JSON format.
+  // Permission change, in the format given by changeFormat.
   private String permChange;
+  private int changeFormat;
   private long createTimeMs;
 
   public MSentryPermChange(long changeID, PermissionsUpdate permChange) throws TException {
+    this(changeID, permChange, JSON_FORMAT);
+  }
+
+  public MSentryPermChange(long changeID, PermissionsUpdate permChange, int changeFormat)
+      throws TException {
     this.changeID = changeID;
-    this.permChange = permChange.JSONSerialize();
+    this.permChange = changeFormat == COMPACT_FORMAT ?
+        permChange.compactSerialize() : permChange.JSONSerialize();
+    this.changeFormat = changeFormat;
     this.createTimeMs = System.currentTimeMillis();
   }
 
@@ -79,6 +88,30 @@ public class MSentryPermChange implements MSentryChange {
     return permChange;
   }
 
+  public int getChangeFormat() {
+    return changeFormat;
+  }
+
+  /**
+   * @return the permission change, decoded according to its format
+   * @throws TException if the change can't be decoded
+   */
+  public PermissionsUpdate getPermissionsUpdate() throws TException {
+    PermissionsUpdate update = new PermissionsUpdate();
+    switch (changeFormat) {
+      case JSON_FORMAT:
+        update.JSONDeserialize(permChange);
+        break;
+      case COMPACT_FORMAT:
+        update.compactDeserialize(permChange);
+        break;
+      default:
+        throw new TException("Unknown format " + changeFormat + " of permission change "
+            + changeID);
+    }
+    return update;
+  }
+
   public long getChangeID() {
     return changeID;
   }
@@ -86,7 +119,7 @@ public class MSentryPermChange implements MSentryChange {
   @Override
   public String toString() {
     return "MSentryPermChange [changeID=" + changeID + ", permChange= " + permChange +
-        ", createTimeMs=" + createTimeMs +  "]";
+        ", changeFormat=" + changeFormat + ", createTimeMs=" + createTimeMs +  "]";
   }
 
   @Override
@@ -95,6 +128,7 @@ public class MSentryPermChange implements MSentryChange {
     int result = 1;
     result = prime * result + Long.valueOf(changeID).hashCode();
     result = prime * result + ((permChange == null) ? 0 : permChange.hashCode());
+    result = prime * result + changeFormat;
     return result;
   }
 
@@ -121,6 +155,10 @@ public class MSentryPermChange implements MSentryChange {
       return false;
     }
 
+    if (changeFormat != other.changeFormat) {
+      return false;
+    }
+
     if (permChange == null) {
       return other.permChange == null;
     }
@@ -116,10 +116,18 @@ public class MSentryRole {
     this.privileges.addAll(privileges);
   }
 
-  public void appendPrivilege(MSentryPrivilege privilege) {
+  /**
+   * Grants the privilege to the role.
+   *
+   * @return false if the role already has the privilege, or if the datastore failed to
+   * persist it
+   */
+  public boolean appendPrivilege(MSentryPrivilege privilege) {
     if (privileges.add(privilege)) {
       privilege.appendRole(this);
+      return true;
     }
+    return false;
   }
 
   public void removeGMPrivilege(MSentryGMPrivilege gmPrivilege) {
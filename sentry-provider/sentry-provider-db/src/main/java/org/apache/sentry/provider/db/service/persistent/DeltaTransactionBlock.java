@@ -22,6 +22,7 @@ import com.google.common.base.Preconditions;
 import org.apache.sentry.core.common.exception.SentryInvalidInputException;
 import org.apache.sentry.hdfs.PathsUpdate;
 import org.apache.sentry.hdfs.PermissionsUpdate;
+import org.apache.sentry.provider.db.service.model.MSentryChange;
 import org.apache.sentry.provider.db.service.model.MSentryHmsNotification;
 import org.apache.sentry.provider.db.service.model.MSentryPathChange;
 import org.apache.sentry.provider.db.service.model.MSentryPermChange;
@@ -39,13 +40,23 @@ import javax.jdo.PersistenceManager;
  * {@link SentryInvalidInputException} would be thrown when update is
  * neither type of PathsUpdate nor PermissionsUpdate, also in the case
  * update contains a full image. TException would be thrown if Update
- * cannot be successfully serialized to JSON string.
+ * cannot be successfully serialized.
  */
 public class DeltaTransactionBlock implements TransactionBlock<Object> {
   private final Update update;
+  private final int changeFormat;
 
   public DeltaTransactionBlock(Update update) {
+    this(update, MSentryChange.JSON_FORMAT);
+  }
+
+  /**
+   * @param update the delta update to persist
+   * @param changeFormat the format the update is persisted in, see {@link MSentryChange}
+   */
+  public DeltaTransactionBlock(Update update, int changeFormat) {
     this.update = update;
+    this.changeFormat = changeFormat;
   }
 
   @Override
@@ -56,20 +67,20 @@ public class DeltaTransactionBlock implements TransactionBlock<Object> {
 
   /**
    * Persist the delta change into corresponding type based on its type.
-   * Atomic increasing primary key changeID by 1.
+   * Atomic increasing primary key changeID by 1: the change is persisted right
+   * before the commit, see {@link TransactionManager#executeBeforeCommit}.
    * <p>
    * NullPointerException would be thrown if update is null.
    * {@link SentryInvalidInputException} would be thrown when update is
    * neither type of PathsUpdate nor PermissionsUpdate. Also in the case
    * update contains a full image.
-   * TException would be thrown if Update cannot be successfully serialized
-   * to JSON string.
+   * TException would be thrown if Update cannot be successfully serialized.
    *
    * @param pm PersistenceManager
    * @param update update
    * @throws Exception
    */
-  private void persistUpdate(PersistenceManager pm, Update update)
+  private void persistUpdate(PersistenceManager pm, final Update update)
       throws Exception {
     pm.setDetachAllOnCommit(false); // No need to detach objects
 
@@ -80,22 +91,32 @@ public class DeltaTransactionBlock implements TransactionBlock<Object> {
       throw new SentryInvalidInputException("Update should be not be a full image.\n");
     }
 
-    // Persist the update into corresponding tables based on its type.
-    // changeID is the primary key in MSentryPXXXChange table. If same
-    // changeID is trying to be persisted twice, the transaction would
-    // fail.
-    if (update instanceof PermissionsUpdate) {
-      long lastChangeID = SentryStore.getLastProcessedChangeIDCore(pm, MSentryPermChange.class);
-      pm.makePersistent(new MSentryPermChange(lastChangeID + 1, (PermissionsUpdate) update));
-    } else if (update instanceof PathsUpdate) {
-      long lastChangeID = SentryStore.getLastProcessedChangeIDCore(pm, MSentryPathChange.class);
-      pm.makePersistent(new MSentryPathChange(lastChangeID + 1, (PathsUpdate) update));
-      // Notification id from PATH_UPDATE entry is made persistent in
-      // SENTRY_LAST_NOTIFICATION_ID table.
-      pm.makePersistent(new MSentryHmsNotification(update.getSeqNum()));
-    } else {
+    if (!(update instanceof PermissionsUpdate) && !(update instanceof PathsUpdate)) {
       throw new SentryInvalidInputException("Update should be type of either " +
         "PermissionsUpdate or PathsUpdate.\n");
     }
+
+    // Persist the update into corresponding tables based on its type.
+    // changeID is the primary key in MSentryPXXXChange table. If same
+    // changeID is trying to be persisted twice, e.g. by another Sentry
+    // server sharing the database, the transaction would fail.
+    TransactionManager.executeBeforeCommit(pm, new TransactionBlock<Object>() {
+      @Override
+      public Object execute(PersistenceManager pm) throws Exception {
+        if (update instanceof PermissionsUpdate) {
+          long lastChangeID = SentryStore.getLastProcessedChangeIDCore(pm, MSentryPermChange.class);
+          pm.makePersistent(new MSentryPermChange(lastChangeID + 1, (PermissionsUpdate) update,
+              changeFormat));
+        } else {
+          long lastChangeID = SentryStore.getLastProcessedChangeIDCore(pm, MSentryPathChange.class);
+          pm.makePersistent(new MSentryPathChange(lastChangeID + 1, (PathsUpdate) update,
+              changeFormat));
+          // Notification id from PATH_UPDATE entry is made persistent in
+          // SENTRY_LAST_NOTIFICATION_ID table.
+          pm.makePersistent(new MSentryHmsNotification(update.getSeqNum()));
+        }
+        return null;
+      }
+    });
   }
 }
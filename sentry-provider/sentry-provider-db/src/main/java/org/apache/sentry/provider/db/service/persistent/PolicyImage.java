@@ -0,0 +1,224 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.sentry.provider.db.service.persistent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.sentry.provider.db.service.model.MSentryPrivilege;
+
+/**
+ * An in-memory copy of the roles, their groups, users and privileges, used by
+ * {@link SentryStore} to serve the read requests without a database transaction.
+ * <p>
+ * The image is never modified, the changes of some roles build a new image sharing the
+ * unchanged roles with the previous one. Its version grows with every change, so all the
+ * results computed from one image are consistent with each other.
+ */
+public final class PolicyImage {
+
+  /**
+   * A role and what is granted to it. Role names are in lower case, the group and
+   * user names are trimmed as in the store.
+   */
+  static final class Role {
+    private final String name;
+    private final Set<String> groups;
+    private final Set<String> users;
+    private final List<MSentryPrivilege> privileges;
+
+    Role(String name, Set<String> groups, Set<String> users,
+        List<MSentryPrivilege> privileges) {
+      this.name = name;
+      this.groups = groups;
+      this.users = users;
+      this.privileges = privileges;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    Set<String> getGroups() {
+      return groups;
+    }
+
+    List<MSentryPrivilege> getPrivileges() {
+      return privileges;
+    }
+  }
+
+  private final long version;
+  private final Map<String, Role> roles;
+  // All the groups of the store, including the ones without roles left
+  private final Set<String> groupNames;
+  private final Map<String, Set<String>> groupRoles;
+  private final Map<String, Set<String>> userRoles;
+
+  PolicyImage(long version, Collection<Role> roles, Set<String> groupNames) {
+    this.version = version;
+    this.roles = new HashMap<>(roles.size());
+    this.groupNames = new HashSet<>(groupNames);
+    this.groupRoles = new HashMap<>();
+    this.userRoles = new HashMap<>();
+    for (Role role : roles) {
+      this.roles.put(role.name, role);
+      this.groupNames.addAll(role.groups);
+      addRole(groupRoles, role.groups, role.name);
+      addRole(userRoles, role.users, role.name);
+    }
+  }
+
+  private PolicyImage(long version, Map<String, Role> roles, Set<String> groupNames,
+      Map<String, Set<String>> groupRoles, Map<String, Set<String>> userRoles) {
+    this.version = version;
+    this.roles = roles;
+    this.groupNames = groupNames;
+    this.groupRoles = groupRoles;
+    this.userRoles = userRoles;
+  }
+
+  /**
+   * @param roleNames the names of the changed roles
+   * @param changedRoles the current state of the changed roles, dropped roles are missing
+   * @return a new image where the changed roles replace the ones of this image
+   */
+  PolicyImage replaceRoles(Set<String> roleNames, Collection<Role> changedRoles) {
+    Map<String, Role> newRoles = new HashMap<>(roles);
+    Set<String> newGroupNames = groupNames;
+    Map<String, Set<String>> newGroupRoles = new HashMap<>(groupRoles);
+    Map<String, Set<String>> newUserRoles = new HashMap<>(userRoles);
+    for (String roleName : roleNames) {
+      Role oldRole = newRoles.remove(roleName);
+      if (oldRole != null) {
+        removeRole(newGroupRoles, oldRole.groups, roleName);
+        removeRole(newUserRoles, oldRole.users, roleName);
+      }
+    }
+    for (Role role : changedRoles) {
+      newRoles.put(role.name, role);
+      if (!newGroupNames.containsAll(role.groups)) {
+        if (newGroupNames == groupNames) {
+          newGroupNames = new HashSet<>(groupNames);
+        }
+        newGroupNames.addAll(role.groups);
+      }
+      addRole(newGroupRoles, role.groups, role.name);
+      addRole(newUserRoles, role.users, role.name);
+    }
+    return new PolicyImage(version + 1, newRoles, newGroupNames, newGroupRoles, newUserRoles);
+  }
+
+  /**
+   * Adds the role to the roles of each name, copying the role sets which are changed
+   * as they may be shared with another image.
+   */
+  private static void addRole(Map<String, Set<String>> rolesMap, Set<String> names,
+      String roleName) {
+    for (String name : names) {
+      Set<String> roles = rolesMap.get(name);
+      Set<String> newRoles = roles == null ? new HashSet<String>() : new HashSet<>(roles);
+      newRoles.add(roleName);
+      rolesMap.put(name, newRoles);
+    }
+  }
+
+  private static void removeRole(Map<String, Set<String>> rolesMap, Set<String> names,
+      String roleName) {
+    for (String name : names) {
+      Set<String> roles = rolesMap.get(name);
+      if (roles != null && roles.contains(roleName)) {
+        if (roles.size() == 1) {
+          rolesMap.remove(name);
+        } else {
+          Set<String> newRoles = new HashSet<>(roles);
+          newRoles.remove(roleName);
+          rolesMap.put(name, newRoles);
+        }
+      }
+    }
+  }
+
+  public long getVersion() {
+    return version;
+  }
+
+  Collection<Role> getRoles() {
+    return Collections.unmodifiableCollection(roles.values());
+  }
+
+  Role getRole(String roleName) {
+    return roles.get(roleName);
+  }
+
+  boolean hasGroup(String groupName) {
+    return groupNames.contains(groupName);
+  }
+
+  /**
+   * @return the names of the roles granted to any of the groups
+   */
+  Set<String> getRoleNamesForGroups(Set<String> groups) {
+    Set<String> result = new HashSet<>();
+    addRoleNames(result, groupRoles, groups);
+    return result;
+  }
+
+  /**
+   * @return the names of the roles granted to any of the users
+   */
+  Set<String> getRoleNamesForUsers(Set<String> users) {
+    Set<String> result = new HashSet<>();
+    addRoleNames(result, userRoles, users);
+    return result;
+  }
+
+  private static void addRoleNames(Set<String> result, Map<String, Set<String>> rolesMap,
+      Set<String> names) {
+    if (names == null) {
+      return;
+    }
+    for (String name : names) {
+      Set<String> roles = rolesMap.get(name);
+      if (roles != null) {
+        result.addAll(roles);
+      }
+    }
+  }
+
+  /**
+   * @return the privileges granted to any of the roles
+   */
+  List<MSentryPrivilege> getPrivileges(Set<String> roleNames) {
+    List<MSentryPrivilege> result = new ArrayList<>();
+    for (String roleName : roleNames) {
+      Role role = roles.get(roleName);
+      if (role != null) {
+        result.addAll(role.privileges);
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,120 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.sentry.provider.db.service.persistent;
+
+import static org.apache.sentry.provider.db.service.persistent.QueryParamBuilder.newQueryParamBuilder;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.jdo.PersistenceManager;
+import javax.jdo.Query;
+
+import org.apache.sentry.provider.db.service.model.MSentryPrivilege;
+import org.apache.sentry.provider.db.service.thrift.TSentryGrantOption;
+import org.apache.sentry.provider.db.service.thrift.TSentryPrivilege;
+
+import com.google.common.base.Joiner;
+
+/**
+ * The existing {@link MSentryPrivilege} rows which may match a batch of privileges,
+ * loaded with one query per server and database (or URI) of the batch instead of a
+ * query per privilege and action.
+ * <p>
+ * The privileges are matched like {@code SentryStore.getMSentryPrivilege()}: all the
+ * fields but the URI are compared trimmed and lower case, and an unset grant option
+ * matches any. The rows persisted during the batch must be {@link #add(MSentryPrivilege)
+ * added}.
+ */
+final class PrivilegeLookup {
+
+  private static final Joiner KEY_JOINER = Joiner.on('\u0000');
+
+  private final Map<String, MSentryPrivilege> privileges = new HashMap<>();
+
+  /**
+   * Loads the rows of the servers, databases and URIs of the given privileges.
+   */
+  @SuppressWarnings("unchecked")
+  PrivilegeLookup(PersistenceManager pm, Collection<TSentryPrivilege> tPrivileges) {
+    Set<List<String>> anchors = new HashSet<>();
+    for (TSentryPrivilege tPrivilege : tPrivileges) {
+      // The empty values are turned into NULL_COL by QueryParamBuilder
+      anchors.add(Arrays.asList(SentryStore.safeTrimLower(tPrivilege.getServerName()),
+          SentryStore.safeTrimLower(tPrivilege.getDbName()),
+          SentryStore.safeTrim(tPrivilege.getURI())));
+    }
+    for (List<String> anchor : anchors) {
+      QueryParamBuilder paramBuilder = newQueryParamBuilder();
+      paramBuilder.add(SentryStore.SERVER_NAME, anchor.get(0))
+          .add(SentryStore.DB_NAME, anchor.get(1))
+          .add(SentryStore.URI, anchor.get(2), true);
+      Query query = pm.newQuery(MSentryPrivilege.class);
+      query.setFilter(paramBuilder.toString());
+      for (MSentryPrivilege mPrivilege
+          : (List<MSentryPrivilege>) query.executeWithMap(paramBuilder.getArguments())) {
+        add(mPrivilege);
+      }
+    }
+  }
+
+  /**
+   * @return the row matching the given privilege, or null if there is none
+   */
+  MSentryPrivilege get(TSentryPrivilege tPrivilege) {
+    TSentryGrantOption grantOption = tPrivilege.getGrantOption();
+    if (grantOption != TSentryGrantOption.UNSET) {
+      return privileges.get(key(tPrivilege, Boolean.valueOf(grantOption.toString())));
+    }
+    for (Boolean option : new Boolean[] { null, Boolean.TRUE, Boolean.FALSE }) {
+      MSentryPrivilege mPrivilege = privileges.get(key(tPrivilege, option));
+      if (mPrivilege != null) {
+        return mPrivilege;
+      }
+    }
+    return null;
+  }
+
+  void add(MSentryPrivilege mPrivilege) {
+    privileges.put(KEY_JOINER.useForNull(SentryStore.NULL_COL).join(
+        mPrivilege.getServerName(), mPrivilege.getDbName(), mPrivilege.getTableName(),
+        mPrivilege.getColumnName(), mPrivilege.getURI(), mPrivilege.getAction(),
+        String.valueOf(mPrivilege.getGrantOption())), mPrivilege);
+  }
+
+  private static String key(TSentryPrivilege tPrivilege, Boolean grantOption) {
+    return KEY_JOINER.join(normalize(tPrivilege.getServerName()),
+        normalize(tPrivilege.getDbName()), normalize(tPrivilege.getTableName()),
+        normalize(tPrivilege.getColumnName()), normalizeURI(tPrivilege.getURI()),
+        normalize(tPrivilege.getAction()), String.valueOf(grantOption));
+  }
+
+  private static String normalize(String value) {
+    return SentryStore.toNULLCol(SentryStore.safeTrimLower(value));
+  }
+
+  private static String normalizeURI(String uri) {
+    return SentryStore.toNULLCol(SentryStore.safeTrim(uri));
+  }
+}
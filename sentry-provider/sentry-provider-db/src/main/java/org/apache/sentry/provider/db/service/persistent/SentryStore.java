@@ -27,10 +27,14 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.locks.Lock;
 
 import javax.jdo.FetchGroup;
 import javax.jdo.JDODataStoreException;
@@ -51,6 +55,7 @@ import org.apache.sentry.core.common.exception.SentryUserException;
 import org.apache.sentry.core.common.utils.SentryConstants;
 import org.apache.sentry.core.model.db.AccessConstants;
 import org.apache.sentry.core.model.db.DBModelAuthorizable.AuthorizableType;
+import org.apache.sentry.hdfs.service.thrift.TPathChanges;
 import org.apache.sentry.provider.db.service.model.MAuthzPathsMapping;
 import org.apache.sentry.provider.db.service.model.MAuthzPathsSnapshotId;
 import org.apache.sentry.provider.db.service.model.MSentryChange;
@@ -58,6 +63,7 @@ import org.apache.sentry.provider.db.service.model.MSentryGroup;
 import org.apache.sentry.provider.db.service.model.MSentryHmsNotification;
 import org.apache.sentry.provider.db.service.model.MSentryPathChange;
 import org.apache.sentry.provider.db.service.model.MSentryPermChange;
+import org.apache.sentry.provider.db.service.model.MSentryGMChange;
 import org.apache.sentry.provider.db.service.model.MSentryPrivilege;
 import org.apache.sentry.provider.db.service.model.MSentryUser;
 import org.apache.sentry.provider.db.service.model.MSentryVersion;
@@ -72,6 +78,7 @@ import org.apache.sentry.provider.db.service.thrift.TSentryGroup;
 import org.apache.sentry.provider.db.service.thrift.TSentryMappingData;
 import org.apache.sentry.provider.db.service.thrift.TSentryPrivilege;
 import org.apache.sentry.provider.db.service.thrift.TSentryPrivilegeMap;
+import org.apache.sentry.provider.db.service.thrift.TSentryPrivilegesDelta;
 import org.apache.sentry.provider.db.service.thrift.TSentryRole;
 import org.apache.sentry.service.thrift.CounterWait;
 import org.apache.sentry.service.thrift.ServiceConstants.PrivilegeScope;
@@ -83,10 +90,12 @@ import org.slf4j.LoggerFactory;
 import com.codahale.metrics.Gauge;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Function;
+import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.collect.Collections2;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -146,6 +155,15 @@ public class SentryStore {
   // Representation for empty HMS snapshots not found on MAuthzPathsSnapshotId
   public static final long EMPTY_PATHS_SNAPSHOT_ID = 0L;
 
+  // Number of mappings of an abandoned pending paths snapshot deleted per transaction
+  private static final int PENDING_PATHS_DELETE_BATCH = 1000;
+
+  // Number of locks shared by the roles being changed
+  private static final int WRITE_LOCK_STRIPES = 64;
+
+  // Key of the roles changed by a transaction in the user objects of its PersistenceManager
+  private static final String GM_CHANGED_ROLES = "sentry.gm.changed.roles";
+
   // For counters, representation of the "unknown value"
   private static final long COUNT_VALUE_UNKNOWN = -1L;
 
@@ -175,6 +193,9 @@ public class SentryStore {
   // When it is false, do not execute DeltaTransactionBlock
   private boolean persistUpdateDeltas;
 
+  // Format of the persisted delta changes, see MSentryChange
+  private final int deltaFormat;
+
   /**
    * counterWait is used to synchronize notifications between Thrift and HMSFollower.
    * Technically it doesn't belong here, but the only thing that connects HMSFollower
@@ -186,6 +207,19 @@ public class SentryStore {
    */
   private final CounterWait counterWait = new CounterWait();
 
+  // Serializes the changes of the same role, see execute(Collection, ...)
+  private final StripedLocks writeLocks = new StripedLocks(WRITE_LOCK_STRIPES);
+
+  // The stores of this process which serve the reads from their policy image. A change
+  // made through any store of the process, e.g. the one of the generic model service,
+  // updates all of them.
+  private static final Set<SentryStore> policyImageStores = new CopyOnWriteArraySet<>();
+
+  // In-memory copy of the roles and privileges, null when the reads go to the database.
+  // It is only replaced while holding policyImageLock, see loadPolicyImage().
+  private volatile PolicyImage policyImage;
+  private final Object policyImageLock = new Object();
+
   public static Properties getDataNucleusProperties(Configuration conf)
           throws SentrySiteConfigurationException, IOException {
     Properties prop = new Properties();
@@ -261,6 +295,16 @@ public class SentryStore {
       prop.setProperty("datanucleus.autoCreateSchema", "true");
       prop.setProperty("datanucleus.fixedDatastore", "false");
     }
+    String deltaFormatName = conf.get(ServerConfig.SENTRY_DELTA_FORMAT,
+        ServerConfig.SENTRY_DELTA_FORMAT_DEFAULT).trim();
+    if (ServerConfig.SENTRY_DELTA_FORMAT_COMPACT.equalsIgnoreCase(deltaFormatName)) {
+      deltaFormat = MSentryChange.COMPACT_FORMAT;
+    } else {
+      Preconditions.checkArgument(
+          ServerConfig.SENTRY_DELTA_FORMAT_JSON.equalsIgnoreCase(deltaFormatName),
+          "Invalid value of %s: %s", ServerConfig.SENTRY_DELTA_FORMAT, deltaFormatName);
+      deltaFormat = MSentryChange.JSON_FORMAT;
+    }
     pmf = JDOHelper.getPersistenceManagerFactory(prop);
     tm = new TransactionManager(pmf, conf);
     verifySentryStoreSchema(checkSchemaVersion);
@@ -279,6 +323,208 @@ public class SentryStore {
     return counterWait;
   }
 
+  /**
+   * Loads the roles, groups, users and privileges from the database into memory, the
+   * read requests are then served from this policy image. The changes made through
+   * the stores of this process update the image, the changes made by other processes
+   * are only seen when it is loaded again.
+   * @throws Exception if the image can't be read, the reads keep using the database
+   */
+  public void loadPolicyImage() throws Exception {
+    synchronized (policyImageLock) {
+      PolicyImage oldImage = policyImage;
+      final long version = oldImage == null ? 1 : oldImage.getVersion() + 1;
+      policyImage = tm.executeTransaction(
+          new TransactionBlock<PolicyImage>() {
+            public PolicyImage execute(PersistenceManager pm) throws Exception {
+              pm.setDetachAllOnCommit(false); // No need to detach objects
+              return new PolicyImage(version, getPolicyImageRolesCore(pm, null),
+                  getAllGroupNamesCore(pm));
+            }
+          });
+      policyImageStores.add(this);
+      LOGGER.info("Loaded the policy image version {} with {} roles", version,
+          policyImage.getRoles().size());
+    }
+  }
+
+  /**
+   * @return true when the reads are served from the policy image
+   */
+  public boolean isPolicyImageLoaded() {
+    return policyImage != null;
+  }
+
+  /**
+   * @return the version of the policy image, or 0 when it is not loaded
+   */
+  public long getPolicyImageVersion() {
+    PolicyImage image = policyImage;
+    return image == null ? 0 : image.getVersion();
+  }
+
+  public Gauge<Long> getPolicyImageVersionGauge() {
+    return new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        return getPolicyImageVersion();
+      }
+    };
+  }
+
+  /**
+   * Updates the policy image of the stores of this process after the given roles were
+   * changed in the database.
+   * @param roleNames the names of the changed roles
+   */
+  public static void refreshPolicyImages(Collection<String> roleNames) {
+    if (roleNames.isEmpty()) {
+      return;
+    }
+    for (SentryStore store : policyImageStores) {
+      store.refreshPolicyImage(roleNames);
+    }
+  }
+
+  /**
+   * Reloads the policy image of the stores of this process after changes which may
+   * touch any role.
+   */
+  private static void reloadPolicyImages() {
+    for (SentryStore store : policyImageStores) {
+      try {
+        store.loadPolicyImage();
+      } catch (Exception e) {
+        LOGGER.error("Failed to reload the policy image, reading from the database", e);
+        store.policyImage = null;
+      }
+    }
+  }
+
+  private void refreshPolicyImage(Collection<String> roleNames) {
+    final Set<String> changedRoleNames = new HashSet<>(roleNames);
+    synchronized (policyImageLock) {
+      final PolicyImage image = policyImage;
+      if (image == null) {
+        return;
+      }
+      try {
+        policyImage = tm.executeTransaction(
+            new TransactionBlock<PolicyImage>() {
+              public PolicyImage execute(PersistenceManager pm) throws Exception {
+                pm.setDetachAllOnCommit(false); // No need to detach objects
+                return image.replaceRoles(changedRoleNames,
+                    getPolicyImageRolesCore(pm, changedRoleNames));
+              }
+            });
+      } catch (Exception e) {
+        // The image would miss the change, fall back to the database until it is reloaded
+        LOGGER.error("Failed to update the policy image for roles " + changedRoleNames
+            + ", reading from the database", e);
+        policyImage = null;
+      }
+    }
+  }
+
+  /**
+   * Reads the roles with their groups, users and privileges. The privileges are copied
+   * so they can be used after the transaction, a privilege granted to several roles is
+   * copied once.
+   * @param pm Persistence manager instance
+   * @param roleNames the names of the roles to read, null to read all the roles
+   * @return the roles which exist
+   */
+  @SuppressWarnings("unchecked")
+  private static Collection<PolicyImage.Role> getPolicyImageRolesCore(PersistenceManager pm,
+      Set<String> roleNames) {
+    String rolesFilter = roleNames == null ? "" : " && :roleNames.contains(role.roleName)";
+    Object[] params = roleNames == null ? new Object[0] : new Object[] { roleNames };
+
+    Query query = pm.newQuery(MSentryRole.class);
+    query.addExtension(LOAD_RESULTS_AT_COMMIT, "false");
+    if (roleNames != null) {
+      query.setFilter(":roleNames.contains(roleName)");
+    }
+    query.setResult("roleName");
+    List<String> existingRoleNames = (List<String>) query.executeWithArray(params);
+
+    Map<String, Set<String>> roleGroups =
+        getRoleMembersCore(pm, MSentryGroup.class, "groupName", rolesFilter, params);
+    Map<String, Set<String>> roleUsers =
+        getRoleMembersCore(pm, MSentryUser.class, "userName", rolesFilter, params);
+
+    query = pm.newQuery(MSentryPrivilege.class);
+    query.addExtension(LOAD_RESULTS_AT_COMMIT, "false");
+    query.declareVariables(MSentryRole.class.getName() + " role");
+    query.setFilter("roles.contains(role)" + rolesFilter);
+    query.setResult("role.roleName, this");
+    List<Object[]> rows = (List<Object[]>) query.executeWithArray(params);
+    Map<String, List<MSentryPrivilege>> rolePrivileges = new HashMap<>();
+    Map<MSentryPrivilege, MSentryPrivilege> copies = new IdentityHashMap<>();
+    for (Object[] row : rows) {
+      MSentryPrivilege mPrivilege = (MSentryPrivilege) row[1];
+      MSentryPrivilege copy = copies.get(mPrivilege);
+      if (copy == null) {
+        copy = new MSentryPrivilege(mPrivilege.getPrivilegeScope(),
+            mPrivilege.getServerName(), mPrivilege.getDbName(), mPrivilege.getTableName(),
+            mPrivilege.getColumnName(), mPrivilege.getURI(), mPrivilege.getAction(),
+            mPrivilege.getGrantOption());
+        copy.setCreateTime(mPrivilege.getCreateTime());
+        copies.put(mPrivilege, copy);
+      }
+      List<MSentryPrivilege> privileges = rolePrivileges.get((String) row[0]);
+      if (privileges == null) {
+        privileges = new ArrayList<>();
+        rolePrivileges.put((String) row[0], privileges);
+      }
+      privileges.add(copy);
+    }
+
+    List<PolicyImage.Role> roles = new ArrayList<>(existingRoleNames.size());
+    for (String roleName : existingRoleNames) {
+      Set<String> groups = roleGroups.get(roleName);
+      Set<String> users = roleUsers.get(roleName);
+      List<MSentryPrivilege> privileges = rolePrivileges.get(roleName);
+      roles.add(new PolicyImage.Role(roleName,
+          groups == null ? Collections.<String>emptySet() : groups,
+          users == null ? Collections.<String>emptySet() : users,
+          privileges == null ? Collections.<MSentryPrivilege>emptyList() : privileges));
+    }
+    return roles;
+  }
+
+  /**
+   * @return the names of the groups or users of each role, by role name
+   */
+  @SuppressWarnings("unchecked")
+  private static Map<String, Set<String>> getRoleMembersCore(PersistenceManager pm,
+      Class<?> memberClass, String memberName, String rolesFilter, Object[] params) {
+    Query query = pm.newQuery(memberClass);
+    query.addExtension(LOAD_RESULTS_AT_COMMIT, "false");
+    query.declareVariables(MSentryRole.class.getName() + " role");
+    query.setFilter("roles.contains(role)" + rolesFilter);
+    query.setResult("role.roleName, " + memberName);
+    List<Object[]> rows = (List<Object[]>) query.executeWithArray(params);
+    Map<String, Set<String>> roleMembers = new HashMap<>();
+    for (Object[] row : rows) {
+      Set<String> members = roleMembers.get((String) row[0]);
+      if (members == null) {
+        members = new HashSet<>();
+        roleMembers.put((String) row[0], members);
+      }
+      members.add((String) row[1]);
+    }
+    return roleMembers;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Set<String> getAllGroupNamesCore(PersistenceManager pm) {
+    Query query = pm.newQuery(MSentryGroup.class);
+    query.addExtension(LOAD_RESULTS_AT_COMMIT, "false");
+    query.setResult("groupName");
+    return new HashSet<>((List<String>) query.execute());
+  }
+
   // ensure that the backend DB schema is set
   void verifySentryStoreSchema(boolean checkVersion) throws Exception {
     if (!checkVersion) {
@@ -296,6 +542,8 @@ public class SentryStore {
   }
 
   public synchronized void stop() {
+    policyImageStores.remove(this);
+    policyImage = null;
     if (pmf != null) {
       pmf.close();
     }
@@ -321,7 +569,7 @@ public class SentryStore {
    * @return List of all roles
    */
   @SuppressWarnings("unchecked")
-  private List<MSentryRole> getAllRoles(PersistenceManager pm) {
+  public List<MSentryRole> getAllRoles(PersistenceManager pm) {
     Query query = pm.newQuery(MSentryRole.class);
     query.addExtension(LOAD_RESULTS_AT_COMMIT, "false");
     return (List<MSentryRole>) query.execute();
@@ -367,9 +615,11 @@ public class SentryStore {
               throw new SentryAlreadyExistsException("Role: " + trimmedRoleName);
             }
             pm.makePersistent(new MSentryRole(trimmedRoleName));
+            persistGMChangesCore(pm, Collections.singleton(trimmedRoleName));
             return null;
             }
         });
+    refreshPolicyImages(Collections.singleton(trimAndLower(roleName)));
   }
 
   /**
@@ -561,6 +811,7 @@ public class SentryStore {
               pm.newQuery(MSentryPrivilege.class).deletePersistentAll();
               pm.newQuery(MSentryPermChange.class).deletePersistentAll();
               pm.newQuery(MSentryPathChange.class).deletePersistentAll();
+              pm.newQuery(MSentryGMChange.class).deletePersistentAll();
               pm.newQuery(MAuthzPathsMapping.class).deletePersistentAll();
               pm.newQuery(MPath.class).deletePersistentAll();
               pm.newQuery(MSentryHmsNotification.class).deletePersistentAll();
@@ -568,6 +819,7 @@ public class SentryStore {
               return null;
             }
           });
+      reloadPolicyImages();
     } catch (Exception e) {
       // the method only for test, log the error and ignore the exception
       LOGGER.error(e.getMessage(), e);
@@ -628,7 +880,8 @@ public class SentryStore {
   }
 
   /**
-   * Purge delta change tables, {@link MSentryPermChange} and {@link MSentryPathChange}.
+   * Purge delta change tables, {@link MSentryPermChange}, {@link MSentryPathChange} and
+   * {@link MSentryGMChange}.
    * The number of deltas to keep is configurable
    */
   public void purgeDeltaChangeTables() {
@@ -645,6 +898,8 @@ public class SentryStore {
           LOGGER.info("MSentryPermChange table has been purged.");
           purgeDeltaChangeTableCore(MSentryPathChange.class, pm, changesToKeep);
           LOGGER.info("MSentryPathUpdate table has been purged.");
+          purgeDeltaChangeTableCore(MSentryGMChange.class, pm, changesToKeep);
+          LOGGER.info("MSentryGMChange table has been purged.");
           return null;
         }
       });
@@ -702,14 +957,16 @@ public class SentryStore {
             // update the privilege to be the one actually updated.
             convertToTSentryPrivilege(mPrivilege, privilege);
           }
+          persistGMChangesCore(pm, Collections.singleton(trimmedRoleName));
           return null;
         }
       });
+    refreshPolicyImages(Collections.singleton(trimAndLower(roleName)));
   }
 
   /**
-   * Alter a given sentry role to grant a set of privileges.
-   * Internally calls alterSentryRoleGrantPrivilege.
+   * Alter a given sentry role to grant a set of privileges in a single transaction.
+   * Internally calls alterSentryRolesGrantPrivileges.
    *
    * @param grantorPrincipal User name
    * @param roleName Role name
@@ -718,9 +975,8 @@ public class SentryStore {
    */
   public void alterSentryRoleGrantPrivileges(final String grantorPrincipal,
       final String roleName, final Set<TSentryPrivilege> privileges) throws Exception {
-    for (TSentryPrivilege privilege : privileges) {
-      alterSentryRoleGrantPrivilege(grantorPrincipal, roleName, privilege);
-    }
+    alterSentryRolesGrantPrivileges(grantorPrincipal,
+        Collections.singletonMap(roleName, privileges), null);
   }
 
   /**
@@ -734,28 +990,31 @@ public class SentryStore {
    * @throws Exception
    *
    */
-  synchronized void alterSentryRoleGrantPrivilege(final String grantorPrincipal,
+  void alterSentryRoleGrantPrivilege(final String grantorPrincipal,
       final String roleName, final TSentryPrivilege privilege,
       final Update update) throws Exception {
 
-    execute(update, new TransactionBlock<Object>() {
-      public Object execute(PersistenceManager pm) throws Exception {
-        pm.setDetachAllOnCommit(false); // No need to detach objects
-        String trimmedRoleName = trimAndLower(roleName);
-        // first do grant check
-        grantOptionCheck(pm, grantorPrincipal, privilege);
+    execute(Collections.singleton(trimAndLower(roleName)), update,
+        new TransactionBlock<Object>() {
+          public Object execute(PersistenceManager pm) throws Exception {
+            pm.setDetachAllOnCommit(false); // No need to detach objects
+            String trimmedRoleName = trimAndLower(roleName);
+            // first do grant check
+            grantOptionCheck(pm, grantorPrincipal, privilege);
 
-        // Alter sentry Role and grant Privilege.
-        MSentryPrivilege mPrivilege = alterSentryRoleGrantPrivilegeCore(pm,
-          trimmedRoleName, privilege);
+            // Alter sentry Role and grant Privilege.
+            MSentryPrivilege mPrivilege = alterSentryRoleGrantPrivilegeCore(pm,
+              trimmedRoleName, privilege);
 
-        if (mPrivilege != null) {
-          // update the privilege to be the one actually updated.
-          convertToTSentryPrivilege(mPrivilege, privilege);
-        }
-        return null;
-      }
-    });
+            if (mPrivilege != null) {
+              // update the privilege to be the one actually updated.
+              convertToTSentryPrivilege(mPrivilege, privilege);
+            }
+            persistGMChangesCore(pm, Collections.singleton(trimmedRoleName));
+            return null;
+          }
+        });
+    refreshPolicyImages(Collections.singleton(trimAndLower(roleName)));
   }
 
   /**
@@ -786,57 +1045,137 @@ public class SentryStore {
     }
   }
 
+  /**
+   * Alter the given sentry roles to grant sets of privileges in a single transaction, as
+   * well as persist the given permission change, if any, as a single delta for the whole
+   * batch. The grant option of the grantor is checked once for the batch and the existing
+   * privileges are looked up with a query per server and database of the batch.
+   *
+   * @param grantorPrincipal User name
+   * @param rolePrivileges the privileges to grant to each role
+   * @param update the permission delta update of the whole batch, or null
+   * @throws Exception
+   */
+  public void alterSentryRolesGrantPrivileges(final String grantorPrincipal,
+      final Map<String, Set<TSentryPrivilege>> rolePrivileges, final Update update)
+      throws Exception {
+    final Set<String> roleNames = new HashSet<>();
+    for (String roleName : rolePrivileges.keySet()) {
+      roleNames.add(trimAndLower(roleName));
+    }
+    execute(roleNames, update, new TransactionBlock<Object>() {
+      public Object execute(PersistenceManager pm) throws Exception {
+        pm.setDetachAllOnCommit(false); // No need to detach objects
+        Set<MSentryPrivilege> grantorPrivileges = getGrantorPrivileges(pm, grantorPrincipal);
+        List<TSentryPrivilege> privileges = new ArrayList<>();
+        for (Set<TSentryPrivilege> rolePrivilegeSet : rolePrivileges.values()) {
+          for (TSentryPrivilege privilege : rolePrivilegeSet) {
+            grantOptionCheck(grantorPrincipal, grantorPrivileges, privilege);
+            privileges.add(privilege);
+          }
+        }
+
+        PrivilegeLookup lookup = new PrivilegeLookup(pm, privileges);
+        for (Map.Entry<String, Set<TSentryPrivilege>> entry : rolePrivileges.entrySet()) {
+          if (entry.getValue().isEmpty()) {
+            continue;
+          }
+          String trimmedRoleName = trimAndLower(entry.getKey());
+          MSentryRole mRole = getRole(pm, trimmedRoleName);
+          if (mRole == null) {
+            throw noSuchRole(trimmedRoleName);
+          }
+          for (TSentryPrivilege privilege : entry.getValue()) {
+            MSentryPrivilege mPrivilege = alterSentryRoleGrantPrivilegeCore(pm, mRole,
+                privilege, lookup);
+            if (mPrivilege != null) {
+              // update the privilege to be the one actually updated.
+              convertToTSentryPrivilege(mPrivilege, privilege);
+            }
+          }
+        }
+        persistGMChangesCore(pm, roleNames);
+        return null;
+      }
+    });
+    refreshPolicyImages(roleNames);
+  }
+
   private MSentryPrivilege alterSentryRoleGrantPrivilegeCore(PersistenceManager pm,
       String roleName, TSentryPrivilege privilege)
       throws SentryNoSuchObjectException, SentryInvalidInputException {
-    MSentryPrivilege mPrivilege = null;
     MSentryRole mRole = getRole(pm, roleName);
     if (mRole == null) {
       throw noSuchRole(roleName);
-    } else {
-      if (!isNULL(privilege.getColumnName()) || !isNULL(privilege.getTableName())
-          || !isNULL(privilege.getDbName())) {
-        // If Grant is for ALL and Either INSERT/SELECT already exists..
-        // need to remove it and GRANT ALL..
-        if (AccessConstants.ALL.equalsIgnoreCase(privilege.getAction())
-            || AccessConstants.ACTION_ALL.equalsIgnoreCase(privilege.getAction())) {
-          TSentryPrivilege tNotAll = new TSentryPrivilege(privilege);
-          tNotAll.setAction(AccessConstants.SELECT);
-          MSentryPrivilege mSelect = getMSentryPrivilege(tNotAll, pm);
-          tNotAll.setAction(AccessConstants.INSERT);
-          MSentryPrivilege mInsert = getMSentryPrivilege(tNotAll, pm);
-          if ((mSelect != null) && mRole.getPrivileges().contains(mSelect)) {
-            mSelect.removeRole(mRole);
-            pm.makePersistent(mSelect);
-          }
-          if ((mInsert != null) && mRole.getPrivileges().contains(mInsert)) {
-            mInsert.removeRole(mRole);
-            pm.makePersistent(mInsert);
-          }
-        } else {
-          // If Grant is for Either INSERT/SELECT and ALL already exists..
-          // do nothing..
-          TSentryPrivilege tAll = new TSentryPrivilege(privilege);
-          tAll.setAction(AccessConstants.ALL);
-          MSentryPrivilege mAll1 = getMSentryPrivilege(tAll, pm);
-          tAll.setAction(AccessConstants.ACTION_ALL);
-          MSentryPrivilege mAll2 = getMSentryPrivilege(tAll, pm);
-          if (mAll1 != null && mRole.getPrivileges().contains(mAll1)) {
-            return null;
-          }
-          if (mAll2 != null && mRole.getPrivileges().contains(mAll2)) {
-            return null;
-          }
+    }
+    return alterSentryRoleGrantPrivilegeCore(pm, mRole, privilege, null);
+  }
+
+  /**
+   * Grant a privilege to a role.
+   *
+   * @param pm PersistenceManager
+   * @param mRole the role
+   * @param privilege the privilege
+   * @param lookup the existing privileges of the batch, or null to query them
+   * @return the granted privilege, or null if the role already has a privilege implying it
+   * @throws SentryInvalidInputException
+   */
+  private MSentryPrivilege alterSentryRoleGrantPrivilegeCore(PersistenceManager pm,
+      MSentryRole mRole, TSentryPrivilege privilege, PrivilegeLookup lookup)
+      throws SentryInvalidInputException {
+    if (!isNULL(privilege.getColumnName()) || !isNULL(privilege.getTableName())
+        || !isNULL(privilege.getDbName())) {
+      // If Grant is for ALL and Either INSERT/SELECT already exists..
+      // need to remove it and GRANT ALL..
+      if (AccessConstants.ALL.equalsIgnoreCase(privilege.getAction())
+          || AccessConstants.ACTION_ALL.equalsIgnoreCase(privilege.getAction())) {
+        TSentryPrivilege tNotAll = new TSentryPrivilege(privilege);
+        tNotAll.setAction(AccessConstants.SELECT);
+        MSentryPrivilege mSelect = getMSentryPrivilege(tNotAll, pm, lookup);
+        tNotAll.setAction(AccessConstants.INSERT);
+        MSentryPrivilege mInsert = getMSentryPrivilege(tNotAll, pm, lookup);
+        if ((mSelect != null) && mRole.getPrivileges().contains(mSelect)) {
+          mSelect.removeRole(mRole);
+          pm.makePersistent(mSelect);
+        }
+        if ((mInsert != null) && mRole.getPrivileges().contains(mInsert)) {
+          mInsert.removeRole(mRole);
+          pm.makePersistent(mInsert);
+        }
+      } else {
+        // If Grant is for Either INSERT/SELECT and ALL already exists..
+        // do nothing..
+        TSentryPrivilege tAll = new TSentryPrivilege(privilege);
+        tAll.setAction(AccessConstants.ALL);
+        MSentryPrivilege mAll1 = getMSentryPrivilege(tAll, pm, lookup);
+        tAll.setAction(AccessConstants.ACTION_ALL);
+        MSentryPrivilege mAll2 = getMSentryPrivilege(tAll, pm, lookup);
+        if (mAll1 != null && mRole.getPrivileges().contains(mAll1)) {
+          return null;
+        }
+        if (mAll2 != null && mRole.getPrivileges().contains(mAll2)) {
+          return null;
         }
       }
+    }
 
-      mPrivilege = getMSentryPrivilege(privilege, pm);
-      if (mPrivilege == null) {
-        mPrivilege = convertToMSentryPrivilege(privilege);
+    MSentryPrivilege mPrivilege = getMSentryPrivilege(privilege, pm, lookup);
+    if (mPrivilege == null) {
+      mPrivilege = convertToMSentryPrivilege(privilege);
+      if (lookup != null) {
+        lookup.add(mPrivilege);
       }
-      mPrivilege.appendRole(mRole);
-      pm.makePersistent(mPrivilege);
     }
+    // Both sides, the next grants of the batch check the privileges of the role. The role
+    // owns the join table and DataNucleus only logs a failure to insert into it, after
+    // which the datastore has rolled the transaction back: fail it to have it retried
+    // rather than commit the rest of it without the grant.
+    if (!mRole.getPrivileges().contains(mPrivilege) && !mRole.appendPrivilege(mPrivilege)) {
+      throw new JDODataStoreException("Failed to grant " + mPrivilege + " to role "
+          + mRole.getRoleName());
+    }
+    pm.makePersistent(mPrivilege);
     return mPrivilege;
   }
 
@@ -861,14 +1200,16 @@ public class SentryStore {
           grantOptionCheck(pm, grantorPrincipal, tPrivilege);
 
           alterSentryRoleRevokePrivilegeCore(pm, trimmedRoleName, tPrivilege);
+          persistGMChangesCore(pm, Collections.singleton(trimmedRoleName));
           return null;
         }
       });
+    refreshPolicyImages(Collections.singleton(trimAndLower(roleName)));
   }
 
   /**
-   * Alter a given sentry role to revoke a set of privileges.
-   * Internally calls alterSentryRoleRevokePrivilege.
+   * Alter a given sentry role to revoke a set of privileges in a single transaction.
+   * Internally calls alterSentryRolesRevokePrivileges.
    *
    * @param grantorPrincipal User name
    * @param roleName the given role name
@@ -878,9 +1219,8 @@ public class SentryStore {
    */
   public void alterSentryRoleRevokePrivileges(final String grantorPrincipal,
       final String roleName, final Set<TSentryPrivilege> tPrivileges) throws Exception {
-    for (TSentryPrivilege tPrivilege : tPrivileges) {
-      alterSentryRoleRevokePrivilege(grantorPrincipal, roleName, tPrivilege);
-    }
+    alterSentryRolesRevokePrivileges(grantorPrincipal,
+        Collections.singletonMap(roleName, tPrivileges), null);
   }
 
   /**
@@ -894,20 +1234,23 @@ public class SentryStore {
    * @throws Exception
    *
    */
-  private synchronized void alterSentryRoleRevokePrivilege(final String grantorPrincipal,
+  private void alterSentryRoleRevokePrivilege(final String grantorPrincipal,
                                               final String roleName, final TSentryPrivilege tPrivilege,
                                               final Update update) throws Exception {
-    execute(update, new TransactionBlock<Object>() {
-      public Object execute(PersistenceManager pm) throws Exception {
-        pm.setDetachAllOnCommit(false); // No need to detach objects
-        String trimmedRoleName = safeTrimLower(roleName);
-        // first do revoke check
-        grantOptionCheck(pm, grantorPrincipal, tPrivilege);
+    execute(Collections.singleton(trimAndLower(roleName)), update,
+        new TransactionBlock<Object>() {
+          public Object execute(PersistenceManager pm) throws Exception {
+            pm.setDetachAllOnCommit(false); // No need to detach objects
+            String trimmedRoleName = safeTrimLower(roleName);
+            // first do revoke check
+            grantOptionCheck(pm, grantorPrincipal, tPrivilege);
 
-        alterSentryRoleRevokePrivilegeCore(pm, trimmedRoleName, tPrivilege);
-        return null;
-      }
-    });
+            alterSentryRoleRevokePrivilegeCore(pm, trimmedRoleName, tPrivilege);
+            persistGMChangesCore(pm, Collections.singleton(trimmedRoleName));
+            return null;
+          }
+        });
+    refreshPolicyImages(Collections.singleton(trimAndLower(roleName)));
   }
 
   /**
@@ -940,6 +1283,46 @@ public class SentryStore {
     }
   }
 
+  /**
+   * Alter the given sentry roles to revoke sets of privileges in a single transaction, as
+   * well as persist the given permission change, if any, as a single delta for the whole
+   * batch. The grant option of the grantor is checked once for the batch.
+   *
+   * @param grantorPrincipal User name
+   * @param rolePrivileges the privileges to revoke from each role
+   * @param update the permission delta update of the whole batch, or null
+   * @throws Exception
+   */
+  public void alterSentryRolesRevokePrivileges(final String grantorPrincipal,
+      final Map<String, Set<TSentryPrivilege>> rolePrivileges, final Update update)
+      throws Exception {
+    final Set<String> roleNames = new HashSet<>();
+    for (String roleName : rolePrivileges.keySet()) {
+      roleNames.add(trimAndLower(roleName));
+    }
+    execute(roleNames, update, new TransactionBlock<Object>() {
+      public Object execute(PersistenceManager pm) throws Exception {
+        pm.setDetachAllOnCommit(false); // No need to detach objects
+        Set<MSentryPrivilege> grantorPrivileges = getGrantorPrivileges(pm, grantorPrincipal);
+        for (Set<TSentryPrivilege> rolePrivilegeSet : rolePrivileges.values()) {
+          for (TSentryPrivilege tPrivilege : rolePrivilegeSet) {
+            grantOptionCheck(grantorPrincipal, grantorPrivileges, tPrivilege);
+          }
+        }
+
+        for (Map.Entry<String, Set<TSentryPrivilege>> entry : rolePrivileges.entrySet()) {
+          String trimmedRoleName = safeTrimLower(entry.getKey());
+          for (TSentryPrivilege tPrivilege : entry.getValue()) {
+            alterSentryRoleRevokePrivilegeCore(pm, trimmedRoleName, tPrivilege);
+          }
+        }
+        persistGMChangesCore(pm, roleNames);
+        return null;
+      }
+    });
+    refreshPolicyImages(roleNames);
+  }
+
   private void alterSentryRoleRevokePrivilegeCore(PersistenceManager pm,
       String roleName, TSentryPrivilege tPrivilege)
       throws SentryNoSuchObjectException, SentryInvalidInputException {
@@ -1182,6 +1565,11 @@ public class SentryStore {
     return (List<MSentryPrivilege>) query.executeWithMap(paramBuilder.getArguments());
   }
 
+  private MSentryPrivilege getMSentryPrivilege(TSentryPrivilege tPriv, PersistenceManager pm,
+      PrivilegeLookup lookup) {
+    return lookup != null ? lookup.get(tPriv) : getMSentryPrivilege(tPriv, pm);
+  }
+
   private MSentryPrivilege getMSentryPrivilege(TSentryPrivilege tPriv, PersistenceManager pm) {
     Boolean grantOption = null;
     if (tPriv.getGrantOption().equals(TSentryGrantOption.TRUE)) {
@@ -1220,6 +1608,7 @@ public class SentryStore {
             return null;
           }
         });
+    refreshPolicyImages(Collections.singleton(trimAndLower(roleName)));
   }
 
   /**
@@ -1230,15 +1619,17 @@ public class SentryStore {
    * @param update the corresponding permission delta update
    * @throws Exception
    */
-  public synchronized void dropSentryRole(final String roleName,
+  public void dropSentryRole(final String roleName,
       final Update update) throws Exception {
-    execute(update, new TransactionBlock<Object>() {
-      public Object execute(PersistenceManager pm) throws Exception {
-        pm.setDetachAllOnCommit(false); // No need to detach objects
-        dropSentryRoleCore(pm, roleName);
-        return null;
-      }
-    });
+    execute(Collections.singleton(trimAndLower(roleName)), update,
+        new TransactionBlock<Object>() {
+          public Object execute(PersistenceManager pm) throws Exception {
+            pm.setDetachAllOnCommit(false); // No need to detach objects
+            dropSentryRoleCore(pm, roleName);
+            return null;
+          }
+        });
+    refreshPolicyImages(Collections.singleton(trimAndLower(roleName)));
   }
 
   private void dropSentryRoleCore(PersistenceManager pm, String roleName)
@@ -1250,6 +1641,7 @@ public class SentryStore {
     }
     removePrivileges(pm, sentryRole);
     pm.deletePersistent(sentryRole);
+    persistGMChangesCore(pm, Collections.singleton(lRoleName));
   }
 
   /**
@@ -1294,6 +1686,7 @@ public class SentryStore {
             return null;
           }
         });
+    refreshPolicyImages(Collections.singleton(trimAndLower(roleName)));
   }
 
   /**
@@ -1306,17 +1699,19 @@ public class SentryStore {
    * @param update the corresponding permission delta update
    * @throws Exception
    */
-  public synchronized void alterSentryRoleAddGroups(final String grantorPrincipal,
+  public void alterSentryRoleAddGroups(final String grantorPrincipal,
       final String roleName, final Set<TSentryGroup> groupNames,
       final Update update) throws Exception {
 
-    execute(update, new TransactionBlock<Object>() {
-      public Object execute(PersistenceManager pm) throws Exception {
-        pm.setDetachAllOnCommit(false); // No need to detach objects
-        alterSentryRoleAddGroupsCore(pm, roleName, groupNames);
-        return null;
-      }
-    });
+    execute(Collections.singleton(trimAndLower(roleName)), update,
+        new TransactionBlock<Object>() {
+          public Object execute(PersistenceManager pm) throws Exception {
+            pm.setDetachAllOnCommit(false); // No need to detach objects
+            alterSentryRoleAddGroupsCore(pm, roleName, groupNames);
+            return null;
+          }
+        });
+    refreshPolicyImages(Collections.singleton(trimAndLower(roleName)));
   }
 
   private void alterSentryRoleAddGroupsCore(PersistenceManager pm, String roleName,
@@ -1344,6 +1739,7 @@ public class SentryStore {
       groups.add(group);
     }
     pm.makePersistentAll(groups);
+    persistGMChangesCore(pm, Collections.singleton(lRoleName));
   }
 
   public void alterSentryRoleAddUsers(final String roleName,
@@ -1356,6 +1752,7 @@ public class SentryStore {
             return null;
           }
         });
+    refreshPolicyImages(Collections.singleton(trimAndLower(roleName)));
   }
 
   private void alterSentryRoleAddUsersCore(PersistenceManager pm, String roleName,
@@ -1379,6 +1776,7 @@ public class SentryStore {
       users.add(user);
     }
     pm.makePersistentAll(users);
+    persistGMChangesCore(pm, Collections.singleton(trimmedRoleName));
   }
 
   public void alterSentryRoleDeleteUsers(final String roleName,
@@ -1405,10 +1803,12 @@ public class SentryStore {
                 }
               }
               pm.makePersistentAll(users);
+              persistGMChangesCore(pm, Collections.singleton(trimmedRoleName));
             }
             return null;
           }
         });
+    refreshPolicyImages(Collections.singleton(trimAndLower(roleName)));
   }
 
   /**
@@ -1442,9 +1842,11 @@ public class SentryStore {
               }
             }
             pm.makePersistentAll(groups);
+            persistGMChangesCore(pm, Collections.singleton(trimmedRoleName));
             return null;
           }
         });
+    refreshPolicyImages(Collections.singleton(trimAndLower(roleName)));
   }
 
   /**
@@ -1456,35 +1858,38 @@ public class SentryStore {
    * @param update the corresponding permission delta update
    * @throws Exception
    */
-  public synchronized void alterSentryRoleDeleteGroups(final String roleName,
+  public void alterSentryRoleDeleteGroups(final String roleName,
       final Set<TSentryGroup> groupNames, final Update update)
           throws Exception {
-    execute(update, new TransactionBlock<Object>() {
-      public Object execute(PersistenceManager pm) throws Exception {
-        pm.setDetachAllOnCommit(false); // No need to detach objects
-        String trimmedRoleName = trimAndLower(roleName);
-        MSentryRole role = getRole(pm, trimmedRoleName);
-        if (role == null) {
-          throw noSuchRole(trimmedRoleName);
-        }
+    execute(Collections.singleton(trimAndLower(roleName)), update,
+        new TransactionBlock<Object>() {
+          public Object execute(PersistenceManager pm) throws Exception {
+            pm.setDetachAllOnCommit(false); // No need to detach objects
+            String trimmedRoleName = trimAndLower(roleName);
+            MSentryRole role = getRole(pm, trimmedRoleName);
+            if (role == null) {
+              throw noSuchRole(trimmedRoleName);
+            }
 
-        // Remove the group from the specified role if it belongs to the role.
-        Query query = pm.newQuery(MSentryGroup.class);
-        query.setFilter("this.groupName == :groupName");
-        query.setUnique(true);
-        List<MSentryGroup> groups = Lists.newArrayList();
-        for (TSentryGroup tGroup : groupNames) {
-          String groupName = tGroup.getGroupName().trim();
-          MSentryGroup group = (MSentryGroup) query.execute(groupName);
-          if (group != null) {
-            group.removeRole(role);
-            groups.add(group);
+            // Remove the group from the specified role if it belongs to the role.
+            Query query = pm.newQuery(MSentryGroup.class);
+            query.setFilter("this.groupName == :groupName");
+            query.setUnique(true);
+            List<MSentryGroup> groups = Lists.newArrayList();
+            for (TSentryGroup tGroup : groupNames) {
+              String groupName = tGroup.getGroupName().trim();
+              MSentryGroup group = (MSentryGroup) query.execute(groupName);
+              if (group != null) {
+                group.removeRole(role);
+                groups.add(group);
+              }
+            }
+            pm.makePersistentAll(groups);
+            persistGMChangesCore(pm, Collections.singleton(trimmedRoleName));
+            return null;
           }
-        }
-        pm.makePersistentAll(groups);
-        return null;
-      }
-    });
+        });
+    refreshPolicyImages(Collections.singleton(trimAndLower(roleName)));
   }
 
   @VisibleForTesting
@@ -1553,6 +1958,16 @@ public class SentryStore {
     if (roleNames == null || roleNames.isEmpty()) {
       return false;
     }
+    PolicyImage image = policyImage;
+    if (image != null) {
+      String lServerName = safeTrimLower(serverName);
+      for (MSentryPrivilege priv : image.getPrivileges(toTrimedLower(roleNames))) {
+        if (priv.getServerName().equals(lServerName)) {
+          return true;
+        }
+      }
+      return false;
+    }
     return tm.executeTransaction(
       new TransactionBlock<Boolean>() {
         public Boolean execute(PersistenceManager pm) throws Exception {
@@ -1576,6 +1991,10 @@ public class SentryStore {
     if (roleNames == null || roleNames.isEmpty()) {
       return Collections.emptyList();
     }
+    PolicyImage image = policyImage;
+    if (image != null) {
+      return getMSentryPrivileges(image, roleNames, authHierarchy);
+    }
 
     return tm.executeTransaction(
       new TransactionBlock<List<MSentryPrivilege>>() {
@@ -1587,10 +2006,14 @@ public class SentryStore {
           if (authHierarchy != null && authHierarchy.getServer() != null) {
             paramBuilder.add(SERVER_NAME, authHierarchy.getServer());
             if (authHierarchy.getDb() != null) {
-              paramBuilder.addNull(URI)
-                      .newChild()
-                        .add(DB_NAME, authHierarchy.getDb())
-                        .addNull(DB_NAME);
+              paramBuilder.addNull(URI);
+              // A wildcard db matches the privileges of every db
+              if (!AccessConstants.ALL.equalsIgnoreCase(authHierarchy.getDb())
+                  && !AccessConstants.SOME.equalsIgnoreCase(authHierarchy.getDb())) {
+                paramBuilder.newChild()
+                          .add(DB_NAME, authHierarchy.getDb())
+                          .addNull(DB_NAME);
+              }
               if (authHierarchy.getTable() != null
                   && !AccessConstants.ALL.equalsIgnoreCase(authHierarchy.getTable())) {
                 if (!AccessConstants.SOME.equalsIgnoreCase(authHierarchy.getTable())) {
@@ -1681,7 +2104,10 @@ public class SentryStore {
       TSentryAuthorizable authHierarchy, boolean isAdmin)
           throws Exception {
     Map<String, Set<TSentryPrivilege>> resultPrivilegeMap = Maps.newTreeMap();
-    Set<String> roles = getRolesToQuery(groups, null, new TSentryActiveRoleSet(true, null));
+    PolicyImage image = policyImage;
+    Set<String> roles = image == null
+        ? getRolesToQuery(groups, null, new TSentryActiveRoleSet(true, null))
+        : getRolesToQuery(image, groups, null, new TSentryActiveRoleSet(true, null));
 
     if (activeRoles != null && !activeRoles.isAll()) {
       // need to check/convert to lowercase here since this is from user input
@@ -1692,7 +2118,11 @@ public class SentryStore {
 
     // An empty 'roles' is a treated as a wildcard (in case of admin role)..
     // so if not admin, don't return anything if 'roles' is empty..
-    if (isAdmin || !roles.isEmpty()) {
+    if (image != null) {
+      if ((isAdmin || !roles.isEmpty()) && authHierarchy.getServer() != null) {
+        addPrivilegesByAuth(image, roles, authHierarchy, resultPrivilegeMap);
+      }
+    } else if (isAdmin || !roles.isEmpty()) {
       List<MSentryPrivilege> mSentryPrivileges = getMSentryPrivilegesByAuth(roles,
           authHierarchy);
       for (MSentryPrivilege priv : mSentryPrivileges) {
@@ -1711,6 +2141,72 @@ public class SentryStore {
     return new TSentryPrivilegeMap(resultPrivilegeMap);
   }
 
+  /**
+   * Image version of {@link #getMSentryPrivilegesByAuth(Set, TSentryAuthorizable)}: adds
+   * the privileges of the roles which match the authorizable exactly, for every role
+   * having one of these privileges. No roles means the privileges of all the roles.
+   */
+  private void addPrivilegesByAuth(PolicyImage image, Set<String> roleNames,
+      TSentryAuthorizable authHierarchy, Map<String, Set<TSentryPrivilege>> resultPrivilegeMap) {
+    Set<MSentryPrivilege> matching = new HashSet<>();
+    Collection<PolicyImage.Role> queriedRoles = image.getRoles();
+    if (!roleNames.isEmpty()) {
+      queriedRoles = new ArrayList<>();
+      for (String roleName : toTrimedLower(roleNames)) {
+        PolicyImage.Role role = image.getRole(roleName);
+        if (role != null) {
+          queriedRoles.add(role);
+        }
+      }
+    }
+    for (PolicyImage.Role role : queriedRoles) {
+      for (MSentryPrivilege priv : role.getPrivileges()) {
+        if (matchesAuthorizableExactly(priv, authHierarchy)) {
+          matching.add(priv);
+        }
+      }
+    }
+    if (matching.isEmpty()) {
+      return;
+    }
+    for (PolicyImage.Role role : image.getRoles()) {
+      for (MSentryPrivilege priv : role.getPrivileges()) {
+        if (matching.contains(priv)) {
+          Set<TSentryPrivilege> tPrivSet = resultPrivilegeMap.get(role.getName());
+          if (tPrivSet == null) {
+            tPrivSet = Sets.newTreeSet();
+            resultPrivilegeMap.put(role.getName(), tPrivSet);
+          }
+          tPrivSet.add(convertToTSentryPrivilege(priv));
+        }
+      }
+    }
+  }
+
+  /**
+   * Same as the filter built by {@link #getMSentryPrivilegesByAuth(Set, TSentryAuthorizable)}
+   * for an authorizable with a server.
+   */
+  private static boolean matchesAuthorizableExactly(MSentryPrivilege priv,
+      TSentryAuthorizable authHierarchy) {
+    if (!priv.getServerName().equals(safeTrimLower(authHierarchy.getServer()))) {
+      return false;
+    }
+    if (authHierarchy.getDb() != null) {
+      if (!priv.getDbName().equals(safeTrimLower(authHierarchy.getDb()))
+          || !isNULL(priv.getURI())) {
+        return false;
+      }
+      return authHierarchy.getTable() == null ? isNULL(priv.getTableName())
+          : priv.getTableName().equals(safeTrimLower(authHierarchy.getTable()));
+    }
+    if (authHierarchy.getUri() != null) {
+      return !isNULL(priv.getURI()) && isNULL(priv.getDbName())
+          && authHierarchy.getUri().startsWith(priv.getURI());
+    }
+    return isNULL(priv.getDbName()) && isNULL(priv.getURI());
+  }
+
   private Set<MSentryPrivilege> getMSentryPrivilegesByRoleName(String roleName)
       throws Exception {
     MSentryRole mSentryRole = getMSentryRoleByName(roleName);
@@ -1791,6 +2287,10 @@ public class SentryStore {
    */
   public Set<TSentryRole> getTSentryRolesByGroupName(Set<String> groupNames,
       boolean checkAllGroups) throws Exception {
+    PolicyImage image = policyImage;
+    if (image != null) {
+      return getTSentryRolesByGroupName(image, groupNames, checkAllGroups);
+    }
     Set<MSentryRole> roleSet = Sets.newHashSet();
     for (String groupName : groupNames) {
       try {
@@ -1805,10 +2305,50 @@ public class SentryStore {
     return convertToTSentryRoles(roleSet);
   }
 
+  /**
+   * Image version of {@link #getTSentryRolesByGroupName(Set, boolean)}.
+   */
+  private static Set<TSentryRole> getTSentryRolesByGroupName(PolicyImage image,
+      Set<String> groupNames, boolean checkAllGroups) throws SentryNoSuchObjectException {
+    Set<String> roleNames = Sets.newHashSet();
+    for (String groupName : groupNames) {
+      //If no group name was specified, return all roles
+      if (groupName == null) {
+        for (PolicyImage.Role role : image.getRoles()) {
+          roleNames.add(role.getName());
+        }
+        continue;
+      }
+      String trimmedGroupName = groupName.trim();
+      if (!image.hasGroup(trimmedGroupName)) {
+        // if we are checking for all the given groups, then continue searching
+        if (!checkAllGroups) {
+          throw noSuchGroup(trimmedGroupName);
+        }
+        continue;
+      }
+      roleNames.addAll(image.getRoleNamesForGroups(Collections.singleton(trimmedGroupName)));
+    }
+    Set<TSentryRole> roles = new HashSet<>(roleNames.size());
+    for (String roleName : roleNames) {
+      PolicyImage.Role role = image.getRole(roleName);
+      Set<TSentryGroup> groups = new HashSet<>(role.getGroups().size());
+      for (String groupName : role.getGroups()) {
+        groups.add(new TSentryGroup(groupName));
+      }
+      roles.add(new TSentryRole(roleName, groups, "--"));
+    }
+    return roles;
+  }
+
   public Set<String> getRoleNamesForGroups(final Set<String> groups) throws Exception {
     if ((groups == null) || groups.isEmpty()) {
       return ImmutableSet.of();
     }
+    PolicyImage image = policyImage;
+    if (image != null) {
+      return image.getRoleNamesForGroups(groups);
+    }
 
     return tm.executeTransaction(
         new TransactionBlock<Set<String>>() {
@@ -1827,6 +2367,10 @@ public class SentryStore {
     if ((users == null) || users.isEmpty()) {
       return ImmutableSet.of();
     }
+    PolicyImage image = policyImage;
+    if (image != null) {
+      return image.getRoleNamesForUsers(users);
+    }
 
     return tm.executeTransaction(
           new TransactionBlock<Set<String>>() {
@@ -1896,8 +2440,12 @@ public class SentryStore {
   public Set<String> listSentryPrivilegesForProvider(Set<String> groups, Set<String> users,
       TSentryActiveRoleSet roleSet, TSentryAuthorizable authHierarchy) throws Exception {
     Set<String> result = Sets.newHashSet();
-    Set<String> rolesToQuery = getRolesToQuery(groups, users, roleSet);
-    List<MSentryPrivilege> mSentryPrivileges = getMSentryPrivileges(rolesToQuery, authHierarchy);
+    // Read the roles and their privileges from the same image
+    PolicyImage image = policyImage;
+    List<MSentryPrivilege> mSentryPrivileges = image == null
+        ? getMSentryPrivileges(getRolesToQuery(groups, users, roleSet), authHierarchy)
+        : getMSentryPrivileges(image, getRolesToQuery(image, groups, users, roleSet),
+            authHierarchy);
     for (MSentryPrivilege priv : mSentryPrivileges) {
       result.add(toAuthorizable(priv));
     }
@@ -1905,6 +2453,158 @@ public class SentryStore {
     return result;
   }
 
+  /**
+   * Batch version of {@link #listSentryPrivilegesForProvider} for many authorizable
+   * hierarchies. The roles are resolved once and the privileges of the roles in the
+   * requested servers are read with a single query, then each hierarchy is matched in
+   * memory with the same filter the single hierarchy query uses.
+   * @return the privileges for each of the authorizable hierarchies
+   */
+  public Map<TSentryAuthorizable, Set<String>> listSentryPrivilegesForProviderBatch(
+      Set<String> groups, Set<String> users, TSentryActiveRoleSet roleSet,
+      Set<TSentryAuthorizable> authHierarchies) throws Exception {
+    Map<TSentryAuthorizable, Set<String>> result = Maps.newHashMap();
+    if (authHierarchies == null || authHierarchies.isEmpty()) {
+      return result;
+    }
+    PolicyImage image = policyImage;
+    Set<String> rolesToQuery = image == null
+        ? getRolesToQuery(groups, users, roleSet)
+        : getRolesToQuery(image, groups, users, roleSet);
+    // A hierarchy without server matches the privileges of all the servers
+    Set<String> serverNames = Sets.newHashSet();
+    for (TSentryAuthorizable authHierarchy : authHierarchies) {
+      if (authHierarchy.getServer() == null) {
+        serverNames = null;
+        break;
+      }
+      serverNames.add(authHierarchy.getServer());
+    }
+    List<MSentryPrivilege> mSentryPrivileges = image == null
+        ? getMSentryPrivilegesForServers(rolesToQuery, serverNames)
+        : getMSentryPrivilegesForServers(image, rolesToQuery, serverNames);
+
+    // Index the privileges by server and db, so each hierarchy only looks at the
+    // privileges of its own db and the ones above it.
+    Map<String, Map<String, List<MSentryPrivilege>>> privilegesByServer = Maps.newHashMap();
+    for (MSentryPrivilege priv : mSentryPrivileges) {
+      Map<String, List<MSentryPrivilege>> privilegesByDb =
+          privilegesByServer.get(priv.getServerName());
+      if (privilegesByDb == null) {
+        privilegesByDb = Maps.newHashMap();
+        privilegesByServer.put(priv.getServerName(), privilegesByDb);
+      }
+      String dbName = toNULLCol(priv.getDbName());
+      List<MSentryPrivilege> dbPrivileges = privilegesByDb.get(dbName);
+      if (dbPrivileges == null) {
+        dbPrivileges = Lists.newArrayList();
+        privilegesByDb.put(dbName, dbPrivileges);
+      }
+      dbPrivileges.add(priv);
+    }
+
+    for (TSentryAuthorizable authHierarchy : authHierarchies) {
+      Iterable<MSentryPrivilege> candidates = mSentryPrivileges;
+      if (authHierarchy.getServer() != null) {
+        Map<String, List<MSentryPrivilege>> privilegesByDb =
+            privilegesByServer.get(safeTrimLower(authHierarchy.getServer()));
+        if (privilegesByDb == null) {
+          candidates = Collections.emptyList();
+        } else if (authHierarchy.getDb() != null && !isWildcard(authHierarchy.getDb())) {
+          candidates = Iterables.concat(
+              emptyIfNull(privilegesByDb.get(safeTrimLower(authHierarchy.getDb()))),
+              emptyIfNull(privilegesByDb.get(NULL_COL)));
+        } else {
+          candidates = Iterables.concat(privilegesByDb.values());
+        }
+      }
+      Set<String> privileges = Sets.newHashSet();
+      for (MSentryPrivilege priv : candidates) {
+        if (matchesAuthorizable(priv, authHierarchy)) {
+          privileges.add(toAuthorizable(priv));
+        }
+      }
+      result.put(authHierarchy, privileges);
+    }
+    return result;
+  }
+
+  /**
+   * Same as the filter built by {@link #getMSentryPrivileges(Set, TSentryAuthorizable)}:
+   * at each level of the hierarchy the privilege matches the value or has no value,
+   * and a wildcard value matches all the privileges of the level.
+   */
+  public static boolean matchesAuthorizable(MSentryPrivilege priv,
+      TSentryAuthorizable authHierarchy) {
+    if (authHierarchy.getServer() == null) {
+      return true;
+    }
+    if (!priv.getServerName().equals(safeTrimLower(authHierarchy.getServer()))) {
+      return false;
+    }
+    if (authHierarchy.getDb() != null) {
+      if (!isNULL(priv.getURI())) {
+        return false;
+      }
+      if (!isWildcard(authHierarchy.getDb())
+          && !matchesOrNull(priv.getDbName(), authHierarchy.getDb())) {
+        return false;
+      }
+      String table = authHierarchy.getTable();
+      if (table != null && !AccessConstants.ALL.equalsIgnoreCase(table)) {
+        if (!AccessConstants.SOME.equalsIgnoreCase(table)
+            && !matchesOrNull(priv.getTableName(), table)) {
+          return false;
+        }
+        String column = authHierarchy.getColumn();
+        if (column != null && !isWildcard(column)
+            && !matchesOrNull(priv.getColumnName(), column)) {
+          return false;
+        }
+      }
+    }
+    // Any URI privilege of the server is returned, the paths are matched by the provider
+    return authHierarchy.getUri() == null || isNULL(priv.getDbName());
+  }
+
+  private static boolean isWildcard(String value) {
+    return AccessConstants.ALL.equalsIgnoreCase(value)
+        || AccessConstants.SOME.equalsIgnoreCase(value);
+  }
+
+  private static boolean matchesOrNull(String privValue, String value) {
+    return isNULL(privValue) || privValue.equals(safeTrimLower(value));
+  }
+
+  private static <T> List<T> emptyIfNull(List<T> list) {
+    return list == null ? Collections.<T>emptyList() : list;
+  }
+
+  private List<MSentryPrivilege> getMSentryPrivilegesForServers(final Set<String> roleNames,
+      final Set<String> serverNames) throws Exception {
+    if (roleNames == null || roleNames.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    return tm.executeTransaction(
+      new TransactionBlock<List<MSentryPrivilege>>() {
+        public List<MSentryPrivilege> execute(PersistenceManager pm)
+                throws Exception {
+          Query query = pm.newQuery(MSentryPrivilege.class);
+          QueryParamBuilder paramBuilder = QueryParamBuilder.addRolesFilter(query, null, roleNames);
+          if (serverNames != null) {
+            paramBuilder.newChild().addSet("this." + SERVER_NAME + " == ", serverNames);
+          }
+          query.setFilter(paramBuilder.toString());
+          @SuppressWarnings("unchecked")
+          List<MSentryPrivilege> result =
+                  (List<MSentryPrivilege>)
+                          query.executeWithMap(paramBuilder.getArguments());
+          return result;
+        }
+      });
+  }
+
   public boolean hasAnyServerPrivileges(Set<String> groups, Set<String> users,
       TSentryActiveRoleSet roleSet, String server) throws Exception {
     Set<String> rolesToQuery = getRolesToQuery(groups, users, roleSet);
@@ -1913,6 +2613,10 @@ public class SentryStore {
 
   private Set<String> getRolesToQuery(final Set<String> groups, final Set<String> users,
       final TSentryActiveRoleSet roleSet) throws Exception {
+    PolicyImage image = policyImage;
+    if (image != null) {
+      return getRolesToQuery(image, groups, users, roleSet);
+    }
       return tm.executeTransaction(
         new TransactionBlock<Set<String>>() {
           public Set<String> execute(PersistenceManager pm) throws Exception {
@@ -1928,8 +2632,45 @@ public class SentryStore {
         });
   }
 
-  @VisibleForTesting
-  static String toAuthorizable(MSentryPrivilege privilege) {
+  private static Set<String> getRolesToQuery(PolicyImage image, Set<String> groups,
+      Set<String> users, TSentryActiveRoleSet roleSet) {
+    Set<String> roleNames = Sets.newHashSet();
+    roleNames.addAll(toTrimedLower(image.getRoleNamesForGroups(groups)));
+    roleNames.addAll(toTrimedLower(image.getRoleNamesForUsers(users)));
+    return roleSet.isAll() ? roleNames : Sets.intersection(toTrimedLower(roleSet.getRoles()),
+        roleNames);
+  }
+
+  /**
+   * Image version of {@link #getMSentryPrivileges(Set, TSentryAuthorizable)}.
+   */
+  private static List<MSentryPrivilege> getMSentryPrivileges(PolicyImage image,
+      Set<String> roleNames, TSentryAuthorizable authHierarchy) {
+    List<MSentryPrivilege> result = new ArrayList<>();
+    for (MSentryPrivilege priv : image.getPrivileges(toTrimedLower(roleNames))) {
+      if (authHierarchy == null || matchesAuthorizable(priv, authHierarchy)) {
+        result.add(priv);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Image version of {@link #getMSentryPrivilegesForServers(Set, Set)}.
+   */
+  private static List<MSentryPrivilege> getMSentryPrivilegesForServers(PolicyImage image,
+      Set<String> roleNames, Set<String> serverNames) {
+    Set<String> lServerNames = serverNames == null ? null : toTrimedLower(serverNames);
+    List<MSentryPrivilege> result = new ArrayList<>();
+    for (MSentryPrivilege priv : image.getPrivileges(toTrimedLower(roleNames))) {
+      if (lServerNames == null || lServerNames.contains(priv.getServerName())) {
+        result.add(priv);
+      }
+    }
+    return result;
+  }
+
+  public static String toAuthorizable(MSentryPrivilege privilege) {
     List<String> authorizable = new ArrayList<>(4);
     authorizable.add(KV_JOINER.join(AuthorizableType.Server.name().toLowerCase(),
         privilege.getServerName()));
@@ -2160,7 +2901,8 @@ public class SentryStore {
    * @throws Exception
    */
   public void dropPrivilege(final TSentryAuthorizable tAuthorizable) throws Exception {
-    tm.executeTransactionWithRetry(
+    final Set<String> changedRoleNames = new HashSet<>();
+    execute(tAuthorizable, null,
         new TransactionBlock<Object>() {
           public Object execute(PersistenceManager pm) throws Exception {
             pm.setDetachAllOnCommit(false); // No need to detach objects
@@ -2172,18 +2914,21 @@ public class SentryStore {
               if (isMultiActionsSupported(tPrivilege)) {
                 for (String privilegeAction : ALL_ACTIONS) {
                   tPrivilege.setAction(privilegeAction);
-                  dropPrivilegeForAllRoles(pm, new TSentryPrivilege(tPrivilege));
+                  dropPrivilegeForAllRoles(pm, new TSentryPrivilege(tPrivilege),
+                      changedRoleNames);
                 }
               } else {
-                dropPrivilegeForAllRoles(pm, new TSentryPrivilege(tPrivilege));
+                dropPrivilegeForAllRoles(pm, new TSentryPrivilege(tPrivilege), changedRoleNames);
               }
             } catch (JDODataStoreException e) {
               throw new SentryInvalidInputException("Failed to get privileges: "
                   + e.getMessage());
             }
+            persistGMChangesCore(pm, changedRoleNames);
             return null;
           }
         });
+    refreshPolicyImages(changedRoleNames);
   }
 
   /**
@@ -2194,31 +2939,35 @@ public class SentryStore {
    * @param update the corresponding permission delta update.
    * @throws Exception
    */
-  public synchronized void dropPrivilege(final TSentryAuthorizable tAuthorizable,
+  public void dropPrivilege(final TSentryAuthorizable tAuthorizable,
       final Update update) throws Exception {
-    execute(update, new TransactionBlock<Object>() {
-      public Object execute(PersistenceManager pm) throws Exception {
-        pm.setDetachAllOnCommit(false); // No need to detach objects
+    final Set<String> changedRoleNames = new HashSet<>();
+    execute(tAuthorizable, update,
+        new TransactionBlock<Object>() {
+          public Object execute(PersistenceManager pm) throws Exception {
+            pm.setDetachAllOnCommit(false); // No need to detach objects
 
-        // Drop the give privilege for all possible actions from all roles.
-        TSentryPrivilege tPrivilege = toSentryPrivilege(tAuthorizable);
+            // Drop the give privilege for all possible actions from all roles.
+            TSentryPrivilege tPrivilege = toSentryPrivilege(tAuthorizable);
 
-        try {
-          if (isMultiActionsSupported(tPrivilege)) {
-            for (String privilegeAction : ALL_ACTIONS) {
-              tPrivilege.setAction(privilegeAction);
-              dropPrivilegeForAllRoles(pm, new TSentryPrivilege(tPrivilege));
+            try {
+              if (isMultiActionsSupported(tPrivilege)) {
+                for (String privilegeAction : ALL_ACTIONS) {
+                  tPrivilege.setAction(privilegeAction);
+                  dropPrivilegeForAllRoles(pm, new TSentryPrivilege(tPrivilege), changedRoleNames);
+                }
+              } else {
+                dropPrivilegeForAllRoles(pm, new TSentryPrivilege(tPrivilege), changedRoleNames);
+              }
+            } catch (JDODataStoreException e) {
+              throw new SentryInvalidInputException("Failed to get privileges: "
+              + e.getMessage());
             }
-          } else {
-            dropPrivilegeForAllRoles(pm, new TSentryPrivilege(tPrivilege));
+            persistGMChangesCore(pm, changedRoleNames);
+            return null;
           }
-        } catch (JDODataStoreException e) {
-          throw new SentryInvalidInputException("Failed to get privileges: "
-          + e.getMessage());
-        }
-        return null;
-      }
-    });
+        });
+    refreshPolicyImages(changedRoleNames);
   }
 
   /**
@@ -2231,7 +2980,8 @@ public class SentryStore {
    */
   public void renamePrivilege(final TSentryAuthorizable oldTAuthorizable,
       final TSentryAuthorizable newTAuthorizable) throws Exception {
-    tm.executeTransactionWithRetry(
+    final Set<String> changedRoleNames = new HashSet<>();
+    execute(oldTAuthorizable, null,
         new TransactionBlock<Object>() {
           public Object execute(PersistenceManager pm) throws Exception {
             pm.setDetachAllOnCommit(false); // No need to detach objects
@@ -2246,18 +2996,22 @@ public class SentryStore {
                 for (String privilegeAction : ALL_ACTIONS) {
                   tPrivilege.setAction(privilegeAction);
                   newPrivilege.setAction(privilegeAction);
-                  renamePrivilegeForAllRoles(pm, tPrivilege, newPrivilege);
+                  renamePrivilegeForAllRoles(pm, tPrivilege, newPrivilege,
+                      changedRoleNames);
                 }
               } else {
-                renamePrivilegeForAllRoles(pm, tPrivilege, newPrivilege);
+                renamePrivilegeForAllRoles(pm, tPrivilege, newPrivilege,
+                    changedRoleNames);
               }
             } catch (JDODataStoreException e) {
               throw new SentryInvalidInputException("Failed to get privileges: "
                   + e.getMessage());
             }
+            persistGMChangesCore(pm, changedRoleNames);
             return null;
           }
         });
+    refreshPolicyImages(changedRoleNames);
   }
 
   /**
@@ -2271,36 +3025,66 @@ public class SentryStore {
    * @throws SentryNoSuchObjectException
    * @throws SentryInvalidInputException
    */
-  public synchronized void renamePrivilege(final TSentryAuthorizable oldTAuthorizable,
+  public void renamePrivilege(final TSentryAuthorizable oldTAuthorizable,
       final TSentryAuthorizable newTAuthorizable, final Update update)
         throws Exception {
 
-    execute(update, new TransactionBlock<Object>() {
-      public Object execute(PersistenceManager pm) throws Exception {
-        pm.setDetachAllOnCommit(false); // No need to detach objects
+    final Set<String> changedRoleNames = new HashSet<>();
+    execute(oldTAuthorizable, update,
+        new TransactionBlock<Object>() {
+          public Object execute(PersistenceManager pm) throws Exception {
+            pm.setDetachAllOnCommit(false); // No need to detach objects
 
-        // Drop the give privilege for all possible actions from all roles.
-        TSentryPrivilege tPrivilege = toSentryPrivilege(oldTAuthorizable);
-        TSentryPrivilege newPrivilege = toSentryPrivilege(newTAuthorizable);
+            // Drop the give privilege for all possible actions from all roles.
+            TSentryPrivilege tPrivilege = toSentryPrivilege(oldTAuthorizable);
+            TSentryPrivilege newPrivilege = toSentryPrivilege(newTAuthorizable);
 
-        try {
-          // In case of tables or DBs, check all actions
-          if (isMultiActionsSupported(tPrivilege)) {
-            for (String privilegeAction : ALL_ACTIONS) {
-              tPrivilege.setAction(privilegeAction);
-              newPrivilege.setAction(privilegeAction);
-              renamePrivilegeForAllRoles(pm, tPrivilege, newPrivilege);
+            try {
+              // In case of tables or DBs, check all actions
+              if (isMultiActionsSupported(tPrivilege)) {
+                for (String privilegeAction : ALL_ACTIONS) {
+                  tPrivilege.setAction(privilegeAction);
+                  newPrivilege.setAction(privilegeAction);
+                  renamePrivilegeForAllRoles(pm, tPrivilege, newPrivilege, changedRoleNames);
+                }
+              } else {
+                renamePrivilegeForAllRoles(pm, tPrivilege, newPrivilege, changedRoleNames);
+              }
+            } catch (JDODataStoreException e) {
+              throw new SentryInvalidInputException("Failed to get privileges: "
+              + e.getMessage());
             }
-          } else {
-            renamePrivilegeForAllRoles(pm, tPrivilege, newPrivilege);
+            persistGMChangesCore(pm, changedRoleNames);
+            return null;
+          }
+        });
+    refreshPolicyImages(changedRoleNames);
+  }
+
+  /**
+   * Returns the names of the roles which have a privilege, for any action, on the given
+   * authorizable or on its children, i.e. the roles changed by dropping or renaming it.
+   */
+  private Set<String> getRoleNamesWithPrivileges(PersistenceManager pm,
+      TSentryAuthorizable tAuthorizable) throws SentryInvalidInputException {
+    TSentryPrivilege tPrivilege = toSentryPrivilege(tAuthorizable);
+    Set<String> actions = isMultiActionsSupported(tPrivilege) ?
+        ALL_ACTIONS : Collections.singleton(tPrivilege.getAction());
+    Set<String> roleNames = new HashSet<>();
+    try {
+      for (String action : actions) {
+        tPrivilege.setAction(action);
+        for (MSentryPrivilege mPrivilege : getMSentryPrivileges(tPrivilege, pm)) {
+          for (MSentryRole role : mPrivilege.getRoles()) {
+            roleNames.add(role.getRoleName());
           }
-        } catch (JDODataStoreException e) {
-          throw new SentryInvalidInputException("Failed to get privileges: "
-          + e.getMessage());
         }
-        return null;
       }
-    });
+    } catch (JDODataStoreException e) {
+      throw new SentryInvalidInputException("Failed to get privileges: "
+          + e.getMessage());
+    }
+    return roleNames;
   }
 
   // Currently INSERT/SELECT/ALL are supported for Table and DB level privileges
@@ -2311,9 +3095,9 @@ public class SentryStore {
   // wrapper for dropOrRename
   private void renamePrivilegeForAllRoles(PersistenceManager pm,
       TSentryPrivilege tPrivilege,
-      TSentryPrivilege newPrivilege) throws SentryNoSuchObjectException,
-      SentryInvalidInputException {
-    dropOrRenamePrivilegeForAllRoles(pm, tPrivilege, newPrivilege);
+      TSentryPrivilege newPrivilege, Set<String> changedRoleNames)
+      throws SentryNoSuchObjectException, SentryInvalidInputException {
+    dropOrRenamePrivilegeForAllRoles(pm, tPrivilege, newPrivilege, changedRoleNames);
   }
 
   /**
@@ -2323,27 +3107,31 @@ public class SentryStore {
    * @throws SentryInvalidInputException
    */
   private void dropPrivilegeForAllRoles(PersistenceManager pm,
-      TSentryPrivilege tPrivilege)
+      TSentryPrivilege tPrivilege, Set<String> changedRoleNames)
       throws SentryNoSuchObjectException, SentryInvalidInputException {
-    dropOrRenamePrivilegeForAllRoles(pm, tPrivilege, null);
+    dropOrRenamePrivilegeForAllRoles(pm, tPrivilege, null, changedRoleNames);
   }
 
   /**
    * Drop given privilege from all roles Create the new privilege if asked
    * @param tPrivilege
    * @param pm
+   * @param changedRoleNames the names of the roles which had the privilege are added to it
    * @throws SentryNoSuchObjectException
    * @throws SentryInvalidInputException
    */
   private void dropOrRenamePrivilegeForAllRoles(PersistenceManager pm,
       TSentryPrivilege tPrivilege,
-      TSentryPrivilege newTPrivilege) throws SentryNoSuchObjectException,
-      SentryInvalidInputException {
+      TSentryPrivilege newTPrivilege, Set<String> changedRoleNames)
+      throws SentryNoSuchObjectException, SentryInvalidInputException {
     Collection<MSentryRole> roleSet = new HashSet<>();
     List<MSentryPrivilege> mPrivileges = getMSentryPrivileges(tPrivilege, pm);
     for (MSentryPrivilege mPrivilege : mPrivileges) {
       roleSet.addAll(ImmutableSet.copyOf(mPrivilege.getRoles()));
     }
+    for (MSentryRole role : roleSet) {
+      changedRoleNames.add(role.getRoleName());
+    }
     // Dropping the privilege
     if (newTPrivilege == null) {
       for (MSentryRole role : roleSet) {
@@ -2474,7 +3262,21 @@ public class SentryStore {
   private void grantOptionCheck(PersistenceManager pm, String grantorPrincipal,
                                 TSentryPrivilege privilege)
       throws SentryUserException {
-    MSentryPrivilege mPrivilege = convertToMSentryPrivilege(privilege);
+    grantOptionCheck(grantorPrincipal, getGrantorPrivileges(pm, grantorPrincipal), privilege);
+  }
+
+  /**
+   * Get the privileges of the grantor which are checked by
+   * {@link #grantOptionCheck(String, Set, TSentryPrivilege)}, so that a batch of
+   * privileges is checked with a single lookup of the grantor groups and roles.
+   *
+   * @param pm PersistenceManager
+   * @param grantorPrincipal User name
+   * @return the privileges of the grantor roles, or null if the grantor is an admin
+   * @throws SentryUserException
+   */
+  private Set<MSentryPrivilege> getGrantorPrivileges(PersistenceManager pm,
+      String grantorPrincipal) throws SentryUserException {
     if (grantorPrincipal == null) {
       throw new SentryInvalidInputException("grantorPrincipal should not be null");
     }
@@ -2483,40 +3285,51 @@ public class SentryStore {
 
     // if grantor is in adminGroup, don't need to do check
     Set<String> admins = getAdminGroups();
-    boolean isAdminGroup = false;
     if (groups != null && !admins.isEmpty()) {
       for (String g : groups) {
         if (admins.contains(g)) {
-          isAdminGroup = true;
-          break;
+          return null;
         }
       }
     }
 
-    if (!isAdminGroup) {
-      boolean hasGrant = false;
-      // get all privileges for group and user
-      Set<MSentryRole> roles = getRolesForGroups(pm, groups);
-      roles.addAll(getRolesForUsers(pm, Sets.newHashSet(grantorPrincipal)));
-      for (MSentryRole role : roles) {
-        Set<MSentryPrivilege> privilegeSet = role.getPrivileges();
-        if (privilegeSet != null && !privilegeSet.isEmpty()) {
-          // if role has a privilege p with grant option
-          // and mPrivilege is a child privilege of p
-          for (MSentryPrivilege p : privilegeSet) {
-            if (p.getGrantOption() && p.implies(mPrivilege)) {
-              hasGrant = true;
-              break;
-            }
-          }
-        }
+    // get all privileges for group and user
+    Set<MSentryPrivilege> privileges = new HashSet<>();
+    Set<MSentryRole> roles = getRolesForGroups(pm, groups);
+    roles.addAll(getRolesForUsers(pm, Sets.newHashSet(grantorPrincipal)));
+    for (MSentryRole role : roles) {
+      Set<MSentryPrivilege> privilegeSet = role.getPrivileges();
+      if (privilegeSet != null) {
+        privileges.addAll(privilegeSet);
       }
+    }
+    return privileges;
+  }
 
-      if (!hasGrant) {
-        throw new SentryGrantDeniedException(grantorPrincipal
-            + " has no grant!");
+  /**
+   * Check if the grantor has the grant option on the privilege.
+   *
+   * @param grantorPrincipal User name
+   * @param grantorPrivileges the privileges returned by getGrantorPrivileges()
+   * @param privilege Privilege to check
+   * @throws SentryUserException
+   */
+  private void grantOptionCheck(String grantorPrincipal,
+      Set<MSentryPrivilege> grantorPrivileges, TSentryPrivilege privilege)
+      throws SentryUserException {
+    if (grantorPrivileges == null) {
+      return;
+    }
+    MSentryPrivilege mPrivilege = convertToMSentryPrivilege(privilege);
+    // if role has a privilege p with grant option
+    // and mPrivilege is a child privilege of p
+    for (MSentryPrivilege p : grantorPrivileges) {
+      if (p.getGrantOption() && p.implies(mPrivilege)) {
+        return;
       }
     }
+    throw new SentryGrantDeniedException(grantorPrincipal
+        + " has no grant!");
   }
 
   // get adminGroups from conf
@@ -2704,6 +3517,8 @@ public class SentryStore {
    */
   public void persistFullPathsImage(final Map<String, Set<String>> authzPaths,
       final long notificationID) throws Exception {
+    // The next snapshot ID may be used by an abandoned pending snapshot
+    deletePendingPathsImage();
     tm.executeTransactionWithRetry(
       new TransactionBlock() {
         public Object execute(PersistenceManager pm) throws Exception {
@@ -2724,6 +3539,121 @@ public class SentryStore {
       });
   }
 
+  /**
+   * Starts persisting an HMS snapshot in chunks with {@link #persistFullPathsImageChunk}.
+   * The chunks are written under the next paths snapshot ID, which stays pending, i.e. the
+   * current snapshot is still the one being read and updated, until
+   * {@link #activateFullPathsImage} is called. The mappings left by a pending snapshot
+   * which was never activated are deleted first, in bounded transactions.
+   *
+   * @return the ID of the pending snapshot
+   * @throws Exception
+   */
+  public long beginFullPathsImage() throws Exception {
+    deletePendingPathsImage();
+    return tm.executeTransaction(
+      new TransactionBlock<Long>() {
+        public Long execute(PersistenceManager pm) throws Exception {
+          return getCurrentAuthzPathsSnapshotID(pm) + 1;
+        }
+      });
+  }
+
+  /**
+   * Deletes the mappings of a pending paths snapshot which was never activated, in
+   * bounded transactions.
+   */
+  private void deletePendingPathsImage() throws Exception {
+    int deleted;
+    do {
+      deleted = tm.executeTransactionWithRetry(
+        new TransactionBlock<Integer>() {
+          public Integer execute(PersistenceManager pm) throws Exception {
+            pm.setDetachAllOnCommit(false); // No need to detach objects
+            Query query = pm.newQuery(MAuthzPathsMapping.class);
+            query.setFilter("this.authzSnapshotID > currentSnapshotID");
+            query.declareParameters("long currentSnapshotID");
+            query.setRange(0, PENDING_PATHS_DELETE_BATCH);
+            Collection<MAuthzPathsMapping> mappings = (Collection<MAuthzPathsMapping>)
+                query.execute(getCurrentAuthzPathsSnapshotID(pm));
+            for (MAuthzPathsMapping mAuthzPathsMapping : mappings) {
+              for (MPath mPath : new ArrayList<>(mAuthzPathsMapping.getPaths())) {
+                mAuthzPathsMapping.removePath(mPath);
+                pm.deletePersistent(mPath);
+              }
+              pm.deletePersistent(mAuthzPathsMapping);
+            }
+            return mappings.size();
+          }
+        });
+      if (deleted > 0) {
+        LOGGER.info("Deleted {} mappings of an abandoned pending paths snapshot", deleted);
+      }
+    } while (deleted == PENDING_PATHS_DELETE_BATCH);
+  }
+
+  /**
+   * Persists a chunk of the HMS snapshot started by {@link #beginFullPathsImage} in its own
+   * transaction. The paths of an authzObj may be split across several chunks, they are
+   * merged into the same mapping.
+   *
+   * @param snapshotID the ID of the pending snapshot
+   * @param authzPaths paths to be persisted
+   * @throws Exception
+   */
+  public void persistFullPathsImageChunk(final long snapshotID,
+      final Map<String, Set<String>> authzPaths) throws Exception {
+    tm.executeTransactionWithRetry(
+      new TransactionBlock<Object>() {
+        public Object execute(PersistenceManager pm) throws Exception {
+          pm.setDetachAllOnCommit(false); // No need to detach objects
+          for (Map.Entry<String, Set<String>> authzPath : authzPaths.entrySet()) {
+            MAuthzPathsMapping mAuthzPathsMapping =
+                getMAuthzPathsMappingCore(pm, snapshotID, authzPath.getKey());
+            if (mAuthzPathsMapping == null) {
+              mAuthzPathsMapping =
+                  new MAuthzPathsMapping(snapshotID, authzPath.getKey(), authzPath.getValue());
+            } else {
+              for (String path : authzPath.getValue()) {
+                mAuthzPathsMapping.addPath(new MPath(path));
+              }
+            }
+            pm.makePersistent(mAuthzPathsMapping);
+          }
+          return null;
+        }
+      });
+  }
+
+  /**
+   * Makes the HMS snapshot persisted in chunks the current one, in a single transaction with
+   * its latest notification ID.
+   *
+   * @param snapshotID the ID returned by {@link #beginFullPathsImage}
+   * @param notificationID the latest notificationID associated with the snapshot
+   * @throws SentryInvalidInputException if another snapshot was persisted since the
+   *         snapshot was started
+   * @throws Exception
+   */
+  public void activateFullPathsImage(final long snapshotID, final long notificationID)
+      throws Exception {
+    tm.executeTransactionWithRetry(
+      new TransactionBlock<Object>() {
+        public Object execute(PersistenceManager pm) throws Exception {
+          pm.setDetachAllOnCommit(false); // No need to detach objects
+          long currentSnapshotID = getCurrentAuthzPathsSnapshotID(pm);
+          if (snapshotID != currentSnapshotID + 1) {
+            throw new SentryInvalidInputException(String.format(
+                "Paths snapshot #%d is not pending, the current snapshot is #%d",
+                snapshotID, currentSnapshotID));
+          }
+          pm.makePersistent(new MSentryHmsNotification(notificationID));
+          pm.makePersistent(new MAuthzPathsSnapshotId(snapshotID));
+          return null;
+        }
+      });
+  }
+
   /**
    * Get the last authorization path snapshot ID persisted.
    * Always executed in the transaction context.
@@ -3098,6 +4028,45 @@ public class SentryStore {
     pm.makePersistent(mAuthzPathsMapping);
   }
 
+  /**
+   * Applies several path changes, e.g. of consecutive notification events, to the
+   * authzObj -> [Paths] mapping. As well as persist the corresponding delta path change
+   * to MSentryPathChange table in a single transaction.
+   *
+   * @param pathChanges the changes to apply in order; the paths of each change are
+   *        deleted before its paths are added
+   * @param update the path delta update of all the changes
+   * @throws Exception
+   */
+  public void updateAuthzPathsMappings(final List<TPathChanges> pathChanges,
+        final Update update) throws Exception {
+    execute(update, new TransactionBlock<Object>() {
+      public Object execute(PersistenceManager pm) throws Exception {
+        pm.setDetachAllOnCommit(false); // No need to detach objects
+        Joiner pathJoiner = Joiner.on('/');
+        for (TPathChanges change : pathChanges) {
+          if (change.getDelPathsSize() > 0) {
+            Collection<String> paths = new HashSet<>(change.getDelPathsSize());
+            for (List<String> path : change.getDelPaths()) {
+              paths.add(pathJoiner.join(path));
+            }
+            deleteAuthzPathsMappingCore(pm, change.getAuthzObj(), paths);
+          }
+          if (change.getAddPathsSize() > 0) {
+            Collection<String> paths = new HashSet<>(change.getAddPathsSize());
+            for (List<String> path : change.getAddPaths()) {
+              paths.add(pathJoiner.join(path));
+            }
+            addAuthzPathsMappingCore(pm, change.getAuthzObj(), paths);
+          }
+          // The next changes look the mappings up with queries, which don't flush
+          pm.flush();
+        }
+        return null;
+      }
+    });
+  }
+
   /**
    * Get the MAuthzPathsMapping object from authzObj
    */
@@ -3500,7 +4469,7 @@ public class SentryStore {
    */
   public void importSentryMetaData(final TSentryMappingData tSentryMappingData,
       final boolean isOverwriteForRole) throws Exception {
-    tm.executeTransaction(
+    tm.executeTransactionWithRetry(
         new TransactionBlock<Object>() {
           public Object execute(PersistenceManager pm) throws Exception {
             pm.setDetachAllOnCommit(false); // No need to detach objects
@@ -3531,9 +4500,23 @@ public class SentryStore {
             importRoleGroupMapping(pm, roleNames, importedRoleGroupsMap);
             // import the mapping data for [role,user], the roleNames will be updated
             importRoleUserMapping(pm, roleNames, importedRoleUsersMap);
+
+            // The role names are stored trimmed and in lower case
+            Set<String> changedRoleNames = new HashSet<>();
+            for (String roleName : Iterables.concat(importedRoleNames,
+                importedRoleUsersMap.keySet())) {
+              changedRoleNames.add(trimAndLower(roleName));
+            }
+            if (mappingData.getRolePrivilegesMap() != null) {
+              for (String roleName : mappingData.getRolePrivilegesMap().keySet()) {
+                changedRoleNames.add(trimAndLower(roleName));
+              }
+            }
+            persistGMChangesCore(pm, changedRoleNames);
             return null;
           }
         });
+    reloadPolicyImages();
   }
 
   // covert the Map[group->roles] to Map[role->groups]
@@ -4029,6 +5012,73 @@ public class SentryStore {
     });
   }
 
+  /**
+   * Records the change of the given roles in the {@link MSentryGMChange} table, so the
+   * clients caching the policy reload them. It must be called by the transaction which
+   * changes the groups, the users or the privileges of the roles.
+   *
+   * @param pm PersistenceManager
+   * @param roleNames the names of the changed roles, in lower case
+   */
+  public static void persistGMChangesCore(PersistenceManager pm, Collection<String> roleNames) {
+    if (roleNames.isEmpty()) {
+      return;
+    }
+    // The changes are persisted right before the commit, under the lock which keeps the
+    // change IDs distinct and consecutive, once for all the roles of the transaction.
+    @SuppressWarnings("unchecked")
+    Set<String> changedRoleNames = (Set<String>) pm.getUserObject(GM_CHANGED_ROLES);
+    if (changedRoleNames == null) {
+      final Set<String> newChangedRoleNames = new TreeSet<>();
+      TransactionManager.executeBeforeCommit(pm, new TransactionBlock<Object>() {
+        @Override
+        public Object execute(PersistenceManager pm) throws Exception {
+          long lastChangeID = getLastProcessedChangeIDCore(pm, MSentryGMChange.class);
+          for (String roleName : newChangedRoleNames) {
+            pm.makePersistent(new MSentryGMChange(++lastChangeID, roleName));
+          }
+          return null;
+        }
+      });
+      pm.putUserObject(GM_CHANGED_ROLES, newChangedRoleNames);
+      changedRoleNames = newChangedRoleNames;
+    }
+    changedRoleNames.addAll(roleNames);
+  }
+
+  /**
+   * Gets the last change ID of the {@link MSentryGMChange} table.
+   *
+   * @param pm PersistenceManager
+   * @return EMPTY_CHANGE_ID(0) when there are no changes
+   */
+  public static long getLastProcessedGMChangeIDCore(PersistenceManager pm) {
+    return getLastProcessedChangeIDCore(pm, MSentryGMChange.class);
+  }
+
+  /**
+   * Gets a list of MSentryGMChange objects greater than or equal to the given changeID.
+   *
+   * @param pm PersistenceManager
+   * @param changeID Requested changeID
+   * @return a list of MSentryGMChange objects, which may be empty, or null if any
+   * of the changes is missing in the {@link MSentryGMChange} table.
+   * @throws Exception
+   */
+  public List<MSentryGMChange> getMSentryGMChangesCore(PersistenceManager pm, long changeID)
+      throws Exception {
+    List<MSentryGMChange> changes = getMSentryChangesCore(pm, MSentryGMChange.class, changeID);
+    return validateDeltaChanges(changeID, changes) ? changes : null;
+  }
+
+  /**
+   * Fetch all {@link MSentryGMChange} in the database. It should only be used in the tests.
+   */
+  @VisibleForTesting
+  List<MSentryGMChange> getMSentryGMChanges() throws Exception {
+    return getMSentryChanges(MSentryGMChange.class);
+  }
+
   /**
    * Gets a list of MSentryPermChange objects greater than or equal to the given ChangeID.
    * If there is any path delta missing in {@link MSentryPermChange} table, an empty list is returned.
@@ -4056,6 +5106,78 @@ public class SentryStore {
     });
   }
 
+  /**
+   * Gets the privileges and the group and user mappings of the roles changed after the
+   * given change ID, so a client can keep a copy of the policy up to date without
+   * reloading all of it. The changed roles are found from the {@link MSentryGMChange}
+   * log, which records every change of the roles, their groups, users and privileges
+   * whether or not the HDFS sync is enabled. The full image is returned instead when
+   * the change ID is unknown or the changes after it were purged.
+   *
+   * @param changeID the change ID the client copy is up to date with
+   * @return the data of the changed roles, or the full image
+   * @throws Exception
+   */
+  @SuppressWarnings("unchecked")
+  public TSentryPrivilegesDelta getPrivilegesDelta(final long changeID) throws Exception {
+    return tm.executeTransaction(
+      new TransactionBlock<TSentryPrivilegesDelta>() {
+        public TSentryPrivilegesDelta execute(PersistenceManager pm) throws Exception {
+          pm.setDetachAllOnCommit(false); // No need to detach objects
+          // The change ID is read before the roles, so a change committed in between is
+          // returned again by the next call, which is harmless as the roles are replaced.
+          long lastChangeID = getLastProcessedGMChangeIDCore(pm);
+          Set<String> changedRoles = null;
+          if (changeID >= EMPTY_CHANGE_ID && changeID <= lastChangeID) {
+            List<MSentryGMChange> changes = getMSentryGMChangesCore(pm, changeID + 1);
+            if (changes != null) {
+              changedRoles = new HashSet<>();
+              for (MSentryGMChange change : changes) {
+                changedRoles.add(change.getRoleName());
+              }
+              if (!changes.isEmpty()) {
+                lastChangeID = changes.get(changes.size() - 1).getChangeID();
+              }
+            }
+          }
+
+          Query query = pm.newQuery(MSentryRole.class);
+          query.addExtension(LOAD_RESULTS_AT_COMMIT, "false");
+          List<MSentryRole> mSentryRoles;
+          if (changedRoles == null) {
+            mSentryRoles = (List<MSentryRole>) query.execute();
+          } else if (changedRoles.isEmpty()) {
+            mSentryRoles = Collections.emptyList();
+          } else {
+            QueryParamBuilder paramBuilder = newQueryParamBuilder(QueryParamBuilder.Op.OR);
+            paramBuilder.addSet("roleName == ", changedRoles);
+            query.setFilter(paramBuilder.toString());
+            mSentryRoles = (List<MSentryRole>) query.executeWithMap(paramBuilder.getArguments());
+          }
+
+          Map<String, Set<TSentryPrivilege>> rolePrivilegesMap = new HashMap<>();
+          for (MSentryRole mSentryRole : mSentryRoles) {
+            Set<TSentryPrivilege> privileges = new HashSet<>();
+            for (MSentryPrivilege mSentryPrivilege : mSentryRole.getPrivileges()) {
+              privileges.add(convertToTSentryPrivilege(mSentryPrivilege));
+            }
+            rolePrivilegesMap.put(mSentryRole.getRoleName(), privileges);
+          }
+          TSentryMappingData mappingData = new TSentryMappingData();
+          mappingData.setRolePrivilegesMap(rolePrivilegesMap);
+          mappingData.setGroupRolesMap(getGroupRolesMap(mSentryRoles));
+          mappingData.setUserRolesMap(getUserRolesMap(mSentryRoles));
+
+          TSentryPrivilegesDelta delta =
+              new TSentryPrivilegesDelta(lastChangeID, changedRoles == null, mappingData);
+          if (changedRoles != null) {
+            delta.setChangedRoles(changedRoles);
+          }
+          return delta;
+        }
+      });
+  }
+
   /**
    * Validate if the delta changes are consistent with the requested changeID.
    * <p>
@@ -4103,6 +5225,11 @@ public class SentryStore {
    * <p>
    * Failure in any TransactionBlock would cause the whole transaction
    * to fail.
+   * <p>
+   * No delta is persisted if the update is null.
+   * <p>
+   * The change ID of the delta is allocated from the content of the delta table right
+   * before the commit, see {@link TransactionManager#executeBeforeCommit}.
    *
    * @param update
    * @param transactionBlock
@@ -4112,11 +5239,85 @@ public class SentryStore {
         TransactionBlock<Object> transactionBlock) throws Exception {
     List<TransactionBlock<Object>> tbs = new ArrayList(2);
 
-    if (persistUpdateDeltas) {
-      tbs.add(new DeltaTransactionBlock(update));
+    if (!persistUpdateDeltas || update == null) {
+      tbs.add(transactionBlock);
+      tm.executeTransactionBlocksWithRetry(tbs);
+      return;
     }
 
+    tbs.add(new DeltaTransactionBlock(update, deltaFormat));
     tbs.add(transactionBlock);
     tm.executeTransactionBlocksWithRetry(tbs);
   }
+
+  /**
+   * Same as {@link #execute(Update, TransactionBlock)} while holding the write locks of
+   * the given roles, so the changes of the same role are serialized while the changes of
+   * unrelated ones run in parallel.
+   *
+   * @param roleNames the lower case names of the changed roles
+   * @param update
+   * @param transactionBlock
+   * @throws Exception
+   */
+  private void execute(Collection<String> roleNames, Update update,
+      TransactionBlock<Object> transactionBlock) throws Exception {
+    List<Lock> locks = writeLocks.lock(roleNames);
+    try {
+      execute(update, transactionBlock);
+    } finally {
+      writeLocks.unlock(locks);
+    }
+  }
+
+  /**
+   * Same as {@link #execute(Collection, Update, TransactionBlock)} for the drop or the
+   * rename of the privileges on the given authorizable, holding the write locks of the
+   * roles which have them. These roles are looked up before the transaction: if another
+   * role got such a privilege in the meantime, the transaction is rolled back and run
+   * again with the lock of that role as well.
+   *
+   * @param tAuthorizable the authorizable whose privileges are changed
+   * @param update
+   * @param transactionBlock
+   * @throws Exception
+   */
+  private void execute(final TSentryAuthorizable tAuthorizable, Update update,
+      final TransactionBlock<Object> transactionBlock) throws Exception {
+    while (true) {
+      final Set<String> roleNames = tm.executeTransaction(
+          new TransactionBlock<Set<String>>() {
+            public Set<String> execute(PersistenceManager pm) throws Exception {
+              return getRoleNamesWithPrivileges(pm, tAuthorizable);
+            }
+          });
+      try {
+        execute(roleNames, update, new TransactionBlock<Object>() {
+          public Object execute(PersistenceManager pm) throws Exception {
+            if (!roleNames.containsAll(getRoleNamesWithPrivileges(pm, tAuthorizable))) {
+              throw new RolesChangedException();
+            }
+            return transactionBlock.execute(pm);
+          }
+        });
+        return;
+      } catch (RolesChangedException e) {
+        LOGGER.debug("The roles with privileges on {} changed, locking them again",
+            tAuthorizable);
+      }
+    }
+  }
+
+  /**
+   * Thrown when the roles with privileges on an authorizable are not the ones which were
+   * locked. It is a {@link SentryUserException} so the transaction is not retried with
+   * the same locks.
+   */
+  private static final class RolesChangedException extends SentryUserException {
+    private static final long serialVersionUID = 1L;
+
+    RolesChangedException() {
+      super("The roles with privileges on the authorizable changed");
+    }
+  }
 }
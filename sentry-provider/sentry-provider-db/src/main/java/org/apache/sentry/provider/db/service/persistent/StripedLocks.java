@@ -0,0 +1,74 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.sentry.provider.db.service.persistent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import com.google.common.base.Preconditions;
+
+/**
+ * A fixed number of locks shared by keys, e.g. role names: the operations on the
+ * same key are serialized, the operations on different keys usually run in parallel,
+ * without keeping a lock for each key.
+ */
+final class StripedLocks {
+
+  private final Lock[] locks;
+
+  StripedLocks(int stripes) {
+    Preconditions.checkArgument(stripes > 0, "stripes must be positive");
+    locks = new Lock[stripes];
+    for (int i = 0; i < stripes; i++) {
+      locks[i] = new ReentrantLock();
+    }
+  }
+
+  /**
+   * Acquires the locks of the keys, in a fixed order so that callers locking several
+   * keys can't deadlock.
+   * @return the acquired locks, to be given to {@link #unlock(List)}
+   */
+  List<Lock> lock(Collection<String> keys) {
+    TreeSet<Integer> stripes = new TreeSet<>();
+    for (String key : keys) {
+      stripes.add(stripe(key));
+    }
+    List<Lock> acquired = new ArrayList<>(stripes.size());
+    for (int stripe : stripes) {
+      locks[stripe].lock();
+      acquired.add(locks[stripe]);
+    }
+    return acquired;
+  }
+
+  void unlock(List<Lock> acquired) {
+    for (int i = acquired.size() - 1; i >= 0; i--) {
+      acquired.get(i).unlock();
+    }
+  }
+
+  private int stripe(String key) {
+    return (key.hashCode() & Integer.MAX_VALUE) % locks.length;
+  }
+}
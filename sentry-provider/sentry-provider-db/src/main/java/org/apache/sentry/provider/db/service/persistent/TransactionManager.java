@@ -35,6 +35,8 @@ import javax.jdo.Transaction;
 
 import org.apache.sentry.provider.db.service.thrift.SentryMetrics;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Random;
 import java.util.concurrent.Callable;
 
@@ -68,6 +70,9 @@ public final class TransactionManager {
   /** Random number generator for exponential backoff */
   private static final Random random = new Random();
 
+  // Key of the commit blocks of a transaction in the user objects of its PersistenceManager
+  private static final String COMMIT_BLOCKS = "sentry.commit.blocks";
+
   private final PersistenceManagerFactory pmf;
 
   // Maximum number of retries per call
@@ -121,7 +126,7 @@ public final class TransactionManager {
       transaction.begin();
       try {
         T result = tb.execute(pm);
-        transaction.commit();
+        commit(pm, transaction);
         return result;
       } catch (Exception e) {
         // Count total failed transactions
@@ -158,7 +163,7 @@ public final class TransactionManager {
         for (TransactionBlock<T> tb : tbs) {
           result = tb.execute(pm);
         }
-        transaction.commit();
+        commit(pm, transaction);
         return result;
       } catch (Exception e) {
         // Count total failed transactions
@@ -176,6 +181,46 @@ public final class TransactionManager {
     }
   }
 
+  /**
+   * Registers a block to be executed at the end of the current transaction of the
+   * PersistenceManager, right before its commit. It is meant for the blocks which
+   * allocate the next change ID of a change table from its content: the primary key of
+   * the table keeps the change IDs distinct and consecutive in the order the
+   * transactions commit, and allocating them last keeps the window in which concurrent
+   * transactions pick the same one, and one of them has to be retried, short. The
+   * blocks are executed in the order they are registered, and not at all if the
+   * transaction fails before.
+   *
+   * @param pm the PersistenceManager of the current transaction
+   * @param tb the block to execute before the commit
+   */
+  static void executeBeforeCommit(PersistenceManager pm, TransactionBlock<?> tb) {
+    @SuppressWarnings("unchecked")
+    List<TransactionBlock<?>> tbs = (List<TransactionBlock<?>>) pm.getUserObject(COMMIT_BLOCKS);
+    if (tbs == null) {
+      tbs = new ArrayList<>();
+      pm.putUserObject(COMMIT_BLOCKS, tbs);
+    }
+    tbs.add(tb);
+  }
+
+  private static void commit(PersistenceManager pm, Transaction transaction) throws Exception {
+    @SuppressWarnings("unchecked")
+    List<TransactionBlock<?>> tbs =
+        (List<TransactionBlock<?>>) pm.removeUserObject(COMMIT_BLOCKS);
+    if (tbs == null) {
+      transaction.commit();
+      return;
+    }
+    // Writes the changes of the transaction first, so that its conflicts with other
+    // transactions show up before the change IDs are allocated.
+    pm.flush();
+    for (TransactionBlock<?> tb : tbs) {
+      tb.execute(pm);
+    }
+    transaction.commit();
+  }
+
   /**
    * Execute some code as a single transaction with retry mechanism.
    *
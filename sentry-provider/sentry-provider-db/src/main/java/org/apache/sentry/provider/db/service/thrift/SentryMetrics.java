@@ -34,6 +34,7 @@ import org.apache.hadoop.fs.FileSystem;
 import org.apache.hadoop.fs.LocalFileSystem;
 import org.apache.hadoop.fs.Path;
 import org.apache.hadoop.fs.permission.FsPermission;
+import org.apache.sentry.provider.common.CachingGroupMappingService;
 import org.apache.sentry.provider.db.service.persistent.SentryStore;
 import org.apache.sentry.service.thrift.SentryService;
 import org.apache.sentry.service.thrift.SentryServiceUtil;
@@ -73,6 +74,7 @@ public final class SentryMetrics {
   private final AtomicBoolean reportingInitialized = new AtomicBoolean();
   private boolean gaugesAdded = false;
   private boolean sentryServiceGaugesAdded = false;
+  private boolean groupMappingCacheGaugesAdded = false;
 
   final Timer createRoleTimer = METRIC_REGISTRY.timer(
       name(SentryPolicyStoreProcessor.class, "create-role"));
@@ -98,6 +100,10 @@ public final class SentryMetrics {
       name(SentryPolicyStoreProcessor.class, "list-privileges-by-role"));
   final Timer listPrivilegesForProviderTimer = METRIC_REGISTRY.timer(
       name(SentryPolicyStoreProcessor.class, "list-privileges-for-provider"));
+  final Timer listPrivilegesForProviderBatchTimer = METRIC_REGISTRY.timer(
+      name(SentryPolicyStoreProcessor.class, "list-privileges-for-provider-batch"));
+  final Timer getPrivilegesDeltaTimer = METRIC_REGISTRY.timer(
+      name(SentryPolicyStoreProcessor.class, "get-privileges-delta"));
   final Timer listPrivilegesByAuthorizableTimer = METRIC_REGISTRY.timer(
       name(SentryPolicyStoreProcessor.class, "list-privileges-by-authorizable"));
 
@@ -153,6 +159,8 @@ public final class SentryMetrics {
           sentryStore.getPermChangeIdGauge());
       addGauge(SentryStore.class, "hms.psth.change.id",
           sentryStore.getPathChangeIdGauge());
+      addGauge(SentryStore.class, "policy.image.version",
+          sentryStore.getPolicyImageVersionGauge());
       gaugesAdded = true;
     }
   }
@@ -161,10 +169,58 @@ public final class SentryMetrics {
     if(!sentryServiceGaugesAdded) {
       addGauge(SentryService.class, "is_active", sentryservice.getIsActiveGauge());
       addGauge(SentryService.class, "activated", sentryservice.getBecomeActiveCount());
+      addGauge(SentryService.class, "hms.notification.lag",
+          sentryservice.getHmsNotificationLagGauge());
       sentryServiceGaugesAdded = true;
     }
   }
 
+  /**
+   * Adds the gauges of the group mapping cache shared by the authorization providers
+   * of the process, see {@link CachingGroupMappingService#getSharedInstance()}. They
+   * are 0 until the cache is created.
+   */
+  public synchronized void addGroupMappingCacheGauges() {
+    if (!groupMappingCacheGaugesAdded) {
+      addGauge(CachingGroupMappingService.class, "hits", new Gauge<Long>() {
+        @Override
+        public Long getValue() {
+          CachingGroupMappingService cache = CachingGroupMappingService.getSharedInstance();
+          return cache != null ? cache.getHitCount() : 0L;
+        }
+      });
+      addGauge(CachingGroupMappingService.class, "misses", new Gauge<Long>() {
+        @Override
+        public Long getValue() {
+          CachingGroupMappingService cache = CachingGroupMappingService.getSharedInstance();
+          return cache != null ? cache.getMissCount() : 0L;
+        }
+      });
+      addGauge(CachingGroupMappingService.class, "refreshes", new Gauge<Long>() {
+        @Override
+        public Long getValue() {
+          CachingGroupMappingService cache = CachingGroupMappingService.getSharedInstance();
+          return cache != null ? cache.getRefreshCount() : 0L;
+        }
+      });
+      addGauge(CachingGroupMappingService.class, "load_time_ms", new Gauge<Long>() {
+        @Override
+        public Long getValue() {
+          CachingGroupMappingService cache = CachingGroupMappingService.getSharedInstance();
+          return cache != null ? cache.getTotalLoadTimeMs() : 0L;
+        }
+      });
+      addGauge(CachingGroupMappingService.class, "size", new Gauge<Long>() {
+        @Override
+        public Long getValue() {
+          CachingGroupMappingService cache = CachingGroupMappingService.getSharedInstance();
+          return cache != null ? cache.size() : 0L;
+        }
+      });
+      groupMappingCacheGaugesAdded = true;
+    }
+  }
+
   /**
    * Initialize reporters. Only initializes once.
    * <p>
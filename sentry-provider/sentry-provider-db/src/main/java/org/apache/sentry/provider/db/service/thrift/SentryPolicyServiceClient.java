@@ -111,6 +111,17 @@ public interface SentryPolicyServiceClient extends AutoCloseable {
                                   TSentryPrivilege privilege) throws
       SentryUserException;
 
+  /**
+   * Grant privileges to several roles in a single request, and a single transaction of
+   * the server.
+   *
+   * @param requestorUserName user on whose behalf the request is issued
+   * @param rolePrivileges the privileges to grant to each role
+   * @throws SentryUserException
+   */
+  void grantPrivileges(String requestorUserName,
+      Map<String, Set<TSentryPrivilege>> rolePrivileges) throws SentryUserException;
+
   void revokeURIPrivilege(String requestorUserName, String roleName, String server,
       String uri) throws SentryUserException;
 
@@ -161,6 +172,20 @@ public interface SentryPolicyServiceClient extends AutoCloseable {
   Set<String> listPrivilegesForProvider(Set<String> groups, Set<String> users,
       ActiveRoleSet roleSet, Authorizable... authorizable) throws SentryUserException;
 
+  /**
+   * Batch version of {@link #listPrivilegesForProvider}, the privileges of all the
+   * authorizable hierarchies are listed with one call.
+   */
+  Map<TSentryAuthorizable, Set<String>> listPrivilegesForProviderBatch(Set<String> groups,
+      Set<String> users, ActiveRoleSet roleSet,
+      Set<List<? extends Authorizable>> authorizableHierarchies) throws SentryUserException;
+
+  /**
+   * Get the data of the roles changed after the given perm change ID, or the full
+   * image when the server cannot tell the changed roles.
+   */
+  TSentryPrivilegesDelta getPrivilegesDelta(long changeId) throws SentryUserException;
+
   void grantRoleToGroup(String requestorUserName, String groupName, String roleName)
       throws SentryUserException;
 
@@ -390,6 +390,23 @@ public class SentryPolicyServiceClientDefaultImpl implements SentryPolicyService
     return grantPrivilegeCore(requestorUserName, roleName, privilege);
   }
 
+  @Override
+  public void grantPrivileges(String requestorUserName,
+      Map<String, Set<TSentryPrivilege>> rolePrivileges) throws SentryUserException {
+    TAlterSentryRolesGrantPrivilegesRequest request =
+        new TAlterSentryRolesGrantPrivilegesRequest();
+    request.setProtocol_version(ThriftConstants.TSENTRY_SERVICE_VERSION_CURRENT);
+    request.setRequestorUserName(requestorUserName);
+    request.setRolePrivileges(rolePrivileges);
+    try {
+      TAlterSentryRolesGrantPrivilegesResponse response =
+          client.alter_sentry_roles_grant_privileges(request);
+      Status.throwIfNotOk(response.getStatus());
+    } catch (TException e) {
+      throw new SentryUserException(THRIFT_EXCEPTION_MESSAGE, e);
+    }
+  }
+
   private TSentryPrivilege grantPrivilegeCore(String requestorUserName, String roleName,
                                               TSentryPrivilege privilege) throws SentryUserException {
     Set<TSentryPrivilege> results =
@@ -746,6 +763,44 @@ public class SentryPolicyServiceClientDefaultImpl implements SentryPolicyService
     }
   }
 
+  @Override
+  public Map<TSentryAuthorizable, Set<String>> listPrivilegesForProviderBatch(
+      Set<String> groups, Set<String> users, ActiveRoleSet roleSet,
+      Set<List<? extends Authorizable>> authorizableHierarchies) throws SentryUserException {
+    TSentryActiveRoleSet thriftRoleSet = new TSentryActiveRoleSet(roleSet.isAll(), roleSet.getRoles());
+    Set<TSentryAuthorizable> authSet = Sets.newHashSet();
+    for (List<? extends Authorizable> authorizableHierarchy : authorizableHierarchies) {
+      authSet.add(setupSentryAuthorizable(authorizableHierarchy));
+    }
+    TListSentryPrivilegesForProviderBatchRequest request =
+      new TListSentryPrivilegesForProviderBatchRequest(ThriftConstants.
+        TSENTRY_SERVICE_VERSION_CURRENT, groups, thriftRoleSet, authSet);
+    if (users != null) {
+      request.setUsers(users);
+    }
+    try {
+      TListSentryPrivilegesForProviderBatchResponse response =
+        client.list_sentry_privileges_for_provider_batch(request);
+      Status.throwIfNotOk(response.getStatus());
+      return response.getPrivilegesMapByAuth();
+    } catch (TException e) {
+      throw new SentryUserException(THRIFT_EXCEPTION_MESSAGE, e);
+    }
+  }
+
+  @Override
+  public TSentryPrivilegesDelta getPrivilegesDelta(long changeId) throws SentryUserException {
+    TSentryPrivilegesDeltaRequest request = new TSentryPrivilegesDeltaRequest(
+      ThriftConstants.TSENTRY_SERVICE_VERSION_CURRENT, changeId);
+    try {
+      TSentryPrivilegesDeltaResponse response = client.get_sentry_privileges_delta(request);
+      Status.throwIfNotOk(response.getStatus());
+      return response.getDelta();
+    } catch (TException e) {
+      throw new SentryUserException(THRIFT_EXCEPTION_MESSAGE, e);
+    }
+  }
+
   @Override
   public void grantRoleToGroup(String requestorUserName,
                                             String groupName, String roleName)
@@ -20,7 +20,7 @@ package org.apache.sentry.provider.db.service.thrift;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
@@ -251,18 +251,14 @@ public class SentryPolicyStoreProcessor implements SentryPolicyService.Iface {
       // TODO: now only has SentryPlugin. Once add more SentryPolicyStorePlugins,
       // TODO: need to differentiate the updates for different Plugins.
       Preconditions.checkState(sentryPlugins.size() <= 1);
-      Map<TSentryPrivilege, Update> privilegesUpdateMap = new HashMap<>();
+      Map<String, Set<TSentryPrivilege>> rolePrivileges =
+          Collections.singletonMap(request.getRoleName(), request.getPrivileges());
+      Update update = null;
       for (SentryPolicyStorePlugin plugin : sentryPlugins) {
-        plugin.onAlterSentryRoleGrantPrivilege(request, privilegesUpdateMap);
-      }
-
-      if (!privilegesUpdateMap.isEmpty()) {
-        sentryStore.alterSentryRoleGrantPrivileges(request.getRequestorUserName(),
-            request.getRoleName(), request.getPrivileges(), privilegesUpdateMap);
-      } else {
-        sentryStore.alterSentryRoleGrantPrivileges(request.getRequestorUserName(),
-            request.getRoleName(), request.getPrivileges());
+        update = plugin.onAlterSentryRolesGrantPrivileges(rolePrivileges);
       }
+      sentryStore.alterSentryRolesGrantPrivileges(request.getRequestorUserName(),
+          rolePrivileges, update);
       GrantPrivilegeRequestValidator.validate(request);
       response.setStatus(Status.OK());
       response.setPrivileges(request.getPrivileges());
@@ -326,18 +322,14 @@ public class SentryPolicyStoreProcessor implements SentryPolicyService.Iface {
       // TODO: now only has SentryPlugin. Once add more SentryPolicyStorePlugins,
       // TODO: need to differentiate the updates for different Plugins.
       Preconditions.checkState(sentryPlugins.size() <= 1);
-      Map<TSentryPrivilege, Update> privilegesUpdateMap = new HashMap<>();
+      Map<String, Set<TSentryPrivilege>> rolePrivileges =
+          Collections.singletonMap(request.getRoleName(), request.getPrivileges());
+      Update update = null;
       for (SentryPolicyStorePlugin plugin : sentryPlugins) {
-        plugin.onAlterSentryRoleRevokePrivilege(request, privilegesUpdateMap);
-      }
-
-      if (!privilegesUpdateMap.isEmpty()) {
-        sentryStore.alterSentryRoleRevokePrivileges(request.getRequestorUserName(),
-            request.getRoleName(), request.getPrivileges(), privilegesUpdateMap);
-      } else {
-        sentryStore.alterSentryRoleRevokePrivileges(request.getRequestorUserName(),
-            request.getRoleName(), request.getPrivileges());
+        update = plugin.onAlterSentryRolesRevokePrivileges(rolePrivileges);
       }
+      sentryStore.alterSentryRolesRevokePrivileges(request.getRequestorUserName(),
+          rolePrivileges, update);
       RevokePrivilegeRequestValidator.validate(request);
       response.setStatus(Status.OK());
       notificationHandlerInvoker.alter_sentry_role_revoke_privilege(request,
@@ -393,6 +385,92 @@ public class SentryPolicyStoreProcessor implements SentryPolicyService.Iface {
     return response;
   }
 
+  @Override
+  public TAlterSentryRolesGrantPrivilegesResponse alter_sentry_roles_grant_privileges(
+      TAlterSentryRolesGrantPrivilegesRequest request) throws TException {
+    final Timer.Context timerContext = sentryMetrics.grantTimer.time();
+    TAlterSentryRolesGrantPrivilegesResponse response =
+        new TAlterSentryRolesGrantPrivilegesResponse();
+    try {
+      validateClientVersion(request.getProtocol_version());
+      GrantPrivilegeRequestValidator.validate(request);
+
+      // TODO: now only has SentryPlugin. Once add more SentryPolicyStorePlugins,
+      // TODO: need to differentiate the updates for different Plugins.
+      Preconditions.checkState(sentryPlugins.size() <= 1);
+      Update update = null;
+      for (SentryPolicyStorePlugin plugin : sentryPlugins) {
+        update = plugin.onAlterSentryRolesGrantPrivileges(request.getRolePrivileges());
+      }
+      sentryStore.alterSentryRolesGrantPrivileges(request.getRequestorUserName(),
+          request.getRolePrivileges(), update);
+      response.setStatus(Status.OK());
+      for (TAlterSentryRoleGrantPrivilegeRequest roleRequest : toRoleGrantRequests(request)) {
+        notificationHandlerInvoker.alter_sentry_role_grant_privilege(roleRequest,
+            toRoleGrantResponse(roleRequest, response));
+      }
+    } catch (SentryNoSuchObjectException e) {
+      LOGGER.error(e.getMessage(), e);
+      response.setStatus(Status.NoSuchObject(e.getMessage(), e));
+    } catch (SentryInvalidInputException e) {
+      LOGGER.error(e.getMessage(), e);
+      response.setStatus(Status.InvalidInput(e.getMessage(), e));
+    } catch (SentryAccessDeniedException e) {
+      LOGGER.error(e.getMessage(), e);
+      response.setStatus(Status.AccessDenied(e.getMessage(), e));
+    } catch (SentryThriftAPIMismatchException e) {
+      LOGGER.error(e.getMessage(), e);
+      response.setStatus(Status.THRIFT_VERSION_MISMATCH(e.getMessage(), e));
+    } catch (Exception e) {
+      String msg = "Unknown error for request: " + request + ", message: " + e.getMessage();
+      LOGGER.error(msg, e);
+      response.setStatus(Status.RuntimeError(msg, e));
+    } finally {
+      timerContext.stop();
+    }
+
+    try {
+      // Audited as a grant to each role
+      for (TAlterSentryRoleGrantPrivilegeRequest roleRequest : toRoleGrantRequests(request)) {
+        Set<JsonLogEntity> jsonLogEntitys = JsonLogEntityFactory.getInstance()
+            .createJsonLogEntitys(roleRequest, toRoleGrantResponse(roleRequest, response), conf);
+        for (JsonLogEntity jsonLogEntity : jsonLogEntitys) {
+          AUDIT_LOGGER.info(jsonLogEntity.toJsonFormatLog());
+        }
+      }
+    } catch (Exception e) {
+      // if any exception, log the exception.
+      String msg = "Error creating audit log for grant privileges to roles: " + e.getMessage();
+      LOGGER.error(msg, e);
+    }
+    return response;
+  }
+
+  private static List<TAlterSentryRoleGrantPrivilegeRequest> toRoleGrantRequests(
+      TAlterSentryRolesGrantPrivilegesRequest request) {
+    List<TAlterSentryRoleGrantPrivilegeRequest> roleRequests = new LinkedList<>();
+    if (request.isSetRolePrivileges()) {
+      for (Map.Entry<String, Set<TSentryPrivilege>> entry
+          : request.getRolePrivileges().entrySet()) {
+        TAlterSentryRoleGrantPrivilegeRequest roleRequest =
+            new TAlterSentryRoleGrantPrivilegeRequest(request.getProtocol_version(),
+                request.getRequestorUserName(), entry.getKey());
+        roleRequest.setPrivileges(entry.getValue());
+        roleRequests.add(roleRequest);
+      }
+    }
+    return roleRequests;
+  }
+
+  private static TAlterSentryRoleGrantPrivilegeResponse toRoleGrantResponse(
+      TAlterSentryRoleGrantPrivilegeRequest roleRequest,
+      TAlterSentryRolesGrantPrivilegesResponse response) {
+    TAlterSentryRoleGrantPrivilegeResponse roleResponse =
+        new TAlterSentryRoleGrantPrivilegeResponse(response.getStatus());
+    roleResponse.setPrivileges(roleRequest.getPrivileges());
+    return roleResponse;
+  }
+
   @Override
   public TDropSentryRoleResponse drop_sentry_role(
     TDropSentryRoleRequest request)  throws TException {
@@ -837,6 +915,82 @@ public class SentryPolicyStoreProcessor implements SentryPolicyService.Iface {
     return response;
   }
 
+  /**
+   * Batch version of list_sentry_privileges_for_provider, created specifically for
+   * ProviderBackend.getPrivilegesBatch(). The roles are resolved once for all the
+   * authorizable hierarchies of the request.
+   */
+  @Override
+  public TListSentryPrivilegesForProviderBatchResponse list_sentry_privileges_for_provider_batch(
+      TListSentryPrivilegesForProviderBatchRequest request) throws TException {
+    final Timer.Context timerContext = sentryMetrics.listPrivilegesForProviderBatchTimer.time();
+    TListSentryPrivilegesForProviderBatchResponse response =
+        new TListSentryPrivilegesForProviderBatchResponse();
+    try {
+      validateClientVersion(request.getProtocol_version());
+      Map<TSentryAuthorizable, Set<String>> privilegesMapByAuth =
+          sentryStore.listSentryPrivilegesForProviderBatch(request.getGroups(),
+              request.getUsers(), request.getRoleSet(), request.getAuthorizableSet());
+      // Same as list_sentry_privileges_for_provider, an empty result means 'server=+'
+      // when there is some privilege in the server, so that the 'default' Db is
+      // accessible. The check is done once per server of the request.
+      Map<String, Boolean> hasAnyServerPrivileges = Maps.newHashMap();
+      for (Map.Entry<TSentryAuthorizable, Set<String>> entry : privilegesMapByAuth.entrySet()) {
+        String server = entry.getKey().getServer();
+        if (!entry.getValue().isEmpty() || server == null) {
+          continue;
+        }
+        Boolean hasAny = hasAnyServerPrivileges.get(server);
+        if (hasAny == null) {
+          hasAny = sentryStore.hasAnyServerPrivileges(request.getGroups(), request.getUsers(),
+              request.getRoleSet(), server);
+          hasAnyServerPrivileges.put(server, hasAny);
+        }
+        if (hasAny) {
+          entry.setValue(Sets.newHashSet("server=+"));
+        }
+      }
+      response.setPrivilegesMapByAuth(privilegesMapByAuth);
+      response.setStatus(Status.OK());
+    } catch (SentryThriftAPIMismatchException e) {
+      LOGGER.error(e.getMessage(), e);
+      response.setStatus(Status.THRIFT_VERSION_MISMATCH(e.getMessage(), e));
+    } catch (Exception e) {
+      String msg = "Unknown error for request: " + request + ", message: " + e.getMessage();
+      LOGGER.error(msg, e);
+      response.setStatus(Status.RuntimeError(msg, e));
+    } finally {
+      timerContext.stop();
+    }
+    return response;
+  }
+
+  /**
+   * Returns the data of the roles changed after the perm change ID of the request, or
+   * the full image, for the client side privilege cache of SimpleDBProviderBackend.
+   */
+  @Override
+  public TSentryPrivilegesDeltaResponse get_sentry_privileges_delta(
+      TSentryPrivilegesDeltaRequest request) throws TException {
+    final Timer.Context timerContext = sentryMetrics.getPrivilegesDeltaTimer.time();
+    TSentryPrivilegesDeltaResponse response = new TSentryPrivilegesDeltaResponse();
+    try {
+      validateClientVersion(request.getProtocol_version());
+      response.setDelta(sentryStore.getPrivilegesDelta(request.getChangeId()));
+      response.setStatus(Status.OK());
+    } catch (SentryThriftAPIMismatchException e) {
+      LOGGER.error(e.getMessage(), e);
+      response.setStatus(Status.THRIFT_VERSION_MISMATCH(e.getMessage(), e));
+    } catch (Exception e) {
+      String msg = "Unknown error for request: " + request + ", message: " + e.getMessage();
+      LOGGER.error(msg, e);
+      response.setStatus(Status.RuntimeError(msg, e));
+    } finally {
+      timerContext.stop();
+    }
+    return response;
+  }
+
   // retrieve the group mapping for the given user name
   private Set<String> getRequestorGroups(String userName)
       throws SentryUserException {
@@ -22,6 +22,7 @@ import java.util.Set;
 
 import org.apache.sentry.core.common.exception.SentryInvalidInputException;
 import org.apache.sentry.provider.db.service.thrift.TAlterSentryRoleGrantPrivilegeRequest;
+import org.apache.sentry.provider.db.service.thrift.TAlterSentryRolesGrantPrivilegesRequest;
 import org.apache.sentry.provider.db.service.thrift.TSentryGrantOption;
 import org.apache.sentry.provider.db.service.thrift.TSentryPrivilege;
 
@@ -50,6 +51,22 @@ public final class GrantPrivilegeRequestValidator {
     }
   }
 
+  /**
+   * Validates the privileges of each role in input request like
+   * {@link #validate(TAlterSentryRoleGrantPrivilegeRequest)}.
+   *
+   * @param request to be validated.
+   * @throws SentryInvalidInputException If all the mandatory fields in the privileges are
+   *                                     not present [OR] invalid fields a provided in request.
+   */
+  public static void validate(TAlterSentryRolesGrantPrivilegesRequest request)
+    throws SentryInvalidInputException {
+    for (Set<TSentryPrivilege> privileges : request.getRolePrivileges().values()) {
+      checkForMandatoryFieldsInPrivileges(privileges);
+      validateGrantOptionInprivileges(privileges);
+    }
+  }
+
   /**
    * Checks for mandatory fields "serverName" and "action" in all the privileges
    * in the set are not empty.
@@ -18,10 +18,13 @@
 package org.apache.sentry.service.thrift;
 
 import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.hive.metastore.HiveMetaStoreClient;
 import org.apache.hadoop.hive.metastore.api.Database;
+import org.apache.hadoop.hive.metastore.api.MetaException;
 import org.apache.hadoop.hive.metastore.api.Partition;
 import org.apache.hadoop.hive.metastore.api.Table;
 import org.apache.sentry.hdfs.PathsUpdate;
@@ -32,6 +35,8 @@ import org.apache.thrift.TException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -41,12 +46,14 @@ import java.util.List;
 import java.util.Set;
 import java.util.Map;
 import java.util.HashMap;
+import java.util.Queue;
 import java.util.concurrent.Callable;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
@@ -61,7 +68,9 @@ import static com.codahale.metrics.MetricRegistry.name;
  * All table partitions are stored under the table object.
  * <p>
  * Once {@link FullUpdateInitializer}, the {@link FullUpdateInitializer#getFullHMSSnapshot()}
- * method should be called to get the initial update.
+ * method should be called to get the initial update. For large metastores
+ * {@link FullUpdateInitializer#getFullHMSSnapshot(long, SnapshotChunkHandler)} gives the
+ * snapshot in bounded chunks instead, without holding it in memory.
  * <p>
  * It is important to close the {@link FullUpdateInitializer} object to prevent resource
  * leaks.
@@ -82,13 +91,23 @@ public final class FullUpdateInitializer implements AutoCloseable {
    *
    * The snapshot is obtained using an executor. We follow the map/reduce model.
    * Each executor thread (mapper) obtains and returns a partial snapshot which are then
-   * reduced to a single combined snapshot by getFullHMSSnapshot().
+   * reduced to chunks of the combined snapshot by getFullHMSSnapshot().
    *
-   * Synchronization between the getFullHMSSnapshot() and executors is done using the
-   * 'results' queue. The queue holds the futures for each scheduled task.
-   * It is initially populated by getFullHMSSnapshot and each task may add new future
-   * results to it. Only getFullHMSSnapshot() removes entries from the results queue.
-   * This guarantees that once the results queue is empty there are no pending jobs.
+   * Only getFullHMSSnapshot() schedules tasks. A task returns its sub-tasks (the tables
+   * of a database, the partitions of a table) with its result, they are kept in the
+   * 'pending' deque and scheduled depth first, so that the objects of a database are
+   * fetched together. At most maxTasksInFlight tasks are scheduled or completed but not
+   * merged yet, so the executors can't get ahead of the chunk handler and the memory
+   * used is bounded by the chunk size. The results are taken from the 'results'
+   * completion service as the tasks complete; once no task is pending or in flight
+   * there are no pending jobs.
+   *
+   * When the pending tasks can't keep the executors busy, e.g. at the end of a snapshot
+   * or for a database with a few huge tables, the pending tasks fetching several tables or
+   * partitions are split in two, so that idle executors take a share of their work.
+   *
+   * Each executor thread keeps its own HMS connection for all its tasks; a connection is
+   * only reopened after a failure.
    *
    * Since there are no other data sharing, the implementation is safe without
    * any other synchronization. It is not thread-safe for concurrent calls
@@ -101,7 +120,17 @@ public final class FullUpdateInitializer implements AutoCloseable {
   private final ExecutorService threadPool;
   private final int maxPartitionsPerCall;
   private final int maxTablesPerCall;
-  private final Deque<Future<CallResult>> results = new ConcurrentLinkedDeque<>();
+  private final int threads;
+  private final int maxTasksInFlight;
+  private final CompletionService<CallResult> results;
+  private int tasksInFlight = 0;
+  private final Deque<BaseTask> pending = new ArrayDeque<>();
+  /** Progress of the databases being fetched, by database name */
+  private final Map<String, DbProgress> progress = new HashMap<>();
+  /** HMS connection of each executor thread */
+  private final ThreadLocal<HMSClient> workerClient = new ThreadLocal<>();
+  /** HMS connections of all the executor threads, closed with the initializer */
+  private final Queue<HMSClient> workerClients = new ConcurrentLinkedQueue<>();
   private final int maxRetries;
   private final int waitDurationMillis;
 
@@ -123,6 +152,18 @@ public final class FullUpdateInitializer implements AutoCloseable {
   private final Counter partitionCount = SentryMetrics.getInstance()
       .getCounter(name(FullUpdateInitializer.class, "total", "partitions"));
 
+  /** Number of database objects fetched with all their tables and partitions */
+  private final Counter completedDatabaseCount = SentryMetrics.getInstance()
+      .getCounter(name(FullUpdateInitializer.class, "completed", "db"));
+
+  /** Measures time to fetch a database with all its tables and partitions */
+  private final Timer databaseTimer = SentryMetrics.getInstance()
+      .getTimer(name(FullUpdateInitializer.class, "db"));
+
+  /** Number of tasks split to keep the executors busy */
+  private final Counter splitTaskCount = SentryMetrics.getInstance()
+      .getCounter(name(FullUpdateInitializer.class, "split", "tasks"));
+
   /**
    * Extract path (not starting with "/") from the full URI
    * @param uri - resource URI (usually with scheme)
@@ -166,21 +207,42 @@ public final class FullUpdateInitializer implements AutoCloseable {
     }
   }
 
+  /**
+   * Receives the snapshot in chunks from
+   * {@link FullUpdateInitializer#getFullHMSSnapshot(long, SnapshotChunkHandler)}.
+   * The paths of an object may be split across several chunks.
+   */
+  interface SnapshotChunkHandler {
+    void handle(Map<String, Set<String>> chunk) throws Exception;
+  }
+
+  /**
+   * Tasks and paths of a database not fetched completely yet.
+   */
+  private static final class DbProgress {
+    private int tasks;
+    private long paths;
+    private long startNanos;
+  }
+
   private static final class CallResult {
     private final Exception failure;
     private final boolean successStatus;
     private final ObjectMapping objectMapping;
+    private final BaseTask task;
 
     CallResult(Exception ex) {
       failure = ex;
       successStatus = false;
       objectMapping = emptyObjectMapping;
+      task = null;
     }
 
-    CallResult(ObjectMapping objectMapping) {
+    CallResult(BaseTask task, ObjectMapping objectMapping) {
       failure = null;
       successStatus = true;
       this.objectMapping = objectMapping;
+      this.task = task;
     }
 
     boolean success() {
@@ -191,6 +253,14 @@ public final class FullUpdateInitializer implements AutoCloseable {
       return objectMapping;
     }
 
+    List<BaseTask> getSubTasks() {
+      return task.subTasks;
+    }
+
+    String getDbName() {
+      return task.dbName;
+    }
+
     public Exception getFailure() {
       return failure;
     }
@@ -228,7 +298,9 @@ public final class FullUpdateInitializer implements AutoCloseable {
           for (int i = 0; i < retryStrategyMaxRetries; i++) {
             //noinspection NestedTryStatement
             try {
-              return new CallResult(doTask());
+              // Sub-tasks added by a failed attempt are added again by the next one
+              subTasks.clear();
+              return new CallResult(BaseTask.this, doTask());
             } catch (TException ex) {
               LOGGER.debug("Failed to execute task on " + (i + 1) + " attempts." +
                       " Sleeping for " + retryStrategyWaitDurationMillis + " ms. Exception: " +
@@ -257,9 +329,12 @@ public final class FullUpdateInitializer implements AutoCloseable {
     }
 
     private final RetryStrategy retryStrategy;
+    private final List<BaseTask> subTasks = new ArrayList<>();
+    final String dbName;
 
-    BaseTask() {
+    BaseTask(String dbName) {
       retryStrategy = new RetryStrategy(maxRetries, waitDurationMillis);
+      this.dbName = safeIntern(dbName);
     }
 
     @Override
@@ -267,34 +342,56 @@ public final class FullUpdateInitializer implements AutoCloseable {
       return retryStrategy.exec();
     }
 
+    /**
+     * Adds a task to schedule once this one completed successfully.
+     */
+    void addSubTask(BaseTask task) {
+      subTasks.add(task);
+    }
+
+    /**
+     * Splits the work of this task, e.g. the tables it fetches, in two.
+     * @return the task doing the second half of the work, this one doing the first half,
+     *         or null if the task can't be split
+     */
+    BaseTask split() {
+      return null;
+    }
+
     abstract ObjectMapping doTask() throws Exception;
   }
 
   private class PartitionTask extends BaseTask {
-    private final String dbName;
     private final String tblName;
     private final String authName;
-    private final List<String> partNames;
+    private List<String> partNames;
 
     PartitionTask(String dbName, String tblName, String authName,
                   List<String> partNames) {
-      this.dbName = safeIntern(dbName);
+      super(dbName);
       this.tblName = safeIntern(tblName);
       this.authName = safeIntern(authName);
       this.partNames = partNames;
     }
 
+    @Override
+    BaseTask split() {
+      if (partNames.size() < 2) {
+        return null;
+      }
+      int half = partNames.size() / 2;
+      List<String> secondHalf = partNames.subList(half, partNames.size());
+      partNames = partNames.subList(0, half);
+      return new PartitionTask(dbName, tblName, authName, secondHalf);
+    }
+
     @Override
     ObjectMapping doTask() throws Exception {
       List<Partition> tblParts;
-      HMSClient c = null;
-      try (HMSClient client = clientFactory.connect()) {
-        c = client;
-        tblParts = client.getClient().getPartitionsByNames(dbName, tblName, partNames);
+      try {
+        tblParts = getWorkerClient().getPartitionsByNames(dbName, tblName, partNames);
       } catch (Exception e) {
-        if (c != null) {
-          c.invalidate();
-        }
+        invalidateWorkerClient();
         throw e;
       }
 
@@ -313,21 +410,30 @@ public final class FullUpdateInitializer implements AutoCloseable {
   }
 
   private class TableTask extends BaseTask {
-    private final String dbName;
-    private final List<String> tableNames;
+    private List<String> tableNames;
 
-    TableTask(Database db, List<String> tableNames) {
-      dbName = safeIntern(db.getName());
+    TableTask(String dbName, List<String> tableNames) {
+      super(dbName);
       this.tableNames = tableNames;
     }
 
+    @Override
+    BaseTask split() {
+      if (tableNames.size() < 2) {
+        return null;
+      }
+      int half = tableNames.size() / 2;
+      List<String> secondHalf = tableNames.subList(half, tableNames.size());
+      tableNames = tableNames.subList(0, half);
+      return new TableTask(dbName, secondHalf);
+    }
+
     @Override
     @SuppressWarnings({"squid:S2629", "squid:S135"})
     ObjectMapping doTask() throws Exception {
-      HMSClient c = null;
-      try (HMSClient client = clientFactory.connect()) {
-        c = client;
-        List<Table> tables = client.getClient().getTableObjectsByName(dbName, tableNames);
+      try {
+        HiveMetaStoreClient client = getWorkerClient();
+        List<Table> tables = client.getTableObjectsByName(dbName, tableNames);
 
         LOGGER.debug("Fetching tables for db = {}, tables = {}", dbName, tableNames);
 
@@ -344,15 +450,13 @@ public final class FullUpdateInitializer implements AutoCloseable {
           String tableName = safeIntern(tbl.getTableName().toLowerCase());
           String authzObject = (dbName + "." + tableName).intern();
           List<String> tblPartNames =
-              client.getClient().listPartitionNames(dbName, tableName, (short) -1);
+              client.listPartitionNames(dbName, tableName, (short) -1);
           // Count total number of partitions
           partitionCount.inc(tblPartNames.size());
           for (int i = 0; i < tblPartNames.size(); i += maxPartitionsPerCall) {
             List<String> partsToFetch = tblPartNames.subList(i,
                     Math.min(i + maxPartitionsPerCall, tblPartNames.size()));
-            Callable<CallResult> partTask = new PartitionTask(dbName,
-                    tableName, authzObject, partsToFetch);
-            results.add(threadPool.submit(partTask));
+            addSubTask(new PartitionTask(dbName, tableName, authzObject, partsToFetch));
           }
           String tblPath = safeIntern(pathFromURI(tbl.getSd().getLocation()));
           if (tblPath == null) {
@@ -367,9 +471,7 @@ public final class FullUpdateInitializer implements AutoCloseable {
         }
         return new ObjectMapping(Collections.unmodifiableMap(objectMapping));
       } catch (Exception e) {
-        if (c != null) {
-          c.invalidate();
-        }
+        invalidateWorkerClient();
         throw e;
       }
     }
@@ -377,45 +479,66 @@ public final class FullUpdateInitializer implements AutoCloseable {
 
   private class DbTask extends BaseTask {
 
-    private final String dbName;
-
     DbTask(String dbName) {
       //Database names are case insensitive
-      this.dbName = safeIntern(dbName.toLowerCase());
+      super(dbName.toLowerCase());
       databaseCount.inc();
     }
 
     @Override
     ObjectMapping doTask() throws Exception {
-      HMSClient c = null;
-      try (HMSClient client = clientFactory.connect()) {
-        c = client;
-        Database db = client.getClient().getDatabase(dbName);
+      try {
+        HiveMetaStoreClient client = getWorkerClient();
+        Database db = client.getDatabase(dbName);
         if (!dbName.equalsIgnoreCase(db.getName())) {
           LOGGER.warn("Database name {} does not match {}", db.getName(), dbName);
           return emptyObjectMapping;
         }
-        List<String> allTblStr = client.getClient().getAllTables(dbName);
+        List<String> allTblStr = client.getAllTables(dbName);
         // Count total number of tables
         tableCount.inc(allTblStr.size());
         for (int i = 0; i < allTblStr.size(); i += maxTablesPerCall) {
           List<String> tablesToFetch = allTblStr.subList(i,
                   Math.min(i + maxTablesPerCall, allTblStr.size()));
-          Callable<CallResult> tableTask = new TableTask(db, tablesToFetch);
-          results.add(threadPool.submit(tableTask));
+          addSubTask(new TableTask(dbName, tablesToFetch));
         }
         String dbPath = safeIntern(pathFromURI(db.getLocationUri()));
         return (dbPath != null) ? new ObjectMapping(dbName, dbPath) :
                 emptyObjectMapping;
       } catch (Exception e) {
-        if (c != null) {
-          c.invalidate();
-        }
+        invalidateWorkerClient();
         throw e;
       }
     }
   }
 
+  /**
+   * @return the HMS connection of the current executor thread, opened on first use
+   */
+  private HiveMetaStoreClient getWorkerClient()
+      throws IOException, InterruptedException, MetaException {
+    HMSClient client = workerClient.get();
+    if (client == null) {
+      client = clientFactory.connect();
+      workerClient.set(client);
+      workerClients.add(client);
+    }
+    return client.getClient();
+  }
+
+  /**
+   * Closes the HMS connection of the current executor thread after a failure, the next
+   * task of the thread opens a new one.
+   */
+  private void invalidateWorkerClient() {
+    HMSClient client = workerClient.get();
+    if (client != null) {
+      workerClient.remove();
+      workerClients.remove(client);
+      client.invalidate();
+    }
+  }
+
   FullUpdateInitializer(HiveConnectionFactory clientFactory, Configuration conf) {
     this.clientFactory = clientFactory;
     maxPartitionsPerCall = conf.getInt(
@@ -435,10 +558,13 @@ public final class FullUpdateInitializer implements AutoCloseable {
         .setNameFormat(FULL_UPDATE_INITIALIZER_THREAD_NAME)
         .setDaemon(false)
         .build();
-    threadPool = Executors.newFixedThreadPool(conf.getInt(
+    threads = conf.getInt(
         ServerConfig.SENTRY_HDFS_SYNC_METASTORE_CACHE_INIT_THREADS,
-        ServerConfig.SENTRY_HDFS_SYNC_METASTORE_CACHE_INIT_THREADS_DEFAULT),
-            fullUpdateInitThreadFactory);
+        ServerConfig.SENTRY_HDFS_SYNC_METASTORE_CACHE_INIT_THREADS_DEFAULT);
+    threadPool = Executors.newFixedThreadPool(threads, fullUpdateInitThreadFactory);
+    results = new ExecutorCompletionService<>(threadPool);
+    // Keeps every thread busy while the previous results are merged
+    maxTasksInFlight = 2 * threads;
   }
 
   /**
@@ -450,6 +576,31 @@ public final class FullUpdateInitializer implements AutoCloseable {
    */
   @SuppressWarnings("squid:S00112")
   Map<String, Set<String>> getFullHMSSnapshot() throws Exception {
+    final Map<String, Set<String>> fullSnapshot = new HashMap<>();
+    // A single chunk holds the full snapshot
+    getFullHMSSnapshot(Long.MAX_VALUE, new SnapshotChunkHandler() {
+      @Override
+      public void handle(Map<String, Set<String>> chunk) {
+        fullSnapshot.putAll(chunk);
+      }
+    });
+    return fullSnapshot;
+  }
+
+  /**
+   * Get Full HMS snapshot in chunks, without holding it in memory. A chunk is given to
+   * the handler once it holds at least {@code maxPathsPerChunk} paths, no task result is
+   * fetched while the handler runs.
+   * @param maxPathsPerChunk number of paths after which a chunk is handled
+   * @param handler handler of the chunks, called by this thread
+   * @return number of chunks handled
+   * @throws TException if Thrift error occured
+   * @throws ExecutionException if there was a scheduling error
+   * @throws InterruptedException if processing was interrupted
+   */
+  @SuppressWarnings("squid:S00112")
+  long getFullHMSSnapshot(long maxPathsPerChunk, SnapshotChunkHandler handler)
+      throws Exception {
     // Get list of all HMS databases
     List<String> allDbStr;
     HMSClient c = null;
@@ -466,40 +617,126 @@ public final class FullUpdateInitializer implements AutoCloseable {
     // Schedule async task for each database responsible for fetching per-database
     // objects.
     for (String dbName : allDbStr) {
-      results.add(threadPool.submit(new DbTask(dbName)));
+      DbTask task = new DbTask(dbName);
+      pending.add(task);
+      startTask(task);
     }
-
-    // Resulting full snapshot
-    Map<String, Set<String>> fullSnapshot = new HashMap<>();
-
-    // As async tasks complete, merge their results into full snapshot.
-    while (!results.isEmpty()) {
-      // This is the only thread that takes elements off the results list - all other threads
-      // only add to it. Once the list is empty it can't become non-empty
-      // This means that if we check that results is non-empty we can safely call pop() and
-      // know that the result of poll() is not null.
-      Future<CallResult> result = results.pop();
-      // Wait for the task to complete
-      CallResult callResult = result.get();
+    scheduleTasks();
+
+    // Chunk of the full snapshot being built
+    Map<String, Set<String>> chunk = new HashMap<>();
+    long chunkPaths = 0;
+    long chunks = 0;
+
+    // As async tasks complete, merge their results into the chunk.
+    while (tasksInFlight > 0) {
+      // Wait for a task to complete
+      CallResult callResult = results.take().get();
+      tasksInFlight--;
       // Fail if we got errors
       if (!callResult.success()) {
         throw callResult.getFailure();
       }
-      // Merge values into fullUpdate
+      // Schedule the sub-tasks before the tasks of the other objects
+      List<BaseTask> subTasks = callResult.getSubTasks();
+      for (int i = subTasks.size() - 1; i >= 0; i--) {
+        pending.push(subTasks.get(i));
+        startTask(subTasks.get(i));
+      }
+      scheduleTasks();
+      // Merge values into the chunk
       Map<String, Set<String>> objectMapping =
               callResult.getObjectMapping().getObjects();
+      long paths = 0;
       for (Map.Entry<String, Set<String>> entry: objectMapping.entrySet()) {
         String key = entry.getKey();
         Set<String> val = entry.getValue();
-        Set<String> existingSet = fullSnapshot.get(key);
+        paths += val.size();
+        Set<String> existingSet = chunk.get(key);
         if (existingSet == null) {
-          fullSnapshot.put(key, val);
+          chunk.put(key, val);
           continue;
         }
         existingSet.addAll(val);
       }
+      chunkPaths += paths;
+      completeTask(callResult.getDbName(), paths);
+      if (chunkPaths >= maxPathsPerChunk) {
+        handler.handle(chunk);
+        chunks++;
+        chunk = new HashMap<>();
+        chunkPaths = 0;
+      }
     }
-    return fullSnapshot;
+    if (!chunk.isEmpty() || chunks == 0) {
+      handler.handle(chunk);
+      chunks++;
+    }
+    return chunks;
+  }
+
+  /**
+   * Schedules the pending tasks until {@link #maxTasksInFlight} tasks are scheduled.
+   * When there are not enough pending tasks for every thread, the pending tasks are split.
+   */
+  private void scheduleTasks() {
+    // Splits each pending task in two, until there are enough tasks for every thread
+    boolean split = true;
+    while (split && pending.size() + tasksInFlight < threads) {
+      split = false;
+      for (BaseTask task : new ArrayList<>(pending)) {
+        if (pending.size() + tasksInFlight >= threads) {
+          break;
+        }
+        BaseTask secondHalf = task.split();
+        if (secondHalf != null) {
+          pending.push(secondHalf);
+          startTask(secondHalf);
+          splitTaskCount.inc();
+          split = true;
+        }
+      }
+    }
+    while (!pending.isEmpty() && tasksInFlight < maxTasksInFlight) {
+      BaseTask task = pending.pop();
+      DbProgress dbProgress = progress.get(task.dbName);
+      if (dbProgress.startNanos == 0) {
+        dbProgress.startNanos = System.nanoTime();
+      }
+      results.submit(task);
+      tasksInFlight++;
+    }
+  }
+
+  /**
+   * Counts a new task of a database.
+   */
+  private void startTask(BaseTask task) {
+    DbProgress dbProgress = progress.get(task.dbName);
+    if (dbProgress == null) {
+      dbProgress = new DbProgress();
+      progress.put(task.dbName, dbProgress);
+    }
+    dbProgress.tasks++;
+  }
+
+  /**
+   * Counts a completed task of a database, the database is complete once all its
+   * tasks completed.
+   */
+  private void completeTask(String dbName, long paths) {
+    DbProgress dbProgress = progress.get(dbName);
+    dbProgress.paths += paths;
+    if (--dbProgress.tasks > 0) {
+      return;
+    }
+    progress.remove(dbName);
+    long elapsedNanos = System.nanoTime() - dbProgress.startNanos;
+    databaseTimer.update(elapsedNanos, TimeUnit.NANOSECONDS);
+    completedDatabaseCount.inc();
+    LOGGER.info(String.format("Fetched %d paths of database %s in %d ms, %d databases left",
+        dbProgress.paths, dbName, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+        progress.size()));
   }
 
   @Override
@@ -511,6 +748,10 @@ public final class FullUpdateInitializer implements AutoCloseable {
       LOGGER.warn("Interrupted shutdown");
       Thread.currentThread().interrupt();
     }
+    HMSClient client;
+    while ((client = workerClients.poll()) != null) {
+      client.close();
+    }
   }
 
   /**
@@ -20,9 +20,20 @@ package org.apache.sentry.service.thrift;
 
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Throwables;
+import com.google.common.collect.Iterables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.net.SocketException;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import javax.jdo.JDODataStoreException;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.hadoop.hive.metastore.api.NotificationEvent;
@@ -30,6 +41,7 @@ import static org.apache.sentry.binding.hive.conf.HiveAuthzConf.AuthzConfVars.AU
 import static org.apache.sentry.binding.hive.conf.HiveAuthzConf.AuthzConfVars.AUTHZ_SERVER_NAME_DEPRECATED;
 import org.apache.sentry.provider.db.service.persistent.PathsImage;
 import org.apache.sentry.provider.db.service.persistent.SentryStore;
+import org.apache.sentry.service.thrift.ServiceConstants.ServerConfig;
 import org.apache.thrift.TException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -49,6 +61,12 @@ public class HMSFollower implements Runnable, AutoCloseable {
   private final SentryStore sentryStore;
   private final NotificationProcessor notificationProcessor;
   private final boolean hdfsSyncEnabled;
+  private final int batchMaxEvents;
+  private final long batchMaxMills;
+  private final long snapshotBatchPaths;
+  /** Fetches the next page of notifications while the current one is processed. */
+  private ExecutorService fetchExecutor;
+  private volatile long lastProcessedNotificationId = SentryStore.EMPTY_NOTIFICATION_ID;
 
   private final LeaderStatusMonitor leaderMonitor;
 
@@ -88,6 +106,12 @@ public class HMSFollower implements Runnable, AutoCloseable {
     notificationProcessor = new NotificationProcessor(sentryStore, authServerName, authzConf);
     client = new SentryHMSClient(authzConf, hiveConnectionFactory);
     hdfsSyncEnabled = SentryServiceUtil.isHDFSSyncEnabledNoCache(authzConf); // no cache to test different settings for hdfs sync
+    batchMaxEvents = conf.getInt(ServerConfig.SENTRY_HMSFOLLOWER_BATCH_MAX_EVENTS,
+        ServerConfig.SENTRY_HMSFOLLOWER_BATCH_MAX_EVENTS_DEFAULT);
+    batchMaxMills = conf.getLong(ServerConfig.SENTRY_HMSFOLLOWER_BATCH_MAX_MILLS,
+        ServerConfig.SENTRY_HMSFOLLOWER_BATCH_MAX_MILLS_DEFAULT);
+    snapshotBatchPaths = conf.getLong(ServerConfig.SENTRY_HMSFOLLOWER_SNAPSHOT_BATCH_PATHS,
+        ServerConfig.SENTRY_HMSFOLLOWER_SNAPSHOT_BATCH_PATHS_DEFAULT);
   }
 
   @VisibleForTesting
@@ -100,8 +124,20 @@ public class HMSFollower implements Runnable, AutoCloseable {
     this.client = client;
   }
 
+  /**
+   * @return the number of HMS notifications which are not processed yet, as of the last
+   *         request to the HMS
+   */
+  public long getNotificationLag() {
+    return Math.max(0, client.getLastCurrentNotificationId() - lastProcessedNotificationId);
+  }
+
   @Override
   public void close() {
+    if (fetchExecutor != null) {
+      fetchExecutor.shutdownNow();
+      fetchExecutor = null;
+    }
     if (client != null) {
       // Close any outstanding connections to HMS
       try {
@@ -179,7 +215,7 @@ public class HMSFollower implements Runnable, AutoCloseable {
       }
 
       // Continue with processing new notifications if no snapshots are done.
-      processNotifications(notifications);
+      processNotificationPages(notifications);
     } catch (TException e) {
       // If the underlying exception is around socket exception,
       // it is better to retry connection to HMS
@@ -197,6 +233,72 @@ public class HMSFollower implements Runnable, AutoCloseable {
     }
   }
 
+  /**
+   * Processes the notifications and the following ones, a page at a time, until all the
+   * notifications logged by the HMS are processed. The next page is fetched while the
+   * current one is processed, and no further, so that at most two pages are in memory.
+   * <p>
+   * Each page is checked to follow the previous one as the first page is, and a full
+   * snapshot is taken instead of processing it if the HMS cleaned up notifications
+   * in between.
+   *
+   * @param notifications the first page of notifications
+   * @throws Exception if the notifications can't be fetched or processed
+   */
+  private void processNotificationPages(Collection<NotificationEvent> notifications)
+      throws Exception {
+    while (!notifications.isEmpty()) {
+      Future<Collection<NotificationEvent>> nextPage = null;
+      final long lastEventId = Iterables.getLast(notifications).getEventId();
+      // A smaller page is the last one
+      if (notifications.size() >= client.getNotificationsPageSize()) {
+        nextPage = getFetchExecutor().submit(new Callable<Collection<NotificationEvent>>() {
+          @Override
+          public Collection<NotificationEvent> call() throws Exception {
+            return client.getNotifications(lastEventId);
+          }
+        });
+      }
+
+      boolean processed;
+      try {
+        processed = processNotifications(notifications);
+      } finally {
+        if (nextPage != null) {
+          // Waits for the fetch before the client is used again
+          notifications = getNextPage(nextPage);
+        }
+      }
+      if (!processed || (nextPage == null)) {
+        return;
+      }
+      if (areNotificationsOutOfSync(notifications, lastEventId)) {
+        createFullSnapshot();
+        return;
+      }
+    }
+  }
+
+  private static Collection<NotificationEvent> getNextPage(
+      Future<Collection<NotificationEvent>> nextPage) throws Exception {
+    try {
+      return nextPage.get();
+    } catch (ExecutionException e) {
+      Throwables.propagateIfPossible(e.getCause(), Exception.class);
+      throw e;
+    }
+  }
+
+  private ExecutorService getFetchExecutor() {
+    if (fetchExecutor == null) {
+      fetchExecutor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+          .setNameFormat("hms-notification-fetcher")
+          .setDaemon(true)
+          .build());
+    }
+    return fetchExecutor;
+  }
+
   /**
    * Checks if a new full HMS snapshot request is needed by checking if:
    * <ul>
@@ -275,6 +377,10 @@ public class HMSFollower implements Runnable, AutoCloseable {
    * @throws Exception if there are failures
    */
   private long createFullSnapshot() throws Exception {
+    if (hdfsSyncEnabled && snapshotBatchPaths > 0) {
+      return streamFullSnapshot();
+    }
+
     LOGGER.debug("Attempting to take full HMS snapshot");
     PathsImage snapshotInfo = client.getFullSnapshot();
     if (snapshotInfo.getPathImage().isEmpty()) {
@@ -307,59 +413,193 @@ public class HMSFollower implements Runnable, AutoCloseable {
     LOGGER.info("Sentry HMS support is ready");
     return snapshotInfo.getId();
   }
+  /**
+   * Request for full snapshot and persists it in chunks of {@link #snapshotBatchPaths}
+   * paths under a pending snapshot ID, which becomes the current one once all the chunks
+   * are persisted. The snapshot is activated with the notification ID taken before it,
+   * the notifications received while it was taken are then processed as new ones.
+   *
+   * @return The notification ID of the snapshot.
+   * @throws Exception if an error occurs while persisting the snapshot
+   */
+  private long streamFullSnapshot() throws Exception {
+    LOGGER.debug("Attempting to stream full HMS snapshot");
+    final long snapshotId;
+    try {
+      snapshotId = sentryStore.beginFullPathsImage();
+    } catch (Exception failure) {
+      LOGGER.error("Received exception while starting HMS path full snapshot ");
+      throw failure;
+    }
+    long notificationId = client.streamFullSnapshot(snapshotBatchPaths,
+        new FullUpdateInitializer.SnapshotChunkHandler() {
+          @Override
+          public void handle(Map<String, Set<String>> chunk) throws Exception {
+            // Check we're still the leader before persisting each chunk
+            if (!isLeader()) {
+              throw new IllegalStateException("Sentry server is not the leader any more");
+            }
+            LOGGER.debug("Persisting a chunk of HMS path full snapshot");
+            sentryStore.persistFullPathsImageChunk(snapshotId, chunk);
+          }
+        });
+    if (notificationId == SentryStore.EMPTY_NOTIFICATION_ID) {
+      // The chunks persisted so far are deleted by the next snapshot
+      return SentryStore.EMPTY_NOTIFICATION_ID;
+    }
+
+    // Check we're still the leader before activating the new snapshot
+    if (!isLeader()) {
+      return SentryStore.EMPTY_NOTIFICATION_ID;
+    }
+
+    try {
+      LOGGER.debug("Activating HMS path full snapshot #{}", snapshotId);
+      sentryStore.activateFullPathsImage(snapshotId, notificationId);
+    } catch (Exception failure) {
+      LOGGER.error("Received exception while activating HMS path full snapshot ");
+      throw failure;
+    }
+    wakeUpWaitingClientsForSync(notificationId);
+    LOGGER.info("Sentry HMS support is ready");
+    return notificationId;
+  }
+
 
   /**
    * Process the collection of notifications and wake up any waiting clients.
    * Also, persists the notification ID regardless of processing result.
    *
+   * <p>When batching is enabled, the consecutive partition events are processed in a single
+   * transaction, up to {@link ServerConfig#SENTRY_HMSFOLLOWER_BATCH_MAX_EVENTS} events or
+   * {@link ServerConfig#SENTRY_HMSFOLLOWER_BATCH_MAX_MILLS} milliseconds. A batch which fails
+   * is processed again one event at a time.
+   *
    * @param events list of event to be processed
+   * @return false if the rest of the notifications need not be processed, e.g. if this is no
+   *         longer the leader
    * @throws Exception if the complete notification list is not processed because of JDO Exception
    */
-  public void processNotifications(Collection<NotificationEvent> events) throws Exception {
-    boolean isNotificationProcessed;
+  public boolean processNotifications(Collection<NotificationEvent> events) throws Exception {
     if (events.isEmpty()) {
-      return;
+      return true;
     }
 
+    List<NotificationEvent> batch = new ArrayList<>();
+    long batchStartMills = 0;
     for (NotificationEvent event : events) {
-      isNotificationProcessed = false;
-      try {
-        // Only the leader should process the notifications
-        if (!isLeader()) {
-          return;
+      if ((batchMaxEvents > 1) && notificationProcessor.isBatchable(event)) {
+        if (batch.isEmpty()) {
+          batchStartMills = System.currentTimeMillis();
         }
-        isNotificationProcessed = notificationProcessor.processNotificationEvent(event);
-      } catch (Exception e) {
-        if (e.getCause() instanceof JDODataStoreException) {
-          LOGGER.info("Received JDO Storage Exception, Could be because of processing "
-              + "duplicate notification");
-          if (event.getEventId() <= sentryStore.getLastProcessedNotificationID()) {
-            // Rest of the notifications need not be processed.
-            LOGGER.error("Received event with Id: {} which is smaller then the ID "
-                + "persisted in store", event.getEventId());
-            break;
+        batch.add(event);
+        if ((batch.size() >= batchMaxEvents)
+            || (System.currentTimeMillis() - batchStartMills >= batchMaxMills)) {
+          if (!processNotificationBatch(batch)) {
+            return false;
           }
-        } else {
-          LOGGER.error("Processing the notification with ID:{} failed with exception {}",
-              event.getEventId(), e);
+          batch.clear();
         }
+        continue;
+      }
+      if (!processNotificationBatch(batch) || !processNotification(event)) {
+        return false;
+      }
+      batch.clear();
+    }
+    return processNotificationBatch(batch);
+  }
+
+  /**
+   * Processes consecutive batchable notifications in a single transaction, falling back to
+   * processing them one by one if that fails.
+   *
+   * @param batch notifications to be processed
+   * @return false if the rest of the notifications need not be processed
+   * @throws Exception if the notification ID of an event can't be persisted
+   */
+  private boolean processNotificationBatch(List<NotificationEvent> batch) throws Exception {
+    if (batch.isEmpty()) {
+      return true;
+    }
+    if (batch.size() == 1) {
+      return processNotification(batch.get(0));
+    }
+    // Only the leader should process the notifications
+    if (!isLeader()) {
+      return false;
+    }
+
+    long firstEventId = batch.get(0).getEventId();
+    long lastEventId = batch.get(batch.size() - 1).getEventId();
+    try {
+      // The events which were already processed are detected one by one, by the
+      // failure to persist their notification ID
+      if ((firstEventId > sentryStore.getLastProcessedNotificationID())
+          && notificationProcessor.processNotificationEvents(batch)) {
+        wakeUpWaitingClientsForSync(lastEventId);
+        return true;
+      }
+    } catch (Exception e) {
+      LOGGER.info(String.format("Processing the notifications with IDs:%d-%d together failed, "
+          + "processing them one by one", firstEventId, lastEventId), e);
+    }
+
+    for (NotificationEvent event : batch) {
+      if (!processNotification(event)) {
+        return false;
       }
-      if (!isNotificationProcessed) {
-        try {
-          // Update the notification ID in the persistent store even when the notification is
-          // not processed as the content in in the notification is not valid.
-          // Continue processing the next notification.
-          LOGGER.debug("Explicitly Persisting Notification ID:{}", event.getEventId());
-          sentryStore.persistLastProcessedNotificationID(event.getEventId());
-        } catch (Exception failure) {
-          LOGGER.error("Received exception while persisting the notification ID "
-              + event.getEventId());
-          throw failure;
+    }
+    return true;
+  }
+
+  /**
+   * Processes a notification and wakes up any waiting clients. Also, persists the
+   * notification ID regardless of processing result.
+   *
+   * @param event notification to be processed
+   * @return false if the rest of the notifications need not be processed
+   * @throws Exception if the notification ID can't be persisted
+   */
+  private boolean processNotification(NotificationEvent event) throws Exception {
+    boolean isNotificationProcessed = false;
+    try {
+      // Only the leader should process the notifications
+      if (!isLeader()) {
+        return false;
+      }
+      isNotificationProcessed = notificationProcessor.processNotificationEvent(event);
+    } catch (Exception e) {
+      if (e.getCause() instanceof JDODataStoreException) {
+        LOGGER.info("Received JDO Storage Exception, Could be because of processing "
+            + "duplicate notification");
+        if (event.getEventId() <= sentryStore.getLastProcessedNotificationID()) {
+          // Rest of the notifications need not be processed.
+          LOGGER.error("Received event with Id: {} which is smaller then the ID "
+              + "persisted in store", event.getEventId());
+          return false;
         }
+      } else {
+        LOGGER.error("Processing the notification with ID:{} failed with exception {}",
+            event.getEventId(), e);
       }
-      // Wake up any HMS waiters that are waiting for this ID.
-      wakeUpWaitingClientsForSync(event.getEventId());
     }
+    if (!isNotificationProcessed) {
+      try {
+        // Update the notification ID in the persistent store even when the notification is
+        // not processed as the content in in the notification is not valid.
+        // Continue processing the next notification.
+        LOGGER.debug("Explicitly Persisting Notification ID:{}", event.getEventId());
+        sentryStore.persistLastProcessedNotificationID(event.getEventId());
+      } catch (Exception failure) {
+        LOGGER.error("Received exception while persisting the notification ID "
+            + event.getEventId());
+        throw failure;
+      }
+    }
+    // Wake up any HMS waiters that are waiting for this ID.
+    wakeUpWaitingClientsForSync(event.getEventId());
+    return true;
   }
 
   /**
@@ -368,6 +608,7 @@ public class HMSFollower implements Runnable, AutoCloseable {
    * @param eventId Id of a notification
    */
   private void wakeUpWaitingClientsForSync(long eventId) {
+    lastProcessedNotificationId = eventId;
     CounterWait counterWait = sentryStore.getCounterWait();
 
     // Wake up any HMS waiters that are waiting for this ID.
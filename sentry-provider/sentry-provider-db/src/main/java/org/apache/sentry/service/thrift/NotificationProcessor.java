@@ -42,6 +42,7 @@ import org.apache.sentry.hdfs.PathsUpdate;
 import org.apache.sentry.hdfs.PermissionsUpdate;
 import org.apache.sentry.hdfs.SentryMalformedPathException;
 import org.apache.sentry.hdfs.Updateable.Update;
+import org.apache.sentry.hdfs.service.thrift.TPathChanges;
 import org.apache.sentry.hdfs.service.thrift.TPrivilegeChanges;
 import org.apache.sentry.provider.db.service.persistent.SentryStore;
 import org.apache.sentry.provider.db.service.thrift.SentryMetrics;
@@ -49,10 +50,12 @@ import org.apache.sentry.provider.db.service.thrift.TSentryAuthorizable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static com.codahale.metrics.MetricRegistry.name;
 import static org.apache.sentry.binding.hive.conf.HiveAuthzConf.AuthzConfVars.AUTHZ_SYNC_CREATE_WITH_POLICY_STORE;
@@ -224,6 +227,183 @@ final class NotificationProcessor {
     }
   }
 
+  /**
+   * Tells if the event only changes the paths of an existing table, so that it can be
+   * processed along with the consecutive ones by
+   * {@link #processNotificationEvents(List)}.
+   *
+   * @param event notification event
+   * @return true for the partition events when HDFS sync is enabled
+   */
+  boolean isBatchable(NotificationEvent event) {
+    if (!hdfsSyncEnabled) {
+      return false;
+    }
+    String eventType = event.getEventType();
+    return EventType.ADD_PARTITION.toString().equals(eventType)
+        || EventType.DROP_PARTITION.toString().equals(eventType)
+        || EventType.ALTER_PARTITION.toString().equals(eventType);
+  }
+
+  /**
+   * Processes consecutive partition events as one: their path changes are applied to the
+   * authzObj -> [Paths] mapping and persisted as a single delta path change, with the ID of
+   * the last event, in a single transaction.
+   *
+   * <p>The events are not processed if their changes can't be merged into a single delta,
+   * e.g. if a path added by an event is removed by a later one, as the delta consumers apply
+   * all the removed paths of a delta before the added ones.
+   *
+   * @param events the batchable events, in order
+   * @return true, if the events are persisted to sentry store. false, if they are to be
+   *         processed one by one with {@link #processNotificationEvent(NotificationEvent)}.
+   * @throws Exception if there is an error processing the events.
+   */
+  boolean processNotificationEvents(List<NotificationEvent> events) throws Exception {
+    long lastEventId = events.get(events.size() - 1).getEventId();
+    LOGGER.debug("Processing events with ids:{}-{}", events.get(0).getEventId(), lastEventId);
+
+    Timer timer = SentryMetrics
+        .getInstance()
+        .getTimer(name(HMSFollower.class, "batch"));
+
+    try (Context ignored = timer.time()) {
+      List<TPathChanges> pathChanges = new ArrayList<>(events.size());
+      Set<List<String>> addedPaths = new HashSet<>();
+      for (NotificationEvent event : events) {
+        TPathChanges changes = getPartitionPathChanges(event);
+        if (changes == null) {
+          // Skipped by processNotificationEvent() too
+          continue;
+        }
+        for (List<String> path : changes.getDelPaths()) {
+          if (addedPaths.contains(authzPath(changes.getAuthzObj(), path))) {
+            LOGGER.debug("Event with id:{} removes a path added by the batch", event.getEventId());
+            return false;
+          }
+        }
+        for (List<String> path : changes.getAddPaths()) {
+          addedPaths.add(authzPath(changes.getAuthzObj(), path));
+        }
+        pathChanges.add(changes);
+      }
+      if (pathChanges.isEmpty() || isRenameLike(pathChanges)) {
+        return false;
+      }
+
+      PathsUpdate update = new PathsUpdate(lastEventId, false);
+      for (TPathChanges changes : pathChanges) {
+        TPathChanges updateChanges = update.newPathChange(changes.getAuthzObj());
+        updateChanges.setDelPaths(changes.getDelPaths());
+        updateChanges.setAddPaths(changes.getAddPaths());
+      }
+      sentryStore.updateAuthzPathsMappings(pathChanges, update);
+      return true;
+    }
+  }
+
+  /**
+   * Gets the path changes of a partition event, like the ones persisted by
+   * {@link #processNotificationEvent(NotificationEvent)}.
+   *
+   * @param event partition notification event
+   * @return the path changes, or null if the event doesn't change any path
+   */
+  private TPathChanges getPartitionPathChanges(NotificationEvent event)
+      throws SentryInvalidInputException {
+    String dbName;
+    String tableName;
+    List<String> addedLocations = Collections.emptyList();
+    List<String> deletedLocations = Collections.emptyList();
+    switch (EventType.valueOf(event.getEventType())) {
+      case ADD_PARTITION:
+        SentryJSONAddPartitionMessage addPartitionMessage =
+            deserializer.getAddPartitionMessage(event.getMessage());
+        dbName = addPartitionMessage.getDB();
+        tableName = addPartitionMessage.getTable();
+        addedLocations = addPartitionMessage.getLocations();
+        if (addedLocations == null) {
+          return null;
+        }
+        break;
+      case DROP_PARTITION:
+        SentryJSONDropPartitionMessage dropPartitionMessage =
+            deserializer.getDropPartitionMessage(event.getMessage());
+        dbName = dropPartitionMessage.getDB();
+        tableName = dropPartitionMessage.getTable();
+        deletedLocations = dropPartitionMessage.getLocations();
+        if (deletedLocations == null) {
+          return null;
+        }
+        break;
+      case ALTER_PARTITION:
+        SentryJSONAlterPartitionMessage alterPartitionMessage =
+            deserializer.getAlterPartitionMessage(event.getMessage());
+        dbName = alterPartitionMessage.getDB();
+        tableName = alterPartitionMessage.getTable();
+        String oldLocation = alterPartitionMessage.getOldLocation();
+        String newLocation = alterPartitionMessage.getNewLocation();
+        if ((oldLocation == null) || (newLocation == null) || oldLocation.equals(newLocation)) {
+          return null;
+        }
+        // Like renameAuthzPath(), the new path is not added if the old one is malformed
+        if (getPath(oldLocation) != null) {
+          deletedLocations = Collections.singletonList(oldLocation);
+          if (getPath(newLocation) != null) {
+            addedLocations = Collections.singletonList(newLocation);
+          }
+        } else {
+          addedLocations = Collections.singletonList(newLocation);
+        }
+        break;
+      default:
+        return null;
+    }
+    if ((dbName == null) || (tableName == null)) {
+      return null;
+    }
+
+    // AuthzObj is case insensitive
+    TPathChanges changes = new TPathChanges(
+        SentryServiceUtil.getAuthzObj(dbName, tableName).toLowerCase(),
+        new ArrayList<List<String>>(), new ArrayList<List<String>>());
+    for (String location : deletedLocations) {
+      String pathTree = getPath(location);
+      if (pathTree != null) {
+        changes.addToDelPaths(splitPath(pathTree));
+      }
+    }
+    for (String location : addedLocations) {
+      String pathTree = getPath(location);
+      if (pathTree != null) {
+        changes.addToAddPaths(splitPath(pathTree));
+      }
+    }
+    return changes;
+  }
+
+  private static List<String> authzPath(String authzObj, List<String> path) {
+    List<String> authzPath = new ArrayList<>(path.size() + 1);
+    authzPath.add(authzObj);
+    authzPath.addAll(path);
+    return authzPath;
+  }
+
+  /**
+   * Tells if the delta consumers would take the path changes for a table rename, i.e. a
+   * path removed from a table and one added to another table.
+   */
+  private static boolean isRenameLike(List<TPathChanges> pathChanges) {
+    if (pathChanges.size() != 2) {
+      return false;
+    }
+    TPathChanges first = pathChanges.get(0);
+    TPathChanges second = pathChanges.get(1);
+    return !first.getAuthzObj().equalsIgnoreCase(second.getAuthzObj())
+        && ((first.getAddPathsSize() == 1 && second.getDelPathsSize() == 1)
+            || (first.getDelPathsSize() == 1 && second.getAddPathsSize() == 1));
+  }
+
   /**
    * Processes "create database" notification event, and applies its corresponding
    * snapshot change as well as delta path update into Sentry DB.
@@ -44,6 +44,7 @@ import org.apache.sentry.binding.metastore.messaging.json.SentryJSONMessageDeser
 import org.apache.sentry.provider.db.service.persistent.PathsImage;
 import org.apache.sentry.provider.db.service.persistent.SentryStore;
 import org.apache.sentry.provider.db.service.thrift.SentryMetrics;
+import org.apache.sentry.service.thrift.ServiceConstants.ServerConfig;
 
 import org.apache.thrift.TException;
 
@@ -72,10 +73,20 @@ class SentryHMSClient implements AutoCloseable {
   /** Number of times update failed. */
   private final Counter failedSnapshotsCount = SentryMetrics.getInstance()
       .getCounter(name(FullUpdateInitializer.class, "failed"));
+  /** Measures time to get a page of notifications. */
+  private final Timer notificationsTimer = SentryMetrics.getInstance()
+      .getTimer(name(SentryHMSClient.class, "notifications"));
+
+  /** Maximum number of notifications requested to HMS at once. */
+  private final int notificationsPageSize;
+  /** The latest notification ID logged by the HMS, as of the last request. */
+  private volatile long currentNotificationId = SentryStore.EMPTY_NOTIFICATION_ID;
 
   SentryHMSClient(Configuration conf, HiveConnectionFactory hiveConnectionFactory) {
     this.conf = conf;
     this.hiveConnectionFactory = hiveConnectionFactory;
+    notificationsPageSize = conf.getInt(ServerConfig.SENTRY_HMSFOLLOWER_FETCH_PAGE_SIZE,
+        ServerConfig.SENTRY_HMSFOLLOWER_FETCH_PAGE_SIZE_DEFAULT);
   }
 
   /**
@@ -181,7 +192,7 @@ class SentryHMSClient implements AutoCloseable {
 
       while (currentEventId < eventIdAfter.getEventId()) {
         NotificationEventResponse response =
-                client.getNextNotification(currentEventId, Integer.MAX_VALUE, null);
+                client.getNextNotification(currentEventId, notificationsPageSize, null);
         if (response == null || !response.isSetEvents() || response.getEvents().isEmpty()) {
           LOGGER.error("Snapshot discarded, updates to HMS data while shapshot is being taken."
                   + "ID Before: {}. ID After: {}", eventIdBefore.getEventId(), eventIdAfter.getEventId());
@@ -244,7 +255,57 @@ class SentryHMSClient implements AutoCloseable {
   }
 
   /**
-   * Returns all HMS notifications with ID greater than the specified one
+   * Streams an HMS full snapshot to the handler in chunks of about {@code maxPathsPerChunk}
+   * paths, instead of holding it in memory like {@link #getFullSnapshot()}. The HMS changes
+   * made while the snapshot is taken are not applied to it: the snapshot is consistent once
+   * the notifications following the returned ID are applied to it, so the caller must
+   * process them as new notifications.
+   *
+   * @param maxPathsPerChunk number of paths after which a chunk is handled
+   * @param handler handler of the chunks
+   * @return the notification ID before the snapshot was taken, or
+   *         {@link SentryStore#EMPTY_NOTIFICATION_ID} if it could not be taken or is empty
+   */
+  long streamFullSnapshot(long maxPathsPerChunk,
+      final FullUpdateInitializer.SnapshotChunkHandler handler) {
+    if (client == null) {
+      LOGGER.error(NOT_CONNECTED_MSG);
+      return SentryStore.EMPTY_NOTIFICATION_ID;
+    }
+
+    try {
+      long eventIdBefore = client.getCurrentNotificationEventId().getEventId();
+      LOGGER.info("Request full HMS snapshot in chunks of {} paths", maxPathsPerChunk);
+      final boolean[] empty = { true };
+      long chunks;
+      try (FullUpdateInitializer updateInitializer =
+               new FullUpdateInitializer(hiveConnectionFactory, conf);
+           Context context = updateTimer.time()) {
+        chunks = updateInitializer.getFullHMSSnapshot(maxPathsPerChunk,
+            new FullUpdateInitializer.SnapshotChunkHandler() {
+              @Override
+              public void handle(Map<String, Set<String>> chunk) throws Exception {
+                empty[0] &= chunk.isEmpty();
+                handler.handle(chunk);
+              }
+            });
+      }
+      if (empty[0]) {
+        return SentryStore.EMPTY_NOTIFICATION_ID;
+      }
+      LOGGER.info("Successfully streamed hive full snapshot in {} chunks, NotificationID: {}",
+          chunks, eventIdBefore);
+      return eventIdBefore;
+    } catch (Exception failure) {
+      failedSnapshotsCount.inc();
+      LOGGER.error("Snapshot created failed ", failure);
+      return SentryStore.EMPTY_NOTIFICATION_ID;
+    }
+  }
+
+  /**
+   * Returns the next HMS notifications with ID greater than the specified one, at most
+   * {@link ServerConfig#SENTRY_HMSFOLLOWER_FETCH_PAGE_SIZE} of them.
    *
    * @param notificationId ID of the last notification that was processed.
    * @return Collection of new events to be synced
@@ -262,6 +323,7 @@ class SentryHMSClient implements AutoCloseable {
     // leave this workaround and log debug messages.
     CurrentNotificationEventId eventId = client.getCurrentNotificationEventId();
     LOGGER.debug("ID of Last HMS notifications is: {}", eventId.getEventId());
+    currentNotificationId = eventId.getEventId();
     if (eventId != null && eventId.getEventId() < notificationId) {
       LOGGER.debug("Last notification of HMS is smaller than what sentry processed, Something is"
           + "wrong. Sentry will request a full Snapshot");
@@ -272,8 +334,10 @@ class SentryHMSClient implements AutoCloseable {
       return Collections.emptyList();
     }
 
-    NotificationEventResponse response =
-        client.getNextNotification(notificationId, Integer.MAX_VALUE, null);
+    NotificationEventResponse response;
+    try (Context context = notificationsTimer.time()) {
+      response = client.getNextNotification(notificationId, notificationsPageSize, null);
+    }
     if (response != null && response.isSetEvents()) {
       LOGGER.debug("Last Id processed:{}. Received collection of notifications, Size:{}",
           notificationId, response.getEvents().size());
@@ -295,9 +359,24 @@ class SentryHMSClient implements AutoCloseable {
 
     CurrentNotificationEventId eventId = client.getCurrentNotificationEventId();
     if (eventId.isSetEventId()) {
+      currentNotificationId = eventId.getEventId();
       return eventId.getEventId();
     }
 
     return SentryStore.EMPTY_NOTIFICATION_ID;
   }
+
+  /**
+   * @return the maximum number of notifications returned by {@link #getNotifications(long)}
+   */
+  int getNotificationsPageSize() {
+    return notificationsPageSize;
+  }
+
+  /**
+   * @return the latest notification Id logged by the HMS, as of the last request to the HMS
+   */
+  long getLastCurrentNotificationId() {
+    return currentNotificationId;
+  }
 }
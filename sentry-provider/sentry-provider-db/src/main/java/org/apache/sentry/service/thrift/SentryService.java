@@ -81,6 +81,7 @@ public class SentryService implements Callable, SigUtils.SigListener {
   private static final String SENTRY_SERVICE_THREAD_NAME = "sentry-service";
   private static final String HMSFOLLOWER_THREAD_NAME = "hms-follower";
   private static final String STORE_CLEANER_THREAD_NAME = "store-cleaner";
+  private static final String POLICY_IMAGE_LOADER_THREAD_NAME = "policy-image-loader";
   private static final String SERVICE_SHUTDOWN_THREAD_NAME = "service-shutdown";
 
   private enum Status {
@@ -98,7 +99,7 @@ public class SentryService implements Callable, SigUtils.SigListener {
   private final String keytab;
   private final ExecutorService serviceExecutor;
   private ScheduledExecutorService hmsFollowerExecutor = null;
-  private HMSFollower hmsFollower = null;
+  private volatile HMSFollower hmsFollower = null;
   private Future serviceStatus;
   private TServer thriftServer;
   private Status status;
@@ -112,6 +113,7 @@ public class SentryService implements Callable, SigUtils.SigListener {
    */
   private final SentryStore sentryStore;
   private ScheduledExecutorService sentryStoreCleanService;
+  private ScheduledExecutorService policyImageLoaderService;
   private final LeaderStatusMonitor leaderMonitor;
 
   public SentryService(Configuration conf) throws Exception {
@@ -212,6 +214,7 @@ public class SentryService implements Callable, SigUtils.SigListener {
   private void runServer() throws Exception {
 
     startSentryStoreCleaner(conf);
+    startPolicyImageLoader(conf);
     startHMSFollower(conf);
 
     Iterable<String> processorFactories = ConfUtilties.CLASS_SPLITTER
@@ -404,6 +407,66 @@ public class SentryService implements Callable, SigUtils.SigListener {
     }
   }
 
+  private void startPolicyImageLoader(Configuration conf) {
+    Preconditions.checkState(policyImageLoaderService == null);
+
+    // If SENTRY_STORE_POLICY_IMAGE_ENABLED is set, the reads are served from an in-memory
+    // copy of the store. The changes made by this server update it, it is loaded again
+    // periodically and when the leader changes to see the changes made by other servers.
+    if (!conf.getBoolean(ServerConfig.SENTRY_STORE_POLICY_IMAGE_ENABLED,
+        ServerConfig.SENTRY_STORE_POLICY_IMAGE_ENABLED_DEFAULT)) {
+      return;
+    }
+    final long reloadIntervalMs = conf.getLong(
+        ServerConfig.SENTRY_STORE_POLICY_IMAGE_RELOAD_INTERVAL_MS,
+        ServerConfig.SENTRY_STORE_POLICY_IMAGE_RELOAD_INTERVAL_MS_DEFAULT);
+
+    Runnable policyImageLoader = new Runnable() {
+      private boolean wasLeader;
+      private long leaderCount = -1;
+      private long lastLoadTime;
+
+      @Override
+      public void run() {
+        boolean isLeader = leaderMonitor.isLeader();
+        long currentLeaderCount = leaderMonitor.getLeaderCount();
+        long now = System.currentTimeMillis();
+        if (sentryStore.isPolicyImageLoaded() && isLeader == wasLeader
+            && currentLeaderCount == leaderCount && now - lastLoadTime < reloadIntervalMs) {
+          return;
+        }
+        try {
+          sentryStore.loadPolicyImage();
+          wasLeader = isLeader;
+          leaderCount = currentLeaderCount;
+          lastLoadTime = now;
+        } catch (Exception e) {
+          LOGGER.error("Failed to load the policy image", e);
+        }
+      }
+    };
+
+    ThreadFactory policyImageLoaderThreadFactory = new ThreadFactoryBuilder()
+        .setNameFormat(POLICY_IMAGE_LOADER_THREAD_NAME)
+        .build();
+    policyImageLoaderService =
+        Executors.newSingleThreadScheduledExecutor(policyImageLoaderThreadFactory);
+    policyImageLoaderService.scheduleWithFixedDelay(policyImageLoader, 0, 1, TimeUnit.SECONDS);
+    LOGGER.info("policy image loader is scheduled with reload interval {} ms", reloadIntervalMs);
+  }
+
+  private void stopPolicyImageLoader() {
+    if (policyImageLoaderService == null) {
+      return;
+    }
+    try {
+      SentryServiceUtil.shutdownAndAwaitTermination(policyImageLoaderService,
+          "policyImageLoaderService", 10, TimeUnit.SECONDS, LOGGER);
+    } finally {
+      policyImageLoaderService = null;
+    }
+  }
+
   private void addSentryServiceGauge() {
     SentryMetrics.getInstance().addSentryServiceGauges(this);
   }
@@ -477,6 +540,7 @@ public class SentryService implements Callable, SigUtils.SigListener {
 
     stopHMSFollower(conf);
     stopSentryStoreCleaner();
+    stopPolicyImageLoader();
 
     if (exception != null) {
       exception.ifExceptionThrow();
@@ -621,6 +685,16 @@ public class SentryService implements Callable, SigUtils.SigListener {
     };
   }
 
+  public Gauge<Long> getHmsNotificationLagGauge() {
+    return new Gauge<Long>() {
+      @Override
+      public Long getValue() {
+        HMSFollower follower = hmsFollower;
+        return (follower == null) ? 0 : follower.getNotificationLag();
+      }
+    };
+  }
+
   public Gauge<Long> getBecomeActiveCount() {
     return new Gauge<Long>() {
       @Override
@@ -78,6 +78,9 @@ public class ServiceConstants {
     public static final String PROCESSOR_FACTORIES_DEFAULT =
         "org.apache.sentry.provider.db.service.thrift.SentryPolicyStoreProcessorFactory" +
             ",org.apache.sentry.provider.db.generic.service.thrift.SentryGenericPolicyProcessorFactory";
+    // The maximum number of roles returned by a page of list_all_privileges_snapshot
+    public static final String SENTRY_GENERIC_SNAPSHOT_MAX_ROLES = "sentry.service.generic.snapshot.max.roles";
+    public static final int SENTRY_GENERIC_SNAPSHOT_MAX_ROLES_DEFAULT = 1000;
     public static final String SENTRY_STORE_JDBC_URL = "sentry.store.jdbc.url";
     public static final String SENTRY_STORE_JDBC_USER = "sentry.store.jdbc.user";
     public static final String SENTRY_STORE_JDBC_USER_DEFAULT = "Sentry";
@@ -123,6 +126,14 @@ public class ServiceConstants {
     public static final String SENTRY_STORE_CLEAN_PERIOD_SECONDS =
         "sentry.store.clean.period.seconds";
     public static final long SENTRY_STORE_CLEAN_PERIOD_SECONDS_DEFAULT = 43200; // 12 hours.
+    // Serve the reads of roles and privileges from an in-memory copy of the store
+    public static final String SENTRY_STORE_POLICY_IMAGE_ENABLED =
+        "sentry.store.policy.image.enabled";
+    public static final boolean SENTRY_STORE_POLICY_IMAGE_ENABLED_DEFAULT = false;
+    // Reload period of the in-memory copy, to see the changes made by other servers
+    public static final String SENTRY_STORE_POLICY_IMAGE_RELOAD_INTERVAL_MS =
+        "sentry.store.policy.image.reload.interval.ms";
+    public static final long SENTRY_STORE_POLICY_IMAGE_RELOAD_INTERVAL_MS_DEFAULT = 60000;
     public static final String SENTRY_HA_ZK_PROPERTY_PREFIX = "sentry.ha.zookeeper.";
     public static final String SENTRY_HA_ZOOKEEPER_SECURITY = SENTRY_HA_ZK_PROPERTY_PREFIX + "security";
     public static final boolean SENTRY_HA_ZOOKEEPER_SECURITY_DEFAULT = false;
@@ -171,6 +182,33 @@ public class ServiceConstants {
     public static final String SENTRY_HMSFOLLOWER_INTERVAL_MILLS = "sentry.hmsfollower.interval.mills";
     public static final long SENTRY_HMSFOLLOWER_INTERVAL_MILLS_DEFAULT = 500;
 
+    /**
+     * Maximum number of consecutive partition events which HMSFollower applies in a single
+     * transaction, with a single delta path change. 1 disables the batching.
+     */
+    public static final String SENTRY_HMSFOLLOWER_BATCH_MAX_EVENTS = "sentry.hmsfollower.batch.max.events";
+    public static final int SENTRY_HMSFOLLOWER_BATCH_MAX_EVENTS_DEFAULT = 1;
+    /**
+     * Maximum time in milliseconds for which HMSFollower keeps adding events to a batch
+     * before applying it.
+     */
+    public static final String SENTRY_HMSFOLLOWER_BATCH_MAX_MILLS = "sentry.hmsfollower.batch.max.mills";
+    public static final long SENTRY_HMSFOLLOWER_BATCH_MAX_MILLS_DEFAULT = 1000;
+    /**
+     * Maximum number of notifications HMSFollower requests to HMS at once. The next page is
+     * fetched while the current one is processed.
+     */
+    public static final String SENTRY_HMSFOLLOWER_FETCH_PAGE_SIZE = "sentry.hmsfollower.fetch.page.size";
+    public static final int SENTRY_HMSFOLLOWER_FETCH_PAGE_SIZE_DEFAULT = 1000;
+    /**
+     * Number of paths after which HMSFollower persists a chunk of a full HMS snapshot, so
+     * that the snapshot is not held in memory and is not persisted in a single transaction.
+     * The snapshot becomes the current one once all its chunks are persisted. 0 keeps the
+     * whole snapshot in memory. Only used when the HDFS sync is enabled.
+     */
+    public static final String SENTRY_HMSFOLLOWER_SNAPSHOT_BATCH_PATHS = "sentry.hmsfollower.snapshot.batch.paths";
+    public static final long SENTRY_HMSFOLLOWER_SNAPSHOT_BATCH_PATHS_DEFAULT = 0;
+
     public static final String SENTRY_WEB_ENABLE = "sentry.service.web.enable";
     public static final Boolean SENTRY_WEB_ENABLE_DEFAULT = false;
     public static final String SENTRY_WEB_PORT = "sentry.service.web.port";
@@ -231,6 +269,16 @@ public class ServiceConstants {
     public static final String SENTRY_DELTA_KEEP_COUNT = "sentry.server.delta.keep.count";
     public static final int SENTRY_DELTA_KEEP_COUNT_DEFAULT = 200;
 
+    /**
+     * Format of the persisted path and permission deltas: "json", or "compact" for the
+     * Thrift compact protocol, compressed and encoded in base64. Deltas persisted in
+     * either format are read, whatever the value.
+     */
+    public static final String SENTRY_DELTA_FORMAT = "sentry.server.delta.format";
+    public static final String SENTRY_DELTA_FORMAT_JSON = "json";
+    public static final String SENTRY_DELTA_FORMAT_COMPACT = "compact";
+    public static final String SENTRY_DELTA_FORMAT_DEFAULT = SENTRY_DELTA_FORMAT_JSON;
+
     /**
      * Number of notification id's to keep around during cleaning
      */
@@ -275,6 +323,18 @@ public class ServiceConstants {
     public static final String RETRY_INTERVAL_SEC_CONF = "sentry.provider.backend.db.retry.interval.seconds";
     public static final int RETRY_INTERVAL_SEC_DEFAULT = 30;
 
+    // SimpleDBProviderBackend privilege cache settings
+    public static final String DB_CACHE_ENABLED = "sentry.provider.backend.db.cache.enabled";
+    public static final boolean DB_CACHE_ENABLED_DEFAULT = false;
+    public static final String DB_CACHE_UPDATE_INTERVAL_MS = "sentry.provider.backend.db.cache.update.interval.ms";
+    public static final long DB_CACHE_UPDATE_INTERVAL_MS_DEFAULT = 5000;
+    public static final String DB_CACHE_FULL_UPDATE_INTERVAL_MS = "sentry.provider.backend.db.cache.full.update.interval.ms";
+    public static final long DB_CACHE_FULL_UPDATE_INTERVAL_MS_DEFAULT = 300000;
+    public static final String DB_CACHE_UPDATE_FAILURES_BEFORE_PRIV_REVOKE = "sentry.provider.backend.db.cache.update.failures.count";
+    public static final int DB_CACHE_UPDATE_FAILURES_BEFORE_PRIV_REVOKE_DEFAULT = 3;
+    public static final String DB_CACHE_IDLE_CLOSE_MS = "sentry.provider.backend.db.cache.idle.close.ms";
+    public static final long DB_CACHE_IDLE_CLOSE_MS_DEFAULT = 600000;
+
     // provider backend cache settings
     public static final String ENABLE_CACHING = "sentry.provider.backend.generic.cache.enabled";
     public static final boolean ENABLE_CACHING_DEFAULT = false;
@@ -282,6 +342,10 @@ public class ServiceConstants {
     public static final long CACHING_TTL_MS_DEFAULT = 30000;
     public static final String CACHE_UPDATE_FAILURES_BEFORE_PRIV_REVOKE = "sentry.provider.backend.generic.cache.update.failures.count";
     public static final int CACHE_UPDATE_FAILURES_BEFORE_PRIV_REVOKE_DEFAULT = 3;
+    // Refresh the cache with the changed roles only. Disable it to talk to the servers
+    // without the list_sentry_privileges_delta API.
+    public static final String CACHE_DELTA_ENABLED = "sentry.provider.backend.generic.cache.delta.enabled";
+    public static final boolean CACHE_DELTA_ENABLED_DEFAULT = true;
     public static final String PRIVILEGE_CONVERTER = "sentry.provider.backend.generic.privilege.converter";
   }
 
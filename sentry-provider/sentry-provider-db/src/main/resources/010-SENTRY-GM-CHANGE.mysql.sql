@@ -0,0 +1,8 @@
+-- Table `SENTRY_GM_CHANGE` for classes [org.apache.sentry.provider.db.service.model.MSentryGMChange]
+CREATE TABLE `SENTRY_GM_CHANGE`
+(
+    `CHANGE_ID` BIGINT NOT NULL,
+    `ROLE_NAME` VARCHAR(128) CHARACTER SET utf8 COLLATE utf8_bin NOT NULL,
+    `CREATE_TIME_MS` BIGINT NOT NULL,
+    CONSTRAINT `SENTRY_GM_CHANGE_PK` PRIMARY KEY (`CHANGE_ID`)
+) ENGINE=INNODB;
@@ -0,0 +1,9 @@
+-- Table "SENTRY_GM_CHANGE" for classes [org.apache.sentry.provider.db.service.model.MSentryGMChange]
+CREATE TABLE "SENTRY_GM_CHANGE"
+(
+    "CHANGE_ID" NUMBER NOT NULL,
+    "ROLE_NAME" VARCHAR2(128) NOT NULL,
+    "CREATE_TIME_MS" NUMBER NOT NULL
+);
+
+ALTER TABLE "SENTRY_GM_CHANGE" ADD CONSTRAINT "SENTRY_GM_CHANGE_PK" PRIMARY KEY ("CHANGE_ID");
@@ -0,0 +1,8 @@
+-- Table "SENTRY_GM_CHANGE" for classes [org.apache.sentry.provider.db.service.model.MSentryGMChange]
+CREATE TABLE "SENTRY_GM_CHANGE"
+(
+    "CHANGE_ID" bigint NOT NULL,
+    "ROLE_NAME" character varying(128) NOT NULL,
+    "CREATE_TIME_MS" bigint NOT NULL,
+    CONSTRAINT "SENTRY_GM_CHANGE_PK" PRIMARY KEY ("CHANGE_ID")
+);
@@ -0,0 +1,3 @@
+-- A pending paths snapshot is written next to the current one, so the object names are unique per snapshot
+DROP INDEX `AUTHZOBJNAME` ON `AUTHZ_PATHS_MAPPING`;
+CREATE UNIQUE INDEX `AUTHZOBJNAME` ON `AUTHZ_PATHS_MAPPING` (`AUTHZ_SNAPSHOT_ID`,`AUTHZ_OBJ_NAME`);
@@ -0,0 +1,3 @@
+-- The encoding of the persisted deltas, 0 for the JSON format of the existing rows
+ALTER TABLE `SENTRY_PERM_CHANGE` ADD COLUMN `CHANGE_FORMAT` INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE `SENTRY_PATH_CHANGE` ADD COLUMN `CHANGE_FORMAT` INTEGER NOT NULL DEFAULT 0;
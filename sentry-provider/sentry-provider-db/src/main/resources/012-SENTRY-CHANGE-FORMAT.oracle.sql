@@ -0,0 +1,3 @@
+-- The encoding of the persisted deltas, 0 for the JSON format of the existing rows
+ALTER TABLE "SENTRY_PERM_CHANGE" ADD "CHANGE_FORMAT" NUMBER(10) DEFAULT 0 NOT NULL;
+ALTER TABLE "SENTRY_PATH_CHANGE" ADD "CHANGE_FORMAT" NUMBER(10) DEFAULT 0 NOT NULL;
@@ -202,7 +202,7 @@ CREATE TABLE AUTHZ_PATHS_MAPPING
 ALTER TABLE AUTHZ_PATHS_MAPPING ADD CONSTRAINT AUTHZ_PATHS_MAPPING_PK PRIMARY KEY (AUTHZ_OBJ_ID);
 
 -- Constraints for table AUTHZ_PATHS_MAPPING for class(es) [org.apache.sentry.provider.db.service.model.MAuthzPathsMapping]
-CREATE UNIQUE INDEX AUTHZOBJNAME ON AUTHZ_PATHS_MAPPING (AUTHZ_OBJ_NAME);
+CREATE UNIQUE INDEX AUTHZOBJNAME ON AUTHZ_PATHS_MAPPING (AUTHZ_SNAPSHOT_ID,AUTHZ_OBJ_NAME);
 
 -- Table `AUTHZ_PATH` for classes [org.apache.sentry.provider.db.service.model.MPath]
 CREATE TABLE AUTHZ_PATH
@@ -225,7 +225,8 @@ CREATE TABLE SENTRY_PERM_CHANGE
 (
     CHANGE_ID BIGINT NOT NULL,
     CREATE_TIME_MS BIGINT NOT NULL,
-    PERM_CHANGE VARCHAR(4000) NOT NULL
+    PERM_CHANGE VARCHAR(4000) NOT NULL,
+    CHANGE_FORMAT INTEGER DEFAULT 0 NOT NULL
 );
 
 ALTER TABLE SENTRY_PERM_CHANGE ADD CONSTRAINT SENTRY_PERM_CHANGE_PK PRIMARY KEY (CHANGE_ID);
@@ -236,13 +237,24 @@ CREATE TABLE SENTRY_PATH_CHANGE
     CHANGE_ID BIGINT NOT NULL,
     NOTIFICATION_ID BIGINT NOT NULL,
     CREATE_TIME_MS BIGINT NOT NULL,
-    PATH_CHANGE VARCHAR(4000) NOT NULL
+    PATH_CHANGE VARCHAR(4000) NOT NULL,
+    CHANGE_FORMAT INTEGER DEFAULT 0 NOT NULL
 );
 
 -- Constraints for table SENTRY_PATH_CHANGE for class [org.apache.sentry.provider.db.service.model.MSentryPathChange]
 ALTER TABLE SENTRY_PATH_CHANGE ADD CONSTRAINT SENTRY_PATH_CHANGE_PK PRIMARY KEY (CHANGE_ID);
 
 
+-- Table SENTRY_GM_CHANGE for classes [org.apache.sentry.provider.db.service.model.MSentryGMChange]
+CREATE TABLE SENTRY_GM_CHANGE
+(
+    CHANGE_ID BIGINT NOT NULL,
+    ROLE_NAME VARCHAR(128) NOT NULL,
+    CREATE_TIME_MS BIGINT NOT NULL
+);
+
+ALTER TABLE SENTRY_GM_CHANGE ADD CONSTRAINT SENTRY_GM_CHANGE_PK PRIMARY KEY (CHANGE_ID);
+
 -- Table SENTRY_HMS_NOTIFICATION_ID for classes [org.apache.sentry.provider.db.service.model.MSentryHmsNotification]
 CREATE TABLE SENTRY_HMS_NOTIFICATION_ID
 (
@@ -239,7 +239,7 @@ CREATE TABLE `AUTHZ_PATHS_MAPPING`
 ) ENGINE=INNODB;
 
 -- Constraints for table `AUTHZ_PATHS_MAPPING` for class(es) [org.apache.sentry.provider.db.service.model.MAuthzPathsMapping]
-CREATE UNIQUE INDEX `AUTHZOBJNAME` ON `AUTHZ_PATHS_MAPPING` (`AUTHZ_OBJ_NAME`);
+CREATE UNIQUE INDEX `AUTHZOBJNAME` ON `AUTHZ_PATHS_MAPPING` (`AUTHZ_SNAPSHOT_ID`,`AUTHZ_OBJ_NAME`);
 
 -- Table `AUTHZ_PATH` for classes [org.apache.sentry.provider.db.service.model.MPath]
 CREATE TABLE `AUTHZ_PATH` (
@@ -262,6 +262,7 @@ CREATE TABLE `SENTRY_PERM_CHANGE`
     `CHANGE_ID` BIGINT NOT NULL,
     `CREATE_TIME_MS` BIGINT NOT NULL,
     `PERM_CHANGE` VARCHAR(4000) CHARACTER SET utf8 COLLATE utf8_bin NOT NULL,
+    `CHANGE_FORMAT` INTEGER NOT NULL DEFAULT 0,
     CONSTRAINT `SENTRY_PERM_CHANGE_PK` PRIMARY KEY (`CHANGE_ID`)
 ) ENGINE=INNODB;
 
@@ -272,9 +273,19 @@ CREATE TABLE `SENTRY_PATH_CHANGE`
     `NOTIFICATION_ID` BIGINT NOT NULL,
     `CREATE_TIME_MS` BIGINT NOT NULL,
     `PATH_CHANGE` VARCHAR(4000) CHARACTER SET utf8 COLLATE utf8_bin NOT NULL,
+    `CHANGE_FORMAT` INTEGER NOT NULL DEFAULT 0,
     CONSTRAINT `SENTRY_PATH_CHANGE_PK` PRIMARY KEY (`CHANGE_ID`)
 ) ENGINE=INNODB;
 
+-- Table `SENTRY_GM_CHANGE` for classes [org.apache.sentry.provider.db.service.model.MSentryGMChange]
+CREATE TABLE `SENTRY_GM_CHANGE`
+(
+    `CHANGE_ID` BIGINT NOT NULL,
+    `ROLE_NAME` VARCHAR(128) CHARACTER SET utf8 COLLATE utf8_bin NOT NULL,
+    `CREATE_TIME_MS` BIGINT NOT NULL,
+    CONSTRAINT `SENTRY_GM_CHANGE_PK` PRIMARY KEY (`CHANGE_ID`)
+) ENGINE=INNODB;
+
 -- Table SENTRY_HMS_NOTIFICATION_ID for classes [org.apache.sentry.provider.db.service.model.MSentryHmsNotification]
 CREATE TABLE `SENTRY_HMS_NOTIFICATION_ID`
 (
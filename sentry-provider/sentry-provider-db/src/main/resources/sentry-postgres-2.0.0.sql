@@ -226,7 +226,7 @@ CREATE TABLE "AUTHZ_PATHS_MAPPING"
 );
 
 -- Constraints for table "AUTHZ_PATHS_MAPPING" for class(es) [org.apache.sentry.provider.db.service.model.MAuthzPathsMapping]
-CREATE UNIQUE INDEX "AUTHZOBJNAME" ON "AUTHZ_PATHS_MAPPING" ("AUTHZ_OBJ_NAME");
+CREATE UNIQUE INDEX "AUTHZOBJNAME" ON "AUTHZ_PATHS_MAPPING" ("AUTHZ_SNAPSHOT_ID","AUTHZ_OBJ_NAME");
 
 -- Table `AUTHZ_PATH` for classes [org.apache.sentry.provider.db.service.model.MPath]
 CREATE TABLE "AUTHZ_PATH"
@@ -250,6 +250,7 @@ CREATE TABLE "SENTRY_PERM_CHANGE"
     "CHANGE_ID" bigint NOT NULL,
     "CREATE_TIME_MS" bigint NOT NULL,
     "PERM_CHANGE" VARCHAR(4000) NOT NULL,
+    "CHANGE_FORMAT" INTEGER DEFAULT 0 NOT NULL,
     CONSTRAINT "SENTRY_PERM_CHANGE_PK" PRIMARY KEY ("CHANGE_ID")
 );
 
@@ -260,9 +261,19 @@ CREATE TABLE "SENTRY_PATH_CHANGE"
     "NOTIFICATION_ID" bigint NOT NULL,
     "CREATE_TIME_MS" bigint NOT NULL,
     "PATH_CHANGE" VARCHAR(4000) NOT NULL,
+    "CHANGE_FORMAT" INTEGER DEFAULT 0 NOT NULL,
     CONSTRAINT "SENTRY_PATH_CHANGE_PK" PRIMARY KEY ("CHANGE_ID")
 );
 
+-- Table "SENTRY_GM_CHANGE" for classes [org.apache.sentry.provider.db.service.model.MSentryGMChange]
+CREATE TABLE "SENTRY_GM_CHANGE"
+(
+    "CHANGE_ID" bigint NOT NULL,
+    "ROLE_NAME" character varying(128) NOT NULL,
+    "CREATE_TIME_MS" bigint NOT NULL,
+    CONSTRAINT "SENTRY_GM_CHANGE_PK" PRIMARY KEY ("CHANGE_ID")
+);
+
 -- Table SENTRY_HMS_NOTIFICATION_ID for classes [org.apache.sentry.provider.db.service.model.MSentryHmsNotification]
 CREATE TABLE "SENTRY_HMS_NOTIFICATION_ID"
 (
@@ -3,6 +3,9 @@ SOURCE 006-SENTRY-711.mysql.sql;
 SOURCE 007-SENTRY-1365.mysql.sql;
 SOURCE 008-SENTRY-1569.mysql.sql;
 SOURCE 009-SENTRY-1805.mysql.sql;
+SOURCE 010-SENTRY-GM-CHANGE.mysql.sql;
+SOURCE 011-SENTRY-PATHS-SNAPSHOT.mysql.sql;
+SOURCE 012-SENTRY-CHANGE-FORMAT.mysql.sql;
 
 UPDATE SENTRY_VERSION SET SCHEMA_VERSION='2.0.0', VERSION_COMMENT='Sentry release version 2.0.0' WHERE VER_ID=1;
 
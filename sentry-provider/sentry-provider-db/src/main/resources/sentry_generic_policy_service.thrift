@@ -253,6 +253,78 @@ struct TListSentryPrivilegesByAuthResponse {
 2: optional map<string, TSentryPrivilegeMap> privilegesMapByAuth
 }
 
+# The groups and the privileges of a role in one service of a component
+struct TSentryRolePrivileges {
+1: required string roleName,
+2: required set<string> groups,
+3: required set<TSentryPrivilege> privileges
+}
+
+# The roles changed since the change ID of the client copy of the policy
+struct TSentryRolePrivilegesDelta {
+# The change ID the client copy is up to date with once the delta is applied
+1: required i64 changeId,
+
+# True when the roles are all the roles, which replace the client copy.
+2: required bool fullImage,
+
+# The changed roles. The ones missing from the roles below were dropped.
+3: optional set<string> changedRoles,
+4: required list<TSentryRolePrivileges> roles
+}
+
+struct TListSentryPrivilegesDeltaRequest {
+1: required i32 protocol_version = sentry_common_service.TSENTRY_SERVICE_V2,
+
+# User on whose behalf the request is issued
+2: required string requestorUserName,
+
+# The request is issued to which component
+3: required string component,
+
+# The privilege belongs to which service
+4: required string serviceName,
+
+# The change ID of the client copy. All the roles are returned when the
+# changes since it are unknown, e.g. for a negative change ID.
+5: required i64 changeId
+}
+
+struct TListSentryPrivilegesDeltaResponse {
+1: required sentry_common_service.TSentryResponseStatus status,
+2: optional TSentryRolePrivilegesDelta delta
+}
+
+# Lists the roles of all the groups with their privileges in one service of
+# a component. The roles are returned in pages ordered by the role name.
+struct TListSentryPrivilegesSnapshotRequest {
+1: required i32 protocol_version = sentry_common_service.TSENTRY_SERVICE_V2,
+
+# User on whose behalf the request is issued
+2: required string requestorUserName,
+
+# The request is issued to which component
+3: required string component,
+
+# The privilege belongs to which service
+4: required string serviceName,
+
+# Only the roles whose names sort after this one are returned, used to
+# get the next page. The first page is returned when it is not set.
+5: optional string startAfterRoleName,
+
+# The maximum number of roles of the page, capped by the server
+6: optional i32 maxRoles
+}
+
+struct TListSentryPrivilegesSnapshotResponse {
+1: required sentry_common_service.TSentryResponseStatus status,
+2: optional list<TSentryRolePrivileges> roles,
+
+# True when there are roles after the last one of this page
+3: optional bool hasMore
+}
+
 service SentryGenericPolicyService
 {
   TCreateSentryRoleResponse create_sentry_role(1:TCreateSentryRoleRequest request)
@@ -275,4 +347,8 @@ service SentryGenericPolicyService
   TDropPrivilegesResponse drop_sentry_privilege(1:TDropPrivilegesRequest request);
 
   TRenamePrivilegesResponse rename_sentry_privilege(1:TRenamePrivilegesRequest request);
+
+  TListSentryPrivilegesDeltaResponse list_sentry_privileges_delta(1:TListSentryPrivilegesDeltaRequest request);
+
+  TListSentryPrivilegesSnapshotResponse list_all_privileges_snapshot(1:TListSentryPrivilegesSnapshotRequest request);
 }
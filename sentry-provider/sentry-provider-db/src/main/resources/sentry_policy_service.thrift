@@ -148,6 +148,16 @@ struct TAlterSentryRoleRevokePrivilegeResponse {
 1: required sentry_common_service.TSentryResponseStatus status
 }
 
+# GRANT ... TO ROLE ... for several roles in a single transaction, e.g. to onboard a tenant
+struct TAlterSentryRolesGrantPrivilegesRequest {
+1: required i32 protocol_version = sentry_common_service.TSENTRY_SERVICE_V2,
+2: required string requestorUserName, # user on whose behalf the request is issued
+3: required map<string, set<TSentryPrivilege>> rolePrivileges # privileges granted to each role
+}
+struct TAlterSentryRolesGrantPrivilegesResponse {
+1: required sentry_common_service.TSentryResponseStatus status
+}
+
 # SHOW ROLE GRANT
 struct TListSentryRolesRequest {
 1: required i32 protocol_version = sentry_common_service.TSENTRY_SERVICE_V2,
@@ -234,6 +244,20 @@ struct TListSentryPrivilegesForProviderResponse {
 2: required set<string> privileges
 }
 
+# List the privileges for many authorizable hierarchies at once, the roles
+# of the groups and users are resolved once for the whole request
+struct TListSentryPrivilegesForProviderBatchRequest {
+1: required i32 protocol_version = sentry_common_service.TSENTRY_SERVICE_V2,
+2: required set<string> groups,
+3: required TSentryActiveRoleSet roleSet,
+4: required set<TSentryAuthorizable> authorizableSet,
+5: optional set<string> users
+}
+struct TListSentryPrivilegesForProviderBatchResponse {
+1: required sentry_common_service.TSentryResponseStatus status,
+2: optional map<TSentryAuthorizable, set<string>> privilegesMapByAuth # will not be set in case of an error
+}
+
 # List role:set<privileges> for the given authorizable
 # Optionally use the set of groups to filter the roles
 struct TSentryPrivilegeMap {
@@ -291,6 +315,25 @@ struct TSentryImportMappingDataResponse {
 1: required sentry_common_service.TSentryResponseStatus status
 }
 
+# The privileges and the group and user mappings of the roles changed after a perm
+# change ID, used to keep a client side copy of the policy up to date
+struct TSentryPrivilegesDelta {
+1: required i64 changeId,                # role change ID the data is up to date with
+2: required bool fullImage,              # if the mapping data has all the roles
+3: optional set<string> changedRoles,    # roles to replace when not a full image
+4: required TSentryMappingData mappingData
+}
+
+struct TSentryPrivilegesDeltaRequest {
+1: required i32 protocol_version = sentry_common_service.TSENTRY_SERVICE_V2,
+2: required i64 changeId # role change ID of the client image, a full image is returned when it is unknown
+}
+
+struct TSentryPrivilegesDeltaResponse {
+1: required sentry_common_service.TSentryResponseStatus status,
+2: optional TSentryPrivilegesDelta delta
+}
+
 /*
  * API for synchronizing between HMS notification events and Sentry.
  *
@@ -330,6 +373,7 @@ service SentryPolicyService
 
   TAlterSentryRoleGrantPrivilegeResponse alter_sentry_role_grant_privilege(1:TAlterSentryRoleGrantPrivilegeRequest request)
   TAlterSentryRoleRevokePrivilegeResponse alter_sentry_role_revoke_privilege(1:TAlterSentryRoleRevokePrivilegeRequest request)
+  TAlterSentryRolesGrantPrivilegesResponse alter_sentry_roles_grant_privileges(1:TAlterSentryRolesGrantPrivilegesRequest request)
 
   TAlterSentryRoleAddGroupsResponse alter_sentry_role_add_groups(1:TAlterSentryRoleAddGroupsRequest request)
   TAlterSentryRoleDeleteGroupsResponse alter_sentry_role_delete_groups(1:TAlterSentryRoleDeleteGroupsRequest request)
@@ -345,6 +389,12 @@ service SentryPolicyService
   # For use with ProviderBackend.getPrivileges only
   TListSentryPrivilegesForProviderResponse list_sentry_privileges_for_provider(1:TListSentryPrivilegesForProviderRequest request)
 
+  # For use with ProviderBackend.getPrivilegesBatch only
+  TListSentryPrivilegesForProviderBatchResponse list_sentry_privileges_for_provider_batch(1:TListSentryPrivilegesForProviderBatchRequest request)
+
+  # For use with the privilege cache of SimpleDBProviderBackend only
+  TSentryPrivilegesDeltaResponse get_sentry_privileges_delta(1:TSentryPrivilegesDeltaRequest request)
+
   TDropPrivilegesResponse drop_sentry_privilege(1:TDropPrivilegesRequest request);
 
   TRenamePrivilegesResponse rename_sentry_privilege(1:TRenamePrivilegesRequest request);
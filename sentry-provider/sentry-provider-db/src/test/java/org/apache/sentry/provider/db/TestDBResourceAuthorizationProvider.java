@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.provider.db;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.BitSet;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.sentry.core.common.ActiveRoleSet;
+import org.apache.sentry.core.common.Authorizable;
+import org.apache.sentry.core.common.Subject;
+import org.apache.sentry.core.model.db.DBModelAction;
+import org.apache.sentry.core.model.db.Database;
+import org.apache.sentry.core.model.db.HivePrivilegeModel;
+import org.apache.sentry.core.model.db.Server;
+import org.apache.sentry.core.model.db.Table;
+import org.apache.sentry.policy.engine.common.CommonPolicyEngine;
+import org.apache.sentry.provider.common.HadoopGroupResourceAuthorizationProvider;
+import org.apache.sentry.provider.common.NoGroupMappingService;
+import org.apache.sentry.provider.common.ProviderBackendContext;
+import org.apache.sentry.provider.common.ResourceAuthorizationProvider;
+import org.apache.sentry.service.thrift.SentryServiceIntegrationBase;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+
+/**
+ * Checks the privileges granted in the Sentry service against the authorization provider,
+ * which requests them from the DB backend.
+ */
+public class TestDBResourceAuthorizationProvider extends SentryServiceIntegrationBase {
+
+  private static final EnumSet<DBModelAction> SELECT = EnumSet.of(DBModelAction.SELECT);
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    kerberos = false;
+    beforeSetup();
+    setupConf();
+    startSentryService();
+    afterSetup();
+  }
+
+  @Test
+  public void testGrantedPrivileges() throws Exception {
+    String requestorUserName = ADMIN_USER;
+    Set<String> requestorUserGroupNames = Sets.newHashSet(ADMIN_GROUP);
+    setLocalGroupMapping(requestorUserName, requestorUserGroupNames);
+    writePolicyFile();
+    String tableRoleName = "provider_r1";
+    String dbRoleName = "provider_r2";
+    String userName = "provider_u1";
+    client.dropRoleIfExists(requestorUserName, tableRoleName);
+    client.dropRoleIfExists(requestorUserName, dbRoleName);
+    client.createRole(requestorUserName, tableRoleName);
+    client.createRole(requestorUserName, dbRoleName);
+    client.grantTablePrivilege(requestorUserName, tableRoleName, "server1", "db1", "t1",
+        "select");
+    client.grantDatabasePrivilege(requestorUserName, dbRoleName, "server1", "db2", "all");
+    client.grantRoleToUser(requestorUserName, userName, tableRoleName);
+    client.grantRoleToUser(requestorUserName, userName, dbRoleName);
+
+    SimpleDBProviderBackend backend = new SimpleDBProviderBackend(conf);
+    try {
+      backend.initialize(new ProviderBackendContext());
+      ResourceAuthorizationProvider provider = new HadoopGroupResourceAuthorizationProvider(
+          new CommonPolicyEngine(backend), new NoGroupMappingService(),
+          HivePrivilegeModel.getInstance());
+      Subject subject = new Subject(userName);
+      List<Authorizable> t1 = Lists.<Authorizable>newArrayList(new Server("server1"),
+          new Database("db1"), new Table("t1"));
+      List<Authorizable> t2 = Lists.<Authorizable>newArrayList(new Server("server1"),
+          new Database("db1"), new Table("t2"));
+      List<Authorizable> db2t1 = Lists.<Authorizable>newArrayList(new Server("server1"),
+          new Database("db2"), new Table("t1"));
+
+      // The table and db level grants are below the top-level authorizable
+      assertTrue(provider.hasAccess(subject, t1, SELECT, ActiveRoleSet.ALL));
+      assertTrue(provider.hasAccess(subject, db2t1, SELECT, ActiveRoleSet.ALL));
+      assertFalse(provider.hasAccess(subject, t2, SELECT, ActiveRoleSet.ALL));
+
+      List<List<Authorizable>> hierarchies = Lists.newArrayList();
+      hierarchies.add(t1);
+      hierarchies.add(t2);
+      hierarchies.add(db2t1);
+      BitSet expected = new BitSet();
+      expected.set(0);
+      expected.set(2);
+      assertEquals(expected, provider.hasAccessBatch(subject, hierarchies, SELECT,
+          ActiveRoleSet.ALL));
+    } finally {
+      backend.close();
+    }
+  }
+}
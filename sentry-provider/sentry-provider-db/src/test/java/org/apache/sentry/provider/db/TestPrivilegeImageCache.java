@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.provider.db;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.sentry.core.common.ActiveRoleSet;
+import org.apache.sentry.provider.db.service.thrift.TSentryAuthorizable;
+import org.apache.sentry.provider.db.service.thrift.TSentryMappingData;
+import org.apache.sentry.provider.db.service.thrift.TSentryPrivilege;
+import org.apache.sentry.provider.db.service.thrift.TSentryPrivilegesDelta;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+
+public class TestPrivilegeImageCache {
+
+  private PrivilegeImageCache cache;
+
+  @Before
+  public void setup() {
+    cache = new PrivilegeImageCache(new Configuration(false));
+  }
+
+  @After
+  public void teardown() {
+    cache.close();
+  }
+
+  @Test
+  public void testFullImage() {
+    Map<String, Set<TSentryPrivilege>> rolePrivileges = Maps.newHashMap();
+    rolePrivileges.put("r1", Sets.newHashSet(tablePrivilege("db1", "t1", "select")));
+    rolePrivileges.put("r2", Sets.newHashSet(tablePrivilege("db1", "t2", "insert")));
+    Map<String, Set<String>> groupRoles = Maps.newHashMap();
+    groupRoles.put("g1", Sets.newHashSet("r1"));
+    groupRoles.put("g2", Sets.newHashSet("r1", "r2"));
+    cache.update(fullImage(5, rolePrivileges, groupRoles));
+
+    assertEquals(5, cache.getChangeId());
+    assertEquals(Sets.newHashSet("server=server1->db=db1->table=t1->action=select"),
+        cache.listPrivileges(Sets.newHashSet("g1"), null, ActiveRoleSet.ALL,
+            authorizable("server1", "db1", null)));
+    assertEquals(2, cache.listPrivileges(Sets.newHashSet("g2"), null, ActiveRoleSet.ALL,
+        authorizable("server1", "db1", null)).size());
+    assertEquals(1, cache.listPrivileges(Sets.newHashSet("g2"), null,
+        new ActiveRoleSet(Sets.newHashSet("R2")), authorizable("server1", "db1", null)).size());
+    assertEquals(0, cache.listPrivileges(Sets.newHashSet("g3"), null, ActiveRoleSet.ALL,
+        authorizable("server1", "db1", null)).size());
+  }
+
+  @Test
+  public void testChangedRoles() {
+    Map<String, Set<TSentryPrivilege>> rolePrivileges = Maps.newHashMap();
+    rolePrivileges.put("r1", Sets.newHashSet(tablePrivilege("db1", "t1", "select")));
+    rolePrivileges.put("r2", Sets.newHashSet(tablePrivilege("db1", "t2", "insert")));
+    Map<String, Set<String>> groupRoles = Maps.newHashMap();
+    groupRoles.put("g1", Sets.newHashSet("r1", "r2"));
+    cache.update(fullImage(5, rolePrivileges, groupRoles));
+
+    // r1 is dropped, r2 gets a new privilege and is granted to g2
+    rolePrivileges = Maps.newHashMap();
+    rolePrivileges.put("r2", Sets.newHashSet(tablePrivilege("db1", "t2", "insert"),
+        tablePrivilege("db1", "t3", "select")));
+    groupRoles = Maps.newHashMap();
+    groupRoles.put("g1", Sets.newHashSet("r2"));
+    groupRoles.put("g2", Sets.newHashSet("r2"));
+    TSentryPrivilegesDelta delta = new TSentryPrivilegesDelta(7, false,
+        mappingData(rolePrivileges, groupRoles));
+    delta.setChangedRoles(Sets.newHashSet("r1", "r2"));
+    cache.update(delta);
+
+    assertEquals(7, cache.getChangeId());
+    assertEquals(Sets.newHashSet("server=server1->db=db1->table=t2->action=insert",
+        "server=server1->db=db1->table=t3->action=select"),
+        cache.listPrivileges(Sets.newHashSet("g1"), null, ActiveRoleSet.ALL,
+            authorizable("server1", "db1", null)));
+    assertEquals(2, cache.listPrivileges(Sets.newHashSet("g2"), null, ActiveRoleSet.ALL,
+        authorizable("server1", "db1", null)).size());
+
+    // No change
+    delta = new TSentryPrivilegesDelta(7, false, mappingData(
+        Collections.<String, Set<TSentryPrivilege>>emptyMap(),
+        Collections.<String, Set<String>>emptyMap()));
+    delta.setChangedRoles(Collections.<String>emptySet());
+    cache.update(delta);
+    assertEquals(2, cache.listPrivileges(Sets.newHashSet("g1"), null, ActiveRoleSet.ALL,
+        authorizable("server1", "db1", null)).size());
+  }
+
+  @Test
+  public void testServerPrivilegeFallback() {
+    Map<String, Set<TSentryPrivilege>> rolePrivileges = Maps.newHashMap();
+    rolePrivileges.put("r1", Sets.newHashSet(tablePrivilege("db1", "t1", "select")));
+    Map<String, Set<String>> groupRoles = Maps.newHashMap();
+    groupRoles.put("g1", Sets.newHashSet("r1"));
+    cache.update(fullImage(1, rolePrivileges, groupRoles));
+
+    assertEquals(Sets.newHashSet("server=+"), cache.listPrivileges(Sets.newHashSet("g1"),
+        null, ActiveRoleSet.ALL, authorizable("server1", "default", null)));
+    assertEquals(0, cache.listPrivileges(Sets.newHashSet("g1"), null, ActiveRoleSet.ALL,
+        authorizable("server2", "default", null)).size());
+  }
+
+  private static TSentryPrivilegesDelta fullImage(long changeId,
+      Map<String, Set<TSentryPrivilege>> rolePrivileges, Map<String, Set<String>> groupRoles) {
+    return new TSentryPrivilegesDelta(changeId, true, mappingData(rolePrivileges, groupRoles));
+  }
+
+  private static TSentryMappingData mappingData(
+      Map<String, Set<TSentryPrivilege>> rolePrivileges, Map<String, Set<String>> groupRoles) {
+    TSentryMappingData mappingData = new TSentryMappingData();
+    mappingData.setRolePrivilegesMap(rolePrivileges);
+    mappingData.setGroupRolesMap(groupRoles);
+    mappingData.setUserRolesMap(Collections.<String, Set<String>>emptyMap());
+    return mappingData;
+  }
+
+  private static TSentryPrivilege tablePrivilege(String db, String table, String action) {
+    TSentryPrivilege privilege = new TSentryPrivilege("TABLE", "server1", action);
+    privilege.setDbName(db);
+    privilege.setTableName(table);
+    return privilege;
+  }
+
+  private static TSentryAuthorizable authorizable(String server, String db, String table) {
+    TSentryAuthorizable authorizable = new TSentryAuthorizable(server);
+    authorizable.setDb(db);
+    authorizable.setTable(table);
+    return authorizable;
+  }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.sentry.provider.db;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.Set;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.sentry.core.common.ActiveRoleSet;
+import org.apache.sentry.core.common.Authorizable;
+import org.apache.sentry.core.model.db.Database;
+import org.apache.sentry.core.model.db.Server;
+import org.apache.sentry.core.model.db.Table;
+import org.apache.sentry.provider.common.ProviderBackendContext;
+import org.apache.sentry.service.thrift.SentryServiceIntegrationBase;
+import org.apache.sentry.service.thrift.ServiceConstants;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+
+public class TestSimpleDBProviderBackendCache extends SentryServiceIntegrationBase {
+
+  private static final long UPDATE_INTERVAL_MS = 100;
+  private static final long IDLE_CLOSE_MS = 1000;
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    kerberos = false;
+    beforeSetup();
+    setupConf();
+    startSentryService();
+    afterSetup();
+  }
+
+  private static Configuration getCacheConf() {
+    Configuration cacheConf = new Configuration(conf);
+    cacheConf.setBoolean(ServiceConstants.ClientConfig.DB_CACHE_ENABLED, true);
+    cacheConf.setLong(ServiceConstants.ClientConfig.DB_CACHE_UPDATE_INTERVAL_MS,
+        UPDATE_INTERVAL_MS);
+    cacheConf.setLong(ServiceConstants.ClientConfig.DB_CACHE_IDLE_CLOSE_MS, IDLE_CLOSE_MS);
+    return cacheConf;
+  }
+
+  @Test
+  public void testBackendsShareTheCache() throws Exception {
+    SimpleDBProviderBackend backend1 = new SimpleDBProviderBackend(getCacheConf());
+    backend1.initialize(new ProviderBackendContext());
+    PrivilegeImageCache cache = PrivilegeImageCache.getSharedInstance();
+    assertNotNull(cache);
+
+    // The next backend of the process, e.g. the one of the next Hive query, reuses it
+    SimpleDBProviderBackend backend2 = new SimpleDBProviderBackend(getCacheConf());
+    backend2.initialize(new ProviderBackendContext());
+    assertSame(cache, PrivilegeImageCache.getSharedInstance());
+    backend1.close();
+    backend2.close();
+
+    // Kept open for a while once unused
+    SimpleDBProviderBackend backend3 = new SimpleDBProviderBackend(getCacheConf());
+    backend3.initialize(new ProviderBackendContext());
+    assertSame(cache, PrivilegeImageCache.getSharedInstance());
+    backend3.close();
+
+    long deadline = System.currentTimeMillis() + 10 * IDLE_CLOSE_MS;
+    while (PrivilegeImageCache.getSharedInstance() != null
+        && System.currentTimeMillis() < deadline) {
+      Thread.sleep(UPDATE_INTERVAL_MS);
+    }
+    assertNull(PrivilegeImageCache.getSharedInstance());
+  }
+
+  @Test
+  public void testCacheSeesAllTheChanges() throws Exception {
+    String requestorUserName = ADMIN_USER;
+    Set<String> requestorUserGroupNames = Sets.newHashSet(ADMIN_GROUP);
+    setLocalGroupMapping(requestorUserName, requestorUserGroupNames);
+    writePolicyFile();
+    String roleName = "cache_r1";
+    String groupName = "cache_g1";
+    String userName = "cache_u1";
+    client.dropRoleIfExists(requestorUserName, roleName);
+    client.createRole(requestorUserName, roleName);
+
+    SimpleDBProviderBackend backend = new SimpleDBProviderBackend(getCacheConf());
+    try {
+      backend.initialize(new ProviderBackendContext());
+      Authorizable[] table = { new Server("server"), new Database("db1"), new Table("t1") };
+
+      // Column privileges and user to role mappings are not in the HDFS sync deltas
+      client.grantColumnPrivilege(requestorUserName, roleName, "server", "db1", "t1", "c1",
+          "select");
+      client.grantRoleToUser(requestorUserName, userName, roleName);
+      assertPrivileges(backend, null, Sets.newHashSet(userName), table,
+          Sets.newHashSet("server=server->db=db1->table=t1->column=c1->action=select"));
+
+      client.grantRoleToGroup(requestorUserName, groupName, roleName);
+      client.grantURIPrivilege(requestorUserName, roleName, "server", "file:///data");
+      assertPrivileges(backend, Sets.newHashSet(groupName), null,
+          new Authorizable[] { new Server("server") },
+          Sets.newHashSet("server=server->db=db1->table=t1->column=c1->action=select",
+              "server=server->uri=file:///data"));
+
+      client.revokeRoleFromUser(requestorUserName, userName, roleName);
+      assertPrivileges(backend, null, Sets.newHashSet(userName), table,
+          Sets.<String>newHashSet());
+    } finally {
+      backend.close();
+    }
+  }
+
+  /**
+   * Waits for the cache of the backend to return the expected privileges.
+   */
+  private static void assertPrivileges(SimpleDBProviderBackend backend, Set<String> groups,
+      Set<String> users, Authorizable[] authorizables, Set<String> expected)
+      throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 100 * UPDATE_INTERVAL_MS;
+    Set<String> privileges = backend.getPrivileges(groups, users, ActiveRoleSet.ALL,
+        authorizables);
+    while (!expected.equals(privileges) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(UPDATE_INTERVAL_MS);
+      privileges = backend.getPrivileges(groups, users, ActiveRoleSet.ALL, authorizables);
+    }
+    assertEquals(expected, privileges);
+  }
+}
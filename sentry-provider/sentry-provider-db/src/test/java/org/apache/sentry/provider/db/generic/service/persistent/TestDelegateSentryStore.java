@@ -18,12 +18,20 @@
 package org.apache.sentry.provider.db.generic.service.persistent;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.Set;
 
 import org.apache.sentry.core.common.exception.SentryAlreadyExistsException;
 import org.apache.sentry.core.common.exception.SentryNoSuchObjectException;
+import org.apache.sentry.core.model.search.Collection;
+import org.apache.sentry.core.model.search.SearchConstants;
+import org.apache.sentry.provider.db.generic.service.persistent.PrivilegeObject.Builder;
+import org.apache.sentry.provider.db.generic.service.persistent.RolePrivilegesDelta.RolePrivileges;
 import org.apache.sentry.provider.file.PolicyFile;
 import org.junit.Before;
 import org.junit.Test;
@@ -179,4 +187,117 @@ public class TestDelegateSentryStore extends SentryStoreIntegrationBase{
     groups.clear();
     assertEquals(0, sentryStore.getRolesByGroups(SEARCH, groups).size());
   }
+  @Test
+  public void testGetRolePrivilegesDelta() throws Exception {
+    String grantor = "admin";
+    String service = "service1";
+    sentryStore.createRole(SEARCH, "r1", grantor);
+    sentryStore.createRole(SEARCH, "r2", grantor);
+    sentryStore.alterRoleAddGroups(SEARCH, "r1", Sets.newHashSet("g1"), grantor);
+    PrivilegeObject queryPrivilege = new Builder()
+        .setComponent(SEARCH)
+        .setAction(SearchConstants.QUERY)
+        .setService(service)
+        .setAuthorizables(Arrays.asList(new Collection("c1")))
+        .build();
+    sentryStore.alterRoleGrantPrivilege(SEARCH, "r1", queryPrivilege, grantor);
+
+    // A client without an image gets all the roles
+    RolePrivilegesDelta delta = sentryStore.getRolePrivilegesDelta(SEARCH, service, -1);
+    assertTrue(delta.isFullImage());
+    assertEquals(2, delta.getRoles().size());
+    for (RolePrivileges role : delta.getRoles()) {
+      if (role.getRoleName().equals("r1")) {
+        assertEquals(Sets.newHashSet("g1"), role.getGroups());
+        assertEquals(Sets.newHashSet(queryPrivilege), role.getPrivileges());
+      } else {
+        assertEquals("r2", role.getRoleName());
+        assertTrue(role.getPrivileges().isEmpty());
+      }
+    }
+    long changeId = delta.getChangeId();
+
+    // No change
+    delta = sentryStore.getRolePrivilegesDelta(SEARCH, service, changeId);
+    assertFalse(delta.isFullImage());
+    assertEquals(changeId, delta.getChangeId());
+    assertTrue(delta.getChangedRoles().isEmpty());
+    assertTrue(delta.getRoles().isEmpty());
+
+    // Only the changed roles are returned, a dropped role has no entry
+    sentryStore.alterRoleAddGroups(SEARCH, "r2", Sets.newHashSet("g2"), grantor);
+    sentryStore.dropRole(SEARCH, "r1", grantor);
+    delta = sentryStore.getRolePrivilegesDelta(SEARCH, service, changeId);
+    assertFalse(delta.isFullImage());
+    assertEquals(changeId + 2, delta.getChangeId());
+    assertEquals(Sets.newHashSet("r1", "r2"), delta.getChangedRoles());
+    assertEquals(1, delta.getRoles().size());
+    assertEquals("r2", delta.getRoles().get(0).getRoleName());
+    assertEquals(Sets.newHashSet("g2"), delta.getRoles().get(0).getGroups());
+
+    // Privileges of other services are not returned
+    delta = sentryStore.getRolePrivilegesDelta(SEARCH, "service2", -1);
+    assertEquals(1, delta.getRoles().size());
+    assertTrue(delta.getRoles().get(0).getPrivileges().isEmpty());
+
+    // A change ID ahead of the server gets a full image
+    delta = sentryStore.getRolePrivilegesDelta(SEARCH, service, changeId + 100);
+    assertTrue(delta.isFullImage());
+    assertEquals(changeId + 2, delta.getChangeId());
+  }
+
+  @Test
+  public void testGetRolePrivilegesSnapshot() throws Exception {
+    String grantor = "admin";
+    String service = "service1";
+    for (String role : new String[] {"r3", "r1", "r2"}) {
+      sentryStore.createRole(SEARCH, role, grantor);
+    }
+    sentryStore.alterRoleAddGroups(SEARCH, "r1", Sets.newHashSet("g1", "g2"), grantor);
+    sentryStore.alterRoleAddGroups(SEARCH, "r2", Sets.newHashSet("g2"), grantor);
+    PrivilegeObject queryPrivilege = new Builder()
+        .setComponent(SEARCH)
+        .setAction(SearchConstants.QUERY)
+        .setService(service)
+        .setAuthorizables(Arrays.asList(new Collection("c1")))
+        .build();
+    PrivilegeObject updatePrivilege = new Builder()
+        .setComponent(SEARCH)
+        .setAction(SearchConstants.UPDATE)
+        .setService(service)
+        .setAuthorizables(Arrays.asList(new Collection("c2")))
+        .build();
+    sentryStore.alterRoleGrantPrivilege(SEARCH, "r1", queryPrivilege, grantor);
+    sentryStore.alterRoleGrantPrivilege(SEARCH, "r1", updatePrivilege, grantor);
+    sentryStore.alterRoleGrantPrivilege(SEARCH, "r3", queryPrivilege, grantor);
+
+    List<RolePrivileges> roles = sentryStore.getRolePrivilegesSnapshot(SEARCH, service, null, 10);
+    assertEquals(3, roles.size());
+    assertEquals("r1", roles.get(0).getRoleName());
+    assertEquals(Sets.newHashSet("g1", "g2"), roles.get(0).getGroups());
+    assertEquals(Sets.newHashSet(queryPrivilege, updatePrivilege), roles.get(0).getPrivileges());
+    assertEquals("r2", roles.get(1).getRoleName());
+    assertEquals(Sets.newHashSet("g2"), roles.get(1).getGroups());
+    assertTrue(roles.get(1).getPrivileges().isEmpty());
+    assertEquals("r3", roles.get(2).getRoleName());
+    assertTrue(roles.get(2).getGroups().isEmpty());
+    assertEquals(Sets.newHashSet(queryPrivilege), roles.get(2).getPrivileges());
+
+    // Pages
+    roles = sentryStore.getRolePrivilegesSnapshot(SEARCH, service, null, 2);
+    assertEquals(2, roles.size());
+    assertEquals("r2", roles.get(1).getRoleName());
+    roles = sentryStore.getRolePrivilegesSnapshot(SEARCH, service, "r2", 2);
+    assertEquals(1, roles.size());
+    assertEquals("r3", roles.get(0).getRoleName());
+    assertEquals(Sets.newHashSet(queryPrivilege), roles.get(0).getPrivileges());
+    assertTrue(sentryStore.getRolePrivilegesSnapshot(SEARCH, service, "r3", 2).isEmpty());
+
+    // Privileges of other services are not returned
+    roles = sentryStore.getRolePrivilegesSnapshot(SEARCH, "service2", null, 10);
+    assertEquals(3, roles.size());
+    for (RolePrivileges role : roles) {
+      assertTrue(role.getPrivileges().isEmpty());
+    }
+  }
 }
@@ -18,6 +18,7 @@
 package org.apache.sentry.provider.db.generic.service.thrift;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -493,6 +494,91 @@ public class TestSentryGenericServiceIntegration extends SentryGenericServiceInt
       }});
   }
 
+  @Test
+  public void testListPrivilegesDelta() throws Exception {
+    runTestAsSubject(new TestOperation(){
+      @Override
+      public void runTestAsSubject() throws Exception {
+        String requestorUserName = ADMIN_USER;
+        Set<String> requestorUserGroupNames = Sets.newHashSet(ADMIN_GROUP);
+        setLocalGroupMapping(requestorUserName, requestorUserGroupNames);
+        setLocalGroupMapping("user1", Sets.newHashSet("g1"));
+        writePolicyFile();
+        String roleName = "admin_r1";
+
+        client.createRole(requestorUserName, roleName, SOLR);
+        client.addRoleToGroups(requestorUserName, roleName, SOLR, Sets.newHashSet("g1"));
+        TSentryPrivilege queryPrivilege = new TSentryPrivilege(SOLR, "service1",
+            fromAuthorizable(Arrays.asList(new Collection("c1"))), SearchConstants.QUERY);
+        client.grantPrivilege(requestorUserName, roleName, SOLR, queryPrivilege);
+
+        TSentryRolePrivilegesDelta delta = client.listPrivilegesDelta(requestorUserName, SOLR,
+            "service1", -1);
+        assertTrue(delta.isFullImage());
+        assertEquals(1, delta.getRoles().size());
+        TSentryRolePrivileges role = delta.getRoles().get(0);
+        assertEquals(roleName, role.getRoleName());
+        assertEquals(Sets.newHashSet("g1"), role.getGroups());
+        assertEquals(1, role.getPrivileges().size());
+        long changeId = delta.getChangeId();
+
+        // Renaming a privilege changes the role which holds it
+        client.renamePrivilege(requestorUserName, SOLR, "service1",
+            Arrays.asList(new Collection("c1")), Arrays.asList(new Collection("c2")));
+        delta = client.listPrivilegesDelta(requestorUserName, SOLR, "service1", changeId);
+        assertFalse(delta.isFullImage());
+        assertEquals(Sets.newHashSet(roleName), delta.getChangedRoles());
+        TSentryPrivilege renamed = delta.getRoles().get(0).getPrivileges().iterator().next();
+        assertEquals("c2", renamed.getAuthorizables().get(0).getName());
+        changeId = delta.getChangeId();
+
+        // So does dropping it
+        TSentryPrivilege dropPrivilege = new TSentryPrivilege(SOLR, "service1",
+            fromAuthorizable(Arrays.asList(new Collection("c2"))), SearchConstants.QUERY);
+        client.dropPrivilege(requestorUserName, SOLR, dropPrivilege);
+        delta = client.listPrivilegesDelta(requestorUserName, SOLR, "service1", changeId);
+        assertEquals(Sets.newHashSet(roleName), delta.getChangedRoles());
+        assertTrue(delta.getRoles().get(0).getPrivileges().isEmpty());
+
+        // Only the admin can list the changes
+        try {
+          client.listPrivilegesDelta("user1", SOLR, "service1", -1);
+          fail("Should throw SentryUserException");
+        } catch (SentryUserException e) {
+          //ignore the exception
+        }
+      }});
+  }
+
+  @Test
+  public void testListAllPrivilegesSnapshot() throws Exception {
+    runTestAsSubject(new TestOperation(){
+      @Override
+      public void runTestAsSubject() throws Exception {
+        String requestorUserName = ADMIN_USER;
+        Set<String> requestorUserGroupNames = Sets.newHashSet(ADMIN_GROUP);
+        setLocalGroupMapping(requestorUserName, requestorUserGroupNames);
+        writePolicyFile();
+
+        client.createRole(requestorUserName, "r1", SOLR);
+        client.createRole(requestorUserName, "r2", SOLR);
+        client.addRoleToGroups(requestorUserName, "r1", SOLR, Sets.newHashSet("g1"));
+        TSentryPrivilege queryPrivilege = new TSentryPrivilege(SOLR, "service1",
+            fromAuthorizable(Arrays.asList(new Collection("c1"))), SearchConstants.QUERY);
+        client.grantPrivilege(requestorUserName, "r1", SOLR, queryPrivilege);
+
+        List<TSentryRolePrivileges> roles = client.listAllPrivilegesSnapshot(requestorUserName,
+            SOLR, "service1");
+        assertEquals(2, roles.size());
+        assertEquals("r1", roles.get(0).getRoleName());
+        assertEquals(Sets.newHashSet("g1"), roles.get(0).getGroups());
+        assertEquals(1, roles.get(0).getPrivileges().size());
+        assertEquals("r2", roles.get(1).getRoleName());
+        assertTrue(roles.get(1).getGroups().isEmpty());
+        assertTrue(roles.get(1).getPrivileges().isEmpty());
+      }});
+  }
+
   private List<TAuthorizable> fromAuthorizable(List<? extends Authorizable> authorizables) {
     List<TAuthorizable> tAuthorizables = Lists.newArrayList();
     for (Authorizable authorizable : authorizables) {
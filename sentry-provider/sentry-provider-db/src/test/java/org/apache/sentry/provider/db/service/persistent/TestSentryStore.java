@@ -19,9 +19,11 @@
 package org.apache.sentry.provider.db.service.persistent;
 
 import java.io.File;
+import java.util.concurrent.Callable;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.ArrayList;
@@ -45,12 +47,16 @@ import org.apache.sentry.core.model.db.AccessConstants;
 import org.apache.sentry.core.common.exception.SentryAlreadyExistsException;
 import org.apache.sentry.core.common.exception.SentryGrantDeniedException;
 import org.apache.sentry.core.common.exception.SentryNoSuchObjectException;
+import org.apache.sentry.core.common.exception.SentryInvalidInputException;
 import org.apache.sentry.hdfs.PathsUpdate;
 import org.apache.sentry.hdfs.PermissionsUpdate;
 import org.apache.sentry.hdfs.Updateable;
+import org.apache.sentry.hdfs.service.thrift.TPathChanges;
 import org.apache.sentry.hdfs.service.thrift.TPrivilegeChanges;
 import org.apache.sentry.hdfs.service.thrift.TRoleChanges;
+import org.apache.sentry.provider.db.service.model.MSentryChange;
 import org.apache.sentry.provider.db.service.model.MSentryPermChange;
+import org.apache.sentry.provider.db.service.model.MSentryGMChange;
 import org.apache.sentry.provider.db.service.model.MSentryPathChange;
 import org.apache.sentry.provider.db.service.model.MSentryPrivilege;
 import org.apache.sentry.provider.db.service.model.MSentryRole;
@@ -58,7 +64,9 @@ import org.apache.sentry.provider.db.service.thrift.TSentryActiveRoleSet;
 import org.apache.sentry.provider.db.service.thrift.TSentryAuthorizable;
 import org.apache.sentry.provider.db.service.thrift.TSentryGrantOption;
 import org.apache.sentry.provider.db.service.thrift.TSentryGroup;
+import org.apache.sentry.provider.db.service.thrift.TSentryMappingData;
 import org.apache.sentry.provider.db.service.thrift.TSentryPrivilege;
+import org.apache.sentry.provider.db.service.thrift.TSentryPrivilegesDelta;
 import org.apache.sentry.provider.db.service.thrift.TSentryRole;
 import org.apache.sentry.provider.file.PolicyFile;
 import org.apache.sentry.service.thrift.SentryServiceUtil;
@@ -277,6 +285,107 @@ public class TestSentryStore extends org.junit.Assert {
     assertTrue(privs.contains("server=server1->uri=" + uri + "->action=all"));
   }
 
+  @Test
+  public void testListSentryPrivilegesForProviderWildcardDb() throws Exception {
+    String roleName = "test-wildcard-db-role";
+    String grantor = "g1";
+    createRole(roleName);
+    for (String dbName : new String[] {"db1", "db2"}) {
+      TSentryPrivilege privilege = new TSentryPrivilege();
+      privilege.setPrivilegeScope("TABLE");
+      privilege.setServerName("server1");
+      privilege.setDbName(dbName);
+      privilege.setTableName("tbl1");
+      privilege.setAction("SELECT");
+      privilege.setCreateTime(System.currentTimeMillis());
+      sentryStore.alterSentryRoleGrantPrivilege(grantor, roleName, privilege);
+    }
+    sentryStore.alterSentryRoleAddGroups(grantor, roleName,
+        Sets.newHashSet(new TSentryGroup("group1")));
+    TSentryActiveRoleSet thriftRoleSet = new TSentryActiveRoleSet(true, new HashSet<String>());
+
+    TSentryAuthorizable tSentryAuthorizable = new TSentryAuthorizable("server1");
+    tSentryAuthorizable.setDb("db1");
+    assertEquals(Sets.newHashSet("server=server1->db=db1->table=tbl1->action=select"),
+        SentryStore.toTrimedLower(sentryStore.listSentryPrivilegesForProvider(
+            Sets.newHashSet("group1"), Sets.newHashSet(""), thriftRoleSet, tSentryAuthorizable)));
+
+    // A wildcard db, as for the databases of SHOW DATABASES, matches all of them
+    tSentryAuthorizable.setDb(AccessConstants.ALL);
+    tSentryAuthorizable.setTable(AccessConstants.ALL);
+    assertEquals(Sets.newHashSet("server=server1->db=db1->table=tbl1->action=select",
+        "server=server1->db=db2->table=tbl1->action=select"),
+        SentryStore.toTrimedLower(sentryStore.listSentryPrivilegesForProvider(
+            Sets.newHashSet("group1"), Sets.newHashSet(""), thriftRoleSet, tSentryAuthorizable)));
+  }
+
+  @Test
+  public void testListSentryPrivilegesForProviderBatch() throws Exception {
+    String roleName = "test-batch-role";
+    String grantor = "g1";
+    createRole(roleName);
+    TSentryPrivilege serverPrivilege = new TSentryPrivilege("SERVER", "server1", "SELECT");
+    TSentryPrivilege dbPrivilege = new TSentryPrivilege("DATABASE", "server1", "INSERT");
+    dbPrivilege.setDbName("db1");
+    TSentryPrivilege tablePrivilege = new TSentryPrivilege("TABLE", "server1", "SELECT");
+    tablePrivilege.setDbName("db2");
+    tablePrivilege.setTableName("tbl1");
+    TSentryPrivilege columnPrivilege = new TSentryPrivilege("COLUMN", "server1", "SELECT");
+    columnPrivilege.setDbName("db2");
+    columnPrivilege.setTableName("tbl2");
+    columnPrivilege.setColumnName("col1");
+    TSentryPrivilege uriPrivilege = new TSentryPrivilege("URI", "server1", "ALL");
+    uriPrivilege.setURI("hdfs://namenode:8020/path");
+    TSentryPrivilege otherServerPrivilege = new TSentryPrivilege("DATABASE", "server2", "ALL");
+    otherServerPrivilege.setDbName("db1");
+    for (TSentryPrivilege privilege : new TSentryPrivilege[] {serverPrivilege, dbPrivilege,
+        tablePrivilege, columnPrivilege, uriPrivilege, otherServerPrivilege}) {
+      sentryStore.alterSentryRoleGrantPrivilege(grantor, roleName, privilege);
+    }
+    sentryStore.alterSentryRoleAddGroups(grantor, roleName,
+        Sets.newHashSet(new TSentryGroup("group1")));
+    TSentryActiveRoleSet thriftRoleSet = new TSentryActiveRoleSet(true, new HashSet<String>());
+
+    Set<TSentryAuthorizable> authorizables = Sets.newHashSet();
+    authorizables.add(new TSentryAuthorizable("server1"));
+    authorizables.add(new TSentryAuthorizable("server3"));
+    for (String dbName : new String[] {"db1", "db2", "db3", AccessConstants.ALL}) {
+      TSentryAuthorizable db = new TSentryAuthorizable("server1");
+      db.setDb(dbName);
+      authorizables.add(db);
+      for (String tableName : new String[] {"tbl1", "tbl2", AccessConstants.SOME}) {
+        TSentryAuthorizable table = new TSentryAuthorizable("server1");
+        table.setDb(dbName);
+        table.setTable(tableName);
+        authorizables.add(table);
+        TSentryAuthorizable column = new TSentryAuthorizable(table);
+        column.setColumn("col1");
+        authorizables.add(column);
+      }
+    }
+    TSentryAuthorizable uri = new TSentryAuthorizable("server1");
+    uri.setUri("hdfs://namenode:8020/path/file");
+    authorizables.add(uri);
+
+    // Each hierarchy gets the same privileges as when it is listed on its own
+    Map<TSentryAuthorizable, Set<String>> privilegesByAuth =
+        sentryStore.listSentryPrivilegesForProviderBatch(Sets.newHashSet("group1"),
+            Sets.newHashSet(""), thriftRoleSet, authorizables);
+    assertEquals(authorizables, privilegesByAuth.keySet());
+    for (TSentryAuthorizable authorizable : authorizables) {
+      assertEquals(authorizable.toString(),
+          sentryStore.listSentryPrivilegesForProvider(Sets.newHashSet("group1"),
+              Sets.newHashSet(""), thriftRoleSet, authorizable),
+          privilegesByAuth.get(authorizable));
+    }
+
+    TSentryAuthorizable table = new TSentryAuthorizable("server1");
+    table.setDb("db2");
+    table.setTable("tbl1");
+    assertEquals(Sets.newHashSet("server=server1->action=select",
+        "server=server1->db=db2->table=tbl1->action=select"), privilegesByAuth.get(table));
+  }
+
   @Test
   public void testCreateDuplicateRole() throws Exception {
     String roleName = "test-dup-role";
@@ -2681,6 +2790,52 @@ public class TestSentryStore extends org.junit.Assert {
     assertEquals(3, lastNotificationId.longValue());
   }
 
+  @Test
+  public void testUpdateAuthzPathsMappings() throws Exception {
+    Map<String, Set<String>> authzPaths = new HashMap<>();
+    authzPaths.put("db1.table1", Sets.newHashSet("user/hive/warehouse/db1.db/table1"));
+    sentryStore.persistFullPathsImage(authzPaths, 0);
+    long lastChangeID = sentryStore.getLastProcessedPathChangeID();
+
+    // The changes of several events, which add paths to a new authzObj one after the
+    // other and replace a path of an existing one
+    List<TPathChanges> pathChanges = new ArrayList<>();
+    pathChanges.add(new TPathChanges("db1.table2", new ArrayList<List<String>>(),
+        new ArrayList<List<String>>()));
+    pathChanges.get(0).addToAddPaths(Arrays.asList("user", "hive", "warehouse", "db1.db",
+        "table2"));
+    pathChanges.add(new TPathChanges("db1.table2", new ArrayList<List<String>>(),
+        new ArrayList<List<String>>()));
+    pathChanges.get(1).addToAddPaths(Arrays.asList("user", "hive", "warehouse", "db1.db",
+        "table2", "p1"));
+    pathChanges.add(new TPathChanges("db1.table1", new ArrayList<List<String>>(),
+        new ArrayList<List<String>>()));
+    pathChanges.get(2).addToDelPaths(Arrays.asList("user", "hive", "warehouse", "db1.db",
+        "table1"));
+    pathChanges.get(2).addToAddPaths(Arrays.asList("user", "hive", "warehouse", "db1.db",
+        "table1", "p2"));
+    PathsUpdate update = new PathsUpdate(3, false);
+    for (TPathChanges changes : pathChanges) {
+      TPathChanges updateChanges = update.newPathChange(changes.getAuthzObj());
+      updateChanges.setDelPaths(changes.getDelPaths());
+      updateChanges.setAddPaths(changes.getAddPaths());
+    }
+    sentryStore.updateAuthzPathsMappings(pathChanges, update);
+
+    Map<String, Set<String>> pathsImage = sentryStore.retrieveFullPathsImage().getPathImage();
+    assertEquals(2, pathsImage.size());
+    assertEquals(Sets.newHashSet("user/hive/warehouse/db1.db/table1/p2"),
+        pathsImage.get("db1.table1"));
+    assertEquals(Sets.newHashSet("user/hive/warehouse/db1.db/table2",
+        "user/hive/warehouse/db1.db/table2/p1"), pathsImage.get("db1.table2"));
+
+    // A single path change is persisted, with the last notification ID
+    assertEquals(lastChangeID + 1, sentryStore.getLastProcessedPathChangeID().longValue());
+    MSentryPathChange pathChange = sentryStore.getMSentryPathChangeByID(lastChangeID + 1);
+    assertEquals(update.JSONSerialize(), pathChange.getPathChange());
+    assertEquals(3, sentryStore.getLastProcessedNotificationID().longValue());
+  }
+
   @Test
   public void testPersistAndReplaceANewPathsImage() throws Exception {
     Map<String, Set<String>> authzPaths = new HashMap<>();
@@ -2730,6 +2885,63 @@ public class TestSentryStore extends org.junit.Assert {
     assertEquals(6, sentryStore.getMPaths().size());
   }
 
+  @Test
+  public void testPersistFullPathsImageInChunks() throws Exception {
+    Map<String, Set<String>> authzPaths = new HashMap<>();
+    authzPaths.put("db1.table1", Sets.newHashSet("/user/hive/warehouse/db1.db/table1"));
+    sentryStore.persistFullPathsImage(authzPaths, 1);
+
+    // The chunks are not visible until the snapshot is activated
+    long snapshotID = sentryStore.beginFullPathsImage();
+    assertEquals(2, snapshotID);
+    authzPaths.clear();
+    authzPaths.put("db2.table1", Sets.newHashSet("/user/hive/warehouse/db2.db/table1/p1"));
+    sentryStore.persistFullPathsImageChunk(snapshotID, authzPaths);
+    authzPaths.clear();
+    authzPaths.put("db2.table1", Sets.newHashSet("/user/hive/warehouse/db2.db/table1/p2"));
+    authzPaths.put("db2.table2", Sets.newHashSet("/user/hive/warehouse/db2.db/table2"));
+    sentryStore.persistFullPathsImageChunk(snapshotID, authzPaths);
+
+    PathsImage pathsImage = sentryStore.retrieveFullPathsImage();
+    assertEquals(1, pathsImage.getCurImgNum());
+    assertEquals(Sets.newHashSet("db1.table1"), pathsImage.getPathImage().keySet());
+    assertEquals(1, sentryStore.getMPaths().size());
+
+    sentryStore.activateFullPathsImage(snapshotID, 5);
+    pathsImage = sentryStore.retrieveFullPathsImage();
+    assertEquals(2, pathsImage.getCurImgNum());
+    assertEquals(2, pathsImage.getPathImage().size());
+    assertEquals(Sets.newHashSet("/user/hive/warehouse/db2.db/table1/p1",
+        "/user/hive/warehouse/db2.db/table1/p2"), pathsImage.getPathImage().get("db2.table1"));
+    assertEquals(Sets.newHashSet("/user/hive/warehouse/db2.db/table2"),
+        pathsImage.getPathImage().get("db2.table2"));
+    assertEquals(5, sentryStore.getLastProcessedNotificationID().longValue());
+
+    // The chunks of an abandoned snapshot are deleted by the next one
+    snapshotID = sentryStore.beginFullPathsImage();
+    authzPaths.clear();
+    authzPaths.put("db3.table1", Sets.newHashSet("/user/hive/warehouse/db3.db/table1"));
+    sentryStore.persistFullPathsImageChunk(snapshotID, authzPaths);
+    assertEquals(snapshotID, sentryStore.beginFullPathsImage());
+    authzPaths.clear();
+    authzPaths.put("db4.table1", Sets.newHashSet("/user/hive/warehouse/db4.db/table1"));
+    sentryStore.persistFullPathsImageChunk(snapshotID, authzPaths);
+    sentryStore.activateFullPathsImage(snapshotID, 6);
+    pathsImage = sentryStore.retrieveFullPathsImage();
+    assertEquals(3, pathsImage.getCurImgNum());
+    assertEquals(Sets.newHashSet("db4.table1"), pathsImage.getPathImage().keySet());
+    assertEquals(1, sentryStore.getMPaths().size());
+
+    // An active snapshot can't be activated again
+    try {
+      sentryStore.activateFullPathsImage(snapshotID, 7);
+      fail("Snapshot " + snapshotID + " should not be pending");
+    } catch (SentryInvalidInputException e) {
+      // Ok
+    }
+    assertEquals(6, sentryStore.getLastProcessedNotificationID().longValue());
+  }
+
   @Test
   public void testAddDeleteAfterReplacingANewPathsImage() throws Exception {
     long notificationID = 1;
@@ -2901,6 +3113,64 @@ public class TestSentryStore extends org.junit.Assert {
     assertTrue(names.containsAll(result));
   }
 
+  @Test
+  public void testDeltasPersistedInCompactFormat() throws Exception {
+    Configuration compactConf = new Configuration(conf);
+    compactConf.set(ServerConfig.SENTRY_DELTA_FORMAT, ServerConfig.SENTRY_DELTA_FORMAT_COMPACT);
+    SentryStore compactStore = new SentryStore(compactConf);
+    compactStore.setPersistUpdateDeltas(true);
+    try {
+      compactStore.persistFullPathsImage(new HashMap<String, Set<String>>(), 0);
+
+      // Path delta persisted in the compact format
+      PathsUpdate addUpdate = new PathsUpdate(1, false);
+      addUpdate.newPathChange("db1.table").addToAddPaths(Arrays.asList("db1", "tbl1"));
+      compactStore.addAuthzPathsMapping("db1.table", Sets.newHashSet("db1/tbl1"), addUpdate);
+
+      MSentryPathChange addPathChange =
+          sentryStore.getMSentryPathChangeByID(sentryStore.getLastProcessedPathChangeID());
+      assertEquals(MSentryChange.COMPACT_FORMAT, addPathChange.getChangeFormat());
+      assertEquals(addUpdate, addPathChange.getPathsUpdate());
+
+      // Path delta persisted next to it in the JSON format
+      PathsUpdate delUpdate = new PathsUpdate(2, false);
+      delUpdate.newPathChange("db1.table").addToDelPaths(Arrays.asList("db1", "tbl1"));
+      sentryStore.deleteAuthzPathsMapping("db1.table", Sets.newHashSet("db1/tbl1"), delUpdate);
+
+      List<MSentryPathChange> pathChanges = sentryStore.getMSentryPathChanges(1);
+      assertEquals(2, pathChanges.size());
+      assertEquals(addUpdate, pathChanges.get(0).getPathsUpdate());
+      assertEquals(MSentryChange.JSON_FORMAT, pathChanges.get(1).getChangeFormat());
+      assertEquals(delUpdate.JSONSerialize(), pathChanges.get(1).getPathChange());
+      assertEquals(delUpdate, pathChanges.get(1).getPathsUpdate());
+
+      // Permission delta persisted in the compact format
+      String roleName = "test-compact";
+      createRole(roleName);
+      TSentryPrivilege privilege = new TSentryPrivilege();
+      privilege.setPrivilegeScope("TABLE");
+      privilege.setServerName("server1");
+      privilege.setDbName("db1");
+      privilege.setTableName("tbl1");
+      privilege.setAction(AccessConstants.SELECT);
+      privilege.setCreateTime(System.currentTimeMillis());
+      PermissionsUpdate permUpdate = new PermissionsUpdate(0, false);
+      permUpdate.addPrivilegeUpdate("db1.tbl1").putToAddPrivileges(
+          roleName, AccessConstants.SELECT.toUpperCase());
+      Map<TSentryPrivilege, Updateable.Update> privilegesUpdateMap = Maps.newHashMap();
+      privilegesUpdateMap.put(privilege, permUpdate);
+      compactStore.alterSentryRoleGrantPrivileges("g1", roleName,
+          Sets.newHashSet(privilege), privilegesUpdateMap);
+
+      MSentryPermChange permChange =
+          sentryStore.getMSentryPermChangeByID(sentryStore.getLastProcessedPermChangeID());
+      assertEquals(MSentryChange.COMPACT_FORMAT, permChange.getChangeFormat());
+      assertEquals(permUpdate, permChange.getPermissionsUpdate());
+    } finally {
+      compactStore.stop();
+    }
+  }
+
   @Test
   public void testPrivilegesWithPermUpdate() throws Exception {
     String roleName = "test-privilege";
@@ -2966,6 +3236,75 @@ public class TestSentryStore extends org.junit.Assert {
     assertEquals(true, sentryStore.permChangeExists(1));
   }
 
+  @Test
+  public void testGrantRevokePrivilegesForRolesWithPermUpdate() throws Exception {
+    String grantor = "g1";
+    createRole("r1");
+    createRole("r2");
+
+    TSentryPrivilege t1Select = new TSentryPrivilege("TABLE", "server1", AccessConstants.SELECT);
+    t1Select.setDbName("db1");
+    t1Select.setTableName("t1");
+    TSentryPrivilege t1All = new TSentryPrivilege(t1Select);
+    t1All.setAction(AccessConstants.ALL);
+    TSentryPrivilege t2Insert = new TSentryPrivilege(t1Select);
+    t2Insert.setTableName("t2");
+    t2Insert.setAction(AccessConstants.INSERT);
+    TSentryPrivilege uri = new TSentryPrivilege("URI", "server1", AccessConstants.ALL);
+    uri.setURI("hdfs://namenode:9000/path");
+
+    // The privileges of both roles are granted in a single transaction with a single delta
+    Map<String, Set<TSentryPrivilege>> rolePrivileges = Maps.newHashMap();
+    rolePrivileges.put("r1", Sets.newHashSet(t1Select, t1All, t2Insert));
+    rolePrivileges.put("R2", Sets.newHashSet(new TSentryPrivilege(t1Select), uri));
+    PermissionsUpdate addUpdate = new PermissionsUpdate(0, false);
+    addUpdate.addPrivilegeUpdate("db1.t1").putToAddPrivileges("r1", "SELECT,ALL");
+    long lastChangeID = sentryStore.getLastProcessedPermChangeID();
+    sentryStore.alterSentryRolesGrantPrivileges(grantor, rolePrivileges, addUpdate);
+
+    // ALL on t1 replaces or implies SELECT on t1
+    assertEquals(Sets.newHashSet("t1:*", "t2:insert"), getTableActions("r1"));
+    assertEquals(2, sentryStore.getAllTSentryPrivilegesByRoleName("r2").size());
+    assertEquals(lastChangeID + 1, sentryStore.getLastProcessedPermChangeID().longValue());
+    assertEquals(addUpdate.JSONSerialize(),
+        sentryStore.getMSentryPermChangeByID(lastChangeID + 1).getPermChange());
+    // The privileges shared by the roles are not duplicated
+    assertEquals(Long.valueOf(4), sentryStore.getPrivilegeCountGauge().getValue());
+
+    // Nothing is granted when a role of the batch does not exist
+    rolePrivileges.put("r3", Sets.newHashSet(t2Insert));
+    rolePrivileges.put("r2", Sets.newHashSet(t2Insert));
+    try {
+      sentryStore.alterSentryRolesGrantPrivileges(grantor, rolePrivileges, addUpdate);
+      fail("Role r3 should not exist");
+    } catch (SentryNoSuchObjectException e) {
+      // Ok
+    }
+    assertEquals(2, sentryStore.getAllTSentryPrivilegesByRoleName("r2").size());
+    assertEquals(lastChangeID + 1, sentryStore.getLastProcessedPermChangeID().longValue());
+
+    // The revoke of both roles is persisted with a single delta
+    rolePrivileges = Maps.newHashMap();
+    rolePrivileges.put("r1", Sets.newHashSet(t1All, t2Insert));
+    rolePrivileges.put("r2", Sets.newHashSet(uri));
+    PermissionsUpdate delUpdate = new PermissionsUpdate(0, false);
+    delUpdate.addPrivilegeUpdate("db1.t1").putToDelPrivileges("r1", "ALL");
+    sentryStore.alterSentryRolesRevokePrivileges(grantor, rolePrivileges, delUpdate);
+    assertEquals(0, sentryStore.getAllTSentryPrivilegesByRoleName("r1").size());
+    assertEquals(Sets.newHashSet("t1:select"), getTableActions("r2"));
+    assertEquals(lastChangeID + 2, sentryStore.getLastProcessedPermChangeID().longValue());
+    assertEquals(delUpdate.JSONSerialize(),
+        sentryStore.getMSentryPermChangeByID(lastChangeID + 2).getPermChange());
+  }
+
+  private Set<String> getTableActions(String roleName) throws Exception {
+    Set<String> tableActions = Sets.newHashSet();
+    for (TSentryPrivilege privilege : sentryStore.getAllTSentryPrivilegesByRoleName(roleName)) {
+      tableActions.add(privilege.getTableName() + ":" + privilege.getAction());
+    }
+    return tableActions;
+  }
+
   @Test
   public void testAddDeleteGroupsWithPermUpdate() throws Exception {
     String roleName = "test-groups";
@@ -3069,6 +3408,90 @@ public class TestSentryStore extends org.junit.Assert {
     assertEquals(dropUpdate.JSONSerialize(), dropPermChange.getPermChange());
   }
 
+  @Test
+  public void testGetPrivilegesDelta() throws Exception {
+    String roleName1 = "delta-r1", roleName2 = "delta-r2";
+    String grantor = "g1";
+    sentryStore.createSentryRole(roleName1);
+    sentryStore.createSentryRole(roleName2);
+    sentryStore.alterSentryRoleAddGroups(grantor, roleName1,
+        Sets.newHashSet(new TSentryGroup("group1")));
+
+    // An unknown change ID returns the full image
+    TSentryPrivilegesDelta delta = sentryStore.getPrivilegesDelta(-1);
+    assertTrue(delta.isFullImage());
+    assertEquals(Sets.newHashSet(roleName1, roleName2),
+        delta.getMappingData().getRolePrivilegesMap().keySet());
+    assertEquals(Sets.newHashSet(roleName1),
+        delta.getMappingData().getGroupRolesMap().get("group1"));
+    long changeID = delta.getChangeId();
+
+    TSentryPrivilege privilege = new TSentryPrivilege();
+    privilege.setPrivilegeScope("TABLE");
+    privilege.setServerName("server1");
+    privilege.setDbName("db1");
+    privilege.setTableName("tbl1");
+    privilege.setAction(AccessConstants.SELECT);
+    privilege.setCreateTime(System.currentTimeMillis());
+    PermissionsUpdate addUpdate = new PermissionsUpdate(0, false);
+    addUpdate.addPrivilegeUpdate("db1.tbl1").putToAddPrivileges(
+        roleName1, privilege.getAction().toUpperCase());
+    Map<TSentryPrivilege, Updateable.Update> addPrivilegesUpdateMap = Maps.newHashMap();
+    addPrivilegesUpdateMap.put(privilege, addUpdate);
+    sentryStore.alterSentryRoleGrantPrivileges(grantor, roleName1, Sets.newHashSet(privilege),
+        addPrivilegesUpdateMap);
+
+    // Only the changed role is returned
+    delta = sentryStore.getPrivilegesDelta(changeID);
+    assertFalse(delta.isFullImage());
+    assertTrue(delta.getChangeId() > changeID);
+    assertEquals(Sets.newHashSet(roleName1), delta.getChangedRoles());
+    assertEquals(Sets.newHashSet(roleName1),
+        delta.getMappingData().getRolePrivilegesMap().keySet());
+    assertEquals(1, delta.getMappingData().getRolePrivilegesMap().get(roleName1).size());
+    assertEquals(Sets.newHashSet(roleName1),
+        delta.getMappingData().getGroupRolesMap().get("group1"));
+    changeID = delta.getChangeId();
+
+    // Nothing changed
+    delta = sentryStore.getPrivilegesDelta(changeID);
+    assertFalse(delta.isFullImage());
+    assertEquals(changeID, delta.getChangeId());
+    assertTrue(delta.getChangedRoles().isEmpty());
+
+    // Dropping the privileges of an object changes the roles which had them
+    PermissionsUpdate dropUpdate = new PermissionsUpdate(0, false);
+    dropUpdate.addPrivilegeUpdate("db1.tbl1").putToDelPrivileges(PermissionsUpdate.ALL_ROLES,
+        PermissionsUpdate.ALL_ROLES);
+    sentryStore.dropPrivilege(toTSentryAuthorizable(privilege), dropUpdate);
+    delta = sentryStore.getPrivilegesDelta(changeID);
+    assertFalse(delta.isFullImage());
+    assertTrue(delta.getChangeId() > changeID);
+    assertEquals(Sets.newHashSet(roleName1), delta.getChangedRoles());
+    assertEquals(0, delta.getMappingData().getRolePrivilegesMap().get(roleName1).size());
+    changeID = delta.getChangeId();
+
+    // The changes without a perm delta, e.g. column privileges and users, are returned too
+    TSentryPrivilege columnPrivilege = new TSentryPrivilege(privilege);
+    columnPrivilege.setPrivilegeScope("COLUMN");
+    columnPrivilege.setColumnName("c1");
+    sentryStore.alterSentryRoleGrantPrivileges(grantor, roleName2,
+        Sets.newHashSet(columnPrivilege));
+    sentryStore.alterSentryRoleAddUsers(roleName1, Sets.newHashSet("user1"));
+    delta = sentryStore.getPrivilegesDelta(changeID);
+    assertFalse(delta.isFullImage());
+    assertEquals(Sets.newHashSet(roleName1, roleName2), delta.getChangedRoles());
+    assertEquals(1, delta.getMappingData().getRolePrivilegesMap().get(roleName2).size());
+    assertEquals(Sets.newHashSet(roleName1),
+        delta.getMappingData().getUserRolesMap().get("user1"));
+    changeID = delta.getChangeId();
+
+    sentryStore.alterSentryRoleDeleteUsers(roleName1, Sets.newHashSet("user1"));
+    delta = sentryStore.getPrivilegesDelta(changeID);
+    assertEquals(Sets.newHashSet(roleName1), delta.getChangedRoles());
+    assertNull(delta.getMappingData().getUserRolesMap().get("user1"));
+  }
+
   @Test
   public void testRenameObjWithPermUpdate() throws Exception {
     String roleName1 = "role1";
@@ -3254,6 +3677,122 @@ public class TestSentryStore extends org.junit.Assert {
     }
   }
 
+  /**
+   * Grants to different roles run concurrently, each grant must be persisted with its
+   * own consecutive change ID.
+   *
+   * @throws Exception
+   */
+  @Test(timeout = 60000)
+  public void testConcurrentGrantsToDifferentRoles() throws Exception {
+    final int numThreads = 8;
+    final int numGrantsPerThread = 10;
+    final String grantor = "g1";
+    final CyclicBarrier barrier = new CyclicBarrier(numThreads);
+    for (int i = 0; i < numThreads; i++) {
+      sentryStore.createSentryRole("role" + i);
+    }
+
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    List<Future<?>> results = new ArrayList<>();
+    for (int i = 0; i < numThreads; i++) {
+      final String roleName = "role" + i;
+      results.add(executor.submit(new Callable<Object>() {
+        @Override
+        public Object call() throws Exception {
+          barrier.await();
+          for (int j = 0; j < numGrantsPerThread; j++) {
+            TSentryPrivilege privilege = new TSentryPrivilege("TABLE", "server1",
+                AccessConstants.SELECT);
+            privilege.setDbName("db1");
+            privilege.setTableName("table" + j);
+            sentryStore.alterSentryRoleGrantPrivilege(grantor, roleName, privilege,
+                new PermissionsUpdate(0, false));
+          }
+          return null;
+        }
+      }));
+    }
+    executor.shutdown();
+    for (Future<?> result : results) {
+      result.get();
+    }
+
+    for (int i = 0; i < numThreads; i++) {
+      assertEquals(numGrantsPerThread,
+          sentryStore.getAllTSentryPrivilegesByRoleName("role" + i).size());
+    }
+    TreeSet<Long> changeIDs = new TreeSet<>();
+    for (MSentryPermChange change : sentryStore.getMSentryPermChanges()) {
+      changeIDs.add(change.getChangeID());
+    }
+    assertEquals(numThreads * numGrantsPerThread, changeIDs.size());
+    assertEquals(numThreads * numGrantsPerThread, changeIDs.last() - changeIDs.first() + 1);
+
+    // Each role creation and grant also records the change of the role
+    List<MSentryGMChange> gmChanges = sentryStore.getMSentryGMChanges();
+    TreeSet<Long> gmChangeIDs = new TreeSet<>();
+    for (MSentryGMChange change : gmChanges) {
+      gmChangeIDs.add(change.getChangeID());
+    }
+    assertEquals(numThreads * (numGrantsPerThread + 1), gmChanges.size());
+    assertEquals(gmChanges.size(), gmChangeIDs.size());
+    assertEquals(gmChanges.size(), gmChangeIDs.last() - gmChangeIDs.first() + 1);
+  }
+
+  /**
+   * Concurrent imports record the changes of their roles with distinct and consecutive
+   * change IDs.
+   *
+   * @throws Exception
+   */
+  @Test(timeout = 120000)
+  public void testConcurrentImportsRecordConsecutiveChanges() throws Exception {
+    final int numThreads = 8;
+    final int numImportsPerThread = 5;
+    final CyclicBarrier barrier = new CyclicBarrier(numThreads);
+
+    ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+    List<Future<?>> results = new ArrayList<>();
+    for (int i = 0; i < numThreads; i++) {
+      final int threadId = i;
+      results.add(executor.submit(new Callable<Object>() {
+        @Override
+        public Object call() throws Exception {
+          barrier.await();
+          for (int j = 0; j < numImportsPerThread; j++) {
+            String roleName = "role" + threadId + "_" + j;
+            TSentryPrivilege privilege = new TSentryPrivilege("TABLE", "server1", "select");
+            privilege.setDbName("db" + threadId);
+            privilege.setTableName("tbl" + j);
+            Map<String, Set<String>> groupRolesMap = Maps.newHashMap();
+            groupRolesMap.put("group" + threadId, Sets.newHashSet(roleName));
+            Map<String, Set<TSentryPrivilege>> rolePrivilegesMap = Maps.newHashMap();
+            rolePrivilegesMap.put(roleName, Sets.newHashSet(privilege));
+            TSentryMappingData mappingData = new TSentryMappingData();
+            mappingData.setGroupRolesMap(groupRolesMap);
+            mappingData.setRolePrivilegesMap(rolePrivilegesMap);
+            sentryStore.importSentryMetaData(mappingData, false);
+          }
+          return null;
+        }
+      }));
+    }
+    executor.shutdown();
+    for (Future<?> result : results) {
+      result.get();
+    }
+
+    List<MSentryGMChange> changes = sentryStore.getMSentryGMChanges();
+    TreeSet<Long> changeIDs = new TreeSet<>();
+    for (MSentryGMChange change : changes) {
+      changeIDs.add(change.getChangeID());
+    }
+    assertEquals(numThreads * numImportsPerThread, changes.size());
+    assertEquals(changes.size(), changeIDs.size());
+    assertEquals(changes.size(), changeIDs.last() - changeIDs.first() + 1);
+  }
+
   @Test
   public void testDuplicateNotification() throws Exception {
     Map<String, Set<String>> authzPaths = new HashMap<>();
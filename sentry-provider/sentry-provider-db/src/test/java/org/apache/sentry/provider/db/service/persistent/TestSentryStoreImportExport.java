@@ -29,6 +29,7 @@ import java.util.Set;
 import org.apache.commons.io.FileUtils;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.sentry.core.model.db.AccessConstants;
+import org.apache.sentry.provider.db.service.model.MSentryGMChange;
 import org.apache.sentry.provider.db.service.model.MSentryGroup;
 import org.apache.sentry.provider.db.service.model.MSentryPrivilege;
 import org.apache.sentry.provider.db.service.model.MSentryRole;
@@ -974,6 +975,33 @@ public class TestSentryStoreImportExport {
     verifyRolePrivilegesMap(actualRolePrivilegesMap, exceptedRolePrivilegesMap);
   }
 
+  // The role change log of an import holds the stored role names, i.e. trimmed and in
+  // lower case:
+  // group1=Role1
+  // user1=ROLE2
+  // Role3 =privilege1
+  @Test
+  public void testImportLogsLowerCaseRoleChanges() throws Exception {
+    TSentryMappingData tSentryMappingData = new TSentryMappingData();
+    Map<String, Set<String>> groupRolesMap = Maps.newHashMap();
+    Map<String, Set<String>> userRolesMap = Maps.newHashMap();
+    Map<String, Set<TSentryPrivilege>> rolePrivilegesMap = Maps.newHashMap();
+    groupRolesMap.put("group1", Sets.newHashSet("Role1"));
+    userRolesMap.put("user1", Sets.newHashSet("ROLE2"));
+    rolePrivilegesMap.put("Role3 ", Sets.newHashSet(tSentryPrivilege1));
+    tSentryMappingData.setGroupRolesMap(groupRolesMap);
+    tSentryMappingData.setUserRolesMap(userRolesMap);
+    tSentryMappingData.setRolePrivilegesMap(rolePrivilegesMap);
+    sentryStore.importSentryMetaData(tSentryMappingData, false);
+
+    verifyRoles(sentryStore.getRolesMap(), Sets.newHashSet("role1", "role2", "role3"));
+    Set<String> changedRoleNames = Sets.newHashSet();
+    for (MSentryGMChange change : sentryStore.getMSentryGMChanges()) {
+      changedRoleNames.add(change.getRoleName());
+    }
+    assertEquals(Sets.newHashSet("role1", "role2", "role3"), changedRoleNames);
+  }
+
   private void verifyRoles(Map<String, MSentryRole> actualRoleMap, Set<String> expectedRoleNameSet) {
     assertEquals(expectedRoleNameSet.size(), actualRoleMap.keySet().size());
     for (String roleName : actualRoleMap.keySet()) {
@@ -0,0 +1,232 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.sentry.provider.db.service.persistent;
+
+import java.io.File;
+import java.util.Set;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.security.alias.CredentialProvider;
+import org.apache.hadoop.security.alias.CredentialProviderFactory;
+import org.apache.hadoop.security.alias.UserProvider;
+import org.apache.sentry.core.common.exception.SentryNoSuchObjectException;
+import org.apache.sentry.provider.db.service.thrift.TSentryActiveRoleSet;
+import org.apache.sentry.provider.db.service.thrift.TSentryAuthorizable;
+import org.apache.sentry.provider.db.service.thrift.TSentryGroup;
+import org.apache.sentry.provider.db.service.thrift.TSentryPrivilege;
+import org.apache.sentry.provider.file.PolicyFile;
+import org.apache.sentry.service.thrift.ServiceConstants.ServerConfig;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import com.google.common.collect.Sets;
+import com.google.common.io.Files;
+
+/**
+ * Checks that the reads served from the policy image give the same results as the
+ * reads from the database, while the store is changed through another store.
+ */
+public class TestSentryStorePolicyImage extends org.junit.Assert {
+
+  private static final String GRANTOR = "g1";
+  private static final TSentryActiveRoleSet ALL_ROLES = new TSentryActiveRoleSet(true, null);
+
+  private static File dataDir;
+  private static Configuration conf;
+  private static char[] passwd = new char[] { '1', '2', '3'};
+
+  // Changes the store and reads from the database
+  private SentryStore sentryStore;
+  // Reads from the policy image
+  private SentryStore imageStore;
+
+  @BeforeClass
+  public static void setup() throws Exception {
+    conf = new Configuration(false);
+    final String ourUrl = UserProvider.SCHEME_NAME + ":///";
+    conf.set(CredentialProviderFactory.CREDENTIAL_PROVIDER_PATH, ourUrl);
+    CredentialProvider provider = CredentialProviderFactory.getProviders(conf).get(0);
+    if (provider.getCredentialEntry(ServerConfig.SENTRY_STORE_JDBC_PASS) == null) {
+      provider.createCredentialEntry(ServerConfig.SENTRY_STORE_JDBC_PASS, passwd);
+      provider.flush();
+    }
+
+    dataDir = new File(Files.createTempDir(), "sentry_policy_db");
+    conf.set(ServerConfig.SENTRY_VERIFY_SCHEM_VERSION, "false");
+    conf.set(ServerConfig.SENTRY_STORE_JDBC_URL,
+        "jdbc:derby:;databaseName=" + dataDir.getPath() + ";create=true");
+    conf.set(ServerConfig.SENTRY_STORE_JDBC_PASS, "dummy");
+    conf.setStrings(ServerConfig.ADMIN_GROUPS, "adminGroup1");
+    conf.set(ServerConfig.SENTRY_STORE_GROUP_MAPPING,
+        ServerConfig.SENTRY_STORE_LOCAL_GROUP_MAPPING);
+    File policyFilePath = new File(dataDir.getParentFile(), "local_policy_file.ini");
+    conf.set(ServerConfig.SENTRY_STORE_GROUP_MAPPING_RESOURCE, policyFilePath.getPath());
+    PolicyFile policyFile = new PolicyFile();
+    policyFile.addGroupsToUser(GRANTOR, "adminGroup1");
+    policyFile.write(policyFilePath);
+  }
+
+  @Before
+  public void before() throws Exception {
+    sentryStore = new SentryStore(conf);
+    imageStore = new SentryStore(conf);
+  }
+
+  @After
+  public void after() {
+    sentryStore.clearAllTables();
+    imageStore.stop();
+    sentryStore.stop();
+  }
+
+  @AfterClass
+  public static void teardown() {
+    if (dataDir != null) {
+      FileUtils.deleteQuietly(dataDir.getParentFile());
+    }
+  }
+
+  @Test
+  public void testLoadPolicyImage() throws Exception {
+    createRole("r1", "g1");
+    sentryStore.alterSentryRoleGrantPrivilege(GRANTOR, "r1", table("db1", "t1", "select"));
+    sentryStore.alterSentryRoleGrantPrivilege(GRANTOR, "r1", uri("file:///tmp/a"));
+    sentryStore.alterSentryRoleAddUsers("r1", Sets.newHashSet("u1"));
+
+    assertFalse(imageStore.isPolicyImageLoaded());
+    imageStore.loadPolicyImage();
+    assertTrue(imageStore.isPolicyImageLoaded());
+    assertEquals(1, imageStore.getPolicyImageVersion());
+    assertSameResults();
+
+    // The image is not changed by the reads
+    assertEquals(1, imageStore.getPolicyImageVersion());
+  }
+
+  @Test
+  public void testChangesUpdatePolicyImage() throws Exception {
+    imageStore.loadPolicyImage();
+    long version = imageStore.getPolicyImageVersion();
+
+    createRole("r1", "g1");
+    createRole("r2", "g1", "g2");
+    sentryStore.alterSentryRoleGrantPrivilege(GRANTOR, "r1", table("db1", "t1", "select"));
+    sentryStore.alterSentryRoleGrantPrivilege(GRANTOR, "r2", table("db1", "t1", "select"));
+    sentryStore.alterSentryRoleGrantPrivilege(GRANTOR, "r2", table("db1", "t2", "all"));
+    sentryStore.alterSentryRoleAddUsers("r2", Sets.newHashSet("u1"));
+    assertTrue(imageStore.getPolicyImageVersion() > version);
+    assertSameResults();
+
+    sentryStore.alterSentryRoleRevokePrivilege(GRANTOR, "r2", table("db1", "t2", "insert"));
+    sentryStore.alterSentryRoleDeleteGroups("r2", Sets.newHashSet(new TSentryGroup("g1")));
+    sentryStore.alterSentryRoleDeleteUsers("r2", Sets.newHashSet("u1"));
+    assertSameResults();
+
+    TSentryAuthorizable oldTable = new TSentryAuthorizable("server1");
+    oldTable.setDb("db1");
+    oldTable.setTable("t1");
+    TSentryAuthorizable newTable = new TSentryAuthorizable("server1");
+    newTable.setDb("db1");
+    newTable.setTable("t3");
+    sentryStore.renamePrivilege(oldTable, newTable);
+    assertSameResults();
+    assertEquals(Sets.newHashSet("server=server1->db=db1->table=t3->action=select"),
+        imageStore.listSentryPrivilegesForProvider(Sets.newHashSet("g1"), null, ALL_ROLES,
+            newTable));
+
+    sentryStore.dropPrivilege(newTable);
+    sentryStore.dropSentryRole("r1");
+    assertSameResults();
+    assertTrue(imageStore.getRoleNamesForGroups(Sets.newHashSet("g1")).isEmpty());
+
+    // g1 exists without roles, g3 does not exist
+    assertTrue(imageStore.getTSentryRolesByGroupName(Sets.newHashSet("g1"), false).isEmpty());
+    try {
+      imageStore.getTSentryRolesByGroupName(Sets.newHashSet("g3"), false);
+      fail("Group g3 should not exist");
+    } catch (SentryNoSuchObjectException e) {
+      // Ok
+    }
+  }
+
+  private void createRole(String roleName, String... groupNames) throws Exception {
+    sentryStore.createSentryRole(roleName);
+    Set<TSentryGroup> groups = Sets.newHashSet();
+    for (String groupName : groupNames) {
+      groups.add(new TSentryGroup(groupName));
+    }
+    sentryStore.alterSentryRoleAddGroups(GRANTOR, roleName, groups);
+  }
+
+  private void assertSameResults() throws Exception {
+    Set<String> groups = Sets.newHashSet("g1", "g2");
+    Set<String> users = Sets.newHashSet("u1");
+    TSentryAuthorizable server = new TSentryAuthorizable("server1");
+    TSentryAuthorizable db = new TSentryAuthorizable("server1");
+    db.setDb("db1");
+    TSentryAuthorizable table = new TSentryAuthorizable("server1");
+    table.setDb("db1");
+    table.setTable("t2");
+    TSentryAuthorizable path = new TSentryAuthorizable("server1");
+    path.setUri("file:///tmp/a/b");
+
+    for (TSentryAuthorizable authorizable : Sets.newHashSet(server, db, table, path)) {
+      assertEquals(sentryStore.listSentryPrivilegesForProvider(groups, users, ALL_ROLES,
+          authorizable), imageStore.listSentryPrivilegesForProvider(groups, users, ALL_ROLES,
+          authorizable));
+      assertEquals(sentryStore.listSentryPrivilegesByAuthorizable(groups, ALL_ROLES,
+          authorizable, false), imageStore.listSentryPrivilegesByAuthorizable(groups,
+          ALL_ROLES, authorizable, false));
+      assertEquals(sentryStore.listSentryPrivilegesByAuthorizable(null, ALL_ROLES,
+          authorizable, true), imageStore.listSentryPrivilegesByAuthorizable(null,
+          ALL_ROLES, authorizable, true));
+    }
+    assertEquals(sentryStore.listAllSentryPrivilegesForProvider(groups, users,
+        new TSentryActiveRoleSet(false, Sets.newHashSet("R2"))),
+        imageStore.listAllSentryPrivilegesForProvider(groups, users,
+        new TSentryActiveRoleSet(false, Sets.newHashSet("R2"))));
+    assertEquals(sentryStore.getRoleNamesForGroups(groups),
+        imageStore.getRoleNamesForGroups(groups));
+    assertEquals(sentryStore.getRoleNamesForUsers(users),
+        imageStore.getRoleNamesForUsers(users));
+    assertEquals(sentryStore.getTSentryRolesByGroupName(groups, true),
+        imageStore.getTSentryRolesByGroupName(groups, true));
+    assertEquals(sentryStore.getTSentryRolesByGroupName(Sets.newHashSet((String) null), true),
+        imageStore.getTSentryRolesByGroupName(Sets.newHashSet((String) null), true));
+    assertEquals(sentryStore.hasAnyServerPrivileges(groups, users, ALL_ROLES, "server1"),
+        imageStore.hasAnyServerPrivileges(groups, users, ALL_ROLES, "server1"));
+  }
+
+  private static TSentryPrivilege table(String db, String table, String action) {
+    TSentryPrivilege privilege = new TSentryPrivilege("TABLE", "server1", action);
+    privilege.setDbName(db);
+    privilege.setTableName(table);
+    return privilege;
+  }
+
+  private static TSentryPrivilege uri(String uri) {
+    TSentryPrivilege privilege = new TSentryPrivilege("URI", "server1", "all");
+    privilege.setURI(uri);
+    return privilege;
+  }
+}
@@ -21,15 +21,21 @@ import static org.junit.Assert.assertEquals;
 
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import org.apache.hadoop.conf.Configuration;
 import org.apache.sentry.core.common.ActiveRoleSet;
 import org.apache.sentry.core.common.Authorizable;
 import org.apache.sentry.core.model.db.AccessConstants;
 import org.apache.sentry.core.model.db.Database;
 import org.apache.sentry.core.model.db.Server;
 import org.apache.sentry.core.model.db.Table;
+import org.apache.sentry.provider.common.ProviderBackendContext;
+import org.apache.sentry.provider.db.SimpleDBProviderBackend;
 import org.apache.sentry.service.thrift.SentryServiceIntegrationBase;
+import org.apache.sentry.service.thrift.ServiceConstants;
 import org.junit.BeforeClass;
 import org.junit.Test;
 
@@ -123,6 +129,40 @@ public class TestSentryServerWithoutKerberos extends SentryServiceIntegrationBas
 
     listPrivilegesForProvider = client.listPrivilegesForProvider(Sets.newHashSet(group1, group2), null, new ActiveRoleSet(Sets.newHashSet(roleName1)), new Server("server1"));
     assertEquals("Privilege not correctly assigned to roles !!", new HashSet<String>(), listPrivilegesForProvider);
+
+    Set<List<? extends Authorizable>> authorizables = Sets.newHashSet();
+    authorizables.add(Lists.newArrayList(new Server("server"), new Database("db2")));
+    authorizables.add(Lists.newArrayList(new Server("server"), new Database("db3")));
+    authorizables.add(Lists.newArrayList(new Server("server"), new Database("db4")));
+    Map<TSentryAuthorizable, Set<String>> privilegesByAuth = client.listPrivilegesForProviderBatch(
+        Sets.newHashSet(group1, group2), null, ActiveRoleSet.ALL, authorizables);
+    assertEquals(3, privilegesByAuth.size());
+    for (List<? extends Authorizable> authorizable : authorizables) {
+      Set<String> expected = client.listPrivilegesForProvider(Sets.newHashSet(group1, group2), null,
+          ActiveRoleSet.ALL, authorizable.toArray(new Authorizable[0]));
+      assertEquals(expected, privilegesByAuth.get(
+          SentryPolicyServiceClientDefaultImpl.setupSentryAuthorizable(authorizable)));
+    }
+    TSentryAuthorizable db4 = new TSentryAuthorizable("server");
+    db4.setDb("db4");
+    assertEquals(Sets.newHashSet("server=+"), privilegesByAuth.get(db4));
+
+    // The privilege cache of the provider backend returns the same privileges as the server
+    Configuration cacheConf = new Configuration(conf);
+    cacheConf.setBoolean(ServiceConstants.ClientConfig.DB_CACHE_ENABLED, true);
+    SimpleDBProviderBackend backend = new SimpleDBProviderBackend(cacheConf);
+    try {
+      backend.initialize(new ProviderBackendContext());
+      for (List<? extends Authorizable> authorizable : authorizables) {
+        Authorizable[] authorizableHierarchy = authorizable.toArray(new Authorizable[0]);
+        assertEquals(client.listPrivilegesForProvider(Sets.newHashSet(group1, group2), null,
+            ActiveRoleSet.ALL, authorizableHierarchy),
+            backend.getPrivileges(Sets.newHashSet(group1, group2), ActiveRoleSet.ALL,
+                authorizableHierarchy));
+      }
+    } finally {
+      backend.close();
+    }
   }
 
 
@@ -37,6 +37,7 @@ import org.apache.sentry.core.model.db.Database;
 import org.apache.sentry.core.model.db.Server;
 import org.apache.sentry.core.model.db.Table;
 import org.apache.sentry.core.common.exception.SentryAccessDeniedException;
+import org.apache.sentry.core.common.exception.SentryNoSuchObjectException;
 import org.apache.sentry.service.thrift.SentryServiceIntegrationBase;
 import org.junit.Test;
 
@@ -503,6 +504,46 @@ public class TestSentryServiceIntegration extends SentryServiceIntegrationBase {
       }});
   }
 
+  @Test
+  public void testGrantPrivilegesToRoles() throws Exception {
+    runTestAsSubject(new TestOperation(){
+      @Override
+      public void runTestAsSubject() throws Exception {
+        String requestorUserName = ADMIN_USER;
+        Set<String> requestorUserGroupNames = Sets.newHashSet(ADMIN_GROUP);
+        setLocalGroupMapping(requestorUserName, requestorUserGroupNames);
+        writePolicyFile();
+
+        client.dropRoleIfExists(requestorUserName, "admin_r1");
+        client.dropRoleIfExists(requestorUserName, "admin_r2");
+        client.createRole(requestorUserName, "admin_r1");
+        client.createRole(requestorUserName, "admin_r2");
+
+        TSentryPrivilege select = new TSentryPrivilege("TABLE", "server", "SELECT");
+        select.setDbName("db1");
+        select.setTableName("table1");
+        TSentryPrivilege insert = new TSentryPrivilege(select);
+        insert.setAction("INSERT");
+        Map<String, Set<TSentryPrivilege>> rolePrivileges = Maps.newHashMap();
+        rolePrivileges.put("admin_r1", Sets.newHashSet(select, insert));
+        rolePrivileges.put("admin_r2", Sets.newHashSet(select));
+        client.grantPrivileges(requestorUserName, rolePrivileges);
+        assertEquals(2, client.listAllPrivilegesByRoleName(requestorUserName, "admin_r1").size());
+        assertEquals(1, client.listAllPrivilegesByRoleName(requestorUserName, "admin_r2").size());
+
+        // The batch is rejected as a whole if a role does not exist
+        rolePrivileges.put("admin_r3", Sets.newHashSet(insert));
+        rolePrivileges.put("admin_r2", Sets.newHashSet(insert));
+        try {
+          client.grantPrivileges(requestorUserName, rolePrivileges);
+          fail("Role admin_r3 should not exist");
+        } catch (SentryNoSuchObjectException e) {
+          // Ok
+        }
+        assertEquals(1, client.listAllPrivilegesByRoleName(requestorUserName, "admin_r2").size());
+      }});
+  }
+
   @Test
   public void testGrantRevokeWithGrantOption() throws Exception {
     runTestAsSubject(new TestOperation(){
@@ -30,14 +30,19 @@ import org.apache.thrift.TException;
 import org.junit.Assert;
 import org.junit.Test;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class TestFullUpdateInitializer {
 
@@ -169,6 +174,7 @@ public class TestFullUpdateInitializer {
   private static class MockHMSClientFactory implements HiveConnectionFactory {
 
     private final HiveMetaStoreClient mClient;
+    private final AtomicInteger connections = new AtomicInteger();
 
     private MockHMSClientFactory(MockClient mClient) {
       this.mClient = mClient.client;
@@ -180,6 +186,7 @@ public class TestFullUpdateInitializer {
 
     @Override
     public HMSClient connect() throws IOException, InterruptedException, MetaException {
+      connections.incrementAndGet();
       return new HMSClient(mClient);
     }
 
@@ -343,4 +350,120 @@ public class TestFullUpdateInitializer {
     }
   }
 
+
+  @Test
+  // Test that the snapshot is given in bounded chunks
+  public void testChunks() throws Exception {
+    int ndbs = 3;
+    int ntables = 11;
+    int nparts = 13;
+    final int maxPathsPerChunk = 50;
+
+    HiveSnapshot snap = new HiveSnapshot();
+    for (int i = 0; i < ndbs; i++) {
+      HiveDb db = new HiveDb("db" + i);
+      for (int j = 0; j < ntables; j++) {
+        HiveTable table = new HiveTable("table" + i + j);
+        for (int k = 0; k < nparts; k++) {
+          table.add("part" + i + j + k);
+        }
+        db.add(table);
+      }
+      snap.add(db);
+    }
+    MockClient c = new MockClient(snap);
+
+    Map<String, Set<String>> fullUpdate;
+    MockHMSClientFactory clientFactory = new MockHMSClientFactory(c);
+    try(FullUpdateInitializer cacheInitializer =
+                new FullUpdateInitializer(clientFactory, conf)) {
+      fullUpdate = cacheInitializer.getFullHMSSnapshot();
+    }
+    // Each thread reuses its connection, the databases are listed with another one
+    Assert.assertTrue(clientFactory.connections.get() <= 8 + 1);
+
+    final List<Integer> chunkSizes = new ArrayList<>();
+    final Map<String, Set<String>> update = new HashMap<>();
+    long chunks;
+    try(FullUpdateInitializer cacheInitializer =
+                new FullUpdateInitializer(new MockHMSClientFactory(c), conf)) {
+      chunks = cacheInitializer.getFullHMSSnapshot(maxPathsPerChunk,
+          new FullUpdateInitializer.SnapshotChunkHandler() {
+            @Override
+            public void handle(Map<String, Set<String>> chunk) {
+              int paths = 0;
+              for (Map.Entry<String, Set<String>> entry : chunk.entrySet()) {
+                paths += entry.getValue().size();
+                if (!update.containsKey(entry.getKey())) {
+                  update.put(entry.getKey(), new HashSet<String>());
+                }
+                update.get(entry.getKey()).addAll(entry.getValue());
+              }
+              chunkSizes.add(paths);
+            }
+          });
+    }
+
+    // Each task returns a single path with one partition or table per RPC
+    int totalPaths = ndbs + ndbs * ntables * (nparts + 1);
+    Assert.assertEquals((totalPaths + maxPathsPerChunk - 1) / maxPathsPerChunk, chunks);
+    Assert.assertEquals(chunks, chunkSizes.size());
+    for (int i = 0; i < chunkSizes.size() - 1; i++) {
+      Assert.assertEquals(maxPathsPerChunk, chunkSizes.get(i).intValue());
+    }
+    Assert.assertEquals(fullUpdate, update);
+  }
+
+  @Test
+  // Test that the tasks are split when there are not enough of them for every thread
+  public void testSplitTasks() throws Exception {
+    final int nparts = 100;
+    Configuration splitConf = new Configuration(conf);
+    splitConf.setInt(org.apache.sentry.hdfs.ServiceConstants.ServerConfig
+            .SENTRY_HDFS_SYNC_METASTORE_CACHE_MAX_PART_PER_RPC, nparts);
+    splitConf.setInt(org.apache.sentry.hdfs.ServiceConstants.ServerConfig
+            .SENTRY_HDFS_SYNC_METASTORE_CACHE_INIT_THREADS, 4);
+
+    HiveMetaStoreClient client = Mockito.mock(HiveMetaStoreClient.class);
+    Database db1 = makeDb("db1");
+    Table tab1 = makeTable("db1", "tab1");
+    List<String> partNames = new ArrayList<>(nparts);
+    for (int i = 0; i < nparts; i++) {
+      partNames.add("part" + i);
+    }
+    Mockito.when(client.getAllDatabases()).thenReturn(Lists.newArrayList("db1"));
+    Mockito.when(client.getDatabase("db1")).thenReturn(db1);
+    Mockito.when(client.getAllTables("db1")).thenReturn(Lists.newArrayList("tab1"));
+    Mockito.when(client.getTableObjectsByName("db1", Lists.newArrayList("tab1")))
+            .thenReturn(Lists.newArrayList(tab1));
+    Mockito.when(client.listPartitionNames("db1", "tab1", (short) -1)).thenReturn(partNames);
+    final List<Integer> partsPerCall = Collections.synchronizedList(new ArrayList<Integer>());
+    Mockito.when(client.getPartitionsByNames(Mockito.eq("db1"), Mockito.eq("tab1"),
+            Mockito.anyListOf(String.class))).thenAnswer(new Answer<List<Partition>>() {
+              @Override
+              public List<Partition> answer(InvocationOnMock invocation) {
+                List<String> names = (List<String>) invocation.getArguments()[2];
+                partsPerCall.add(names.size());
+                List<Partition> partitions = new ArrayList<>(names.size());
+                for (String name : names) {
+                  partitions.add(makePartition("db1", "tab1", name));
+                }
+                return partitions;
+              }
+            });
+
+    Map<String, Set<String>> update;
+    try(FullUpdateInitializer cacheInitializer =
+                new FullUpdateInitializer(new MockHMSClientFactory(client), splitConf)) {
+      update = cacheInitializer.getFullHMSSnapshot();
+    }
+
+    // The partitions of the table are fetched by every thread
+    Assert.assertEquals(Lists.newArrayList(25, 25, 25, 25), partsPerCall);
+    Set<String> values = Sets.newHashSet("db1/tab1");
+    for (String partName : partNames) {
+      values.add("db1/tab1/" + partName);
+    }
+    Assert.assertEquals(values, update.get("db1.tab1"));
+  }
 }
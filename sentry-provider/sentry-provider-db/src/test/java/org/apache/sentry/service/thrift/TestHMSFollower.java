@@ -21,6 +21,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import java.io.IOException;
 import java.util.ArrayList;
@@ -50,7 +51,11 @@ import org.apache.sentry.provider.db.service.thrift.TSentryAuthorizable;
 import org.junit.BeforeClass;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mockito;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 
 import javax.security.auth.login.LoginException;
 
@@ -119,6 +124,53 @@ public class TestHMSFollower {
     verify(sentryStore, times(0)).persistLastProcessedNotificationID(Mockito.anyLong());
   }
 
+  @Test
+  public void testStreamFullSnapshot() throws Exception {
+    final long HMS_PROCESSED_EVENT_ID = 1L;
+    final long SNAPSHOT_ID = 2L;
+    Configuration conf = new Configuration(configuration);
+    conf.setLong(ServiceConstants.ServerConfig.SENTRY_HMSFOLLOWER_SNAPSHOT_BATCH_PATHS, 1);
+
+    // Mock that streams a full snapshot in two chunks
+    final Map<String, Set<String>> chunk1 = new HashMap<>();
+    chunk1.put("db", Sets.newHashSet("/db"));
+    final Map<String, Set<String>> chunk2 = new HashMap<>();
+    chunk2.put("db.table", Sets.newHashSet("/db/table"));
+    SentryHMSClient sentryHmsClient = Mockito.mock(SentryHMSClient.class);
+    when(sentryHmsClient.streamFullSnapshot(Mockito.eq(1L),
+        Mockito.any(FullUpdateInitializer.SnapshotChunkHandler.class))).thenAnswer(
+        new Answer<Long>() {
+          @Override
+          public Long answer(InvocationOnMock invocation) throws Throwable {
+            FullUpdateInitializer.SnapshotChunkHandler handler =
+                (FullUpdateInitializer.SnapshotChunkHandler) invocation.getArguments()[1];
+            handler.handle(chunk1);
+            handler.handle(chunk2);
+            return HMS_PROCESSED_EVENT_ID;
+          }
+        });
+    when(sentryHmsClient.getCurrentNotificationId()).thenReturn(HMS_PROCESSED_EVENT_ID);
+
+    HMSFollower hmsFollower = new HMSFollower(conf, sentryStore, null,
+        hiveConnectionFactory, hiveInstance);
+    hmsFollower.setSentryHmsClient(sentryHmsClient);
+
+    when(sentryStore.getLastProcessedNotificationID())
+        .thenReturn(SentryStore.EMPTY_NOTIFICATION_ID);
+    when(sentryStore.isAuthzPathsMappingEmpty()).thenReturn(true);
+    when(sentryStore.isHmsNotificationEmpty()).thenReturn(true);
+    when(sentryStore.beginFullPathsImage()).thenReturn(SNAPSHOT_ID);
+    hmsFollower.run();
+
+    InOrder inOrder = Mockito.inOrder(sentryStore);
+    inOrder.verify(sentryStore).beginFullPathsImage();
+    inOrder.verify(sentryStore).persistFullPathsImageChunk(SNAPSHOT_ID, chunk1);
+    inOrder.verify(sentryStore).persistFullPathsImageChunk(SNAPSHOT_ID, chunk2);
+    inOrder.verify(sentryStore).activateFullPathsImage(SNAPSHOT_ID, HMS_PROCESSED_EVENT_ID);
+    verify(sentryStore, times(0)).persistFullPathsImage(Mockito.anyMap(), Mockito.anyLong());
+    verify(sentryHmsClient, times(0)).getFullSnapshot();
+  }
+
   @Test
   public void testPersistAFullSnapshotWhenLastHmsNotificationIsLowerThanLastProcessed()
       throws Exception {
@@ -218,6 +270,79 @@ public class TestHMSFollower {
     verify(sentryStore, times(0)).persistLastProcessedNotificationID(Mockito.anyLong());
   }
 
+  @Test
+  public void testProcessNotificationPages() throws Exception {
+    final long SENTRY_PROCESSED_EVENT_ID = 1L;
+    final long HMS_PROCESSED_EVENT_ID = 6L;
+
+    // The notifications are returned by pages of 2
+    SentryHMSClient sentryHmsClient = Mockito.mock(SentryHMSClient.class);
+    when(sentryHmsClient.getNotificationsPageSize()).thenReturn(2);
+    when(sentryHmsClient.getCurrentNotificationId()).thenReturn(HMS_PROCESSED_EVENT_ID);
+    when(sentryHmsClient.getLastCurrentNotificationId()).thenReturn(HMS_PROCESSED_EVENT_ID);
+    when(sentryHmsClient.getNotifications(1L)).thenReturn(Lists.newArrayList(
+        new NotificationEvent(2L, 0, "", ""), new NotificationEvent(3L, 0, "", "")));
+    when(sentryHmsClient.getNotifications(3L)).thenReturn(Lists.newArrayList(
+        new NotificationEvent(4L, 0, "", ""), new NotificationEvent(5L, 0, "", "")));
+    when(sentryHmsClient.getNotifications(5L)).thenReturn(Lists.newArrayList(
+        new NotificationEvent(6L, 0, "", "")));
+
+    HMSFollower hmsFollower = new HMSFollower(configuration, sentryStore, null,
+        hiveConnectionFactory, hiveInstance);
+    hmsFollower.setSentryHmsClient(sentryHmsClient);
+    when(sentryStore.getLastProcessedNotificationID()).thenReturn(SENTRY_PROCESSED_EVENT_ID);
+    when(sentryStore.isHmsNotificationEmpty()).thenReturn(false);
+    hmsFollower.run();
+
+    // All the pages are fetched once and processed, the invalid events being persisted
+    // explicitly
+    verify(sentryHmsClient, times(1)).getNotifications(3L);
+    verify(sentryHmsClient, times(1)).getNotifications(5L);
+    verify(sentryHmsClient, times(0)).getNotifications(6L);
+    for (long eventId = 2; eventId <= HMS_PROCESSED_EVENT_ID; eventId++) {
+      verify(sentryStore, times(1)).persistLastProcessedNotificationID(eventId);
+    }
+    Assert.assertEquals(0, hmsFollower.getNotificationLag());
+    hmsFollower.close();
+  }
+
+  @Test
+  public void testPersistAFullSnapshotWhenANextPageIsOutOfSync() throws Exception {
+    final long SENTRY_PROCESSED_EVENT_ID = 1L;
+    final long HMS_PROCESSED_EVENT_ID = 8L;
+
+    // Mock that returns a full snapshot
+    Map<String, Set<String>> snapshotObjects = new HashMap<>();
+    snapshotObjects.put("db", Sets.newHashSet("/db"));
+    PathsImage fullSnapshot = new PathsImage(snapshotObjects, HMS_PROCESSED_EVENT_ID, 1);
+
+    // The HMS cleaned up the events 4 and 5 while the first page was processed
+    SentryHMSClient sentryHmsClient = Mockito.mock(SentryHMSClient.class);
+    when(sentryHmsClient.getFullSnapshot()).thenReturn(fullSnapshot);
+    when(sentryHmsClient.getNotificationsPageSize()).thenReturn(2);
+    when(sentryHmsClient.getCurrentNotificationId()).thenReturn(HMS_PROCESSED_EVENT_ID);
+    when(sentryHmsClient.getNotifications(1L)).thenReturn(Lists.newArrayList(
+        new NotificationEvent(2L, 0, "", ""), new NotificationEvent(3L, 0, "", "")));
+    when(sentryHmsClient.getNotifications(3L)).thenReturn(Lists.newArrayList(
+        new NotificationEvent(6L, 0, "", ""), new NotificationEvent(7L, 0, "", "")));
+
+    HMSFollower hmsFollower = new HMSFollower(configuration, sentryStore, null,
+        hiveConnectionFactory, hiveInstance);
+    hmsFollower.setSentryHmsClient(sentryHmsClient);
+    when(sentryStore.getLastProcessedNotificationID()).thenReturn(SENTRY_PROCESSED_EVENT_ID);
+    when(sentryStore.isHmsNotificationEmpty()).thenReturn(false);
+    hmsFollower.run();
+
+    // The first page is processed, then a full snapshot replaces the out-of-sync page
+    verify(sentryStore, times(1)).persistLastProcessedNotificationID(2L);
+    verify(sentryStore, times(1)).persistLastProcessedNotificationID(3L);
+    verify(sentryStore, times(0)).persistLastProcessedNotificationID(6L);
+    verify(sentryStore, times(0)).persistLastProcessedNotificationID(7L);
+    verify(sentryHmsClient, times(0)).getNotifications(7L);
+    verify(sentryStore, times(1)).persistFullPathsImage(Mockito.anyMap(), Mockito.anyLong());
+    hmsFollower.close();
+  }
+
   /**
    * Test that HMSFollower uses the input authentication server name when it is not null
    */
@@ -697,6 +822,90 @@ public class TestHMSFollower {
     verify(sentryStore, times(0)).persistLastProcessedNotificationID(Mockito.anyLong());
   }
 
+  /**
+   * Constructs consecutive partition events and checks that hms follower applies them with
+   * a single sentry store call, unless they can't be merged or applying them fails, in which
+   * case they are processed one by one.
+   *
+   * @throws Exception
+   */
+  @Test
+  public void testBatchPartitionEvents() throws Exception {
+    String dbName = "db1";
+    StorageDescriptor sd = new StorageDescriptor();
+    sd.setLocation("hdfs:///db1.db/table1");
+    Table table1 = new Table("table1", dbName, null, 0, 0, 0, sd, null, null, null, null, null);
+    Table table2 = new Table("table2", dbName, null, 0, 0, 0, sd, null, null, null, null, null);
+    Partition partitionA = partition(table1, "a");
+    Partition partitionB = partition(table2, "b");
+    Partition partitionC = partition(table1, "c");
+    Partition partitionD = partition(table1, "d");
+    Partition partitionE = partition(table1, "e");
+
+    List<NotificationEvent> events = new ArrayList<>();
+    events.add(new NotificationEvent(1, 0, EventType.ADD_PARTITION.toString(),
+        messageFactory.buildAddPartitionMessage(table1,
+            Collections.singletonList(partitionA)).toString()));
+    events.add(new NotificationEvent(2, 0, EventType.ADD_PARTITION.toString(),
+        messageFactory.buildAddPartitionMessage(table2,
+            Collections.singletonList(partitionB)).toString()));
+    events.add(new NotificationEvent(3, 0, EventType.ALTER_PARTITION.toString(),
+        messageFactory.buildAlterPartitionMessage(table1, partitionC, partitionD).toString()));
+    events.add(new NotificationEvent(4, 0, EventType.CREATE_TABLE.toString(),
+        messageFactory.buildCreateTableMessage(
+            new Table("table3", dbName, null, 0, 0, 0, sd, null, null, null, null, null))
+            .toString()));
+    // The path added by event 5 is removed by event 6
+    events.add(new NotificationEvent(5, 0, EventType.ADD_PARTITION.toString(),
+        messageFactory.buildAddPartitionMessage(table1,
+            Collections.singletonList(partitionE)).toString()));
+    events.add(new NotificationEvent(6, 0, EventType.DROP_PARTITION.toString(),
+        messageFactory.buildDropPartitionMessage(table1, partitionE).toString()));
+
+    Configuration batchConfiguration = new Configuration(configuration);
+    batchConfiguration.setInt(ServiceConstants.ServerConfig.SENTRY_HMSFOLLOWER_BATCH_MAX_EVENTS,
+        10);
+    HMSFollower hmsFollower = new HMSFollower(batchConfiguration, sentryStore, null,
+        hiveConnectionFactory, hiveInstance);
+    hmsFollower.processNotifications(events);
+
+    // Events 1-3 are applied together, with the ID of the last one
+    ArgumentCaptor<Updateable.Update> update = ArgumentCaptor.forClass(Updateable.Update.class);
+    //noinspection unchecked
+    verify(sentryStore, times(1)).updateAuthzPathsMappings(Mockito.anyList(), update.capture());
+    Assert.assertEquals(3, update.getValue().getSeqNum());
+    verify(sentryStore, times(0)).updateAuthzPathsMapping(Mockito.anyString(),
+        Mockito.anyString(), Mockito.anyString(), Mockito.any(Updateable.Update.class));
+    // Events 4 and 5 are applied one by one
+    //noinspection unchecked
+    verify(sentryStore, times(2)).addAuthzPathsMapping(Mockito.anyString(),
+        Mockito.anyCollection(), Mockito.any(Updateable.Update.class));
+    //noinspection unchecked
+    verify(sentryStore, times(1)).deleteAuthzPathsMapping(Mockito.anyString(),
+        Mockito.anyCollection(), Mockito.any(Updateable.Update.class));
+    verify(sentryStore, times(0)).persistLastProcessedNotificationID(Mockito.anyLong());
+    reset(sentryStore);
+
+    // A failed batch is applied one by one
+    //noinspection unchecked
+    Mockito.doThrow(new RuntimeException("failure")).when(sentryStore)
+        .updateAuthzPathsMappings(Mockito.anyList(), Mockito.any(Updateable.Update.class));
+    hmsFollower.processNotifications(events.subList(0, 3));
+    //noinspection unchecked
+    verify(sentryStore, times(2)).addAuthzPathsMapping(Mockito.anyString(),
+        Mockito.anyCollection(), Mockito.any(Updateable.Update.class));
+    verify(sentryStore, times(1)).updateAuthzPathsMapping(Mockito.anyString(),
+        Mockito.anyString(), Mockito.anyString(), Mockito.any(Updateable.Update.class));
+    verify(sentryStore, times(0)).persistLastProcessedNotificationID(Mockito.anyLong());
+  }
+
+  private static Partition partition(Table table, String value) {
+    StorageDescriptor sd = new StorageDescriptor();
+    sd.setLocation(table.getSd().getLocation() + "/ds=" + value);
+    return new Partition(Collections.singletonList(value), table.getDbName(),
+        table.getTableName(), 0, 0, sd, null);
+  }
+
   /**
    * Constructs a two events and passed to processor of hms follower. First one being create table
    * event with location information(Invalid Event). Idea is to make sure that hms follower calls
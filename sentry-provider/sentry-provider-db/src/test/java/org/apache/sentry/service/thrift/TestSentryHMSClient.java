@@ -41,6 +41,7 @@ import org.apache.hive.hcatalog.messaging.HCatEventMessage;
 import org.apache.sentry.binding.metastore.messaging.json.SentryJSONMessageFactory;
 import org.apache.sentry.provider.db.service.persistent.PathsImage;
 import org.apache.thrift.TException;
+import org.apache.sentry.service.thrift.ServiceConstants.ServerConfig;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
@@ -320,6 +321,10 @@ public class TestSentryHMSClient {
       Assert.assertEquals(event.getEventId(), id++);
     }
     Assert.assertTrue(events.size() == 2);
+    // The notifications are requested by pages
+    Mockito.verify(mockClient.client).getNextNotification(100,
+        ServerConfig.SENTRY_HMSFOLLOWER_FETCH_PAGE_SIZE_DEFAULT, null);
+    Assert.assertEquals(101, client.getLastCurrentNotificationId());
   }
 
   /**
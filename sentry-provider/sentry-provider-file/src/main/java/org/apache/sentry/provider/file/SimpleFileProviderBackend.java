@@ -20,6 +20,7 @@ import static org.apache.sentry.core.common.utils.SentryConstants.ROLE_SPLITTER;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -125,6 +126,14 @@ public class SimpleFileProviderBackend extends CacheProvider implements Provider
     return getPrivileges(groups, roleSet, authorizableHierarchy);
   }
 
+  @Override
+  public List<ImmutableSet<String>> getPrivilegesBatch(Set<String> groups, Set<String> users,
+      ActiveRoleSet roleSet, List<? extends List<? extends Authorizable>> authorizableHierarchies) {
+    // The privileges are not filtered by authorizable, all the hierarchies get the same
+    ImmutableSet<String> privileges = getPrivileges(groups, users, roleSet);
+    return Collections.nCopies(authorizableHierarchies.size(), privileges);
+  }
+
   @Override
   public void close() {
     // SENTRY-847 will use HiveAuthBinding again, so groupRolePrivilegeTable shouldn't clear itself